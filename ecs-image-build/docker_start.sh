@@ -2,4 +2,6 @@
 # Start script for penalty-payment-web
 
 PORT=8080
-exec java -jar -Dserver.port="${PORT}" "penalty-payment-web.jar"
+# The SDK sends requests through HttpURLConnection, which only keeps five idle keep-alive
+# connections per API host unless told otherwise
+exec java -Dhttp.maxConnections="${UPSTREAM_MAX_IDLE_CONNECTIONS_PER_ROUTE:-20}" -jar -Dserver.port="${PORT}" "penalty-payment-web.jar"
@@ -0,0 +1,258 @@
+package uk.gov.companieshouse.web.pps.loadtest;
+
+import io.gatling.javaapi.core.Assertion;
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.CheckBuilder;
+import io.gatling.javaapi.core.OpenInjectionStep;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+import io.gatling.javaapi.http.HttpRequestActionBuilder;
+import uk.gov.companieshouse.web.pps.upstream.LatencyDistribution;
+import uk.gov.companieshouse.web.pps.upstream.PenaltyScenario;
+import uk.gov.companieshouse.web.pps.upstream.UpstreamSimulator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static io.gatling.javaapi.core.CoreDsl.constantUsersPerSec;
+import static io.gatling.javaapi.core.CoreDsl.css;
+import static io.gatling.javaapi.core.CoreDsl.csv;
+import static io.gatling.javaapi.core.CoreDsl.doIf;
+import static io.gatling.javaapi.core.CoreDsl.exec;
+import static io.gatling.javaapi.core.CoreDsl.forAll;
+import static io.gatling.javaapi.core.CoreDsl.global;
+import static io.gatling.javaapi.core.CoreDsl.incrementUsersPerSec;
+import static io.gatling.javaapi.core.CoreDsl.rampUsersPerSec;
+import static io.gatling.javaapi.core.CoreDsl.scenario;
+import static io.gatling.javaapi.http.HttpDsl.Cookie;
+import static io.gatling.javaapi.http.HttpDsl.addCookie;
+import static io.gatling.javaapi.http.HttpDsl.header;
+import static io.gatling.javaapi.http.HttpDsl.headerRegex;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+import static uk.gov.companieshouse.web.pps.util.PenaltyReference.LATE_FILING;
+
+/**
+ * A filing deadline spike of late filing penalty payers, through the whole journey from the
+ * start page to the confirmation page, against the application at {@code pps.base-url} and an
+ * {@link UpstreamSimulator} started in the load test's JVM. Start the application with
+ * {@code API_URL} and {@code PAYMENTS_API_URL} pointing at the simulator and {@code CHS_URL}
+ * at the application itself, so that the payment journey returns to it.
+ * <p>
+ * The journey pages need a signed in session, so {@code pps.sessions} names a CSV file with a
+ * {@code sid} column of signed in session cookies, used in turn. Provide at least as many as
+ * there are concurrent journeys, as journeys sharing a session share its payment state.
+ * <p>
+ * The {@code steady} workload ramps up to {@code pps.users-per-sec} new journeys a second and
+ * holds it. The {@code capacity} workload raises the arrival rate in steps, so that the report
+ * shows the saturation point as the step at which throughput stops following the arrival rate
+ * and the response times climb. Either run fails if the error rate or the response time
+ * percentiles pass their thresholds.
+ */
+public class DeadlineDaySimulation extends Simulation {
+
+    private static final String CSRF = "csrf";
+    private static final String NEXT = "next";
+
+    private final String baseUrl = property("pps.base-url", "http://localhost:8080");
+    private final AtomicInteger journeySequence = new AtomicInteger();
+    private UpstreamSimulator upstreamSimulator;
+
+    /**
+     * The outcomes of submitting the penalty details, with their share of the journeys.
+     */
+    private enum Outcome {
+        PAYABLE(65, PenaltyScenario.PAYABLE, "/view-penalties"),
+        NOT_FOUND(10, PenaltyScenario.NOT_FOUND, null),
+        INVALID_REF(5, PenaltyScenario.PAYABLE, null),
+        IN_DCA(8, PenaltyScenario.IN_DCA, "/penalty-in-dca"),
+        PAID(7, PenaltyScenario.PAID, "/penalty-paid"),
+        INSTALMENT_PLAN(5, PenaltyScenario.INSTALMENT_PLAN, "/instalment-plan");
+
+        private final int weight;
+        private final PenaltyScenario scenario;
+        private final String page;
+
+        Outcome(int weight, PenaltyScenario scenario, String page) {
+            this.weight = weight;
+            this.scenario = scenario;
+            this.page = page;
+        }
+
+        static Outcome pick() {
+            int total = Stream.of(values()).mapToInt(outcome -> outcome.weight).sum();
+            int choice = ThreadLocalRandom.current().nextInt(total);
+            for (Outcome outcome : values()) {
+                choice -= outcome.weight;
+                if (choice < 0) {
+                    return outcome;
+                }
+            }
+            return PAYABLE;
+        }
+    }
+
+    {
+        HttpProtocolBuilder httpProtocol = http
+                .baseUrl(baseUrl)
+                .disableFollowRedirect()
+                .acceptHeader("text/html")
+                .userAgentHeader("penalty-payment-web load test");
+
+        ScenarioBuilder journey = scenario("Deadline day journey")
+                .feed(csv(property("pps.sessions", "sessions.csv")).circular())
+                .feed(journeys())
+                .exec(addCookie(Cookie(property("pps.session-cookie-name", "__SID"), "#{sid}")
+                        .withDomain(URI.create(baseUrl).getHost())))
+                .exec(session -> session.set(CSRF, ""))
+                .exec(http("start").get("/pay-penalty")
+                        .check(status().is(302)))
+                .exec(http("ref starts with").get("/pay-penalty/ref-starts-with")
+                        .check(status().is(200), saveCsrf()))
+                .exec(http("choose penalty type").post("/pay-penalty/ref-starts-with")
+                        .formParam("selectedPenaltyReference", LATE_FILING.name())
+                        .formParam("_csrf", "#{csrf}")
+                        .check(status().is(302), header("Location").saveAs(NEXT)))
+                .exec(http("enter details").get("#{next}")
+                        .check(status().is(200), saveCsrf()))
+                .doIfOrElse(session -> session.getString("page") != null)
+                .then(exec(submitDetails()
+                        .check(status().is(302), header("Location").saveAs(NEXT),
+                                headerRegex("Location", "#{page}").exists())))
+                .orElse(exec(submitDetails()
+                        .check(status().is(200), css(".govuk-error-message").exists())))
+                .doIfOrElse(session -> "PAYABLE".equals(session.getString("outcome")))
+                .then(pay())
+                .orElse(doIf(session -> session.getString("page") != null)
+                        .then(exec(http("stop page").get("#{next}").check(status().is(200)))));
+
+        setUp(journey.injectOpen(workload()))
+                .protocols(httpProtocol)
+                .assertions(assertions());
+    }
+
+    /**
+     * Starts the simulator with a log-normal latency on every route, unless it is given other
+     * settings as {@code simulator.*} system properties.
+     */
+    @Override
+    public void before() {
+        if (!Boolean.parseBoolean(property("pps.simulator.enabled", "true"))) {
+            return;
+        }
+        Map<String, String> settings = UpstreamSimulator.systemPropertySettings();
+        String port = settings.remove("port");
+        try {
+            upstreamSimulator = UpstreamSimulator.start(port == null ? 18080 : Integer.parseInt(port));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to start the upstream simulator", ex);
+        }
+        upstreamSimulator.configureAll(UpstreamSimulator.RouteSettings.NONE
+                .withLatency(LatencyDistribution.logNormal(60, 0.5)));
+        upstreamSimulator.applySettings(settings);
+    }
+
+    @Override
+    public void after() {
+        if (upstreamSimulator != null) {
+            upstreamSimulator.close();
+        }
+    }
+
+    private Iterator<Map<String, Object>> journeys() {
+        return Stream.generate(() -> {
+            Outcome outcome = Outcome.pick();
+            String companyNumber = outcome.scenario.companyNumber(journeySequence.incrementAndGet());
+            Map<String, Object> journey = new HashMap<>();
+            journey.put("outcome", outcome.name());
+            journey.put("page", outcome.page);
+            journey.put("companyNumber", companyNumber);
+            journey.put("penaltyRef", outcome == Outcome.INVALID_REF
+                    ? "A12"
+                    : PenaltyScenario.penaltyRef(companyNumber, LATE_FILING));
+            return journey;
+        }).iterator();
+    }
+
+    private static HttpRequestActionBuilder submitDetails() {
+        return http("submit details").post("/pay-penalty/enter-details?ref-starts-with=A")
+                .formParam("penaltyReferenceName", LATE_FILING.name())
+                .formParam("companyNumber", "#{companyNumber}")
+                .formParam("penaltyRef", "#{penaltyRef}")
+                .formParam("_csrf", "#{csrf}");
+    }
+
+    /**
+     * Pays the penalty: the view penalties page, the payment service (the simulator, which
+     * sends the user straight back) and the confirmation page.
+     */
+    private static ChainBuilder pay() {
+        return exec(http("view penalties").get("#{next}")
+                .check(status().is(200), saveCsrf()))
+                .exec(http("pay").post("#{next}")
+                        .formParam("_csrf", "#{csrf}")
+                        .check(status().is(302), header("Location").saveAs("paymentJourney")))
+                .exec(http("payment service (simulated)").get("#{paymentJourney}")
+                        .check(status().is(302), header("Location").saveAs("confirmation")))
+                .exec(http("confirmation").get("#{confirmation}")
+                        .check(status().is(200)));
+    }
+
+    private static CheckBuilder.Final saveCsrf() {
+        return css("input[name='_csrf']", "value").optional().saveAs(CSRF);
+    }
+
+    private static OpenInjectionStep[] workload() {
+        if ("capacity".equals(property("pps.workload", "steady"))) {
+            return new OpenInjectionStep[]{
+                    incrementUsersPerSec(doubleProperty("pps.step-users-per-sec", 2))
+                            .times(intProperty("pps.steps", 10))
+                            .eachLevelLasting(intProperty("pps.step-duration", 60))
+                            .separatedByRampsLasting(10)
+                            .startingFrom(doubleProperty("pps.start-users-per-sec", 2))
+            };
+        }
+        double usersPerSec = doubleProperty("pps.users-per-sec", 5);
+        return new OpenInjectionStep[]{
+                rampUsersPerSec(0).to(usersPerSec).during(intProperty("pps.ramp-up", 60)),
+                constantUsersPerSec(usersPerSec).during(intProperty("pps.duration", 300))
+        };
+    }
+
+    private static List<Assertion> assertions() {
+        List<Assertion> assertions = new ArrayList<>();
+        assertions.add(global().failedRequests().percent()
+                .lte(doubleProperty("pps.max-failed-percent", 1)));
+        assertions.add(forAll().responseTime().percentile(95.0)
+                .lte(intProperty("pps.max-p95-millis", 500)));
+        assertions.add(forAll().responseTime().percentile(99.0)
+                .lte(intProperty("pps.max-p99-millis", 1500)));
+        double minRequestsPerSec = doubleProperty("pps.min-requests-per-sec", 0);
+        if (minRequestsPerSec > 0) {
+            assertions.add(global().requestsPerSec().gte(minRequestsPerSec));
+        }
+        return assertions;
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty(name, defaultValue);
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(property(name, String.valueOf(defaultValue)));
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        return Double.parseDouble(property(name, String.valueOf(defaultValue)));
+    }
+}
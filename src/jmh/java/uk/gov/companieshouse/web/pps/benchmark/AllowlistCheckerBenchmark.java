@@ -0,0 +1,46 @@
+package uk.gov.companieshouse.web.pps.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.companieshouse.web.pps.validation.AllowlistChecker;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the checks the sign out page makes on the referer: {@link AllowlistChecker#checkURL}
+ * for a journey URL and for one outside the service, and the sign out referer check.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AllowlistCheckerBenchmark {
+
+    private final AllowlistChecker allowlistChecker = new AllowlistChecker();
+    private final String journeyUrl = "/pay-penalty/company/12345678/penalty/A0000001/view-penalties";
+    private final String externalUrl = "https://www.example.com/somewhere-else?next=home";
+
+    @Benchmark
+    public String journeyUrl() {
+        return allowlistChecker.checkURL(journeyUrl);
+    }
+
+    @Benchmark
+    public String externalUrl() {
+        return allowlistChecker.checkURL(externalUrl);
+    }
+
+    @Benchmark
+    public boolean signOutReferer() {
+        return allowlistChecker.checkSignOutIsReferer(journeyUrl);
+    }
+}
@@ -0,0 +1,112 @@
+package uk.gov.companieshouse.web.pps.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares a JMH JSON result file with a stored baseline, benchmark by benchmark, on the
+ * primary score and on allocation per operation ({@code gc.alloc.rate.norm}) where both
+ * runs used the GC profiler. Exits with status 1 if any result is worse than the baseline
+ * by more than the threshold, so that a branch can be checked before it is deployed.
+ * <p>
+ * Usage: {@code BenchmarkComparison <baseline.json> <result.json> [threshold percent]}
+ */
+public final class BenchmarkComparison {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10;
+
+    private BenchmarkComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <result.json> [threshold percent]");
+            System.exit(2);
+        }
+        Path baselinePath = Path.of(args[0]);
+        if (!Files.exists(baselinePath)) {
+            System.err.printf("No baseline at %s. Record one on the main branch with "
+                    + "'make benchmark-baseline'.%n", baselinePath);
+            System.exit(2);
+        }
+        double thresholdPercent = args.length > 2
+                ? Double.parseDouble(args[2])
+                : DEFAULT_THRESHOLD_PERCENT;
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, JsonNode> baseline = index(objectMapper.readTree(baselinePath.toFile()));
+        Map<String, JsonNode> results = index(objectMapper.readTree(Path.of(args[1]).toFile()));
+
+        int regressions = 0;
+        System.out.printf("%-70s %-10s %14s %14s %9s%n", "Benchmark", "Metric", "Baseline", "Result", "Change");
+        for (Map.Entry<String, JsonNode> entry : results.entrySet()) {
+            JsonNode base = baseline.get(entry.getKey());
+            if (base == null) {
+                System.out.printf("%-70s (no baseline)%n", entry.getKey());
+                continue;
+            }
+            JsonNode result = entry.getValue();
+            boolean higherIsBetter = "thrpt".equals(result.path("mode").asText());
+            if (compare(entry.getKey(), "score", base.path("primaryMetric"),
+                    result.path("primaryMetric"), higherIsBetter, thresholdPercent)) {
+                regressions++;
+            }
+            JsonNode baseAllocation = base.path("secondaryMetrics").path(ALLOCATION_METRIC);
+            JsonNode allocation = result.path("secondaryMetrics").path(ALLOCATION_METRIC);
+            if (!baseAllocation.isMissingNode() && !allocation.isMissingNode()
+                    && compare(entry.getKey(), "alloc", baseAllocation, allocation, false,
+                            thresholdPercent)) {
+                regressions++;
+            }
+        }
+
+        if (regressions > 0) {
+            System.out.printf("%d result(s) worse than the baseline by more than %.1f%%%n",
+                    regressions, thresholdPercent);
+            System.exit(1);
+        }
+        System.out.printf("No result worse than the baseline by more than %.1f%%%n", thresholdPercent);
+    }
+
+    /**
+     * Indexes a JMH result file by benchmark name, mode and parameters, so that runs of a subset
+     * of the benchmarks can be compared with a full baseline and a benchmark run in more than one
+     * mode keeps a result for each.
+     */
+    private static Map<String, JsonNode> index(JsonNode runs) {
+        Map<String, JsonNode> indexed = new LinkedHashMap<>();
+        for (JsonNode run : runs) {
+            StringBuilder key = new StringBuilder(run.path("benchmark").asText())
+                    .append(" [").append(run.path("mode").asText()).append(']');
+            Iterator<Map.Entry<String, JsonNode>> params = run.path("params").fields();
+            while (params.hasNext()) {
+                Map.Entry<String, JsonNode> param = params.next();
+                key.append(key.indexOf(":") < 0 ? ':' : ',')
+                        .append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            indexed.put(key.toString(), run);
+        }
+        return indexed;
+    }
+
+    private static boolean compare(String benchmark, String metric, JsonNode base, JsonNode result,
+            boolean higherIsBetter, double thresholdPercent) {
+        double baseScore = base.path("score").asDouble();
+        double score = result.path("score").asDouble();
+        double changePercent = baseScore == 0 ? 0 : (score - baseScore) / baseScore * 100;
+        boolean regression = higherIsBetter
+                ? changePercent < -thresholdPercent
+                : changePercent > thresholdPercent;
+        System.out.printf("%-70s %-10s %14.3f %14.3f %+8.1f%%%s%n", benchmark, metric, baseScore,
+                score, changePercent, regression ? "  WORSE" : "");
+        return regression;
+    }
+}
@@ -0,0 +1,55 @@
+package uk.gov.companieshouse.web.pps.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.companieshouse.web.pps.util.DisplayFormatter;
+
+import java.text.DecimalFormat;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link DisplayFormatter} with the formatting the view penalties and confirmation
+ * pages used to do: a new {@code DecimalFormat} per amount (the safe alternative to the shared
+ * instance) and a new {@code DateTimeFormatter} per payment date. Run with the GC profiler
+ * ({@code -prof gc}) to compare allocation per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DisplayFormatterBenchmark {
+
+    private int amount = 1_234_567;
+
+    @Benchmark
+    public String decimalFormatAmount() {
+        return new DecimalFormat("#,###").format(amount);
+    }
+
+    @Benchmark
+    public String integerAmount() {
+        return DisplayFormatter.formatAmount(amount);
+    }
+
+    @Benchmark
+    public String paymentDatePerCall() {
+        return LocalDate.now().format(DateTimeFormatter.ofPattern("d MMMM uuuu", Locale.UK));
+    }
+
+    @Benchmark
+    public String cachedPaymentDate() {
+        return DisplayFormatter.system().getPaymentDateDisplay();
+    }
+}
@@ -0,0 +1,65 @@
+package uk.gov.companieshouse.web.pps.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.MapBindingResult;
+import uk.gov.companieshouse.web.pps.models.EnterDetails;
+import uk.gov.companieshouse.web.pps.validation.EnterDetailsValidator;
+import uk.gov.companieshouse.web.pps.validation.RegexEnterDetailsValidator;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the single pass {@link EnterDetailsValidator} with the regular expression based
+ * validator it replaced, for a valid entry and for entries failing the format and the
+ * alphanumeric checks. Run with the GC profiler ({@code -prof gc}) to compare allocation per
+ * validation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EnterDetailsValidatorBenchmark {
+
+    @Param({"SC123456:A1234567", "SC12345X:B1234567", "SC12345!:A123456!"})
+    private String entry;
+
+    private final EnterDetailsValidator validator = new EnterDetailsValidator();
+    private final RegexEnterDetailsValidator regexValidator = new RegexEnterDetailsValidator();
+    private final EnterDetails enterDetails = new EnterDetails();
+
+    @Setup
+    public void setUp() {
+        String[] values = entry.split(":");
+        enterDetails.setPenaltyReferenceName("LATE_FILING");
+        enterDetails.setCompanyNumber(values[0]);
+        enterDetails.setPenaltyRef(values[1]);
+    }
+
+    @Benchmark
+    public BindingResult singlePass() {
+        BindingResult bindingResult = new MapBindingResult(new HashMap<>(), "enterDetails");
+        validator.isValid(enterDetails, bindingResult);
+        return bindingResult;
+    }
+
+    @Benchmark
+    public BindingResult regularExpressions() {
+        BindingResult bindingResult = new MapBindingResult(new HashMap<>(), "enterDetails");
+        regexValidator.isValid(enterDetails, bindingResult);
+        return bindingResult;
+    }
+}
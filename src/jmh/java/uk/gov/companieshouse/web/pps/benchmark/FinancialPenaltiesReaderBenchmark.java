@@ -0,0 +1,90 @@
+package uk.gov.companieshouse.web.pps.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.companieshouse.api.model.financialpenalty.FinancialPenalties;
+import uk.gov.companieshouse.api.model.financialpenalty.FinancialPenalty;
+import uk.gov.companieshouse.web.pps.service.penaltypayment.impl.FinancialPenaltiesReader;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.Boolean.FALSE;
+import static java.lang.Boolean.TRUE;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.PENALTY_REF;
+
+/**
+ * Compares reading a financial penalties response with {@link FinancialPenaltiesReader},
+ * which only binds the penalty or unpaid items, against binding the whole response and then
+ * filtering it, as the SDK does. The response holds the penalty, a cost for every 50 items
+ * and the company's paid history. Run with the GC profiler ({@code -prof gc}) to compare
+ * allocation per response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FinancialPenaltiesReaderBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int items;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final FinancialPenaltiesReader financialPenaltiesReader = new FinancialPenaltiesReader(1000);
+    private byte[] response;
+
+    @Setup
+    public void setUp() {
+        StringBuilder json = new StringBuilder("{\"etag\":\"etag\",\"items_per_page\":0,")
+                .append("\"start_index\":0,\"total_results\":").append(items).append(",\"items\":[");
+        for (int i = 0; i < items; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            boolean penalty = i == items / 2;
+            boolean unpaidCost = !penalty && i % 50 == 0;
+            json.append(String.format("{\"id\":\"%s\",\"etag\":\"%040d\","
+                            + "\"kind\":\"late-filing-penalty#late-filing-penalty\","
+                            + "\"is_paid\":%b,\"is_dca\":false,\"due_date\":\"2021-12-21\","
+                            + "\"made_up_date\":\"2019-06-30\",\"transaction_date\":\"2021-12-21\","
+                            + "\"original_amount\":750,\"outstanding\":%d,\"type\":\"%s\","
+                            + "\"reason\":\"Late filing of accounts\",\"payable_status\":\"%s\"}",
+                    penalty ? PENALTY_REF : String.format("A%07d", i), i,
+                    penalty || unpaidCost ? FALSE : TRUE,
+                    penalty || unpaidCost ? 750 : 0,
+                    penalty ? "penalty" : "other",
+                    penalty ? "OPEN" : "CLOSED"));
+        }
+        response = json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Optional<List<FinancialPenalty>> streamingReader() throws IOException {
+        return financialPenaltiesReader.readPenaltyOrUnpaidItems(
+                new ByteArrayInputStream(response), PENALTY_REF);
+    }
+
+    @Benchmark
+    public List<FinancialPenalty> fullBinding() throws IOException {
+        return objectMapper.readValue(new ByteArrayInputStream(response), FinancialPenalties.class)
+                .getItems().stream()
+                .filter(item -> PENALTY_REF.equals(item.getId()) || FALSE.equals(item.getPaid()))
+                .toList();
+    }
+}
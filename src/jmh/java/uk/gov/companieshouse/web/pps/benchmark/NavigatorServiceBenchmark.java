@@ -0,0 +1,106 @@
+package uk.gov.companieshouse.web.pps.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.view.UrlBasedViewResolver;
+import org.springframework.web.util.UriTemplate;
+import uk.gov.companieshouse.web.pps.annotation.NextController;
+import uk.gov.companieshouse.web.pps.controller.pps.ConfirmationController;
+import uk.gov.companieshouse.web.pps.controller.pps.EnterDetailsController;
+import uk.gov.companieshouse.web.pps.controller.pps.PenaltyRefStartsWithController;
+import uk.gov.companieshouse.web.pps.controller.pps.StartController;
+import uk.gov.companieshouse.web.pps.controller.pps.ViewPenaltiesController;
+import uk.gov.companieshouse.web.pps.service.navigation.NavigatorService;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.COMPANY_NUMBER;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.PENALTY_REF;
+
+/**
+ * Compares redirect resolution through the routes {@link NavigatorService} compiles at
+ * startup with the per-call annotation lookup and template parsing it used to do, for the
+ * enter details to view penalties redirect.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NavigatorServiceBenchmark {
+
+    private GenericApplicationContext applicationContext;
+    private NavigatorService navigatorService;
+
+    @Setup
+    public void setUp() {
+        applicationContext = new GenericApplicationContext();
+        for (Class<?> controllerClass : List.of(StartController.class,
+                PenaltyRefStartsWithController.class, EnterDetailsController.class,
+                ViewPenaltiesController.class, ConfirmationController.class)) {
+            // Only the controller types are needed, so the controllers are never created
+            RootBeanDefinition beanDefinition = new RootBeanDefinition(controllerClass);
+            beanDefinition.setLazyInit(true);
+            applicationContext.registerBeanDefinition(controllerClass.getSimpleName(), beanDefinition);
+        }
+        applicationContext.refresh();
+
+        navigatorService = new NavigatorService(applicationContext);
+        navigatorService.afterSingletonsInstantiated();
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public String compiledRoutes() {
+        return navigatorService.getNextControllerRedirect(EnterDetailsController.class,
+                COMPANY_NUMBER, PENALTY_REF);
+    }
+
+    @Benchmark
+    public String perCallReflection() {
+        return reflectiveNextControllerRedirect(EnterDetailsController.class,
+                COMPANY_NUMBER, PENALTY_REF);
+    }
+
+    /**
+     * The redirect resolution {@link NavigatorService} did on every call before routes were
+     * compiled, for a chain without conditional controllers.
+     */
+    private static String reflectiveNextControllerRedirect(Class<?> clazz, String... pathVars) {
+        NextController nextController = AnnotationUtils.findAnnotation(clazz, NextController.class);
+        if (nextController == null) {
+            throw new IllegalStateException("Missing @NextController annotation on " + clazz);
+        }
+        RequestMapping requestMapping = AnnotationUtils.findAnnotation(nextController.value(),
+                RequestMapping.class);
+        if (requestMapping == null) {
+            throw new IllegalStateException("Missing @RequestMapping annotation on " + nextController.value());
+        }
+        for (String mapping : requestMapping.value()) {
+            UriTemplate mappingTemplate = new UriTemplate(mapping);
+            if (pathVars.length == mappingTemplate.getVariableNames().size()) {
+                return UrlBasedViewResolver.REDIRECT_URL_PREFIX + mappingTemplate.expand((Object[]) pathVars);
+            }
+        }
+        throw new IllegalStateException("No mapping found that matches the number of path variables provided");
+    }
+}
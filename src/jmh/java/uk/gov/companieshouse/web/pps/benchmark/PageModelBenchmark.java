@@ -0,0 +1,174 @@
+package uk.gov.companieshouse.web.pps.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.ui.ExtendedModelMap;
+import org.springframework.ui.Model;
+import uk.gov.companieshouse.web.pps.config.PenaltyConfigurationProperties;
+import uk.gov.companieshouse.web.pps.controller.pps.ConfirmationController;
+import uk.gov.companieshouse.web.pps.controller.pps.EnterDetailsController;
+import uk.gov.companieshouse.web.pps.controller.pps.ViewPenaltiesController;
+import uk.gov.companieshouse.web.pps.models.EnterDetails;
+import uk.gov.companieshouse.web.pps.models.PenaltyKey;
+import uk.gov.companieshouse.web.pps.service.confirmation.ConfirmationService;
+import uk.gov.companieshouse.web.pps.service.penaltydetails.PenaltyDetailsService;
+import uk.gov.companieshouse.web.pps.service.response.PPSServiceResponse;
+import uk.gov.companieshouse.web.pps.service.viewpenalty.ViewPenaltiesService;
+import uk.gov.companieshouse.web.pps.session.SessionService;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Locale.UK;
+import static uk.gov.companieshouse.web.pps.service.ServiceConstants.AMOUNT_ATTR;
+import static uk.gov.companieshouse.web.pps.service.ServiceConstants.BACK_LINK_URL_ATTR;
+import static uk.gov.companieshouse.web.pps.service.ServiceConstants.COMPANY_NAME_ATTR;
+import static uk.gov.companieshouse.web.pps.service.ServiceConstants.COMPANY_NUMBER_ATTR;
+import static uk.gov.companieshouse.web.pps.service.ServiceConstants.ENTER_DETAILS_MODEL_ATTR;
+import static uk.gov.companieshouse.web.pps.service.ServiceConstants.PENALTY_REFERENCE_NAME_ATTR;
+import static uk.gov.companieshouse.web.pps.service.ServiceConstants.PENALTY_REFERENCE_STARTS_WITH_ATTR;
+import static uk.gov.companieshouse.web.pps.service.ServiceConstants.PENALTY_REF_ATTR;
+import static uk.gov.companieshouse.web.pps.service.ServiceConstants.REASON_ATTR;
+import static uk.gov.companieshouse.web.pps.service.ServiceConstants.SIGN_IN_INFO;
+import static uk.gov.companieshouse.web.pps.service.ServiceConstants.SIGN_OUT_URL_ATTR;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.COMPANY_NAME;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.COMPANY_NUMBER;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.PENALTY_REF;
+
+/**
+ * Measures the per-request garbage of the enter details, view penalties and confirmation pages:
+ * building the service response the way the services do and populating the model from it.
+ * Run with the GC profiler ({@code -prof gc}) and compare {@code gc.alloc.rate.norm} across
+ * changes to the response type or the model population in the base controller.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageModelBenchmark {
+
+    private static final String SIGN_OUT_PATH = "/pay-penalty/sign-out";
+    private static final String PAYABLE_REF = "PR_123456";
+    private static final String PENALTY_REFERENCE_NAME = "LATE_FILING";
+
+    private final PenaltyKey penaltyKey = PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF);
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+    private EnterDetailsController enterDetailsController;
+    private ViewPenaltiesController viewPenaltiesController;
+    private ConfirmationController confirmationController;
+
+    @Setup
+    public void setUp() {
+        PenaltyConfigurationProperties penaltyConfigurationProperties = new PenaltyConfigurationProperties();
+        penaltyConfigurationProperties.setSurveyLink("https://www.research.net/r/pay-penalty");
+        penaltyConfigurationProperties.setServiceBannerLink("https://www.gov.uk/contact-companies-house");
+
+        StaticMessageSource messageSource = new StaticMessageSource();
+        messageSource.addMessage("penalty.service.banner.text", UK, "Pay a penalty to Companies House");
+
+        Map<String, Object> sessionData = Map.of(SIGN_IN_INFO,
+                Map.of("user_profile", Map.of("email", "test@example.com")));
+        SessionService sessionService = () -> sessionData;
+
+        enterDetailsController = new EnterDetailsController(null, sessionService,
+                penaltyConfigurationProperties, messageSource, null, new EnterDetailsPenaltyDetailsService());
+        viewPenaltiesController = new ViewPenaltiesController(null, sessionService,
+                penaltyConfigurationProperties, messageSource, new PayableViewPenaltiesService());
+        confirmationController = new ConfirmationController(null, sessionService,
+                penaltyConfigurationProperties, messageSource, new PaidConfirmationService());
+    }
+
+    @Benchmark
+    public Model enterDetails() {
+        Model model = new ExtendedModelMap();
+        enterDetailsController.getEnterDetails("A", model, request);
+        return model;
+    }
+
+    @Benchmark
+    public Model viewPenalties() {
+        Model model = new ExtendedModelMap();
+        viewPenaltiesController.getViewPenalties(penaltyKey, model, request);
+        return model;
+    }
+
+    @Benchmark
+    public Model confirmation() {
+        Model model = new ExtendedModelMap();
+        confirmationController.getConfirmation(penaltyKey, PAYABLE_REF, "state", "paid", request, model);
+        return model;
+    }
+
+    private static Map<String, String> createBaseModelUpdate(String backLink) {
+        Map<String, String> baseModelAttributes = HashMap.newHashMap(2);
+        baseModelAttributes.put(BACK_LINK_URL_ATTR, backLink);
+        baseModelAttributes.put(SIGN_OUT_URL_ATTR, SIGN_OUT_PATH);
+        return baseModelAttributes;
+    }
+
+    private static class EnterDetailsPenaltyDetailsService implements PenaltyDetailsService {
+
+        @Override
+        public PPSServiceResponse getEnterDetails(String penaltyReferenceStartsWith) {
+            EnterDetails enterDetails = new EnterDetails();
+            enterDetails.setPenaltyReferenceName(PENALTY_REFERENCE_NAME);
+            return PPSServiceResponse.render(
+                    Map.of(ENTER_DETAILS_MODEL_ATTR, enterDetails,
+                            PENALTY_REFERENCE_STARTS_WITH_ATTR, penaltyReferenceStartsWith),
+                    createBaseModelUpdate("/pay-penalty/ref-starts-with"));
+        }
+
+        @Override
+        public PPSServiceResponse postEnterDetails(EnterDetails enterDetails,
+                boolean hasBindingErrors, Class<?> clazz) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class PayableViewPenaltiesService implements ViewPenaltiesService {
+
+        @Override
+        public PPSServiceResponse viewPenalties(PenaltyKey penaltyKey) {
+            Map<String, Object> modelAttributes = HashMap.newHashMap(5);
+            modelAttributes.put(COMPANY_NAME_ATTR, COMPANY_NAME);
+            modelAttributes.put(PENALTY_REF_ATTR, penaltyKey.penaltyRef());
+            modelAttributes.put(PENALTY_REFERENCE_NAME_ATTR, penaltyKey.penaltyReference().name());
+            modelAttributes.put(REASON_ATTR, "Late filing of accounts");
+            modelAttributes.put(AMOUNT_ATTR, "750");
+            return PPSServiceResponse.render(modelAttributes,
+                    createBaseModelUpdate("/pay-penalty/enter-details?ref-starts-with=A"));
+        }
+
+        @Override
+        public String postViewPenalties(PenaltyKey penaltyKey) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class PaidConfirmationService implements ConfirmationService {
+
+        @Override
+        public PPSServiceResponse getConfirmationUrl(PenaltyKey penaltyKey, String payableRef,
+                String paymentState, String paymentStatus) {
+            Map<String, Object> modelAttributes = HashMap.newHashMap(7);
+            modelAttributes.put(PENALTY_REF_ATTR, penaltyKey.penaltyRef());
+            modelAttributes.put(PENALTY_REFERENCE_NAME_ATTR, penaltyKey.penaltyReference().name());
+            modelAttributes.put(COMPANY_NAME_ATTR, COMPANY_NAME);
+            modelAttributes.put(COMPANY_NUMBER_ATTR, penaltyKey.companyNumber());
+            return PPSServiceResponse.render(modelAttributes, Map.of(SIGN_OUT_URL_ATTR, SIGN_OUT_PATH));
+        }
+    }
+}
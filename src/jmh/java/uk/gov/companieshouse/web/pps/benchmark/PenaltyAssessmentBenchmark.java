@@ -0,0 +1,69 @@
+package uk.gov.companieshouse.web.pps.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.companieshouse.api.model.financialpenalty.FinancialPenalty;
+import uk.gov.companieshouse.web.pps.service.penaltypayment.PenaltyAssessment;
+import uk.gov.companieshouse.web.pps.util.PPSTestUtility;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static uk.gov.companieshouse.api.model.financialpenalty.PayableStatus.CLOSED;
+import static uk.gov.companieshouse.web.pps.service.penaltypayment.impl.PenaltyPaymentServiceImpl.OTHER_TYPE;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.DATE;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.PENALTY_REF;
+
+/**
+ * Measures the pass the enter details and view penalties pages make over the penalty and
+ * costs returned by {@code PenaltyPaymentService.getFinancialPenalties}: finding the target
+ * and open penalty. The synthetic list holds the penalty in the middle, an unpaid cost for
+ * every 50 items and paid costs otherwise.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PenaltyAssessmentBenchmark {
+
+    @Param({"1", "50", "500"})
+    private int items;
+
+    private List<FinancialPenalty> penaltyAndCosts;
+
+    @Setup
+    public void setUp() {
+        penaltyAndCosts = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            if (i == items / 2) {
+                penaltyAndCosts.add(PPSTestUtility.validFinancialPenalty(PENALTY_REF, DATE));
+                continue;
+            }
+            FinancialPenalty cost = PPSTestUtility.validFinancialPenalty(String.format("A%07d", i), DATE);
+            cost.setType(OTHER_TYPE);
+            if (i % 50 != 0) {
+                cost.setPaid(true);
+                cost.setOutstanding(0);
+                cost.setPayableStatus(CLOSED);
+            }
+            penaltyAndCosts.add(cost);
+        }
+    }
+
+    @Benchmark
+    public PenaltyAssessment assess() {
+        return PenaltyAssessment.assess(penaltyAndCosts, PENALTY_REF);
+    }
+}
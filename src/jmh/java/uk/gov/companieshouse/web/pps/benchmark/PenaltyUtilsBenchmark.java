@@ -0,0 +1,52 @@
+package uk.gov.companieshouse.web.pps.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.companieshouse.web.pps.util.PenaltyReference;
+import uk.gov.companieshouse.web.pps.util.PenaltyUtils;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static uk.gov.companieshouse.web.pps.service.ServiceConstants.SIGN_IN_INFO;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.PENALTY_REF;
+
+/**
+ * Measures the {@link PenaltyUtils} calls made on every page of the journey: formatting the
+ * amount, reading the signed in user's email and working out the penalty reference type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PenaltyUtilsBenchmark {
+
+    private final Integer amount = 1_234_567;
+    private final String penaltyRef = " " + PENALTY_REF.toLowerCase() + " ";
+    private final Map<String, Object> sessionData = Map.of(SIGN_IN_INFO,
+            Map.of("user_profile", Map.of("email", "test@example.com")));
+
+    @Benchmark
+    public String formattedAmount() {
+        return PenaltyUtils.getFormattedAmount(amount);
+    }
+
+    @Benchmark
+    public String loginEmail() {
+        return PenaltyUtils.getLoginEmail(sessionData);
+    }
+
+    @Benchmark
+    public PenaltyReference penaltyReferenceType() {
+        return PenaltyUtils.getPenaltyReferenceType(penaltyRef);
+    }
+}
@@ -0,0 +1,168 @@
+package uk.gov.companieshouse.web.pps.benchmark;
+
+import com.sun.net.httpserver.HttpServer;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.Context;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares request handling on Tomcat's platform thread pool with handling on virtual
+ * threads when every request blocks on a slow upstream API, as the journey pages do on the
+ * Penalty Payment and Company Profile APIs. More clients are run than the platform pool has
+ * threads so that queueing shows up in the throughput and sample time percentiles.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@Threads(400)
+public class RequestThreadingBenchmark {
+
+    private static final byte[] UPSTREAM_BODY =
+            "{\"items\":[{\"id\":\"A0000001\",\"outstanding\":150}]}"
+                    .getBytes(StandardCharsets.UTF_8);
+
+    @Param({"platform", "virtual"})
+    public String threading;
+
+    @Param({"200"})
+    public int upstreamLatencyMillis;
+
+    @Param({"200"})
+    public int platformMaxThreads;
+
+    private HttpServer upstream;
+    private ExecutorService upstreamExecutor;
+    private Tomcat tomcat;
+    private HttpClient client;
+    private HttpRequest pageRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, LifecycleException {
+        startUpstream();
+        URI upstreamUri = URI.create("http://localhost:" + upstream.getAddress().getPort()
+                + "/penalties");
+
+        tomcat = new Tomcat();
+        tomcat.setBaseDir(Files.createTempDirectory("benchmark-tomcat").toString());
+        Connector connector = new Connector();
+        connector.setPort(0);
+        if ("virtual".equals(threading)) {
+            // Same executor Spring Boot installs when spring.threads.virtual.enabled=true
+            connector.getProtocolHandler().setExecutor(new VirtualThreadExecutor("tomcat-handler-"));
+        } else {
+            connector.setProperty("maxThreads", String.valueOf(platformMaxThreads));
+        }
+        tomcat.setConnector(connector);
+
+        Context context = tomcat.addContext("", null);
+        Tomcat.addServlet(context, "page", new UpstreamCallingServlet(upstreamUri));
+        context.addServletMappingDecoded("/pay-penalty", "page");
+        tomcat.start();
+
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        pageRequest = HttpRequest.newBuilder(URI.create("http://localhost:"
+                + connector.getLocalPort() + "/pay-penalty")).GET().build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws LifecycleException {
+        tomcat.stop();
+        tomcat.destroy();
+        upstream.stop(0);
+        upstreamExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public int viewPage() throws IOException, InterruptedException {
+        HttpResponse<Void> response = client.send(pageRequest,
+                HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != HttpServletResponse.SC_OK) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+
+    private void startUpstream() throws IOException {
+        upstreamExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        upstream = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        upstream.setExecutor(upstreamExecutor);
+        upstream.createContext("/penalties", exchange -> {
+            try {
+                Thread.sleep(upstreamLatencyMillis);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(HttpServletResponse.SC_OK, UPSTREAM_BODY.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(UPSTREAM_BODY);
+            }
+        });
+        upstream.start();
+    }
+
+    /**
+     * Blocks on the upstream with {@link HttpURLConnection}, as the API SDK's default
+     * transport does.
+     */
+    private static class UpstreamCallingServlet extends HttpServlet {
+
+        private final transient URI upstreamUri;
+
+        UpstreamCallingServlet(URI upstreamUri) {
+            this.upstreamUri = upstreamUri;
+        }
+
+        @Override
+        protected void doGet(HttpServletRequest request, HttpServletResponse response)
+                throws IOException {
+            HttpURLConnection connection = (HttpURLConnection) upstreamUri.toURL()
+                    .openConnection();
+            try (InputStream body = connection.getInputStream()) {
+                body.readAllBytes();
+            }
+            response.setContentType("text/html");
+            response.getWriter().write("<html><body>Penalty details</body></html>");
+        }
+    }
+}
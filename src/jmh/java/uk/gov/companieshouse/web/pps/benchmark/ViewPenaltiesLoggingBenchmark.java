@@ -0,0 +1,164 @@
+package uk.gov.companieshouse.web.pps.benchmark;
+
+import ch.qos.logback.classic.Level;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
+import uk.gov.companieshouse.web.pps.api.ApiCall;
+import uk.gov.companieshouse.web.pps.api.ApiRoute;
+import uk.gov.companieshouse.web.pps.api.AsyncApiClientService;
+import uk.gov.companieshouse.web.pps.config.CacheConfigurationProperties;
+import uk.gov.companieshouse.web.pps.config.FeatureFlagConfigurationProperties;
+import uk.gov.companieshouse.web.pps.config.PenaltyConfigurationProperties;
+import uk.gov.companieshouse.web.pps.config.UpstreamConfigurationProperties;
+import uk.gov.companieshouse.web.pps.exception.ServiceException;
+import uk.gov.companieshouse.web.pps.models.PenaltyKey;
+import uk.gov.companieshouse.web.pps.service.company.CompanyService;
+import uk.gov.companieshouse.web.pps.service.finance.FinanceServiceHealthCheck;
+import uk.gov.companieshouse.web.pps.service.penaltypayment.impl.FinancialPenaltiesCache;
+import uk.gov.companieshouse.web.pps.service.penaltypayment.impl.FinancialPenaltiesStreamingClient;
+import uk.gov.companieshouse.web.pps.service.penaltypayment.impl.PenaltyPaymentServiceImpl;
+import uk.gov.companieshouse.web.pps.service.response.PPSServiceResponse;
+import uk.gov.companieshouse.web.pps.service.viewpenalty.ViewPenaltiesService;
+import uk.gov.companieshouse.web.pps.service.viewpenalty.impl.ViewPenaltiesServiceImpl;
+import uk.gov.companieshouse.web.pps.util.FeatureFlagChecker;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static uk.gov.companieshouse.web.pps.PPSWebApplication.APPLICATION_NAME_SPACE;
+import static uk.gov.companieshouse.web.pps.service.ServiceConstants.SESSION_ID;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.COMPANY_NAME;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.COMPANY_NUMBER;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.DATE;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.PENALTY_REF;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.validFinancialPenalty;
+
+/**
+ * Measures the cost of serving the view penalties page once the penalties are cached, with
+ * logging at INFO as in production. Run with the GC profiler ({@code -prof gc}) to compare
+ * allocation per page: {@code viewPenalties} is the page as it is now, and
+ * {@code eagerDebugMessages} is the debug message formatting the same path used to do on
+ * every request whether or not debug was enabled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ViewPenaltiesLoggingBenchmark {
+
+    private static final Logger STRUCTURED_LOGGER = LoggerFactory.getLogger(APPLICATION_NAME_SPACE);
+    private static final String PENALTY_REFERENCE_TYPE = "LATE_FILING";
+    private static final Map<String, Object> SESSION_DATA = Map.of(SESSION_ID, "benchmark-session");
+
+    private final PenaltyKey penaltyKey = PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF);
+    private ViewPenaltiesService viewPenaltiesService;
+
+    @Setup
+    public void setUp() {
+        ((ch.qos.logback.classic.Logger) org.slf4j.LoggerFactory.getLogger(APPLICATION_NAME_SPACE))
+                .setLevel(Level.INFO);
+
+        CacheConfigurationProperties cacheConfigurationProperties = new CacheConfigurationProperties();
+        cacheConfigurationProperties.getFinancialPenalties().setTimeToLive(Duration.ofDays(1));
+        FinancialPenaltiesCache financialPenaltiesCache = new FinancialPenaltiesCache(
+                cacheConfigurationProperties, () -> SESSION_DATA, new SimpleMeterRegistry());
+        financialPenaltiesCache.put(COMPANY_NUMBER, PENALTY_REF,
+                List.of(validFinancialPenalty(PENALTY_REF, DATE)));
+
+        viewPenaltiesService = new ViewPenaltiesServiceImpl(
+                null,
+                null,
+                new CachedCompanyService(),
+                new PenaltyPaymentServiceImpl(null, () -> SESSION_DATA, financialPenaltiesCache, null,
+                        new FinancialPenaltiesStreamingClient(new UpstreamConfigurationProperties()),
+                        new UpstreamConfigurationProperties(), new SimpleMeterRegistry()),
+                new PenaltyConfigurationProperties(),
+                new FeatureFlagChecker(new FeatureFlagConfigurationProperties()),
+                new AvailableFinanceServiceHealthCheck(),
+                new CallingThreadAsyncApiClientService(),
+                new UpstreamConfigurationProperties());
+    }
+
+    @Benchmark
+    public PPSServiceResponse viewPenalties() throws ServiceException {
+        return viewPenaltiesService.viewPenalties(penaltyKey);
+    }
+
+    @Benchmark
+    public void eagerDebugMessages(Blackhole blackhole) {
+        debug(blackhole, String.format("Checking if penalty ref type %s is enabled for company number %s",
+                PENALTY_REFERENCE_TYPE, COMPANY_NUMBER));
+        debug(blackhole, String.format("Penalty ref type %s is enabled for company number %s",
+                PENALTY_REFERENCE_TYPE, COMPANY_NUMBER));
+        debug(blackhole, String.format("Using cached financial penalties for company number %s and penalty ref %s",
+                COMPANY_NUMBER, PENALTY_REF));
+        debug(blackhole, String.format("Checking if online payment for penalty %s is available for company number %s",
+                PENALTY_REF, COMPANY_NUMBER));
+        debug(blackhole, String.format("Online payment for penalty %s is available for company number %s",
+                PENALTY_REF, COMPANY_NUMBER));
+    }
+
+    private static void debug(Blackhole blackhole, String message) {
+        STRUCTURED_LOGGER.debug(message);
+        blackhole.consume(message);
+    }
+
+    private static class CachedCompanyService implements CompanyService {
+
+        @Override
+        public CompanyProfileApi getCompanyProfile(String companyNumber) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getCompanyName(String companyNumber) {
+            return COMPANY_NAME;
+        }
+    }
+
+    private static class AvailableFinanceServiceHealthCheck implements FinanceServiceHealthCheck {
+
+        @Override
+        public PPSServiceResponse checkIfAvailable() {
+            return PPSServiceResponse.render();
+        }
+
+        @Override
+        public PPSServiceResponse checkIfAvailableAtStart(Integer startId) {
+            return PPSServiceResponse.render();
+        }
+    }
+
+    /**
+     * Runs each call on the calling thread, so that only the page's own work is measured.
+     */
+    private static class CallingThreadAsyncApiClientService implements AsyncApiClientService {
+
+        @Override
+        public <T> CompletableFuture<T> supplyAsync(ApiRoute route, ApiCall<T> call) {
+            try {
+                return CompletableFuture.completedFuture(call.call());
+            } catch (ServiceException ex) {
+                return CompletableFuture.failedFuture(ex);
+            }
+        }
+    }
+}
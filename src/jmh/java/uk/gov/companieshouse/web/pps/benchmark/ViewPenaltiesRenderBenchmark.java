@@ -0,0 +1,102 @@
+package uk.gov.companieshouse.web.pps.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.ui.ExtendedModelMap;
+import org.springframework.ui.Model;
+import uk.gov.companieshouse.web.pps.config.PenaltyConfigurationProperties;
+import uk.gov.companieshouse.web.pps.controller.pps.ViewPenaltiesController;
+import uk.gov.companieshouse.web.pps.models.PenaltyKey;
+import uk.gov.companieshouse.web.pps.service.response.PPSServiceResponse;
+import uk.gov.companieshouse.web.pps.service.viewpenalty.ViewPenaltiesService;
+import uk.gov.companieshouse.web.pps.session.SessionService;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Locale.UK;
+import static uk.gov.companieshouse.web.pps.controller.BaseController.BACK_LINK_URL_ATTR;
+import static uk.gov.companieshouse.web.pps.service.ServiceConstants.COMPANY_NAME_ATTR;
+import static uk.gov.companieshouse.web.pps.service.ServiceConstants.PENALTY_REFERENCE_NAME_ATTR;
+import static uk.gov.companieshouse.web.pps.service.ServiceConstants.PENALTY_REF_ATTR;
+import static uk.gov.companieshouse.web.pps.service.ServiceConstants.SIGN_IN_INFO;
+import static uk.gov.companieshouse.web.pps.service.ServiceConstants.SIGN_OUT_URL_ATTR;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.COMPANY_NAME;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.COMPANY_NUMBER;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.PENALTY_REF;
+
+/**
+ * Measures the controller's share of rendering the view penalties page for a signed in user:
+ * merging the service's attributes, the banners and the user bar into the model. Run with the
+ * GC profiler ({@code -prof gc}) to compare allocation per page. The service response is built
+ * once, so that only the model work is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ViewPenaltiesRenderBenchmark {
+
+    private final PenaltyKey penaltyKey = PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF);
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+    private ViewPenaltiesController viewPenaltiesController;
+
+    @Setup
+    public void setUp() {
+        PenaltyConfigurationProperties penaltyConfigurationProperties = new PenaltyConfigurationProperties();
+        penaltyConfigurationProperties.setSurveyLink("https://www.research.net/r/pay-penalty");
+        penaltyConfigurationProperties.setServiceBannerLink("https://www.gov.uk/contact-companies-house");
+
+        StaticMessageSource messageSource = new StaticMessageSource();
+        messageSource.addMessage("penalty.service.banner.text", UK, "Pay a penalty to Companies House");
+
+        Map<String, Object> sessionData = Map.of(SIGN_IN_INFO,
+                Map.of("user_profile", Map.of("email", "test@example.com")));
+        SessionService sessionService = () -> sessionData;
+
+        PPSServiceResponse serviceResponse = PPSServiceResponse.render(
+                Map.of(
+                        COMPANY_NAME_ATTR, COMPANY_NAME,
+                        PENALTY_REF_ATTR, PENALTY_REF,
+                        PENALTY_REFERENCE_NAME_ATTR, penaltyKey.penaltyReference().name()),
+                Map.of(
+                        BACK_LINK_URL_ATTR, "/pay-penalty/enter-details?ref-starts-with=A",
+                        SIGN_OUT_URL_ATTR, "/pay-penalty/sign-out"));
+
+        viewPenaltiesController = new ViewPenaltiesController(null, sessionService,
+                penaltyConfigurationProperties, messageSource, new FixedViewPenaltiesService(serviceResponse));
+    }
+
+    @Benchmark
+    public Model render() {
+        Model model = new ExtendedModelMap();
+        viewPenaltiesController.getViewPenalties(penaltyKey, model, request);
+        return model;
+    }
+
+    private record FixedViewPenaltiesService(PPSServiceResponse serviceResponse)
+            implements ViewPenaltiesService {
+
+        @Override
+        public PPSServiceResponse viewPenalties(PenaltyKey penaltyKey) {
+            return serviceResponse;
+        }
+
+        @Override
+        public String postViewPenalties(PenaltyKey penaltyKey) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -2,11 +2,16 @@ package uk.gov.companieshouse.web.pps;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import uk.gov.companieshouse.web.pps.controller.PenaltyKeyArgumentResolver;
 import uk.gov.companieshouse.web.pps.interceptor.LoggingInterceptor;
+import uk.gov.companieshouse.web.pps.interceptor.SessionMetricsInterceptor;
 import uk.gov.companieshouse.web.pps.interceptor.UserDetailsInterceptor;
 
+import java.util.List;
+
 @SpringBootApplication
 public class PPSWebApplication implements WebMvcConfigurer {
 
@@ -14,11 +19,17 @@ public class PPSWebApplication implements WebMvcConfigurer {
 
     private final UserDetailsInterceptor userDetailsInterceptor;
     private final LoggingInterceptor loggingInterceptor;
+    private final SessionMetricsInterceptor sessionMetricsInterceptor;
+    private final PenaltyKeyArgumentResolver penaltyKeyArgumentResolver;
 
     public PPSWebApplication(UserDetailsInterceptor userDetailsInterceptor,
-            LoggingInterceptor loggingInterceptor) {
+            LoggingInterceptor loggingInterceptor,
+            SessionMetricsInterceptor sessionMetricsInterceptor,
+            PenaltyKeyArgumentResolver penaltyKeyArgumentResolver) {
         this.userDetailsInterceptor = userDetailsInterceptor;
         this.loggingInterceptor = loggingInterceptor;
+        this.sessionMetricsInterceptor = sessionMetricsInterceptor;
+        this.penaltyKeyArgumentResolver = penaltyKeyArgumentResolver;
     }
 
     public static void main(String[] args) {
@@ -28,6 +39,7 @@ public class PPSWebApplication implements WebMvcConfigurer {
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(loggingInterceptor);
+        registry.addInterceptor(sessionMetricsInterceptor);
         registry.addInterceptor(userDetailsInterceptor)
                 .excludePathPatterns(
                         "/pay-penalty",
@@ -37,4 +49,9 @@ public class PPSWebApplication implements WebMvcConfigurer {
                         "/pay-penalty/unscheduled-service-down"
                 );
     }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(penaltyKeyArgumentResolver);
+    }
 }
@@ -4,8 +4,14 @@ import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Scope;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import uk.gov.companieshouse.environment.EnvironmentReader;
 import uk.gov.companieshouse.environment.impl.EnvironmentReaderImpl;
+import uk.gov.companieshouse.web.pps.config.RequestContextTaskDecorator;
+import uk.gov.companieshouse.web.pps.config.UpstreamConfigurationProperties;
+
+import java.time.Clock;
 
 @Configuration
 public class PPSWebApplicationConfig {
@@ -16,4 +22,19 @@ public class PPSWebApplicationConfig {
 
         return new EnvironmentReaderImpl();
     }
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemUTC();
+    }
+
+    @Bean
+    public AsyncTaskExecutor upstreamTaskExecutor(
+            UpstreamConfigurationProperties upstreamConfigurationProperties) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("upstream-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(upstreamConfigurationProperties.getConcurrencyLimit());
+        executor.setTaskDecorator(new RequestContextTaskDecorator());
+        return executor;
+    }
 }
@@ -0,0 +1,16 @@
+package uk.gov.companieshouse.web.pps.api;
+
+import uk.gov.companieshouse.web.pps.exception.ServiceException;
+
+/**
+ * A blocking call to an upstream API, typically a service layer method that builds and
+ * executes an SDK request.
+ *
+ * @param <T> the type returned by the call
+ */
+@FunctionalInterface
+public interface ApiCall<T> {
+
+    T call() throws ServiceException;
+
+}
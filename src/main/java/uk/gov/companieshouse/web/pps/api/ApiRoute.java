@@ -0,0 +1,13 @@
+package uk.gov.companieshouse.web.pps.api;
+
+/**
+ * The upstream APIs called by this service, used to apply limits per API rather than
+ * across all upstream calls.
+ */
+public enum ApiRoute {
+
+    PENALTY_PAYMENT,
+    COMPANY,
+    PAYMENTS
+
+}
@@ -0,0 +1,14 @@
+package uk.gov.companieshouse.web.pps.api;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The {@code AsyncApiClientService} interface runs upstream API calls away from the request
+ * thread so that independent calls can be issued together and composed. Cancelling a
+ * returned future interrupts the call if it is still running.
+ */
+public interface AsyncApiClientService {
+
+    <T> CompletableFuture<T> supplyAsync(ApiRoute route, ApiCall<T> call);
+
+}
@@ -0,0 +1,109 @@
+package uk.gov.companieshouse.web.pps.api;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import uk.gov.companieshouse.web.pps.exception.ServiceException;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Shares one in-flight upstream read between concurrent callers asking for the same resource,
+ * so that a burst of identical requests makes a single round trip. The first caller for a key
+ * makes the call and the others wait for its result or failure, for no longer than the
+ * operation's upstream timeout. Nothing is kept once the call
+ * completes, so a later caller always makes a fresh call; callers that want to reuse results
+ * put a cache in front. Callers that joined a call already in flight are counted.
+ *
+ * @param <T> the type returned by the call
+ */
+public final class RequestCoalescer<T> {
+
+    static final String COALESCED_METRIC = "pps.upstream.coalesced";
+
+    private final ConcurrentMap<String, CompletableFuture<T>> inFlight = new ConcurrentHashMap<>();
+    private final long timeoutNanos;
+    private final Counter coalescedCounter;
+
+    public RequestCoalescer(UpstreamOperation operation, Duration timeout,
+            MeterRegistry meterRegistry) {
+        this.timeoutNanos = timeout.toNanos();
+        this.coalescedCounter = Counter.builder(COALESCED_METRIC)
+                .description("Upstream reads that shared a call already in flight")
+                .tag("operation", operation.getTagValue())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Makes the call, or waits for the identical call already in flight.
+     *
+     * @param key identifies the resource read, typically the request URI
+     * @param call the upstream call
+     * @return the result of the shared call
+     * @throws ServiceException if the shared call failed or did not complete within the timeout
+     */
+    public T call(String key, ApiCall<T> call) throws ServiceException {
+        while (true) {
+            CompletableFuture<T> flight = new CompletableFuture<>();
+            CompletableFuture<T> existing = inFlight.putIfAbsent(key, flight);
+            if (existing == null) {
+                return lead(key, flight, call);
+            }
+
+            coalescedCounter.increment();
+            try {
+                return existing.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (CancellationException ex) {
+                // The caller making the call was cancelled, so the next caller makes it instead
+            } catch (ExecutionException ex) {
+                if (ex.getCause() instanceof ServiceException serviceException) {
+                    throw serviceException;
+                }
+                if (ex.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new ServiceException("Error in shared upstream call", ex.getCause());
+            } catch (TimeoutException ex) {
+                throw new ServiceException("Timed out waiting for shared upstream call", ex);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new ServiceException("Interrupted waiting for shared upstream call", ex);
+            }
+        }
+    }
+
+    int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private T lead(String key, CompletableFuture<T> flight, ApiCall<T> call)
+            throws ServiceException {
+        try {
+            T result = call.call();
+            // Removed before completing, so no caller is handed a result once it is complete
+            inFlight.remove(key, flight);
+            flight.complete(result);
+            return result;
+        } catch (ServiceException | RuntimeException ex) {
+            inFlight.remove(key, flight);
+            if (Thread.currentThread().isInterrupted()) {
+                // The failure is this caller's cancellation rather than the upstream's answer
+                flight.cancel(false);
+            } else {
+                flight.completeExceptionally(ex);
+            }
+            throw ex;
+        } finally {
+            if (!flight.isDone()) {
+                inFlight.remove(key, flight);
+                flight.cancel(false);
+            }
+        }
+    }
+}
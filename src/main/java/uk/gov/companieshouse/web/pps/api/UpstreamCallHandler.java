@@ -0,0 +1,21 @@
+package uk.gov.companieshouse.web.pps.api;
+
+import uk.gov.companieshouse.web.pps.exception.ServiceException;
+import uk.gov.companieshouse.web.pps.models.PenaltyKey;
+
+/**
+ * The {@code UpstreamCallHandler} interface runs blocking upstream API calls behind a
+ * circuit breaker and a concurrency bulkhead for the {@link ApiRoute} of their
+ * {@link UpstreamOperation}, and records their latency and outcome. While a route's circuit
+ * is open, or its bulkhead is full, calls fail fast with a {@link ServiceException} rather
+ * than waiting on a failing API.
+ */
+public interface UpstreamCallHandler {
+
+    <T> T call(UpstreamOperation operation, ApiCall<T> call) throws ServiceException;
+
+    <T> T call(UpstreamOperation operation, PenaltyKey penaltyKey, ApiCall<T> call) throws ServiceException;
+
+    boolean isCircuitOpen(ApiRoute route);
+
+}
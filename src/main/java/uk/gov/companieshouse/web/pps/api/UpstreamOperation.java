@@ -0,0 +1,32 @@
+package uk.gov.companieshouse.web.pps.api;
+
+/**
+ * The SDK operations this service performs against its upstream APIs, used to tag upstream
+ * call metrics and to select the {@link ApiRoute} a call is guarded by.
+ */
+public enum UpstreamOperation {
+
+    FINANCIAL_PENALTIES_GET(ApiRoute.PENALTY_PAYMENT),
+    FINANCE_HEALTHCHECK_GET(ApiRoute.PENALTY_PAYMENT),
+    PAYABLE_PENALTIES_GET(ApiRoute.PENALTY_PAYMENT),
+    PAYABLE_PENALTY_SESSION_CREATE(ApiRoute.PENALTY_PAYMENT),
+    COMPANY_PROFILE_GET(ApiRoute.COMPANY),
+    PAYMENT_SESSION_CREATE(ApiRoute.PAYMENTS);
+
+    private final ApiRoute route;
+    private final String tagValue;
+
+    UpstreamOperation(ApiRoute route) {
+        this.route = route;
+        this.tagValue = name().toLowerCase();
+    }
+
+    public ApiRoute getRoute() {
+        return route;
+    }
+
+    public String getTagValue() {
+        return tagValue;
+    }
+
+}
@@ -1,8 +1,10 @@
 package uk.gov.companieshouse.web.pps.api.impl;
 
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
 import uk.gov.companieshouse.api.ApiClient;
 import uk.gov.companieshouse.sdk.manager.ApiClientManager;
+import uk.gov.companieshouse.sdk.manager.ApiSdkManager;
 import uk.gov.companieshouse.web.pps.api.ApiClientService;
 
 @Component
@@ -10,7 +12,12 @@ public class ApiClientServiceImpl implements ApiClientService {
 
     @Override
     public ApiClient getPublicApiClient() {
+        if (RequestContextHolder.getRequestAttributes() == null) {
+            // Background work such as cache refreshes runs outside of a request, so there is
+            // no inbound request to take the passthrough header and request id from
+            return ApiSdkManager.getSDK();
+        }
         return ApiClientManager.getSDK();
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,60 @@
+package uk.gov.companieshouse.web.pps.api.impl;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.web.pps.api.ApiCall;
+import uk.gov.companieshouse.web.pps.api.ApiRoute;
+import uk.gov.companieshouse.web.pps.api.AsyncApiClientService;
+import uk.gov.companieshouse.web.pps.api.UpstreamCallHandler;
+import uk.gov.companieshouse.web.pps.exception.ServiceException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+/**
+ * Runs upstream calls on the virtual thread upstream executor, so a slow API ties up cheap
+ * virtual threads rather than servlet threads. Calls to a route whose circuit is open fail
+ * without being submitted; the per route concurrency limit is applied by the
+ * {@link UpstreamCallHandler} the service layer calls through.
+ */
+@Component
+public class AsyncApiClientServiceImpl implements AsyncApiClientService {
+
+    private final AsyncTaskExecutor upstreamTaskExecutor;
+    private final UpstreamCallHandler upstreamCallHandler;
+
+    public AsyncApiClientServiceImpl(AsyncTaskExecutor upstreamTaskExecutor,
+            UpstreamCallHandler upstreamCallHandler) {
+        this.upstreamTaskExecutor = upstreamTaskExecutor;
+        this.upstreamCallHandler = upstreamCallHandler;
+    }
+
+    @Override
+    public <T> CompletableFuture<T> supplyAsync(ApiRoute route, ApiCall<T> call) {
+        if (upstreamCallHandler.isCircuitOpen(route)) {
+            return CompletableFuture.failedFuture(new ServiceException(
+                    String.format("The %s API is unavailable", route), null));
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task = upstreamTaskExecutor.submit(() -> run(call, result));
+        result.whenComplete((value, ex) -> {
+            if (result.isCancelled()) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private <T> void run(ApiCall<T> call, CompletableFuture<T> result) {
+        if (result.isDone()) {
+            return;
+        }
+
+        try {
+            result.complete(call.call());
+        } catch (ServiceException | RuntimeException ex) {
+            result.completeExceptionally(ex);
+        }
+    }
+}
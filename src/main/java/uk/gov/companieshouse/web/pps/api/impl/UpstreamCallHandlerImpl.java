@@ -0,0 +1,247 @@
+package uk.gov.companieshouse.web.pps.api.impl;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.api.error.ApiErrorResponseException;
+import uk.gov.companieshouse.api.handler.exception.URIValidationException;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
+import uk.gov.companieshouse.web.pps.PPSWebApplication;
+import uk.gov.companieshouse.web.pps.api.ApiCall;
+import uk.gov.companieshouse.web.pps.api.ApiRoute;
+import uk.gov.companieshouse.web.pps.api.UpstreamCallHandler;
+import uk.gov.companieshouse.web.pps.api.UpstreamOperation;
+import uk.gov.companieshouse.web.pps.config.UpstreamConfigurationProperties;
+import uk.gov.companieshouse.web.pps.config.UpstreamConfigurationProperties.CircuitBreakerSettings;
+import uk.gov.companieshouse.web.pps.exception.ServiceException;
+import uk.gov.companieshouse.web.pps.models.PenaltyKey;
+
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.nio.channels.ClosedByInterruptException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Guards each {@link ApiRoute} with its own circuit breaker and semaphore bulkhead. Only
+ * server errors and connection failures count against the circuit; client errors such as a
+ * 404 show the API is responding and count as successful calls, and calls cancelled by an
+ * interrupt are left out altogether. Every call made is timed by operation, penalty reference
+ * type and outcome, and calls refused by an open circuit or a full bulkhead are counted.
+ */
+@Component
+public class UpstreamCallHandlerImpl implements UpstreamCallHandler {
+
+    protected static final Logger LOGGER = LoggerFactory
+            .getLogger(PPSWebApplication.APPLICATION_NAME_SPACE);
+
+    static final String UPSTREAM_REQUESTS_METRIC = "pps.upstream.requests";
+    static final String UPSTREAM_REJECTED_METRIC = "pps.upstream.rejected";
+
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_CANCELLED = "cancelled";
+    private static final Duration MINIMUM_EXPECTED_LATENCY = Duration.ofMillis(5);
+    private static final Duration MAXIMUM_EXPECTED_LATENCY = Duration.ofSeconds(30);
+
+    private final MeterRegistry meterRegistry;
+    private final boolean circuitBreakerEnabled;
+    private final Map<ApiRoute, CircuitBreaker> circuitBreakers = new EnumMap<>(ApiRoute.class);
+    private final Map<ApiRoute, Bulkhead> bulkheads = new EnumMap<>(ApiRoute.class);
+    private final ConcurrentMap<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<RejectionKey, Counter> rejections = new ConcurrentHashMap<>();
+
+    public UpstreamCallHandlerImpl(UpstreamConfigurationProperties upstreamConfigurationProperties,
+            MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        CircuitBreakerSettings circuitBreakerSettings = upstreamConfigurationProperties.getCircuitBreaker();
+        this.circuitBreakerEnabled = circuitBreakerSettings.isEnabled();
+
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(
+                getCircuitBreakerConfig(circuitBreakerSettings));
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+        for (ApiRoute route : ApiRoute.values()) {
+            CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(route.name());
+            circuitBreaker.getEventPublisher().onStateTransition(event ->
+                    LOGGER.info(String.format("Circuit breaker for the %s API changed from %s to %s",
+                            route, event.getStateTransition().getFromState(),
+                            event.getStateTransition().getToState())));
+            circuitBreakers.put(route, circuitBreaker);
+
+            bulkheads.put(route, bulkheadRegistry.bulkhead(route.name(), BulkheadConfig.custom()
+                    .maxConcurrentCalls(upstreamConfigurationProperties.getRouteConcurrencyLimit(route))
+                    .maxWaitDuration(upstreamConfigurationProperties.getRouteAcquireTimeout())
+                    .build()));
+        }
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+    }
+
+    @Override
+    public <T> T call(UpstreamOperation operation, ApiCall<T> call) throws ServiceException {
+        return call(operation, null, call);
+    }
+
+    @Override
+    public <T> T call(UpstreamOperation operation, PenaltyKey penaltyKey, ApiCall<T> call)
+            throws ServiceException {
+        ApiRoute route = operation.getRoute();
+        CircuitBreaker circuitBreaker = circuitBreakers.get(route);
+        if (circuitBreakerEnabled && !circuitBreaker.tryAcquirePermission()) {
+            countRejection(operation, "circuit_open");
+            throw new ServiceException(String.format("The %s API is unavailable", route), null);
+        }
+
+        Bulkhead bulkhead = bulkheads.get(route);
+        if (!bulkhead.tryAcquirePermission()) {
+            if (circuitBreakerEnabled) {
+                circuitBreaker.releasePermission();
+            }
+            countRejection(operation, "bulkhead_full");
+            throw new ServiceException(String.format("Too many concurrent calls to the %s API", route), null);
+        }
+
+        long start = System.nanoTime();
+        try {
+            T result = call.call();
+            long duration = System.nanoTime() - start;
+            if (circuitBreakerEnabled) {
+                circuitBreaker.onSuccess(duration, TimeUnit.NANOSECONDS);
+            }
+            recordCall(operation, penaltyKey, OUTCOME_SUCCESS, duration);
+            return result;
+        } catch (ServiceException | RuntimeException ex) {
+            long duration = System.nanoTime() - start;
+            // A call we cancelled says nothing about the health of the API, so it is left out
+            // of the circuit rather than recorded as a failure
+            boolean cancelled = isCancelled(ex);
+            if (circuitBreakerEnabled) {
+                if (cancelled) {
+                    circuitBreaker.releasePermission();
+                } else {
+                    circuitBreaker.onError(duration, TimeUnit.NANOSECONDS, ex);
+                }
+            }
+            recordCall(operation, penaltyKey, cancelled ? OUTCOME_CANCELLED : getOutcome(ex), duration);
+            throw ex;
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+
+    @Override
+    public boolean isCircuitOpen(ApiRoute route) {
+        if (!circuitBreakerEnabled) {
+            return false;
+        }
+        CircuitBreaker.State state = circuitBreakers.get(route).getState();
+        return state == CircuitBreaker.State.OPEN || state == CircuitBreaker.State.FORCED_OPEN;
+    }
+
+    private void recordCall(UpstreamOperation operation, PenaltyKey penaltyKey, String outcome,
+            long durationNanos) {
+        String penaltyReferenceType = penaltyKey == null ? "none" : penaltyKey.penaltyReference().name();
+        timers.computeIfAbsent(new TimerKey(operation, penaltyReferenceType, outcome), this::registerTimer)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer registerTimer(TimerKey timerKey) {
+        return Timer.builder(UPSTREAM_REQUESTS_METRIC)
+                .description("Latency of calls to upstream APIs")
+                .tag("operation", timerKey.operation().getTagValue())
+                .tag("penalty_reference_type", timerKey.penaltyReferenceType())
+                .tag("outcome", timerKey.outcome())
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MINIMUM_EXPECTED_LATENCY)
+                .maximumExpectedValue(MAXIMUM_EXPECTED_LATENCY)
+                .register(meterRegistry);
+    }
+
+    private void countRejection(UpstreamOperation operation, String reason) {
+        rejections.computeIfAbsent(new RejectionKey(operation, reason), this::registerRejectionCounter)
+                .increment();
+    }
+
+    private Counter registerRejectionCounter(RejectionKey rejectionKey) {
+        return Counter.builder(UPSTREAM_REJECTED_METRIC)
+                .description("Upstream API calls refused without being made")
+                .tag("operation", rejectionKey.operation().getTagValue())
+                .tag("reason", rejectionKey.reason())
+                .register(meterRegistry);
+    }
+
+    private static boolean isCancelled(Exception ex) {
+        if (Thread.currentThread().isInterrupted()) {
+            return true;
+        }
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            // A socket timeout is an InterruptedIOException too, but it is the API being slow
+            if (cause instanceof InterruptedException || cause instanceof ClosedByInterruptException
+                    || cause instanceof InterruptedIOException && !(cause instanceof SocketTimeoutException)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String getOutcome(Exception ex) {
+        Throwable cause = ex.getCause();
+        if (cause instanceof ApiErrorResponseException apiErrorResponseException) {
+            int statusCode = apiErrorResponseException.getStatusCode();
+            if (statusCode >= HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                return "5xx";
+            }
+            if (statusCode >= HttpStatus.BAD_REQUEST.value()) {
+                return "4xx";
+            }
+        }
+        if (cause instanceof URIValidationException || cause instanceof IllegalArgumentException) {
+            return "uri_error";
+        }
+        return "error";
+    }
+
+    private static CircuitBreakerConfig getCircuitBreakerConfig(CircuitBreakerSettings settings) {
+        return CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(settings.getSlidingWindowSize())
+                .minimumNumberOfCalls(settings.getMinimumNumberOfCalls())
+                .failureRateThreshold(settings.getFailureRateThreshold())
+                .slowCallDurationThreshold(settings.getSlowCallDurationThreshold())
+                .slowCallRateThreshold(settings.getSlowCallRateThreshold())
+                .waitDurationInOpenState(settings.getWaitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(settings.getPermittedNumberOfCallsInHalfOpenState())
+                // Pages stop calling a route once its circuit is open, so nothing else would
+                // move it on to half open
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .recordException(UpstreamCallHandlerImpl::isUpstreamFailure)
+                .build();
+    }
+
+    private static boolean isUpstreamFailure(Throwable ex) {
+        // The SDK reports connection failures as an ApiErrorResponseException with a 500 status
+        return ex instanceof ServiceException
+                && ex.getCause() instanceof ApiErrorResponseException apiErrorResponseException
+                && apiErrorResponseException.getStatusCode() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+    }
+
+    private record TimerKey(UpstreamOperation operation, String penaltyReferenceType, String outcome) {
+    }
+
+    private record RejectionKey(UpstreamOperation operation, String reason) {
+    }
+}
@@ -0,0 +1,107 @@
+package uk.gov.companieshouse.web.pps.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties("cache")
+public class CacheConfigurationProperties {
+
+    private final FinanceHealthcheckCache financeHealthcheck = new FinanceHealthcheckCache();
+    private final ExpiringCache financialPenalties = new ExpiringCache();
+    private final CompanyNameCache companyNames = new CompanyNameCache();
+
+    public FinanceHealthcheckCache getFinanceHealthcheck() {
+        return financeHealthcheck;
+    }
+
+    public ExpiringCache getFinancialPenalties() {
+        return financialPenalties;
+    }
+
+    public CompanyNameCache getCompanyNames() {
+        return companyNames;
+    }
+
+    public static class FinanceHealthcheckCache {
+
+        private boolean enabled = true;
+        private Duration refreshInterval = Duration.ofSeconds(30);
+        private Duration timeToLive = Duration.ofSeconds(60);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getRefreshInterval() {
+            return refreshInterval;
+        }
+
+        public void setRefreshInterval(Duration refreshInterval) {
+            this.refreshInterval = refreshInterval;
+        }
+
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        public void setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+    }
+
+    public static class ExpiringCache {
+
+        private boolean enabled = true;
+        private Duration timeToLive = Duration.ofSeconds(60);
+        private long maximumSize = 10_000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        public void setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+    }
+
+    public static class CompanyNameCache extends ExpiringCache {
+
+        private Duration notFoundTimeToLive = Duration.ofSeconds(30);
+
+        public CompanyNameCache() {
+            setTimeToLive(Duration.ofMinutes(10));
+        }
+
+        public Duration getNotFoundTimeToLive() {
+            return notFoundTimeToLive;
+        }
+
+        public void setNotFoundTimeToLive(Duration notFoundTimeToLive) {
+            this.notFoundTimeToLive = notFoundTimeToLive;
+        }
+    }
+
+}
@@ -0,0 +1,586 @@
+package uk.gov.companieshouse.web.pps.config;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.RequestDispatcher;
+import jakarta.servlet.ServletConnection;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletMapping;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpUpgradeHandler;
+import jakarta.servlet.http.Part;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+import java.io.BufferedReader;
+import java.security.Principal;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A copy of an inbound request taken on the request thread, for use by work that may outlive
+ * it once the container recycles the request. Everything a request can be asked about is
+ * copied when it is taken: the request line, headers, parameters, cookies, locales, session,
+ * user and connection details. Attributes start as a copy and can be changed without reaching
+ * the inbound request.
+ * <p>
+ * The request body has already been read by the request thread, so it is not available, and
+ * nothing that would act on the inbound request or its response, such as starting async
+ * processing, logging in or upgrading the connection, is supported. User roles are not
+ * copied, so {@link #isUserInRole(String)} is always {@code false}.
+ */
+final class DetachedHttpServletRequest implements HttpServletRequest {
+
+    private final String method;
+    private final String requestUri;
+    private final String requestUrl;
+    private final String queryString;
+    private final String contextPath;
+    private final String servletPath;
+    private final String pathInfo;
+    private final String pathTranslated;
+    private final HttpServletMapping httpServletMapping;
+    private final String protocol;
+    private final String scheme;
+    private final String serverName;
+    private final int serverPort;
+    private final boolean secure;
+    private final String remoteAddr;
+    private final String remoteHost;
+    private final int remotePort;
+    private final String localAddr;
+    private final String localName;
+    private final int localPort;
+    private final Map<String, List<String>> headers = new LinkedCaseInsensitiveMap<>();
+    private final Map<String, String[]> parameters = new LinkedHashMap<>();
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+    private final Cookie[] cookies;
+    private final List<Locale> locales;
+    private final String contentType;
+    private final long contentLength;
+    private final String authType;
+    private final String remoteUser;
+    private final Principal userPrincipal;
+    private final HttpSession session;
+    private final String requestedSessionId;
+    private final boolean requestedSessionIdValid;
+    private final boolean requestedSessionIdFromCookie;
+    private final boolean requestedSessionIdFromUrl;
+    private final DispatcherType dispatcherType;
+    private final ServletContext servletContext;
+    private final String requestId;
+    private final String protocolRequestId;
+    private final ServletConnection servletConnection;
+    private volatile String characterEncoding;
+
+    DetachedHttpServletRequest(HttpServletRequest request) {
+        this.method = request.getMethod();
+        this.requestUri = request.getRequestURI();
+        this.requestUrl = request.getRequestURL().toString();
+        this.queryString = request.getQueryString();
+        this.contextPath = request.getContextPath();
+        this.servletPath = request.getServletPath();
+        this.pathInfo = request.getPathInfo();
+        this.pathTranslated = request.getPathTranslated();
+        this.httpServletMapping = request.getHttpServletMapping();
+        this.protocol = request.getProtocol();
+        this.scheme = request.getScheme();
+        this.serverName = request.getServerName();
+        this.serverPort = request.getServerPort();
+        this.secure = request.isSecure();
+        this.remoteAddr = request.getRemoteAddr();
+        this.remoteHost = request.getRemoteHost();
+        this.remotePort = request.getRemotePort();
+        this.localAddr = request.getLocalAddr();
+        this.localName = request.getLocalName();
+        this.localPort = request.getLocalPort();
+
+        Enumeration<String> headerNames = request.getHeaderNames();
+        if (headerNames != null) {
+            for (String name : Collections.list(headerNames)) {
+                headers.put(name, Collections.list(request.getHeaders(name)));
+            }
+        }
+        request.getParameterMap().forEach((name, values) -> parameters.put(name, values.clone()));
+        for (String name : Collections.list(request.getAttributeNames())) {
+            Object value = request.getAttribute(name);
+            if (value != null) {
+                attributes.put(name, value);
+            }
+        }
+
+        Cookie[] requestCookies = request.getCookies();
+        this.cookies = requestCookies == null ? null : cloneCookies(requestCookies);
+        this.locales = Collections.list(request.getLocales());
+        this.characterEncoding = request.getCharacterEncoding();
+        this.contentType = request.getContentType();
+        this.contentLength = request.getContentLengthLong();
+        this.authType = request.getAuthType();
+        this.remoteUser = request.getRemoteUser();
+        this.userPrincipal = request.getUserPrincipal();
+        this.session = request.getSession(false);
+        this.requestedSessionId = request.getRequestedSessionId();
+        this.requestedSessionIdValid = request.isRequestedSessionIdValid();
+        this.requestedSessionIdFromCookie = request.isRequestedSessionIdFromCookie();
+        this.requestedSessionIdFromUrl = request.isRequestedSessionIdFromURL();
+        this.dispatcherType = request.getDispatcherType();
+        this.servletContext = request.getServletContext();
+        this.requestId = request.getRequestId();
+        this.protocolRequestId = request.getProtocolRequestId();
+        ServletConnection connection = request.getServletConnection();
+        this.servletConnection = connection == null ? null : new DetachedServletConnection(connection);
+    }
+
+    @Override
+    public String getMethod() {
+        return method;
+    }
+
+    @Override
+    public String getRequestURI() {
+        return requestUri;
+    }
+
+    @Override
+    public StringBuffer getRequestURL() {
+        return new StringBuffer(requestUrl);
+    }
+
+    @Override
+    public String getQueryString() {
+        return queryString;
+    }
+
+    @Override
+    public String getContextPath() {
+        return contextPath;
+    }
+
+    @Override
+    public String getServletPath() {
+        return servletPath;
+    }
+
+    @Override
+    public String getPathInfo() {
+        return pathInfo;
+    }
+
+    @Override
+    public String getPathTranslated() {
+        return pathTranslated;
+    }
+
+    @Override
+    public HttpServletMapping getHttpServletMapping() {
+        return httpServletMapping;
+    }
+
+    @Override
+    public String getProtocol() {
+        return protocol;
+    }
+
+    @Override
+    public String getScheme() {
+        return scheme;
+    }
+
+    @Override
+    public String getServerName() {
+        return serverName;
+    }
+
+    @Override
+    public int getServerPort() {
+        return serverPort;
+    }
+
+    @Override
+    public boolean isSecure() {
+        return secure;
+    }
+
+    @Override
+    public String getRemoteAddr() {
+        return remoteAddr;
+    }
+
+    @Override
+    public String getRemoteHost() {
+        return remoteHost;
+    }
+
+    @Override
+    public int getRemotePort() {
+        return remotePort;
+    }
+
+    @Override
+    public String getLocalAddr() {
+        return localAddr;
+    }
+
+    @Override
+    public String getLocalName() {
+        return localName;
+    }
+
+    @Override
+    public int getLocalPort() {
+        return localPort;
+    }
+
+    @Override
+    public String getHeader(String name) {
+        List<String> values = headers.get(name);
+        return values == null || values.isEmpty() ? null : values.getFirst();
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+        return Collections.enumeration(headers.getOrDefault(name, List.of()));
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        return Collections.enumeration(List.copyOf(headers.keySet()));
+    }
+
+    @Override
+    public int getIntHeader(String name) {
+        String value = getHeader(name);
+        return value == null ? -1 : Integer.parseInt(value);
+    }
+
+    @Override
+    public long getDateHeader(String name) {
+        String value = getHeader(name);
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant()
+                    .toEpochMilli();
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Header " + name + " is not a date: " + value, ex);
+        }
+    }
+
+    @Override
+    public String getParameter(String name) {
+        String[] values = parameters.get(name);
+        return values == null || values.length == 0 ? null : values[0];
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+        return Collections.enumeration(List.copyOf(parameters.keySet()));
+    }
+
+    @Override
+    public String[] getParameterValues(String name) {
+        String[] values = parameters.get(name);
+        return values == null ? null : values.clone();
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        Map<String, String[]> parameterMap = new LinkedHashMap<>();
+        parameters.forEach((name, values) -> parameterMap.put(name, values.clone()));
+        return Collections.unmodifiableMap(parameterMap);
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        return Collections.enumeration(List.copyOf(attributes.keySet()));
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        if (value == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, value);
+        }
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        attributes.remove(name);
+    }
+
+    @Override
+    public Cookie[] getCookies() {
+        return cookies == null ? null : cloneCookies(cookies);
+    }
+
+    @Override
+    public Locale getLocale() {
+        return locales.isEmpty() ? Locale.getDefault() : locales.getFirst();
+    }
+
+    @Override
+    public Enumeration<Locale> getLocales() {
+        return Collections.enumeration(locales.isEmpty() ? List.of(Locale.getDefault()) : locales);
+    }
+
+    @Override
+    public String getCharacterEncoding() {
+        return characterEncoding;
+    }
+
+    @Override
+    public void setCharacterEncoding(String env) {
+        this.characterEncoding = env;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public int getContentLength() {
+        return contentLength > Integer.MAX_VALUE ? -1 : (int) contentLength;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return contentLength;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        throw bodyNotAvailable();
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        throw bodyNotAvailable();
+    }
+
+    @Override
+    public Collection<Part> getParts() {
+        throw bodyNotAvailable();
+    }
+
+    @Override
+    public Part getPart(String name) {
+        throw bodyNotAvailable();
+    }
+
+    @Override
+    public String getAuthType() {
+        return authType;
+    }
+
+    @Override
+    public String getRemoteUser() {
+        return remoteUser;
+    }
+
+    @Override
+    public Principal getUserPrincipal() {
+        return userPrincipal;
+    }
+
+    @Override
+    public boolean isUserInRole(String role) {
+        return false;
+    }
+
+    @Override
+    public HttpSession getSession(boolean create) {
+        if (session == null && create) {
+            throw notSupported("Creating a session");
+        }
+        return session;
+    }
+
+    @Override
+    public HttpSession getSession() {
+        return getSession(true);
+    }
+
+    @Override
+    public String getRequestedSessionId() {
+        return requestedSessionId;
+    }
+
+    @Override
+    public boolean isRequestedSessionIdValid() {
+        return requestedSessionIdValid;
+    }
+
+    @Override
+    public boolean isRequestedSessionIdFromCookie() {
+        return requestedSessionIdFromCookie;
+    }
+
+    @Override
+    public boolean isRequestedSessionIdFromURL() {
+        return requestedSessionIdFromUrl;
+    }
+
+    @Override
+    public String changeSessionId() {
+        throw notSupported("Changing the session id");
+    }
+
+    @Override
+    public boolean authenticate(HttpServletResponse response) {
+        throw notSupported("Authenticating");
+    }
+
+    @Override
+    public void login(String username, String password) {
+        throw notSupported("Logging in");
+    }
+
+    @Override
+    public void logout() {
+        throw notSupported("Logging out");
+    }
+
+    @Override
+    public <T extends HttpUpgradeHandler> T upgrade(Class<T> handlerClass) {
+        throw notSupported("Upgrading the connection");
+    }
+
+    @Override
+    public DispatcherType getDispatcherType() {
+        return dispatcherType;
+    }
+
+    @Override
+    public ServletContext getServletContext() {
+        return servletContext;
+    }
+
+    @Override
+    public RequestDispatcher getRequestDispatcher(String path) {
+        throw notSupported("Dispatching");
+    }
+
+    @Override
+    public AsyncContext startAsync() {
+        throw notSupported("Async processing");
+    }
+
+    @Override
+    public AsyncContext startAsync(ServletRequest servletRequest, ServletResponse servletResponse) {
+        throw notSupported("Async processing");
+    }
+
+    @Override
+    public boolean isAsyncStarted() {
+        return false;
+    }
+
+    @Override
+    public boolean isAsyncSupported() {
+        return false;
+    }
+
+    @Override
+    public AsyncContext getAsyncContext() {
+        throw notSupported("Async processing");
+    }
+
+    @Override
+    public Map<String, String> getTrailerFields() {
+        return Map.of();
+    }
+
+    @Override
+    public boolean isTrailerFieldsReady() {
+        return true;
+    }
+
+    @Override
+    public String getRequestId() {
+        return requestId;
+    }
+
+    @Override
+    public String getProtocolRequestId() {
+        return protocolRequestId;
+    }
+
+    @Override
+    public ServletConnection getServletConnection() {
+        return servletConnection;
+    }
+
+    @Override
+    public String toString() {
+        return "Detached request " + method + " " + requestUri;
+    }
+
+    private static Cookie[] cloneCookies(Cookie[] cookies) {
+        Cookie[] clones = new Cookie[cookies.length];
+        for (int i = 0; i < cookies.length; i++) {
+            clones[i] = (Cookie) cookies[i].clone();
+        }
+        return clones;
+    }
+
+    private static IllegalStateException bodyNotAvailable() {
+        return new IllegalStateException(
+                "The request body is not available to a task run off the request thread");
+    }
+
+    private static IllegalStateException notSupported(String action) {
+        return new IllegalStateException(
+                action + " is not supported by a task run off the request thread");
+    }
+
+    private record DetachedServletConnection(String connectionId, String protocol,
+            String protocolConnectionId, boolean secure) implements ServletConnection {
+
+        private DetachedServletConnection(ServletConnection connection) {
+            this(connection.getConnectionId(), connection.getProtocol(),
+                    connection.getProtocolConnectionId(), connection.isSecure());
+        }
+
+        @Override
+        public String getConnectionId() {
+            return connectionId;
+        }
+
+        @Override
+        public String getProtocol() {
+            return protocol;
+        }
+
+        @Override
+        public String getProtocolConnectionId() {
+            return protocolConnectionId;
+        }
+
+        @Override
+        public boolean isSecure() {
+            return secure;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package uk.gov.companieshouse.web.pps.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Credentials the metrics scraper uses to read the Prometheus endpoint. The endpoint refuses
+ * every request while either is unset.
+ */
+@Configuration
+@ConfigurationProperties("metrics")
+public class MetricsConfigurationProperties {
+
+    private String username;
+    private String password;
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+}
@@ -0,0 +1,39 @@
+package uk.gov.companieshouse.web.pps.config;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Runs a task with a copy of the request context of the thread that submitted it, so that calls
+ * made through {@code ApiClientManager} on a worker thread carry the same passthrough header
+ * and request id as the inbound request.
+ * <p>
+ * The worker never sees the inbound request itself, which the container recycles once the
+ * response is sent and which a task may outlive. It is given a
+ * {@link DetachedHttpServletRequest} copied from the inbound request at submission.
+ */
+public class RequestContextTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        RequestAttributes requestAttributes = detach(RequestContextHolder.getRequestAttributes());
+        return () -> {
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            try {
+                runnable.run();
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        };
+    }
+
+    private static RequestAttributes detach(RequestAttributes requestAttributes) {
+        if (requestAttributes instanceof ServletRequestAttributes servletRequestAttributes) {
+            return new ServletRequestAttributes(
+                    new DetachedHttpServletRequest(servletRequestAttributes.getRequest()));
+        }
+        return null;
+    }
+}
@@ -0,0 +1,210 @@
+package uk.gov.companieshouse.web.pps.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.companieshouse.web.pps.api.ApiRoute;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties("upstream")
+public class UpstreamConfigurationProperties {
+
+    private int concurrencyLimit = 200;
+    private Duration financialPenaltiesTimeout = Duration.ofSeconds(10);
+    private Duration companyNameTimeout = Duration.ofSeconds(5);
+    private Duration financeHealthcheckTimeout = Duration.ofSeconds(5);
+    private int defaultRouteConcurrencyLimit = 50;
+    private Map<ApiRoute, Integer> routeConcurrencyLimits = new EnumMap<>(ApiRoute.class);
+    private Duration routeAcquireTimeout = Duration.ofSeconds(1);
+    private final CircuitBreakerSettings circuitBreaker = new CircuitBreakerSettings();
+    private final FinancialPenaltiesStreamingSettings financialPenaltiesStreaming =
+            new FinancialPenaltiesStreamingSettings();
+
+    public int getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    public void setConcurrencyLimit(int concurrencyLimit) {
+        this.concurrencyLimit = concurrencyLimit;
+    }
+
+    public Duration getFinancialPenaltiesTimeout() {
+        return financialPenaltiesTimeout;
+    }
+
+    public void setFinancialPenaltiesTimeout(Duration financialPenaltiesTimeout) {
+        this.financialPenaltiesTimeout = financialPenaltiesTimeout;
+    }
+
+    public Duration getCompanyNameTimeout() {
+        return companyNameTimeout;
+    }
+
+    public void setCompanyNameTimeout(Duration companyNameTimeout) {
+        this.companyNameTimeout = companyNameTimeout;
+    }
+
+    public Duration getFinanceHealthcheckTimeout() {
+        return financeHealthcheckTimeout;
+    }
+
+    public void setFinanceHealthcheckTimeout(Duration financeHealthcheckTimeout) {
+        this.financeHealthcheckTimeout = financeHealthcheckTimeout;
+    }
+
+    public int getDefaultRouteConcurrencyLimit() {
+        return defaultRouteConcurrencyLimit;
+    }
+
+    public void setDefaultRouteConcurrencyLimit(int defaultRouteConcurrencyLimit) {
+        this.defaultRouteConcurrencyLimit = defaultRouteConcurrencyLimit;
+    }
+
+    public Map<ApiRoute, Integer> getRouteConcurrencyLimits() {
+        return routeConcurrencyLimits;
+    }
+
+    public void setRouteConcurrencyLimits(Map<ApiRoute, Integer> routeConcurrencyLimits) {
+        this.routeConcurrencyLimits = routeConcurrencyLimits;
+    }
+
+    public int getRouteConcurrencyLimit(ApiRoute route) {
+        return routeConcurrencyLimits.getOrDefault(route, defaultRouteConcurrencyLimit);
+    }
+
+    public Duration getRouteAcquireTimeout() {
+        return routeAcquireTimeout;
+    }
+
+    public void setRouteAcquireTimeout(Duration routeAcquireTimeout) {
+        this.routeAcquireTimeout = routeAcquireTimeout;
+    }
+
+    public CircuitBreakerSettings getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public FinancialPenaltiesStreamingSettings getFinancialPenaltiesStreaming() {
+        return financialPenaltiesStreaming;
+    }
+
+    public static class CircuitBreakerSettings {
+
+        private boolean enabled = true;
+        private float failureRateThreshold = 50;
+        private Duration slowCallDurationThreshold = Duration.ofSeconds(5);
+        private float slowCallRateThreshold = 80;
+        private int slidingWindowSize = 20;
+        private int minimumNumberOfCalls = 10;
+        private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+        private int permittedNumberOfCallsInHalfOpenState = 3;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public float getFailureRateThreshold() {
+            return failureRateThreshold;
+        }
+
+        public void setFailureRateThreshold(float failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+        }
+
+        public Duration getSlowCallDurationThreshold() {
+            return slowCallDurationThreshold;
+        }
+
+        public void setSlowCallDurationThreshold(Duration slowCallDurationThreshold) {
+            this.slowCallDurationThreshold = slowCallDurationThreshold;
+        }
+
+        public float getSlowCallRateThreshold() {
+            return slowCallRateThreshold;
+        }
+
+        public void setSlowCallRateThreshold(float slowCallRateThreshold) {
+            this.slowCallRateThreshold = slowCallRateThreshold;
+        }
+
+        public int getSlidingWindowSize() {
+            return slidingWindowSize;
+        }
+
+        public void setSlidingWindowSize(int slidingWindowSize) {
+            this.slidingWindowSize = slidingWindowSize;
+        }
+
+        public int getMinimumNumberOfCalls() {
+            return minimumNumberOfCalls;
+        }
+
+        public void setMinimumNumberOfCalls(int minimumNumberOfCalls) {
+            this.minimumNumberOfCalls = minimumNumberOfCalls;
+        }
+
+        public Duration getWaitDurationInOpenState() {
+            return waitDurationInOpenState;
+        }
+
+        public void setWaitDurationInOpenState(Duration waitDurationInOpenState) {
+            this.waitDurationInOpenState = waitDurationInOpenState;
+        }
+
+        public int getPermittedNumberOfCallsInHalfOpenState() {
+            return permittedNumberOfCallsInHalfOpenState;
+        }
+
+        public void setPermittedNumberOfCallsInHalfOpenState(int permittedNumberOfCallsInHalfOpenState) {
+            this.permittedNumberOfCallsInHalfOpenState = permittedNumberOfCallsInHalfOpenState;
+        }
+    }
+
+    public static class FinancialPenaltiesStreamingSettings {
+
+        private boolean enabled = false;
+        private String apiUrl;
+        private String apiKey;
+        private int maxItems = 1000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getApiUrl() {
+            return apiUrl;
+        }
+
+        public void setApiUrl(String apiUrl) {
+            this.apiUrl = apiUrl;
+        }
+
+        public String getApiKey() {
+            return apiKey;
+        }
+
+        public void setApiKey(String apiKey) {
+            this.apiKey = apiKey;
+        }
+
+        public int getMaxItems() {
+            return maxItems;
+        }
+
+        public void setMaxItems(int maxItems) {
+            this.maxItems = maxItems;
+        }
+    }
+
+}
@@ -13,8 +13,10 @@ import uk.gov.companieshouse.web.pps.config.PenaltyConfigurationProperties;
 import uk.gov.companieshouse.web.pps.service.navigation.NavigatorService;
 import uk.gov.companieshouse.web.pps.service.response.PPSServiceResponse;
 import uk.gov.companieshouse.web.pps.session.SessionService;
-import uk.gov.companieshouse.web.pps.util.PenaltyUtils;
+import uk.gov.companieshouse.web.pps.session.SessionView;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static java.util.Locale.UK;
@@ -38,16 +40,40 @@ public abstract class BaseController {
     public static final String PHASE_BANNER_NEW_CONTENT_ATTR = "phaseBannerNewContent";
     public static final String PHASE_BANNER_LINK_ATTR = "phaseBannerLink";
 
+    private static final String PENALTY_SERVICE_BANNER_TEXT = "penalty.service.banner.text";
+
+    private static final Map<String, Object> USER_BAR_ATTRIBUTES = Map.of(
+            USER_BAR_ATTR, "1",
+            HIDE_YOUR_DETAILS_ATTR, "1",
+            HIDE_RECENT_FILINGS_ATTR, "1");
+
     protected final NavigatorService navigatorService;
     protected final SessionService sessionService;
     protected final PenaltyConfigurationProperties penaltyConfigurationProperties;
-    private final MessageSource messageSource;
+    private final Map<String, Object> phaseBannerAttributes;
+    private final Map<String, Object> serviceBannerAttributes;
+    private final Map<String, Object> bannerAttributes;
 
     protected BaseController(NavigatorService navigatorService, SessionService sessionService, PenaltyConfigurationProperties penaltyConfigurationProperties, MessageSource messageSource) {
         this.navigatorService = navigatorService;
         this.sessionService = sessionService;
         this.penaltyConfigurationProperties = penaltyConfigurationProperties;
-        this.messageSource = messageSource;
+
+        // The banners are the same on every page, so are built once rather than per request
+        Map<String, Object> phaseBanner = new LinkedHashMap<>();
+        phaseBanner.put(PHASE_BANNER_ATTR, "Beta");
+        phaseBanner.put(PHASE_BANNER_NEW_CONTENT_ATTR, "Yes");
+        phaseBanner.put(PHASE_BANNER_LINK_ATTR, penaltyConfigurationProperties.getSurveyLink());
+        this.phaseBannerAttributes = Collections.unmodifiableMap(phaseBanner);
+
+        Map<String, Object> serviceBanner = new LinkedHashMap<>();
+        serviceBanner.put(HEADER_URL_ATTR, penaltyConfigurationProperties.getServiceBannerLink());
+        serviceBanner.put(HEADER_TEXT_ATTR, messageSource.getMessage(PENALTY_SERVICE_BANNER_TEXT, null, UK));
+        this.serviceBannerAttributes = Collections.unmodifiableMap(serviceBanner);
+
+        Map<String, Object> banners = new LinkedHashMap<>(phaseBanner);
+        banners.putAll(serviceBanner);
+        this.bannerAttributes = Collections.unmodifiableMap(banners);
     }
 
     @ModelAttribute("templateName")
@@ -62,17 +88,14 @@ public abstract class BaseController {
     }
 
     protected void addBaseAttributesToModel(Model model, String backUrl, String signOutUrl) {
-        addPhaseBannerToModel(model, penaltyConfigurationProperties.getSurveyLink());
-        addServiceBannerToModel(model);
+        model.addAllAttributes(bannerAttributes);
         addUserModel(model, signOutUrl);
         addBackPageAttributeToModel(model, backUrl);
     }
 
-    protected void addBaseAttributesWithoutBackToModel(Model model, Map<String, Object> sessionData,
-            String signOutUrl) {
-        addPhaseBannerToModel(model, penaltyConfigurationProperties.getSurveyLink());
-        addServiceBannerToModel(model);
-        addUserModel(model, signOutUrl, sessionData);
+    protected void addBaseAttributesWithoutBackToModel(Model model, String signOutUrl) {
+        model.addAllAttributes(bannerAttributes);
+        addUserModel(model, signOutUrl);
     }
 
     protected void addBaseAttributesWithoutBackUrlToModel(Model model, String signOutUrl) {
@@ -80,52 +103,67 @@ public abstract class BaseController {
     }
 
     protected void addUserModel(Model model, String signOutUrl) {
-        String loginEmail = PenaltyUtils.getLoginEmail(sessionService.getSessionDataFromContext());
-        addEmailAttributes(model, signOutUrl, loginEmail);
-    }
-
-    protected void addUserModel(Model model, String signOutUrl, Map<String, Object> sessionData) {
-        String loginEmail = PenaltyUtils.getLoginEmail(sessionData);
+        String loginEmail = SessionView.current(sessionService).getLoginEmail();
         addEmailAttributes(model, signOutUrl, loginEmail);
     }
 
     private static void addEmailAttributes(Model model, String signOutUrl, String loginEmail) {
         // Set a value for showing user bar part if exist
         if (StringUtils.isNotEmpty(loginEmail)) {
-            model.addAttribute(USER_BAR_ATTR, "1");
-            model.addAttribute(HIDE_YOUR_DETAILS_ATTR, "1");
-            model.addAttribute(HIDE_RECENT_FILINGS_ATTR, "1");
+            model.addAllAttributes(USER_BAR_ATTRIBUTES);
             model.addAttribute(USER_EMAIL_ATTR, loginEmail);
             model.addAttribute(USER_SIGN_OUT_URL_ATTR, signOutUrl);
         }
     }
 
-    protected void addPhaseBannerToModel(Model model, String surveyLink) {
-        model.addAttribute(PHASE_BANNER_ATTR, "Beta");
-        model.addAttribute(PHASE_BANNER_NEW_CONTENT_ATTR, "Yes");
-        model.addAttribute(PHASE_BANNER_LINK_ATTR, surveyLink);
+    protected void addPhaseBannerToModel(Model model) {
+        model.addAllAttributes(phaseBannerAttributes);
     }
 
     protected void addServiceBannerToModel(Model model) {
-        model.addAttribute(HEADER_URL_ATTR, penaltyConfigurationProperties.getServiceBannerLink());
-        model.addAttribute(HEADER_TEXT_ATTR, messageSource.getMessage("penalty.service.banner.text", null, UK));
+        model.addAllAttributes(serviceBannerAttributes);
     }
 
     protected static void addAttributesToModel(Model model, Map<String, Object> attributes) {
-        for (Map.Entry<String, Object> itr : attributes.entrySet()) {
-            model.addAttribute(itr.getKey(), itr.getValue());
-        }
+        model.addAllAttributes(attributes);
     }
 
-    protected void configureBaseAttributes(PPSServiceResponse serviceResponse, Model model) {
-        serviceResponse.getBaseModelAttributes().ifPresent(attributes -> {
-            if (attributes.containsKey(BACK_LINK_URL_ATTR) && attributes.containsKey(SIGN_OUT_URL_ATTR)) {
-                addBaseAttributesToModel(model, attributes.get(BACK_LINK_URL_ATTR), attributes.get(SIGN_OUT_URL_ATTR));
-            } else if (attributes.containsKey(SIGN_OUT_URL_ATTR)) {
-                addBaseAttributesWithoutBackUrlToModel(model, attributes.get(SIGN_OUT_URL_ATTR));
+    /**
+     * Populates the model from a service response and returns the view to show, in one step.
+     * A redirect leaves the model alone, as its attributes would not reach the next page.
+     *
+     * @param serviceResponse the service response
+     * @param model           the model
+     * @param defaultView     the view to show when the response does not name one
+     * @return the view name or redirect
+     */
+    protected String populateModel(PPSServiceResponse serviceResponse, Model model,
+            String defaultView) {
+        return switch (serviceResponse) {
+            case PPSServiceResponse.Redirect redirect -> redirect.url();
+            case PPSServiceResponse.Render render -> {
+                model.addAllAttributes(render.modelAttributes());
+                configureBaseAttributes(render.baseModelAttributes(), model);
+                yield render.viewName() == null ? defaultView : render.viewName();
+            }
+            case PPSServiceResponse.Error error -> {
+                configureBaseAttributes(error.baseModelAttributes(), model);
+                yield error.url() == null ? defaultView : error.url();
             }
+        };
+    }
+
+    private void configureBaseAttributes(Map<String, String> attributes, Model model) {
+        if (attributes.isEmpty()) {
+            return;
+        }
+        if (attributes.containsKey(BACK_LINK_URL_ATTR) && attributes.containsKey(SIGN_OUT_URL_ATTR)) {
+            addBaseAttributesToModel(model, attributes.get(BACK_LINK_URL_ATTR), attributes.get(SIGN_OUT_URL_ATTR));
+        } else if (attributes.containsKey(SIGN_OUT_URL_ATTR)) {
+            addBaseAttributesWithoutBackUrlToModel(model, attributes.get(SIGN_OUT_URL_ATTR));
+        } else {
             addServiceBannerToModel(model);
-        });
+        }
     }
 
     protected boolean handleBindingResult(BindingResult bindingResult) {
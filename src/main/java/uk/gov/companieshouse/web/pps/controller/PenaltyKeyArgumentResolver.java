@@ -0,0 +1,78 @@
+package uk.gov.companieshouse.web.pps.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.HandlerMapping;
+import uk.gov.companieshouse.web.pps.exception.InvalidPenaltyKeyException;
+import uk.gov.companieshouse.web.pps.models.PenaltyKey;
+
+import java.util.Map;
+
+import static uk.gov.companieshouse.web.pps.service.ServiceConstants.COMPANY_NUMBER_ATTR;
+import static uk.gov.companieshouse.web.pps.service.ServiceConstants.PENALTY_REF_ATTR;
+
+/**
+ * Resolves a {@link PenaltyKey} controller method argument from the {@code companyNumber} and
+ * {@code penaltyRef} path variables. The key is built once per request and kept as a request
+ * attribute, so the penalty reference is only parsed once however often it is needed.
+ * <p>
+ * A penalty reference that does not start with a known penalty reference type fails with an
+ * {@link InvalidPenaltyKeyException}, which the
+ * {@link uk.gov.companieshouse.web.pps.exception.GlobalExceptionHandler} redirects to the
+ * unscheduled service down page.
+ */
+@Component
+public class PenaltyKeyArgumentResolver implements HandlerMethodArgumentResolver {
+
+    static final String PENALTY_KEY_ATTR = PenaltyKeyArgumentResolver.class.getName() + ".penaltyKey";
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.getParameterType() == PenaltyKey.class;
+    }
+
+    @Override
+    public PenaltyKey resolveArgument(MethodParameter parameter,
+            ModelAndViewContainer mavContainer, NativeWebRequest webRequest,
+            WebDataBinderFactory binderFactory) {
+        Object resolved = webRequest.getAttribute(PENALTY_KEY_ATTR, RequestAttributes.SCOPE_REQUEST);
+        if (resolved instanceof PenaltyKey penaltyKey) {
+            return penaltyKey;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, String> uriVariables = (Map<String, String>) webRequest.getAttribute(
+                HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (uriVariables == null || uriVariables.get(COMPANY_NUMBER_ATTR) == null) {
+            throw new IllegalStateException("No company number path variable for "
+                    + parameter.getExecutable());
+        }
+
+        PenaltyKey penaltyKey;
+        try {
+            penaltyKey = PenaltyKey.of(uriVariables.get(COMPANY_NUMBER_ATTR),
+                    uriVariables.get(PENALTY_REF_ATTR));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidPenaltyKeyException(ex.getMessage(), ex);
+        }
+        webRequest.setAttribute(PENALTY_KEY_ATTR, penaltyKey, RequestAttributes.SCOPE_REQUEST);
+        return penaltyKey;
+    }
+
+    /**
+     * Returns the key already resolved for a request, if there is one.
+     *
+     * @param request the request
+     * @return the resolved key, or {@code null} if no key has been resolved
+     */
+    public static PenaltyKey getResolvedPenaltyKey(HttpServletRequest request) {
+        return request.getAttribute(PENALTY_KEY_ATTR) instanceof PenaltyKey penaltyKey
+                ? penaltyKey : null;
+    }
+}
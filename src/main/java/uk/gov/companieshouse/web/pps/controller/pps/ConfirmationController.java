@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import uk.gov.companieshouse.web.pps.config.PenaltyConfigurationProperties;
 import uk.gov.companieshouse.web.pps.controller.BaseController;
 import uk.gov.companieshouse.web.pps.exception.ServiceException;
+import uk.gov.companieshouse.web.pps.models.PenaltyKey;
 import uk.gov.companieshouse.web.pps.service.confirmation.ConfirmationService;
 import uk.gov.companieshouse.web.pps.service.navigation.NavigatorService;
 import uk.gov.companieshouse.web.pps.service.response.PPSServiceResponse;
@@ -44,8 +45,7 @@ public class ConfirmationController extends BaseController {
 
     @GetMapping
     public String getConfirmation(
-            @PathVariable String companyNumber,
-            @PathVariable String penaltyRef,
+            PenaltyKey penaltyKey,
             @PathVariable String payableRef,
             @RequestParam("state") String paymentState,
             @RequestParam("status") String paymentStatus,
@@ -54,27 +54,25 @@ public class ConfirmationController extends BaseController {
 
         try {
             PPSServiceResponse serviceResponse = confirmationService.getConfirmationUrl(
-                    companyNumber, penaltyRef, payableRef, paymentState, paymentStatus);
+                    penaltyKey, payableRef, paymentState, paymentStatus);
 
-            var url = serviceResponse.getUrl();
-            var errMsg = serviceResponse.getErrorRequestMsg();
-
-            if (errMsg.isPresent() && url.isPresent()) {
-                LOGGER.errorRequest(request, errMsg.get());
-                return url.get();
+            if (serviceResponse instanceof PPSServiceResponse.Error error) {
+                LOGGER.errorRequest(request, error.errorRequestMsg());
+                return error.url();
             }
-            LOGGER.debug(String.format("Payment for penalty with company number %s and penalty ref %s Successful", companyNumber, penaltyRef));
-
-            serviceResponse.getModelAttributes()
-                    .ifPresent(attributes -> addAttributesToModel(model, attributes));
+            if (serviceResponse instanceof PPSServiceResponse.Redirect redirect) {
+                return redirect.url();
+            }
+            LOGGER.debug(String.format("Payment for penalty with company number %s and penalty ref %s Successful", penaltyKey.companyNumber(), penaltyKey.penaltyRef()));
 
-            serviceResponse.getBaseModelAttributes().ifPresent(attributes ->
-                    addBaseAttributesWithoutBackToModel(
-                            model,
-                            sessionService.getSessionDataFromContext(),
-                            serviceResponse.getBaseModelAttributes().get().get(SIGN_OUT_URL_ATTR)));
+            // Unlike the other pages, the confirmation page has no back link
+            addAttributesToModel(model, serviceResponse.modelAttributes());
+            if (!serviceResponse.baseModelAttributes().isEmpty()) {
+                addBaseAttributesWithoutBackToModel(model,
+                        serviceResponse.baseModelAttributes().get(SIGN_OUT_URL_ATTR));
+            }
 
-            return serviceResponse.getUrl().orElse(getTemplateName());
+            return getTemplateName();
 
         } catch (ServiceException ex) {
             LOGGER.errorRequest(request, ex.getMessage(), ex);
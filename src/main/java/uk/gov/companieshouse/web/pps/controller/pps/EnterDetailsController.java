@@ -2,6 +2,7 @@ package uk.gov.companieshouse.web.pps.controller.pps;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.context.MessageSource;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -57,10 +58,7 @@ public class EnterDetailsController extends BaseController {
         try {
             PPSServiceResponse serviceResponse = penaltyDetailsService.getEnterDetails(penaltyReferenceStartsWith);
 
-            serviceResponse.getModelAttributes().ifPresent(attributes -> addAttributesToModel(model, attributes));
-            configureBaseAttributes(serviceResponse, model);
-
-            return serviceResponse.getUrl().orElseGet(this::getTemplateName);
+            return populateModel(serviceResponse, model, getTemplateName());
         } catch (IllegalArgumentException e) {
             LOGGER.errorRequest(request, e.getMessage(), e);
             return REDIRECT_URL_PREFIX + penaltyConfigurationProperties.getUnscheduledServiceDownPath();
@@ -76,11 +74,12 @@ public class EnterDetailsController extends BaseController {
         boolean hasBindingErrors = handleBindingResult(bindingResult);
         try {
             PPSServiceResponse serviceResponse = penaltyDetailsService.postEnterDetails(enterDetails, hasBindingErrors, this.getClass());
-            configureBaseAttributes(serviceResponse, model);
-            serviceResponse.getErrorRequestMsg().ifPresent(errMsg ->
-                    // Failed to get a financial penalty for given company number and penalty ref pair
-                    bindingResult.reject("globalError", serviceResponse.getErrorRequestMsg().get()));
-            return serviceResponse.getUrl().orElseGet(this::getTemplateName);
+            String errorRequestMsg = serviceResponse.errorRequestMsg();
+            if (StringUtils.isNotEmpty(errorRequestMsg)) {
+                // Failed to get a financial penalty for given company number and penalty ref pair
+                bindingResult.reject("globalError", errorRequestMsg);
+            }
+            return populateModel(serviceResponse, model, getTemplateName());
         } catch (ServiceException e) {
             LOGGER.errorRequest(request, e.getMessage(), e);
             return REDIRECT_URL_PREFIX + penaltyConfigurationProperties.getUnscheduledServiceDownPath();
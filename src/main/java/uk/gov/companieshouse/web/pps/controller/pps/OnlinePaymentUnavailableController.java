@@ -4,13 +4,12 @@ import org.springframework.context.MessageSource;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import uk.gov.companieshouse.web.pps.config.PenaltyConfigurationProperties;
 import uk.gov.companieshouse.web.pps.controller.BaseController;
+import uk.gov.companieshouse.web.pps.models.PenaltyKey;
 import uk.gov.companieshouse.web.pps.service.navigation.NavigatorService;
 import uk.gov.companieshouse.web.pps.session.SessionService;
-import uk.gov.companieshouse.web.pps.util.PenaltyUtils;
 
 @Controller
 @RequestMapping("/pay-penalty/company/{companyNumber}/penalty/{penaltyRef}/online-payment-unavailable")
@@ -34,11 +33,9 @@ public class OnlinePaymentUnavailableController extends BaseController {
     }
 
     @GetMapping
-    public String getOnlinePaymentUnavailable(@PathVariable String companyNumber,
-            @PathVariable String penaltyRef,
-            Model model) {
+    public String getOnlinePaymentUnavailable(PenaltyKey penaltyKey, Model model) {
 
-        var penaltyReference = PenaltyUtils.getPenaltyReferenceType(penaltyRef);
+        var penaltyReference = penaltyKey.penaltyReference();
         model.addAttribute(PENALTY_REFERENCE_MODEL_ATTR, penaltyReference.name());
         addBaseAttributesToModel(model,
                 penaltyConfigurationProperties.getEnterDetailsPath()
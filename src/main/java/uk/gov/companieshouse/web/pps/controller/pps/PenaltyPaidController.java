@@ -5,11 +5,11 @@ import org.springframework.context.MessageSource;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import uk.gov.companieshouse.web.pps.config.PenaltyConfigurationProperties;
 import uk.gov.companieshouse.web.pps.controller.BaseController;
 import uk.gov.companieshouse.web.pps.exception.ServiceException;
+import uk.gov.companieshouse.web.pps.models.PenaltyKey;
 import uk.gov.companieshouse.web.pps.service.navigation.NavigatorService;
 import uk.gov.companieshouse.web.pps.service.penaltypayment.PenaltyPaidService;
 import uk.gov.companieshouse.web.pps.service.response.PPSServiceResponse;
@@ -41,27 +41,20 @@ public class PenaltyPaidController extends BaseController {
     }
 
     @GetMapping
-    public String getPenaltyPaid(@PathVariable String companyNumber,
-            @PathVariable String penaltyRef,
+    public String getPenaltyPaid(PenaltyKey penaltyKey,
             Model model,
             HttpServletRequest request) {
 
         try {
-            PPSServiceResponse serviceResponse = penaltyPaidService.getPaid(companyNumber,
-                    penaltyRef);
+            PPSServiceResponse serviceResponse = penaltyPaidService.getPaid(penaltyKey);
 
-            serviceResponse.getModelAttributes()
-                    .ifPresent(attributes -> addAttributesToModel(model, attributes));
-
-            configureBaseAttributes(serviceResponse, model);
+            return populateModel(serviceResponse, model, getTemplateName());
 
         } catch (ServiceException ex) {
             LOGGER.errorRequest(request, ex.getMessage(), ex);
             return REDIRECT_URL_PREFIX
                     + penaltyConfigurationProperties.getUnscheduledServiceDownPath();
         }
-
-        return getTemplateName();
     }
 
 }
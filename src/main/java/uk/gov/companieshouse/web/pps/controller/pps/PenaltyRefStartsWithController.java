@@ -50,12 +50,7 @@ public class PenaltyRefStartsWithController extends BaseController {
     public String getPenaltyRefStartsWith(Model model) {
         PPSServiceResponse serviceResponse = penaltyRefStartsWithService.viewPenaltyRefStartsWith();
 
-        configureBaseAttributes(serviceResponse, model);
-
-        serviceResponse.getModelAttributes()
-                .ifPresent(attributes -> addAttributesToModel(model, attributes));
-
-        return serviceResponse.getUrl().orElse(getTemplateName());
+        return populateModel(serviceResponse, model, getTemplateName());
     }
 
     @PostMapping
@@ -74,16 +69,17 @@ public class PenaltyRefStartsWithController extends BaseController {
             serviceResponse = penaltyRefStartsWithService.postPenaltyRefStartsWithNext(
                     penaltyReferenceChoice);
         }
-        serviceResponse.getBaseModelAttributes().ifPresent(attributes ->
-                addBaseAttributesToModel(model,
-                        serviceResponse.getBaseModelAttributes().get()
-                                .get(ServiceConstants.BACK_LINK_URL_ATTR),
-                        penaltyConfigurationProperties.getSignOutPath()));
-
-        serviceResponse.getModelAttributes()
-                .ifPresent(attributes -> addAttributesToModel(model, attributes));
+        if (serviceResponse instanceof PPSServiceResponse.Redirect redirect) {
+            return redirect.url();
+        }
+        if (!serviceResponse.baseModelAttributes().isEmpty()) {
+            addBaseAttributesToModel(model,
+                    serviceResponse.baseModelAttributes().get(ServiceConstants.BACK_LINK_URL_ATTR),
+                    penaltyConfigurationProperties.getSignOutPath());
+        }
+        addAttributesToModel(model, serviceResponse.modelAttributes());
 
-        return serviceResponse.getUrl().orElse(getTemplateName());
+        return getTemplateName();
     }
 
 }
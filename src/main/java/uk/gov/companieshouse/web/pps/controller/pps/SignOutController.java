@@ -14,7 +14,6 @@ import uk.gov.companieshouse.web.pps.annotation.NextController;
 import uk.gov.companieshouse.web.pps.config.PenaltyConfigurationProperties;
 import uk.gov.companieshouse.web.pps.controller.BaseController;
 import uk.gov.companieshouse.web.pps.service.navigation.NavigatorService;
-import uk.gov.companieshouse.web.pps.service.response.PPSServiceResponse;
 import uk.gov.companieshouse.web.pps.service.signout.SignOutService;
 import uk.gov.companieshouse.web.pps.session.SessionService;
 
@@ -58,19 +57,17 @@ public class SignOutController extends BaseController {
         }
 
         LOGGER.debug("Processing sign out");
-        PPSServiceResponse serviceResponse = signOutService.resolveBackLink(request.getHeader(REFERER));
-
-        serviceResponse.getSessionAttributes()
-                .ifPresent(attrs -> attrs.forEach(request.getSession()::setAttribute));
-
-        serviceResponse.getUrl()
+        signOutService.resolveBackLink(request.getHeader(REFERER))
                 .ifPresentOrElse(
-                        backLink -> model.addAttribute(BACK_LINK, backLink),
+                        backLink -> {
+                            request.getSession().setAttribute(URL_PRIOR_SIGN_OUT, backLink);
+                            model.addAttribute(BACK_LINK, backLink);
+                        },
                         () -> model.addAttribute(BACK_LINK, penaltyConfigurationProperties.getPayPenaltyPath() + "/")
                 );
 
         LOGGER.info("Backlink resolved to: " + model.getAttribute(BACK_LINK));
-        addPhaseBannerToModel(model, penaltyConfigurationProperties.getSurveyLink());
+        addPhaseBannerToModel(model);
         return getTemplateName();
     }
 
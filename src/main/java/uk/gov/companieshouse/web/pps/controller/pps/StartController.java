@@ -46,12 +46,8 @@ public class StartController extends BaseController {
         Integer startIdValue = startId.orElse(1);
         PPSServiceResponse serviceResponse = financeServiceHealthCheck.checkIfAvailableAtStart(startIdValue);
 
-        serviceResponse.getModelAttributes()
-                .ifPresent(attributes -> addAttributesToModel(model, attributes));
-
-        configureBaseAttributes(serviceResponse, model);
-
-        return serviceResponse.getUrl().orElse(navigatorService.getNextControllerRedirect(this.getClass()));
+        return populateModel(serviceResponse, model,
+                navigatorService.getNextControllerRedirect(this.getClass()));
     }
 
     @PostMapping
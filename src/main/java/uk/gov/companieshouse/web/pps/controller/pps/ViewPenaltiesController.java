@@ -5,12 +5,12 @@ import org.springframework.context.MessageSource;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import uk.gov.companieshouse.web.pps.config.PenaltyConfigurationProperties;
 import uk.gov.companieshouse.web.pps.controller.BaseController;
 import uk.gov.companieshouse.web.pps.exception.ServiceException;
+import uk.gov.companieshouse.web.pps.models.PenaltyKey;
 import uk.gov.companieshouse.web.pps.service.navigation.NavigatorService;
 import uk.gov.companieshouse.web.pps.service.response.PPSServiceResponse;
 import uk.gov.companieshouse.web.pps.service.viewpenalty.ViewPenaltiesService;
@@ -42,35 +42,28 @@ public class ViewPenaltiesController extends BaseController {
     }
 
     @GetMapping
-    public String getViewPenalties(@PathVariable String companyNumber,
-            @PathVariable String penaltyRef,
+    public String getViewPenalties(PenaltyKey penaltyKey,
             Model model,
             HttpServletRequest request) {
         PPSServiceResponse serviceResponse;
 
         try {
-            serviceResponse = viewPenaltiesService.viewPenalties(companyNumber, penaltyRef);
+            serviceResponse = viewPenaltiesService.viewPenalties(penaltyKey);
         } catch (IllegalArgumentException | ServiceException e) {
             LOGGER.errorRequest(request, e.getMessage(), e);
             return REDIRECT_URL_PREFIX
                     + penaltyConfigurationProperties.getUnscheduledServiceDownPath();
         }
 
-        serviceResponse.getModelAttributes()
-                .ifPresent(attributes -> addAttributesToModel(model, attributes));
-
-        configureBaseAttributes(serviceResponse, model);
-
-        return serviceResponse.getUrl().orElse(getTemplateName());
+        return populateModel(serviceResponse, model, getTemplateName());
     }
 
     @PostMapping
-    public String postViewPenalties(@PathVariable String companyNumber,
-            @PathVariable String penaltyRef,
+    public String postViewPenalties(PenaltyKey penaltyKey,
             HttpServletRequest request) {
 
         try {
-            return viewPenaltiesService.postViewPenalties(companyNumber, penaltyRef);
+            return viewPenaltiesService.postViewPenalties(penaltyKey);
         } catch (ServiceException e) {
             LOGGER.errorRequest(request, e.getMessage(), e);
             return REDIRECT_URL_PREFIX
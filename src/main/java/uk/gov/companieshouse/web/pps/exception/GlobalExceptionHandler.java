@@ -23,6 +23,13 @@ public class GlobalExceptionHandler {
         this.penaltyConfigurationProperties = penaltyConfigurationProperties;
     }
 
+    @ExceptionHandler(value = {InvalidPenaltyKeyException.class})
+    public String handleInvalidPenaltyKeyException(HttpServletRequest request, Exception ex) {
+
+        LOG.errorRequest(request, ex.getMessage(), ex);
+        return REDIRECT_URL_PREFIX + penaltyConfigurationProperties.getUnscheduledServiceDownPath();
+    }
+
     @ExceptionHandler(value = {RuntimeException.class})
     @ResponseStatus(value = HttpStatus.INTERNAL_SERVER_ERROR)
     public String handleRuntimeException(HttpServletRequest request, Exception ex) {
@@ -0,0 +1,23 @@
+package uk.gov.companieshouse.web.pps.exception;
+
+/**
+ * The class {@code InvalidPenaltyKeyException} is a form of {@link RuntimeException}
+ * that is thrown if the company number and penalty reference in a request path
+ * do not identify a penalty, such as when the penalty reference does not start
+ * with a known penalty reference type.
+ *
+ * @see uk.gov.companieshouse.web.pps.controller.PenaltyKeyArgumentResolver
+ **/
+public class InvalidPenaltyKeyException extends RuntimeException {
+
+    /**
+     * Constructs a new {@code InvalidPenaltyKeyException} with a custom message and the
+     * specified cause.
+     *
+     * @param message a custom message
+     * @param cause   the cause
+     */
+    public InvalidPenaltyKeyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -2,24 +2,62 @@ package uk.gov.companieshouse.web.pps.interceptor;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.servlet.ModelAndView;
 import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.logging.LoggerFactory;
 import uk.gov.companieshouse.logging.util.RequestLogger;
+import uk.gov.companieshouse.web.pps.controller.PenaltyKeyArgumentResolver;
+import uk.gov.companieshouse.web.pps.controller.pps.ConfirmationController;
+import uk.gov.companieshouse.web.pps.controller.pps.EnterDetailsController;
+import uk.gov.companieshouse.web.pps.controller.pps.PenaltyRefStartsWithController;
+import uk.gov.companieshouse.web.pps.controller.pps.StartController;
+import uk.gov.companieshouse.web.pps.controller.pps.ViewPenaltiesController;
+import uk.gov.companieshouse.web.pps.models.PenaltyKey;
+import uk.gov.companieshouse.web.pps.service.journey.JourneyStep;
+import uk.gov.companieshouse.web.pps.service.journey.JourneyTimingService;
+import uk.gov.companieshouse.web.pps.util.PenaltyReference;
+import uk.gov.companieshouse.web.pps.util.PenaltyUtils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
 
 import static uk.gov.companieshouse.web.pps.PPSWebApplication.APPLICATION_NAME_SPACE;
+import static uk.gov.companieshouse.web.pps.service.ServiceConstants.PENALTY_REFERENCE_NAME_ATTR;
+import static uk.gov.companieshouse.web.pps.service.ServiceConstants.PENALTY_REF_ATTR;
 
 @Component
 public class LoggingInterceptor implements AsyncHandlerInterceptor, RequestLogger {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAME_SPACE);
 
+    static final String HANDLING_STARTED_AT_ATTR = LoggingInterceptor.class.getName() + ".handlingStartedAt";
+
+    private static final String REQUEST_ID_HEADER = "X-Request-ID";
+    private static final String REF_STARTS_WITH_PARAM = "ref-starts-with";
+
+    private static final Map<Class<?>, JourneyStep> JOURNEY_STEPS = Map.of(
+            StartController.class, JourneyStep.START,
+            PenaltyRefStartsWithController.class, JourneyStep.REF_STARTS_WITH,
+            EnterDetailsController.class, JourneyStep.ENTER_DETAILS,
+            ConfirmationController.class, JourneyStep.CONFIRMATION);
+
+    private final JourneyTimingService journeyTimingService;
+
+    public LoggingInterceptor(JourneyTimingService journeyTimingService) {
+        this.journeyTimingService = journeyTimingService;
+    }
+
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
 
+        request.setAttribute(HANDLING_STARTED_AT_ATTR, System.nanoTime());
         logStartRequestProcessing(request, LOGGER);
         return true;
     }
@@ -28,5 +66,52 @@ public class LoggingInterceptor implements AsyncHandlerInterceptor, RequestLogge
     public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, @Nullable ModelAndView modelAndView) {
 
         logEndRequestProcessing(request, response, LOGGER);
+        JourneyStep step = getJourneyStep(request, handler);
+        if (step != null && request.getAttribute(HANDLING_STARTED_AT_ATTR) instanceof Long startedAt) {
+            journeyTimingService.recordStep(step, getPenaltyReference(request), getRequestId(request),
+                    Duration.ofNanos(System.nanoTime() - startedAt));
+        }
+    }
+
+    private static JourneyStep getJourneyStep(HttpServletRequest request, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return null;
+        }
+        Class<?> controller = handlerMethod.getBeanType();
+        if (controller == ViewPenaltiesController.class) {
+            // Posting from the view penalties page creates the payment session
+            return HttpMethod.POST.matches(request.getMethod())
+                    ? JourneyStep.PAYMENT : JourneyStep.VIEW_PENALTIES;
+        }
+        return JOURNEY_STEPS.get(controller);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static PenaltyReference getPenaltyReference(HttpServletRequest request) {
+        PenaltyKey penaltyKey = PenaltyKeyArgumentResolver.getResolvedPenaltyKey(request);
+        if (penaltyKey != null) {
+            return penaltyKey.penaltyReference();
+        }
+        Map<String, String> uriVariables = (Map<String, String>) request
+                .getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        try {
+            if (uriVariables != null && uriVariables.get(PENALTY_REF_ATTR) != null) {
+                return PenaltyUtils.getPenaltyReferenceType(uriVariables.get(PENALTY_REF_ATTR));
+            }
+            if (request.getParameter(REF_STARTS_WITH_PARAM) != null) {
+                return PenaltyReference.fromStartsWith(request.getParameter(REF_STARTS_WITH_PARAM));
+            }
+            if (request.getParameter(PENALTY_REFERENCE_NAME_ATTR) != null) {
+                return PenaltyReference.valueOf(request.getParameter(PENALTY_REFERENCE_NAME_ATTR));
+            }
+        } catch (IllegalArgumentException ex) {
+            // Invalid references are reported to the user by the controllers
+        }
+        return null;
+    }
+
+    private static String getRequestId(HttpServletRequest request) {
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        return requestId != null ? requestId : UUID.randomUUID().toString();
     }
 }
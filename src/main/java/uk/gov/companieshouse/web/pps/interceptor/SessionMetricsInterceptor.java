@@ -0,0 +1,84 @@
+package uk.gov.companieshouse.web.pps.interceptor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import uk.gov.companieshouse.web.pps.session.SessionService;
+import uk.gov.companieshouse.web.pps.session.SessionView;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Records the estimated size of the session data and whether each request changed it, by
+ * endpoint. It only measures: whether the session store is written is left to the session
+ * handler.
+ */
+@Component
+public class SessionMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    static final String SESSION_SIZE_METRIC = "pps.session.size";
+    static final String SESSION_CHANGES_METRIC = "pps.session.changes";
+
+    static final String CHANGED_OUTCOME = "changed";
+    static final String UNCHANGED_OUTCOME = "unchanged";
+
+    private static final String UNMATCHED_ENDPOINT = "unmatched";
+
+    private final SessionService sessionService;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, DistributionSummary> sessionSizes = new ConcurrentHashMap<>();
+    private final ConcurrentMap<ChangesKey, Counter> sessionChanges = new ConcurrentHashMap<>();
+
+    public SessionMetricsInterceptor(SessionService sessionService, MeterRegistry meterRegistry) {
+        this.sessionService = sessionService;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+            Object handler, @Nullable Exception ex) {
+        SessionView sessionView = SessionView.current(sessionService);
+        if (!sessionView.hasSession()) {
+            return;
+        }
+        String endpoint = getEndpoint(request);
+
+        sessionSizes.computeIfAbsent(endpoint, this::registerSessionSize)
+                .record(sessionView.estimateSize());
+
+        String outcome = sessionView.getChangeCount() > 0 ? CHANGED_OUTCOME : UNCHANGED_OUTCOME;
+        sessionChanges.computeIfAbsent(new ChangesKey(endpoint, outcome), this::registerSessionChanges)
+                .increment();
+    }
+
+    private DistributionSummary registerSessionSize(String endpoint) {
+        return DistributionSummary.builder(SESSION_SIZE_METRIC)
+                .description("Estimated size of the session data at the end of each request")
+                .baseUnit(BaseUnits.BYTES)
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+    }
+
+    private Counter registerSessionChanges(ChangesKey changesKey) {
+        return Counter.builder(SESSION_CHANGES_METRIC)
+                .description("Requests by whether they changed the session data")
+                .tag("endpoint", changesKey.endpoint())
+                .tag("outcome", changesKey.outcome())
+                .register(meterRegistry);
+    }
+
+    private static String getEndpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? UNMATCHED_ENDPOINT : pattern.toString();
+    }
+
+    private record ChangesKey(String endpoint, String outcome) {
+    }
+}
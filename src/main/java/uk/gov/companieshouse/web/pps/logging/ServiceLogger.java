@@ -0,0 +1,122 @@
+package uk.gov.companieshouse.web.pps.logging;
+
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Wraps the structured {@link Logger} so that the service layer only builds log messages
+ * for levels that are enabled. Messages are passed as a format and its arguments, or as a
+ * supplier, and are formatted after the level check. The structured logger writes through
+ * SLF4J under the same namespace, so its SLF4J logger decides which levels are enabled.
+ */
+public final class ServiceLogger {
+
+    private final Logger logger;
+    private final org.slf4j.Logger levelLogger;
+
+    private ServiceLogger(String namespace) {
+        this.logger = LoggerFactory.getLogger(namespace);
+        this.levelLogger = org.slf4j.LoggerFactory.getLogger(namespace);
+    }
+
+    public static ServiceLogger getLogger(String namespace) {
+        return new ServiceLogger(namespace);
+    }
+
+    public boolean isDebugEnabled() {
+        return levelLogger.isDebugEnabled();
+    }
+
+    public boolean isInfoEnabled() {
+        return levelLogger.isInfoEnabled();
+    }
+
+    public void debug(String format, Object arg) {
+        if (isDebugEnabled()) {
+            logger.debug(String.format(format, arg));
+        }
+    }
+
+    public void debug(String format, Object arg1, Object arg2) {
+        if (isDebugEnabled()) {
+            logger.debug(String.format(format, arg1, arg2));
+        }
+    }
+
+    public void debug(String format, Object arg1, Object arg2, Object arg3) {
+        if (isDebugEnabled()) {
+            logger.debug(String.format(format, arg1, arg2, arg3));
+        }
+    }
+
+    public void debug(String format, Object... args) {
+        if (isDebugEnabled()) {
+            logger.debug(String.format(format, args));
+        }
+    }
+
+    public void debug(Supplier<String> message) {
+        if (isDebugEnabled()) {
+            logger.debug(message.get());
+        }
+    }
+
+    public void info(String message) {
+        if (isInfoEnabled()) {
+            logger.info(message);
+        }
+    }
+
+    public void info(String format, Object... args) {
+        if (isInfoEnabled()) {
+            logger.info(String.format(format, args));
+        }
+    }
+
+    public void error(String message) {
+        logger.error(message);
+    }
+
+    public void error(String message, Exception ex) {
+        logger.error(message, ex);
+    }
+
+    /**
+     * Returns a logger for a single high frequency INFO event that writes the first
+     * occurrence and then one in every {@code oneIn} occurrences, noting how many were
+     * skipped since the last one written. Each call site should hold its own sampled logger.
+     * Events that happen once per payment or journey are logged in full, never sampled.
+     *
+     * @param oneIn the sampling rate; 1 writes every occurrence
+     * @return a sampled logger for the event
+     */
+    public Sampled sampled(int oneIn) {
+        if (oneIn < 1) {
+            throw new IllegalArgumentException("Sampling rate must be at least 1: " + oneIn);
+        }
+        return new Sampled(oneIn);
+    }
+
+    public final class Sampled {
+
+        private final int oneIn;
+        private final AtomicLong occurrences = new AtomicLong();
+
+        private Sampled(int oneIn) {
+            this.oneIn = oneIn;
+        }
+
+        public void info(String format, Object... args) {
+            long occurrence = occurrences.getAndIncrement();
+            if (occurrence % oneIn != 0 || !isInfoEnabled()) {
+                return;
+            }
+            String message = String.format(format, args);
+            logger.info(occurrence == 0 || oneIn == 1 ? message
+                    : String.format("%s (%d similar messages not logged)", message, oneIn - 1));
+        }
+    }
+}
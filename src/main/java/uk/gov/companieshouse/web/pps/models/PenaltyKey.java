@@ -0,0 +1,56 @@
+package uk.gov.companieshouse.web.pps.models;
+
+import uk.gov.companieshouse.web.pps.util.PenaltyReference;
+import uk.gov.companieshouse.web.pps.util.PenaltyUtils;
+
+/**
+ * Identifies the penalty a request is about: the company number, the penalty reference and
+ * the type of penalty reference it starts with. Built once per request, by
+ * {@code PenaltyKeyArgumentResolver} from the path or by the enter details service from the
+ * form, and passed to the services that need it. Only the company number entered on the form
+ * is normalised; the path carries the company number the journey was redirected with.
+ *
+ * @param companyNumber    the company number
+ * @param penaltyRef       the penalty reference
+ * @param penaltyReference the type of the penalty reference
+ */
+public record PenaltyKey(String companyNumber, String penaltyRef,
+                         PenaltyReference penaltyReference) {
+
+    private static final int COMPANY_NUMBER_LENGTH = 8;
+
+    /**
+     * Builds the key for a company number and penalty reference.
+     *
+     * @param companyNumber the company number
+     * @param penaltyRef    the penalty reference
+     * @return the key
+     * @throws IllegalArgumentException if the penalty reference is blank or does not start
+     *                                  with a known penalty reference type
+     */
+    public static PenaltyKey of(String companyNumber, String penaltyRef) {
+        return new PenaltyKey(companyNumber, penaltyRef,
+                PenaltyUtils.getPenaltyReferenceType(penaltyRef));
+    }
+
+    /**
+     * Pads a company number made up only of digits with leading zeros to 8 characters.
+     * Company numbers containing letters are returned unchanged.
+     *
+     * @param companyNumber the company number
+     * @return the normalised company number
+     */
+    public static String normaliseCompanyNumber(String companyNumber) {
+        int length = companyNumber.length();
+        if (length >= COMPANY_NUMBER_LENGTH) {
+            return companyNumber;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = companyNumber.charAt(i);
+            if (c < '0' || c > '9') {
+                return companyNumber;
+            }
+        }
+        return "0".repeat(COMPANY_NUMBER_LENGTH - length) + companyNumber;
+    }
+}
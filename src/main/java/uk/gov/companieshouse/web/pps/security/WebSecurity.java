@@ -4,12 +4,18 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+import org.springframework.util.StringUtils;
 import uk.gov.companieshouse.auth.filter.HijackFilter;
 import uk.gov.companieshouse.auth.filter.UserAuthFilter;
+import uk.gov.companieshouse.web.pps.config.MetricsConfigurationProperties;
 
 import static uk.gov.companieshouse.csrf.config.ChsCsrfMitigationHttpSecurityBuilder.configureApiCsrfMitigations;
 import static uk.gov.companieshouse.csrf.config.ChsCsrfMitigationHttpSecurityBuilder.configureWebCsrfMitigations;
@@ -19,6 +25,8 @@ import static uk.gov.companieshouse.csrf.config.ChsCsrfMitigationHttpSecurityBui
 @EnableMethodSecurity
 public class WebSecurity {
 
+    private static final String METRICS_ROLE = "METRICS";
+
     @Bean
     @Order(1)
     public SecurityFilterChain temporaryStartPageSecurityFilterChain(final HttpSecurity http) throws Exception {
@@ -45,6 +53,18 @@ public class WebSecurity {
 
     @Bean
     @Order(4)
+    public SecurityFilterChain prometheusSecurityFilterChain(final HttpSecurity http,
+            final MetricsConfigurationProperties metricsConfigurationProperties) throws Exception {
+        return configureApiCsrfMitigations(
+                http.securityMatcher("/pay-penalty/prometheus")
+                        .authorizeHttpRequests(requests -> requests.anyRequest().hasRole(METRICS_ROLE))
+                        .httpBasic(Customizer.withDefaults())
+                        .userDetailsService(getMetricsUsers(metricsConfigurationProperties))
+        ).build();
+    }
+
+    @Bean
+    @Order(5)
     public SecurityFilterChain scheduledServiceDownSecurityFilterChain(final HttpSecurity http) throws Exception {
         return configureWebCsrfMitigations(
                 http.securityMatcher("/pay-penalty/unscheduled-service-down")
@@ -52,7 +72,7 @@ public class WebSecurity {
     }
 
     @Bean
-    @Order(5)
+    @Order(6)
     public SecurityFilterChain pageNotFoundSecurityFilterChain(final HttpSecurity http) throws Exception {
         return configureWebCsrfMitigations(
                 http.securityMatcher("/pay-penalty/page-not-found")
@@ -60,7 +80,7 @@ public class WebSecurity {
     }
 
     @Bean
-    @Order(6)
+    @Order(7)
     public SecurityFilterChain errorPageSecurityFilterChain(final HttpSecurity http) throws Exception {
         return configureWebCsrfMitigations(
                 http.securityMatcher("/error")
@@ -68,7 +88,7 @@ public class WebSecurity {
     }
 
     @Bean
-    @Order(7)
+    @Order(8)
     public SecurityFilterChain ppsWebSecurityFilterConfig(HttpSecurity http) throws Exception {
         return configureWebCsrfMitigations(
                 http.securityMatcher("/pay-penalty/**")
@@ -77,5 +97,18 @@ public class WebSecurity {
         ).build();
     }
 
+    private static UserDetailsService getMetricsUsers(MetricsConfigurationProperties metricsConfigurationProperties) {
+        InMemoryUserDetailsManager metricsUsers = new InMemoryUserDetailsManager();
+        String username = metricsConfigurationProperties.getUsername();
+        String password = metricsConfigurationProperties.getPassword();
+        if (StringUtils.hasText(username) && StringUtils.hasText(password)) {
+            metricsUsers.createUser(User.withUsername(username)
+                    .password("{noop}" + password)
+                    .roles(METRICS_ROLE)
+                    .build());
+        }
+        return metricsUsers;
+    }
+
 }
 
@@ -16,6 +16,7 @@ public class ServiceConstants {
     public static final String SIGN_OUT_URL_ATTR = "signOutPath";
 
     public static final String PAYMENT_STATE = "payment_state";
+    public static final String SESSION_ID = ".id";
     public static final String DATE_STR = "date";
 
     public static final String SERVICE_UNAVAILABLE_VIEW_NAME = "pps/serviceUnavailable";
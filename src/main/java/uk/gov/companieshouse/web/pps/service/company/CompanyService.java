@@ -5,7 +5,7 @@ import uk.gov.companieshouse.web.pps.exception.ServiceException;
 
 public interface CompanyService {
 
-    String appendToCompanyNumber(String companyNumber);
-
     CompanyProfileApi getCompanyProfile(String companyNumber) throws ServiceException;
+
+    String getCompanyName(String companyNumber) throws ServiceException;
 }
@@ -1,61 +1,173 @@
 package uk.gov.companieshouse.web.pps.service.company.impl;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.UriTemplate;
 import uk.gov.companieshouse.api.ApiClient;
 import uk.gov.companieshouse.api.error.ApiErrorResponseException;
 import uk.gov.companieshouse.api.handler.exception.URIValidationException;
 import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
-import uk.gov.companieshouse.logging.Logger;
-import uk.gov.companieshouse.logging.LoggerFactory;
 import uk.gov.companieshouse.web.pps.PPSWebApplication;
 import uk.gov.companieshouse.web.pps.api.ApiClientService;
+import uk.gov.companieshouse.web.pps.api.UpstreamCallHandler;
+import uk.gov.companieshouse.web.pps.api.UpstreamOperation;
+import uk.gov.companieshouse.web.pps.config.CacheConfigurationProperties;
+import uk.gov.companieshouse.web.pps.config.CacheConfigurationProperties.CompanyNameCache;
 import uk.gov.companieshouse.web.pps.exception.ServiceException;
+import uk.gov.companieshouse.web.pps.logging.ServiceLogger;
 import uk.gov.companieshouse.web.pps.service.company.CompanyService;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
 @Service
 public class CompanyServiceImpl implements CompanyService {
 
     private static final UriTemplate GET_COMPANY_URI =
             new UriTemplate("/company/{companyNumber}");
 
-    protected static final Logger LOGGER = LoggerFactory.getLogger(PPSWebApplication.APPLICATION_NAME_SPACE);
+    protected static final ServiceLogger LOGGER = ServiceLogger.getLogger(PPSWebApplication.APPLICATION_NAME_SPACE);
+
+    static final String COMPANY_NAMES_CACHE = "companyNames";
 
     private final ApiClientService apiClientService;
+    private final UpstreamCallHandler upstreamCallHandler;
+    private final CompanyNameCache cacheProperties;
+    private final AsyncCache<String, CompanyName> companyNames;
 
-    public CompanyServiceImpl(ApiClientService apiClientService) {
+    public CompanyServiceImpl(ApiClientService apiClientService,
+            UpstreamCallHandler upstreamCallHandler,
+            CacheConfigurationProperties cacheConfigurationProperties,
+            MeterRegistry meterRegistry) {
         this.apiClientService = apiClientService;
+        this.upstreamCallHandler = upstreamCallHandler;
+        this.cacheProperties = cacheConfigurationProperties.getCompanyNames();
+        this.companyNames = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.getMaximumSize())
+                .expireAfter(new CompanyNameExpiry(cacheProperties))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, companyNames, COMPANY_NAMES_CACHE);
     }
 
     @Override
-    public String appendToCompanyNumber(String companyNumber) {
-
-        //If the Company Number contains any letters don't append 0's to the beginning of the Company Number.
-        if (!companyNumber.matches("^\\d*$")) {
-            return companyNumber;
-        }
-
-        //If company number is less than 8 digits long append 0's to the beginning.
-        return String.format("%8s", companyNumber).replace(' ', '0');
+    public CompanyProfileApi getCompanyProfile(String companyNumber) throws ServiceException {
+        String uri = GET_COMPANY_URI.expand(companyNumber).toString();
+        return upstreamCallHandler.call(UpstreamOperation.COMPANY_PROFILE_GET,
+                () -> fetchCompanyProfile(uri, companyNumber));
     }
 
-    @Override
-    public CompanyProfileApi getCompanyProfile(String companyNumber) throws ServiceException {
+    private CompanyProfileApi fetchCompanyProfile(String uri, String companyNumber) throws ServiceException {
         ApiClient apiClient = apiClientService.getPublicApiClient();
         String requestId = apiClient.getHttpClient().getRequestId();
         CompanyProfileApi companyProfileApi;
 
         try {
-            String uri = GET_COMPANY_URI.expand(companyNumber).toString();
-            LOGGER.debug(String.format("[%s]: Getting company profile from %s for company number %s", requestId, uri, companyNumber));
+            LOGGER.debug("[%s]: Getting company profile from %s for company number %s", requestId, uri, companyNumber);
             companyProfileApi = apiClient.company().get(uri).execute().getData();
         } catch (ApiErrorResponseException ex) {
             throw new ServiceException(String.format("[%s]: Error retrieving Company Details", requestId), ex);
         } catch (URIValidationException ex) {
             throw new ServiceException(String.format("[%s]: Invalid URI for Company Details", requestId), ex);
         }
-        LOGGER.debug(String.format("[%s]: Successfully got company profile for company number %s", requestId, companyNumber));
+        LOGGER.debug("[%s]: Successfully got company profile for company number %s", requestId, companyNumber);
 
         return companyProfileApi;
     }
+
+    @Override
+    public String getCompanyName(String companyNumber) throws ServiceException {
+        if (!cacheProperties.isEnabled()) {
+            return getCompanyProfile(companyNumber).getCompanyName();
+        }
+
+        CompanyName companyName = getCachedCompanyName(companyNumber);
+        if (!companyName.found()) {
+            throw new ServiceException(String.format("Company not found for company number %s", companyNumber), null);
+        }
+        return companyName.name();
+    }
+
+    /**
+     * Returns the cached name, or loads it on this thread when no other caller is already doing
+     * so. The load runs outside the cache's own locking, so a slow company profile call does not
+     * hold up callers looking up other company numbers; callers for the same company number wait
+     * on the one load.
+     */
+    private CompanyName getCachedCompanyName(String companyNumber) throws ServiceException {
+        CompletableFuture<CompanyName> loading = new CompletableFuture<>();
+        CompletableFuture<CompanyName> companyName = companyNames.get(companyNumber, (key, executor) -> loading);
+        if (companyName == loading) {
+            try {
+                loading.complete(loadCompanyName(companyNumber));
+            } catch (ServiceException | RuntimeException ex) {
+                // A failed load is dropped by the cache, so the next caller tries again
+                loading.completeExceptionally(ex);
+                throw ex;
+            }
+        }
+
+        try {
+            return companyName.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ServiceException(String.format("Interrupted waiting for company name for company number %s",
+                    companyNumber), ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof ServiceException serviceException) {
+                throw serviceException;
+            }
+            throw new ServiceException(String.format("Error retrieving company name for company number %s",
+                    companyNumber), ex.getCause());
+        }
+    }
+
+    private CompanyName loadCompanyName(String companyNumber) throws ServiceException {
+        try {
+            return new CompanyName(getCompanyProfile(companyNumber).getCompanyName(), true);
+        } catch (ServiceException ex) {
+            // Cache a 404 briefly so repeated look ups of a mistyped company number stay local
+            if (ex.getCause() instanceof ApiErrorResponseException apiErrorResponseException
+                    && apiErrorResponseException.getStatusCode() == HttpStatus.NOT_FOUND.value()) {
+                return new CompanyName(null, false);
+            }
+            throw ex;
+        }
+    }
+
+    private record CompanyName(String name, boolean found) {
+    }
+
+    private static final class CompanyNameExpiry implements Expiry<String, CompanyName> {
+
+        private final CompanyNameCache cacheProperties;
+
+        private CompanyNameExpiry(CompanyNameCache cacheProperties) {
+            this.cacheProperties = cacheProperties;
+        }
+
+        @Override
+        public long expireAfterCreate(String companyNumber, CompanyName companyName, long currentTime) {
+            return companyName.found()
+                    ? cacheProperties.getTimeToLive().toNanos()
+                    : cacheProperties.getNotFoundTimeToLive().toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String companyNumber, CompanyName companyName, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(companyNumber, companyName, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String companyNumber, CompanyName companyName, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
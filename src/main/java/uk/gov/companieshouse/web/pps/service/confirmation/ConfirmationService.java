@@ -1,11 +1,12 @@
 package uk.gov.companieshouse.web.pps.service.confirmation;
 
 import uk.gov.companieshouse.web.pps.exception.ServiceException;
+import uk.gov.companieshouse.web.pps.models.PenaltyKey;
 import uk.gov.companieshouse.web.pps.service.response.PPSServiceResponse;
 
 public interface ConfirmationService {
 
-    PPSServiceResponse getConfirmationUrl(String companyNumber, String penaltyRef, String payableRef,
+    PPSServiceResponse getConfirmationUrl(PenaltyKey penaltyKey, String payableRef,
             String paymentState, String paymentStatus) throws ServiceException;
 
 }
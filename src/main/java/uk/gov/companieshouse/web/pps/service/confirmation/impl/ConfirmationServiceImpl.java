@@ -3,15 +3,16 @@ package uk.gov.companieshouse.web.pps.service.confirmation.impl;
 import org.springframework.stereotype.Service;
 import uk.gov.companieshouse.api.model.financialpenalty.PayableFinancialPenalties;
 import uk.gov.companieshouse.api.model.financialpenalty.TransactionPayableFinancialPenalty;
-import uk.gov.companieshouse.logging.Logger;
-import uk.gov.companieshouse.logging.LoggerFactory;
 import uk.gov.companieshouse.web.pps.config.PenaltyConfigurationProperties;
 import uk.gov.companieshouse.web.pps.exception.ServiceException;
+import uk.gov.companieshouse.web.pps.logging.ServiceLogger;
+import uk.gov.companieshouse.web.pps.models.PenaltyKey;
 import uk.gov.companieshouse.web.pps.service.company.CompanyService;
 import uk.gov.companieshouse.web.pps.service.confirmation.ConfirmationService;
 import uk.gov.companieshouse.web.pps.service.penaltypayment.PayablePenaltyService;
 import uk.gov.companieshouse.web.pps.service.response.PPSServiceResponse;
 import uk.gov.companieshouse.web.pps.session.SessionService;
+import uk.gov.companieshouse.web.pps.session.SessionView;
 import uk.gov.companieshouse.web.pps.util.PaymentStatus;
 import uk.gov.companieshouse.web.pps.util.PenaltyUtils;
 
@@ -23,7 +24,6 @@ import static org.springframework.web.servlet.view.UrlBasedViewResolver.REDIRECT
 import static uk.gov.companieshouse.web.pps.PPSWebApplication.APPLICATION_NAME_SPACE;
 import static uk.gov.companieshouse.web.pps.service.ServiceConstants.COMPANY_NAME_ATTR;
 import static uk.gov.companieshouse.web.pps.service.ServiceConstants.COMPANY_NUMBER_ATTR;
-import static uk.gov.companieshouse.web.pps.service.ServiceConstants.PAYMENT_STATE;
 import static uk.gov.companieshouse.web.pps.service.ServiceConstants.PENALTY_REF_ATTR;
 import static uk.gov.companieshouse.web.pps.service.ServiceConstants.PENALTY_REFERENCE_NAME_ATTR;
 import static uk.gov.companieshouse.web.pps.service.ServiceConstants.SIGN_OUT_URL_ATTR;
@@ -31,7 +31,7 @@ import static uk.gov.companieshouse.web.pps.service.ServiceConstants.SIGN_OUT_UR
 @Service
 public class ConfirmationServiceImpl implements ConfirmationService {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAME_SPACE);
+    private static final ServiceLogger LOGGER = ServiceLogger.getLogger(APPLICATION_NAME_SPACE);
 
     private final SessionService sessionService;
     private final PenaltyConfigurationProperties penaltyConfigurationProperties;
@@ -53,23 +53,22 @@ public class ConfirmationServiceImpl implements ConfirmationService {
     }
 
     @Override
-    public PPSServiceResponse getConfirmationUrl(String companyNumber, String penaltyRef,
-            String payableRef, String paymentState, String paymentStatus) throws ServiceException {
+    public PPSServiceResponse getConfirmationUrl(PenaltyKey penaltyKey, String payableRef,
+            String paymentState, String paymentStatus) throws ServiceException {
 
-        PPSServiceResponse serviceResponse = new PPSServiceResponse();
-
-        if (isPaymentStateMissing()) {
+        SessionView sessionView = SessionView.current(sessionService);
+        if (!sessionView.hasPaymentState()) {
             return getErrorResponse(
                     "Payment state value is not present in session, Expected: " + paymentState);
         }
 
-        Optional<String> errorMessage = sessionStateTamperedWith(paymentState);
+        Optional<String> errorMessage = sessionStateTamperedWith(sessionView, paymentState);
         if (errorMessage.isPresent()) {
             return getErrorResponse(errorMessage.get());
         }
 
         PayableFinancialPenalties payableResource = payablePenaltyService.getPayableFinancialPenalties(
-                companyNumber, payableRef);
+                penaltyKey.companyNumber(), payableRef);
         TransactionPayableFinancialPenalty payableResourceTransaction = payableResource.getTransactions()
                 .getFirst();
 
@@ -77,44 +76,29 @@ public class ConfirmationServiceImpl implements ConfirmationService {
             return getUnpaidResponse(paymentStatus, payableResource);
         }
 
-        serviceResponse.setModelAttributes(
-                createModelUpdate(companyNumber, penaltyRef, payableResourceTransaction));
-
-        serviceResponse.setBaseModelAttributes(
+        return PPSServiceResponse.render(
+                createModelUpdate(penaltyKey, payableResourceTransaction),
                 Map.of(SIGN_OUT_URL_ATTR, penaltyConfigurationProperties.getSignOutPath()));
-
-        return serviceResponse;
     }
 
     private PPSServiceResponse getUnpaidResponse(final String paymentStatus,
             final PayableFinancialPenalties payableResource) {
         // If the payment is anything but paid return user to beginning of journey
-        PPSServiceResponse serviceResponse = new PPSServiceResponse();
-        LOGGER.info("Payment status is " + paymentStatus
-                + " and not of status 'paid', returning to beginning of journey");
-        serviceResponse.setUrl(REDIRECT_URL_PREFIX + payableResource.getLinks()
+        LOGGER.info("Payment status is %s and not of status 'paid', returning to beginning of journey",
+                paymentStatus);
+        return PPSServiceResponse.redirect(REDIRECT_URL_PREFIX + payableResource.getLinks()
                 .get("resume_journey_uri"));
-        return serviceResponse;
     }
 
     private PPSServiceResponse getErrorResponse(final String errorMsg) {
         String unscheduledServiceDownPath = REDIRECT_URL_PREFIX
                 + penaltyConfigurationProperties.getUnscheduledServiceDownPath();
-        PPSServiceResponse serviceResponse = new PPSServiceResponse();
-        serviceResponse.setErrorRequestMsg(errorMsg);
-        serviceResponse.setUrl(unscheduledServiceDownPath);
-        return serviceResponse;
-    }
-
-    private boolean isPaymentStateMissing() {
-        Map<String, Object> sessionData = sessionService.getSessionDataFromContext();
-        return !sessionData.containsKey(PAYMENT_STATE);
+        return PPSServiceResponse.error(unscheduledServiceDownPath, errorMsg, null);
     }
 
-    private Optional<String> sessionStateTamperedWith(String paymentState) {
-        Map<String, Object> sessionData = sessionService.getSessionDataFromContext();
-        String sessionPaymentState = (String) sessionData.get(PAYMENT_STATE);
-        sessionData.remove(PAYMENT_STATE);
+    private Optional<String> sessionStateTamperedWith(SessionView sessionView,
+            String paymentState) {
+        String sessionPaymentState = sessionView.removePaymentState();
 
         if (!paymentState.equals(sessionPaymentState)) {
             return Optional.of(
@@ -124,15 +108,13 @@ public class ConfirmationServiceImpl implements ConfirmationService {
         return Optional.empty();
     }
 
-    private Map<String, Object> createModelUpdate(String companyNumber, String penaltyRef,
+    private Map<String, Object> createModelUpdate(PenaltyKey penaltyKey,
             TransactionPayableFinancialPenalty payableResourceTransaction) throws ServiceException {
-        var companyProfileApi = companyService.getCompanyProfile(companyNumber);
-        Map<String, Object> modelUpdate = new HashMap<>();
-        modelUpdate.put(PENALTY_REF_ATTR, penaltyRef);
-        modelUpdate.put(PENALTY_REFERENCE_NAME_ATTR,
-                PenaltyUtils.getPenaltyReferenceType(penaltyRef).name());
-        modelUpdate.put(COMPANY_NAME_ATTR, companyProfileApi.getCompanyName());
-        modelUpdate.put(COMPANY_NUMBER_ATTR, companyNumber);
+        Map<String, Object> modelUpdate = HashMap.newHashMap(7);
+        modelUpdate.put(PENALTY_REF_ATTR, penaltyKey.penaltyRef());
+        modelUpdate.put(PENALTY_REFERENCE_NAME_ATTR, penaltyKey.penaltyReference().name());
+        modelUpdate.put(COMPANY_NAME_ATTR, companyService.getCompanyName(penaltyKey.companyNumber()));
+        modelUpdate.put(COMPANY_NUMBER_ATTR, penaltyKey.companyNumber());
         modelUpdate.put(REASON_FOR_PENALTY_ATTR, payableResourceTransaction.getReason());
         modelUpdate.put(PAYMENT_DATE_ATTR, PenaltyUtils.getPaymentDateDisplay());
         modelUpdate.put(PENALTY_AMOUNT_ATTR, PenaltyUtils.getFormattedAmount(
@@ -0,0 +1,15 @@
+package uk.gov.companieshouse.web.pps.service.finance;
+
+import uk.gov.companieshouse.api.model.financialpenalty.FinanceHealthcheck;
+import uk.gov.companieshouse.web.pps.exception.ServiceException;
+
+/**
+ * Supplies the current finance system health check to the journey pages. Implementations
+ * may serve a previously fetched result rather than calling the Penalty Payment API on
+ * every request.
+ */
+public interface FinanceHealthcheckProvider {
+
+    FinanceHealthcheck getFinanceHealthcheck() throws ServiceException;
+
+}
@@ -0,0 +1,172 @@
+package uk.gov.companieshouse.web.pps.service.finance.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Service;
+import uk.gov.companieshouse.api.model.financialpenalty.FinanceHealthcheck;
+import uk.gov.companieshouse.api.model.financialpenalty.FinanceHealthcheckStatus;
+import uk.gov.companieshouse.web.pps.PPSWebApplication;
+import uk.gov.companieshouse.web.pps.api.RequestCoalescer;
+import uk.gov.companieshouse.web.pps.api.UpstreamOperation;
+import uk.gov.companieshouse.web.pps.config.CacheConfigurationProperties;
+import uk.gov.companieshouse.web.pps.config.CacheConfigurationProperties.FinanceHealthcheckCache;
+import uk.gov.companieshouse.web.pps.config.UpstreamConfigurationProperties;
+import uk.gov.companieshouse.web.pps.exception.ServiceException;
+import uk.gov.companieshouse.web.pps.logging.ServiceLogger;
+import uk.gov.companieshouse.web.pps.service.finance.FinanceHealthcheckProvider;
+import uk.gov.companieshouse.web.pps.service.penaltypayment.PenaltyPaymentService;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the finance system health check so that journey pages do not each make a round
+ * trip to the Penalty Payment API. The cached result is refreshed in the background, expires
+ * after the configured time to live (or at the end of a planned maintenance window if that
+ * is sooner) and concurrent misses share a single upstream call. Failed checks are never
+ * cached.
+ */
+@Service
+public class CachingFinanceHealthcheckProvider implements FinanceHealthcheckProvider,
+        InitializingBean, DisposableBean {
+
+    protected static final ServiceLogger LOGGER = ServiceLogger
+            .getLogger(PPSWebApplication.APPLICATION_NAME_SPACE);
+
+    static final String CACHE_REQUESTS_METRIC = "pps.finance.healthcheck.cache.requests";
+    static final String CACHE_STALENESS_METRIC = "pps.finance.healthcheck.cache.staleness";
+
+    private static final String LOAD_KEY = "finance-healthcheck";
+
+    private final PenaltyPaymentService penaltyPaymentService;
+    private final FinanceHealthcheckCache cacheProperties;
+    private final Clock clock;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final RequestCoalescer<CachedHealthcheck> loads;
+
+    private volatile CachedHealthcheck cached;
+    private ScheduledExecutorService refreshExecutor;
+
+    public CachingFinanceHealthcheckProvider(PenaltyPaymentService penaltyPaymentService,
+            CacheConfigurationProperties cacheConfigurationProperties,
+            UpstreamConfigurationProperties upstreamConfigurationProperties,
+            Clock clock,
+            MeterRegistry meterRegistry) {
+        this.penaltyPaymentService = penaltyPaymentService;
+        this.cacheProperties = cacheConfigurationProperties.getFinanceHealthcheck();
+        this.clock = clock;
+        this.loads = new RequestCoalescer<>(UpstreamOperation.FINANCE_HEALTHCHECK_GET,
+                upstreamConfigurationProperties.getFinanceHealthcheckTimeout(), meterRegistry);
+        this.hitCounter = Counter.builder(CACHE_REQUESTS_METRIC)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(CACHE_REQUESTS_METRIC)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder(CACHE_STALENESS_METRIC, this, CachingFinanceHealthcheckProvider::getStalenessSeconds)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public FinanceHealthcheck getFinanceHealthcheck() throws ServiceException {
+        if (!cacheProperties.isEnabled()) {
+            return penaltyPaymentService.checkFinanceSystemAvailableTime();
+        }
+
+        CachedHealthcheck current = cached;
+        if (current != null && clock.instant().isBefore(current.expiresAt())) {
+            hitCounter.increment();
+            return current.healthcheck();
+        }
+
+        missCounter.increment();
+        return load().healthcheck();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        Duration refreshInterval = cacheProperties.getRefreshInterval();
+        if (!cacheProperties.isEnabled() || refreshInterval == null
+                || refreshInterval.isZero() || refreshInterval.isNegative()) {
+            return;
+        }
+
+        refreshExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "finance-healthcheck-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        refreshExecutor.scheduleWithFixedDelay(this::refresh, 0,
+                refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+    }
+
+    void refresh() {
+        try {
+            load();
+        } catch (ServiceException | RuntimeException ex) {
+            LOGGER.error("Background refresh of the finance health check failed", ex);
+        }
+    }
+
+    private CachedHealthcheck load() throws ServiceException {
+        return loads.call(LOAD_KEY, () -> {
+            FinanceHealthcheck healthcheck = penaltyPaymentService.checkFinanceSystemAvailableTime();
+            Instant loadedAt = clock.instant();
+            CachedHealthcheck loaded = new CachedHealthcheck(healthcheck, loadedAt,
+                    getExpiry(healthcheck, loadedAt));
+            cached = loaded;
+            return loaded;
+        });
+    }
+
+    private Instant getExpiry(FinanceHealthcheck healthcheck, Instant loadedAt) {
+        Instant expiresAt = loadedAt.plus(cacheProperties.getTimeToLive());
+        if (!FinanceHealthcheckStatus.UNHEALTHY_PLANNED_MAINTENANCE.getStatus()
+                .equals(healthcheck.getMessage()) || healthcheck.getMaintenanceEndTime() == null) {
+            return expiresAt;
+        }
+
+        try {
+            // Expire with the maintenance window so the journey reopens on time
+            Instant maintenanceEnd = OffsetDateTime.parse(healthcheck.getMaintenanceEndTime())
+                    .toInstant();
+            if (maintenanceEnd.isAfter(loadedAt) && maintenanceEnd.isBefore(expiresAt)) {
+                return maintenanceEnd;
+            }
+        } catch (DateTimeParseException ex) {
+            LOGGER.debug("Unable to parse maintenance end time: %s",
+                    healthcheck.getMaintenanceEndTime());
+        }
+        return expiresAt;
+    }
+
+    private double getStalenessSeconds() {
+        CachedHealthcheck current = cached;
+        if (current == null) {
+            return Double.NaN;
+        }
+        return Duration.between(current.loadedAt(), clock.instant()).toMillis() / 1000d;
+    }
+
+    private record CachedHealthcheck(FinanceHealthcheck healthcheck, Instant loadedAt,
+            Instant expiresAt) {
+    }
+}
@@ -3,20 +3,19 @@ package uk.gov.companieshouse.web.pps.service.finance.impl;
 import org.springframework.stereotype.Service;
 import uk.gov.companieshouse.api.model.financialpenalty.FinanceHealthcheck;
 import uk.gov.companieshouse.api.model.financialpenalty.FinanceHealthcheckStatus;
-import uk.gov.companieshouse.logging.Logger;
-import uk.gov.companieshouse.logging.LoggerFactory;
 import uk.gov.companieshouse.web.pps.PPSWebApplication;
+import uk.gov.companieshouse.web.pps.api.ApiRoute;
+import uk.gov.companieshouse.web.pps.api.UpstreamCallHandler;
 import uk.gov.companieshouse.web.pps.config.PenaltyConfigurationProperties;
 import uk.gov.companieshouse.web.pps.exception.ServiceException;
+import uk.gov.companieshouse.web.pps.logging.ServiceLogger;
+import uk.gov.companieshouse.web.pps.service.finance.FinanceHealthcheckProvider;
 import uk.gov.companieshouse.web.pps.service.finance.FinanceServiceHealthCheck;
-import uk.gov.companieshouse.web.pps.service.penaltypayment.PenaltyPaymentService;
 import uk.gov.companieshouse.web.pps.service.response.PPSServiceResponse;
+import uk.gov.companieshouse.web.pps.util.DisplayFormatter;
 
 import java.time.OffsetDateTime;
-import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -29,31 +28,36 @@ import static uk.gov.companieshouse.web.pps.service.ServiceConstants.SIGN_OUT_UR
 @Service
 public class FinanceServiceHealthCheckImpl implements FinanceServiceHealthCheck {
 
-    protected static final Logger LOGGER = LoggerFactory
+    protected static final ServiceLogger LOGGER = ServiceLogger
             .getLogger(PPSWebApplication.APPLICATION_NAME_SPACE);
 
     private final PenaltyConfigurationProperties penaltyConfigurationProperties;
-    private final PenaltyPaymentService penaltyPaymentService;
+    private final FinanceHealthcheckProvider financeHealthcheckProvider;
+    private final UpstreamCallHandler upstreamCallHandler;
 
     public FinanceServiceHealthCheckImpl(
             PenaltyConfigurationProperties penaltyConfigurationProperties,
-            PenaltyPaymentService penaltyPaymentService) {
+            FinanceHealthcheckProvider financeHealthcheckProvider,
+            UpstreamCallHandler upstreamCallHandler) {
         this.penaltyConfigurationProperties = penaltyConfigurationProperties;
-        this.penaltyPaymentService = penaltyPaymentService;
+        this.financeHealthcheckProvider = financeHealthcheckProvider;
+        this.upstreamCallHandler = upstreamCallHandler;
     }
 
     @Override
     public PPSServiceResponse checkIfAvailableAtStart(Integer startId) {
-        PPSServiceResponse serviceResponse = new PPSServiceResponse();
         String redirectPathUnscheduledServiceDown = REDIRECT_URL_PREFIX +
                 penaltyConfigurationProperties.getUnscheduledServiceDownPath();
+        if (isPenaltyPaymentApiCircuitOpen()) {
+            return PPSServiceResponse.redirect(redirectPathUnscheduledServiceDown);
+        }
         try {
-            FinanceHealthcheck financeHealthcheck = penaltyPaymentService.checkFinanceSystemAvailableTime();
+            FinanceHealthcheck financeHealthcheck = financeHealthcheckProvider.getFinanceHealthcheck();
             if (financeHealthcheck.getMessage()
                     .equals(FinanceHealthcheckStatus.HEALTHY.getStatus())) {
-                getHealthy(startId, financeHealthcheck.getMessage()).ifPresent(
-                        serviceResponse::setUrl);
-                return serviceResponse;
+                return getHealthy(startId, financeHealthcheck.getMessage())
+                        .map(PPSServiceResponse::redirect)
+                        .orElseGet(PPSServiceResponse::render);
             } else if (financeHealthcheck.getMessage()
                     .equals(FinanceHealthcheckStatus.UNHEALTHY_PLANNED_MAINTENANCE.getStatus())) {
                 return getRedirectPath(financeHealthcheck, redirectPathUnscheduledServiceDown);
@@ -62,33 +66,42 @@ public class FinanceServiceHealthCheckImpl implements FinanceServiceHealthCheck
             LOGGER.error(ex.getMessage(), ex);
         }
 
-        serviceResponse.setUrl(redirectPathUnscheduledServiceDown);
-        return serviceResponse;
+        return PPSServiceResponse.redirect(redirectPathUnscheduledServiceDown);
     }
 
     @Override
     public PPSServiceResponse checkIfAvailable() {
         String redirectPathUnscheduledServiceDown = REDIRECT_URL_PREFIX +
                 penaltyConfigurationProperties.getUnscheduledServiceDownPath();
-        PPSServiceResponse serviceResponse = new PPSServiceResponse();
+        if (isPenaltyPaymentApiCircuitOpen()) {
+            return PPSServiceResponse.redirect(redirectPathUnscheduledServiceDown);
+        }
 
         try {
-            FinanceHealthcheck financeHealthcheck = penaltyPaymentService.checkFinanceSystemAvailableTime();
+            FinanceHealthcheck financeHealthcheck = financeHealthcheckProvider.getFinanceHealthcheck();
             if (financeHealthcheck.getMessage()
                     .equals(FinanceHealthcheckStatus.UNHEALTHY_PLANNED_MAINTENANCE.getStatus())) {
                 return getRedirectPath(financeHealthcheck, redirectPathUnscheduledServiceDown);
             }
-            return serviceResponse;
+            return PPSServiceResponse.render();
         } catch (ServiceException ex) {
             LOGGER.error(ex.getMessage(), ex);
         }
 
-        serviceResponse.setUrl(redirectPathUnscheduledServiceDown);
-        return serviceResponse;
+        return PPSServiceResponse.redirect(redirectPathUnscheduledServiceDown);
+    }
+
+    private boolean isPenaltyPaymentApiCircuitOpen() {
+        // Every journey page needs the Penalty Payment API, so stop at the first page while it is failing
+        if (upstreamCallHandler.isCircuitOpen(ApiRoute.PENALTY_PAYMENT)) {
+            LOGGER.error("Penalty Payment API circuit breaker is open");
+            return true;
+        }
+        return false;
     }
 
     private Optional<String> getHealthy(Integer startId, String message) {
-        LOGGER.debug("Financial health check: " + message);
+        LOGGER.debug("Financial health check: %s", message);
         if (Objects.nonNull(startId) && startId == 0) {
             return Optional.empty();
         }
@@ -98,29 +111,21 @@ public class FinanceServiceHealthCheckImpl implements FinanceServiceHealthCheck
 
     private PPSServiceResponse getRedirectPath(FinanceHealthcheck financeHealthcheck,
             String redirectPathUnscheduledServiceDown) {
-        PPSServiceResponse serviceResponse = new PPSServiceResponse();
-
         var time = getParsedDateTime(financeHealthcheck.getMaintenanceEndTime());
 
         if (time.isPresent()) {
-            LOGGER.debug("financial health check: " + financeHealthcheck.getMessage());
+            LOGGER.debug("financial health check: %s", financeHealthcheck.getMessage());
             LOGGER.error("Service is unavailable");
-            serviceResponse.setUrl(SERVICE_UNAVAILABLE_VIEW_NAME);
-            serviceResponse.setModelAttributes(createModelUpdate(time.get()));
-            serviceResponse.setBaseModelAttributes(createBaseModelUpdate());
-        } else {
-            serviceResponse.setUrl(redirectPathUnscheduledServiceDown);
+            return PPSServiceResponse.renderView(SERVICE_UNAVAILABLE_VIEW_NAME,
+                    createModelUpdate(time.get()), createBaseModelUpdate());
         }
 
-        return serviceResponse;
+        return PPSServiceResponse.redirect(redirectPathUnscheduledServiceDown);
     }
 
     private Optional<String> getParsedDateTime(final String endTime) {
-        DateTimeFormatter inputDateFormat = DateTimeFormatter.ofPattern("h:mm a 'on' EEEE d MMMM yyyy", Locale.UK);
         try {
-            return Optional.of(OffsetDateTime.parse(endTime)
-                    .atZoneSameInstant(ZoneId.of("Europe/London"))
-                    .format(inputDateFormat));
+            return Optional.of(DisplayFormatter.formatDateTime(OffsetDateTime.parse(endTime)));
         } catch (DateTimeParseException ex) {
             LOGGER.error(ex.getMessage(), ex);
             return Optional.empty();
@@ -0,0 +1,34 @@
+package uk.gov.companieshouse.web.pps.service.journey;
+
+/**
+ * The pages of the pay a penalty journey, in the order a user passes through them.
+ */
+public enum JourneyStep {
+
+    START,
+    REF_STARTS_WITH,
+    ENTER_DETAILS,
+    VIEW_PENALTIES,
+    PAYMENT,
+    CONFIRMATION;
+
+    private final String tagValue;
+
+    JourneyStep() {
+        this.tagValue = name().toLowerCase();
+    }
+
+    public String getTagValue() {
+        return tagValue;
+    }
+
+    /**
+     * Returns whether a user can begin a new journey on this step.
+     *
+     * @return true for the start and penalty reference type pages
+     */
+    public boolean isEntryStep() {
+        return this == START || this == REF_STARTS_WITH;
+    }
+
+}
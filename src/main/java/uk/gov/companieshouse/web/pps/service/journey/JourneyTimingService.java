@@ -0,0 +1,28 @@
+package uk.gov.companieshouse.web.pps.service.journey;
+
+import uk.gov.companieshouse.web.pps.util.PenaltyReference;
+
+import java.time.Duration;
+
+/**
+ * The {@code JourneyTimingService} interface records how long each step of the journey
+ * takes to handle, how long whole journeys take from the first page to the confirmation
+ * page, and how many journeys reach or are abandoned at each step. Journeys are correlated
+ * across redirects through the session, and are identified by the request ID of the
+ * request that began them.
+ */
+public interface JourneyTimingService {
+
+    /**
+     * Records that a request for a journey step has been handled.
+     *
+     * @param step the journey step handled
+     * @param penaltyReference the penalty reference type the user is paying, or null if the
+     *                         request does not identify one
+     * @param requestId the request ID of the request handled
+     * @param handlingTime the time taken to handle the request
+     */
+    void recordStep(JourneyStep step, PenaltyReference penaltyReference, String requestId,
+            Duration handlingTime);
+
+}
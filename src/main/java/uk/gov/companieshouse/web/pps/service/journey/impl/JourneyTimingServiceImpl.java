@@ -0,0 +1,223 @@
+package uk.gov.companieshouse.web.pps.service.journey.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+import uk.gov.companieshouse.web.pps.PPSWebApplication;
+import uk.gov.companieshouse.web.pps.logging.ServiceLogger;
+import uk.gov.companieshouse.web.pps.service.journey.JourneyStep;
+import uk.gov.companieshouse.web.pps.service.journey.JourneyTimingService;
+import uk.gov.companieshouse.web.pps.session.SessionService;
+import uk.gov.companieshouse.web.pps.session.SessionView;
+import uk.gov.companieshouse.web.pps.util.PenaltyReference;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps the state of the current journey in the session data, so that it follows the user
+ * across redirects and application instances. A journey begins on an entry step and ends on
+ * the confirmation page. Beginning a new journey while another is still in progress counts
+ * the earlier one as abandoned at the last step it reached.
+ */
+@Service
+public class JourneyTimingServiceImpl implements JourneyTimingService {
+
+    protected static final ServiceLogger LOGGER = ServiceLogger
+            .getLogger(PPSWebApplication.APPLICATION_NAME_SPACE);
+
+    static final String JOURNEY_STEP_METRIC = "pps.journey.step";
+    static final String JOURNEY_STEPS_REACHED_METRIC = "pps.journey.steps.reached";
+    static final String JOURNEY_DURATION_METRIC = "pps.journey.duration";
+    static final String JOURNEY_ABANDONED_METRIC = "pps.journey.abandoned";
+
+    static final String JOURNEY_KEY = "pps.journey";
+
+    private static final String UNKNOWN_PENALTY_REFERENCE = "unknown";
+    private static final Duration MAXIMUM_EXPECTED_JOURNEY_DURATION = Duration.ofHours(1);
+
+    private final SessionService sessionService;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final ConcurrentMap<StepKey, Timer> stepTimers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<StepKey, Counter> stepsReachedCounters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<StepKey, Counter> abandonedCounters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Timer> journeyDurationTimers = new ConcurrentHashMap<>();
+
+    public JourneyTimingServiceImpl(SessionService sessionService, MeterRegistry meterRegistry,
+            Clock clock) {
+        this.sessionService = sessionService;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    @Override
+    public void recordStep(JourneyStep step, PenaltyReference penaltyReference,
+            String requestId, Duration handlingTime) {
+        SessionView sessionView = SessionView.current(sessionService);
+        if (!sessionView.hasSession()) {
+            recordStepHandling(step, getPenaltyReferenceType(penaltyReference), handlingTime);
+            return;
+        }
+
+        JourneyState journey = JourneyState.decode(sessionView.getString(JOURNEY_KEY));
+        JourneyStep lastStep = journey == null ? JourneyStep.START : journey.lastStep();
+        boolean newJourney = step.isEntryStep() && (journey == null || !lastStep.isEntryStep());
+        if (newJourney) {
+            if (journey != null) {
+                countAbandoned(lastStep, getPenaltyReferenceType(journey.penaltyReference()));
+            }
+            journey = new JourneyState(requestId, clock.millis(), step, null);
+        } else if (journey == null) {
+            // The session expired part way through, or the user followed a link straight
+            // into the middle of the journey
+            recordStepHandling(step, getPenaltyReferenceType(penaltyReference), handlingTime);
+            return;
+        }
+
+        if (penaltyReference != null) {
+            journey = journey.withPenaltyReference(penaltyReference);
+        }
+        String penaltyReferenceType = getPenaltyReferenceType(journey.penaltyReference());
+        recordStepHandling(step, penaltyReferenceType, handlingTime);
+        if (newJourney || step != lastStep) {
+            countStepReached(step, penaltyReferenceType);
+        }
+
+        Duration elapsed = Duration.ofMillis(clock.millis() - journey.startedAt());
+        LOGGER.debug("[%s]: Journey %s reached %s after %d ms",
+                requestId, journey.journeyId(), step, elapsed.toMillis());
+
+        if (step == JourneyStep.CONFIRMATION) {
+            recordJourneyDuration(penaltyReferenceType, elapsed);
+            LOGGER.info("[%s]: Journey %s completed in %d ms",
+                    requestId, journey.journeyId(), elapsed.toMillis());
+            sessionView.remove(JOURNEY_KEY);
+        } else {
+            sessionView.put(JOURNEY_KEY, journey.withLastStep(step).encode());
+        }
+    }
+
+    private void recordStepHandling(JourneyStep step, String penaltyReferenceType,
+            Duration handlingTime) {
+        stepTimers.computeIfAbsent(new StepKey(step, penaltyReferenceType), this::registerStepTimer)
+                .record(handlingTime);
+    }
+
+    private void countStepReached(JourneyStep step, String penaltyReferenceType) {
+        stepsReachedCounters.computeIfAbsent(new StepKey(step, penaltyReferenceType),
+                this::registerStepsReachedCounter).increment();
+    }
+
+    private void countAbandoned(JourneyStep lastStep, String penaltyReferenceType) {
+        abandonedCounters.computeIfAbsent(new StepKey(lastStep, penaltyReferenceType),
+                this::registerAbandonedCounter).increment();
+    }
+
+    private void recordJourneyDuration(String penaltyReferenceType, Duration elapsed) {
+        journeyDurationTimers.computeIfAbsent(penaltyReferenceType, this::registerJourneyDurationTimer)
+                .record(elapsed);
+    }
+
+    private Timer registerStepTimer(StepKey stepKey) {
+        return Timer.builder(JOURNEY_STEP_METRIC)
+                .description("Time taken to handle each step of the journey")
+                .tag("step", stepKey.step().getTagValue())
+                .tag("penalty_reference_type", stepKey.penaltyReferenceType())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Counter registerStepsReachedCounter(StepKey stepKey) {
+        return Counter.builder(JOURNEY_STEPS_REACHED_METRIC)
+                .description("Journeys that have reached each step")
+                .tag("step", stepKey.step().getTagValue())
+                .tag("penalty_reference_type", stepKey.penaltyReferenceType())
+                .register(meterRegistry);
+    }
+
+    private Counter registerAbandonedCounter(StepKey stepKey) {
+        return Counter.builder(JOURNEY_ABANDONED_METRIC)
+                .description("Journeys left unfinished, by the last step reached")
+                .tag("step", stepKey.step().getTagValue())
+                .tag("penalty_reference_type", stepKey.penaltyReferenceType())
+                .register(meterRegistry);
+    }
+
+    private Timer registerJourneyDurationTimer(String penaltyReferenceType) {
+        return Timer.builder(JOURNEY_DURATION_METRIC)
+                .description("Time taken from the first page of a journey to confirmation")
+                .tag("penalty_reference_type", penaltyReferenceType)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(MAXIMUM_EXPECTED_JOURNEY_DURATION)
+                .register(meterRegistry);
+    }
+
+    private static String getPenaltyReferenceType(PenaltyReference penaltyReference) {
+        return penaltyReference == null ? UNKNOWN_PENALTY_REFERENCE : penaltyReference.name();
+    }
+
+    private record StepKey(JourneyStep step, String penaltyReferenceType) {
+    }
+
+    /**
+     * The state of a journey, kept in the session as a single short string rather than as
+     * separate attributes so that it adds as little as possible to the session.
+     *
+     * @param journeyId        the request ID of the first step of the journey
+     * @param startedAt        when the journey began, in milliseconds since the epoch
+     * @param lastStep         the last step reached
+     * @param penaltyReference the type of penalty reference being paid, if known yet
+     */
+    record JourneyState(String journeyId, long startedAt, JourneyStep lastStep,
+                        PenaltyReference penaltyReference) {
+
+        private static final char SEPARATOR = '|';
+        private static final JourneyStep[] STEPS = JourneyStep.values();
+
+        JourneyState withLastStep(JourneyStep step) {
+            return new JourneyState(journeyId, startedAt, step, penaltyReference);
+        }
+
+        JourneyState withPenaltyReference(PenaltyReference reference) {
+            return new JourneyState(journeyId, startedAt, lastStep, reference);
+        }
+
+        String encode() {
+            return Long.toString(startedAt, Character.MAX_RADIX) + SEPARATOR
+                    + lastStep.ordinal() + SEPARATOR
+                    + (penaltyReference == null ? "" : penaltyReference.getStartsWith())
+                    + SEPARATOR + journeyId;
+        }
+
+        /**
+         * Reads the state of a journey from the session.
+         *
+         * @param encoded the session attribute
+         * @return the journey, or {@code null} if there is none or it cannot be read
+         */
+        static JourneyState decode(String encoded) {
+            if (encoded == null) {
+                return null;
+            }
+            String[] parts = encoded.split("\\|", 4);
+            if (parts.length != 4) {
+                return null;
+            }
+            try {
+                int step = Integer.parseInt(parts[1]);
+                if (step < 0 || step >= STEPS.length) {
+                    return null;
+                }
+                return new JourneyState(parts[3], Long.parseLong(parts[0], Character.MAX_RADIX),
+                        STEPS[step],
+                        parts[2].isEmpty() ? null : PenaltyReference.fromStartsWith(parts[2]));
+            } catch (IllegalArgumentException ex) {
+                return null;
+            }
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package uk.gov.companieshouse.web.pps.service.navigation;
 
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.stereotype.Controller;
 import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.servlet.view.UrlBasedViewResolver;
 import org.springframework.web.util.UriTemplate;
@@ -13,90 +16,99 @@ import uk.gov.companieshouse.web.pps.exception.MissingAnnotationException;
 import uk.gov.companieshouse.web.pps.exception.NavigationException;
 import uk.gov.companieshouse.web.pps.exception.ServiceException;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * The {@code NavigatorService} class provides support methods for handling
  * navigation between controllers and for generating redirects or retrieving
  * controller @{link RequestMapping} paths.
+ * <p>
+ * The controller chain is compiled once the application context has started
+ * into an immutable map of {@link Route}s, one per controller, holding the
+ * next and previous controllers and the parsed {@link RequestMapping}
+ * templates. Startup fails if any controller in the chain links to a
+ * controller without a usable {@link RequestMapping}.
  *
  * @see NextController
  * @see PreviousController
  */
 @Service
-public class NavigatorService {
+public class NavigatorService implements SmartInitializingSingleton {
 
     private final ApplicationContext applicationContext;
 
     private static final int EXPECTED_PATH_VAR_COUNT = 3;
 
+    private volatile Map<Class<?>, Route> routes = Map.of();
+
     public NavigatorService(ApplicationContext applicationContext) {
         this.applicationContext = applicationContext;
     }
 
     /**
-     * Searches the controller chain for the next or previous controller in the
-     * web journey. The controller search begins at the controller {@code clazz}
-     * in the chain and the scan will be performed in the direction specified.
+     * Compiles a {@link Route} for every controller in the application context
+     * and for every controller they link to, checking that each linked
+     * controller has a {@link RequestMapping} path to navigate to.
      *
-     * @param clazz     the controller class in the chain to begin the scan at
-     * @param direction the direction to follow when scanning the controller chain
-     * @return the next or previous controller class in the chain dependent on {@code direction}
+     * @throws MissingAnnotationException if a linked controller has no
+     *                                    {@link RequestMapping} path
      */
-    private Class<?> getControllerClass(Class<?> clazz, Direction direction) {
-
-        Class<?> controllerClass;
-
-        if (direction == Direction.FORWARD) {
-            controllerClass = getNextControllerClass(clazz);
-        } else {
-            controllerClass = getPreviousControllerClass(clazz);
+    @Override
+    public void afterSingletonsInstantiated() {
+        Map<Class<?>, Route> compiledRoutes = new HashMap<>();
+        for (String beanName : applicationContext.getBeanNamesForAnnotation(Controller.class)) {
+            Class<?> controllerClass = applicationContext.getType(beanName);
+            if (controllerClass != null) {
+                Class<?> userClass = ClassUtils.getUserClass(controllerClass);
+                compiledRoutes.put(userClass, compileRoute(userClass));
+            }
         }
 
-        return controllerClass;
+        for (Route route : new ArrayList<>(compiledRoutes.values())) {
+            for (Class<?> linkedClass : route.getLinkedControllerClasses()) {
+                compiledRoutes.computeIfAbsent(linkedClass, NavigatorService::compileRoute)
+                        .checkMapped();
+            }
+        }
+        routes = Map.copyOf(compiledRoutes);
     }
 
     /**
-     * Returns the class of the next controller in the chain that follows
-     * the controller class {@code clazz}.
+     * Returns the compiled route for the controller class {@code clazz},
+     * compiling it on demand for a class that is not a controller in the
+     * application context.
      *
-     * @param clazz the controller class in the chain to begin the scan at
-     * @return the next controller class in the chain
+     * @param clazz the controller class
+     * @return the route for the controller class
      */
-    private Class<?> getNextControllerClass(Class<?> clazz) {
-        NextController nextControllerAnnotation = AnnotationUtils.findAnnotation(clazz, NextController.class);
-        if (nextControllerAnnotation == null) {
-            throw new MissingAnnotationException("Missing @NextController annotation on " + clazz);
-        }
-
-        Class<?> classFound = nextControllerAnnotation.value();
-
-        if (classFound == null) {
-            throw new NavigationException("getNextControllerClass: No next controller to navigate to " + clazz);
+    private Route getRoute(Class<?> clazz) {
+        Route route = routes.get(clazz);
+        if (route == null) {
+            route = routes.get(ClassUtils.getUserClass(clazz));
         }
-
-        return classFound;
+        return route != null ? route : compileRoute(clazz);
     }
 
     /**
-     * Returns the class of the previous controller in the chain that precedes
-     * the controller class {@code clazz}.
+     * Searches the controller chain for the next or previous controller in the
+     * web journey. The controller search begins at the controller {@code clazz}
+     * in the chain and the scan will be performed in the direction specified.
      *
-     * @param clazz the controller class in the chain to begin the scan at
-     * @return the previous controller class in the chain
+     * @param clazz     the controller class in the chain to begin the scan at
+     * @param direction the direction to follow when scanning the controller chain
+     * @return the next or previous controller class in the chain dependent on {@code direction}
      */
-    private Class<?> getPreviousControllerClass(Class<?> clazz) {
-        PreviousController previousControllerAnnotation = AnnotationUtils
-                .findAnnotation(clazz, PreviousController.class);
-        if (previousControllerAnnotation == null) {
-            throw new MissingAnnotationException("Missing @PreviousController annotation on " + clazz);
-        }
+    private Class<?> getControllerClass(Class<?> clazz, Direction direction) {
 
-        Class<?> classValue = previousControllerAnnotation.value();
+        Route route = getRoute(clazz);
 
-        if (classValue == null) {
-            throw new NavigationException("getPreviousControllerClass: No previous controller to navigate to " + clazz);
+        if (direction == Direction.FORWARD) {
+            return route.getNextControllerClass();
         }
-
-        return classValue;
+        return route.getPreviousControllerClass();
     }
 
     /**
@@ -111,39 +123,32 @@ public class NavigatorService {
      * @param clazz the controller class in the chain to begin the scan at
      * @return the previous controller class in the chain
      */
-    private Class<?> findControllerClass(Class<?> clazz, Direction direction, String... pathVars) {
+    private Route findRoute(Class<?> clazz, Direction direction, String... pathVars) {
 
-        Class<?> controllerClass = getControllerClass(clazz, direction);
-        if (!isConditionalController(controllerClass) || pathVars.length != EXPECTED_PATH_VAR_COUNT) {
-            return controllerClass;
+        Route route = getRoute(getControllerClass(clazz, direction));
+        if (!route.isConditional() || pathVars.length != EXPECTED_PATH_VAR_COUNT) {
+            return route;
         }
 
         String companyNumber = pathVars[0];
         String penaltyRef = pathVars[1];
         String companyAccountsId = pathVars[2];
 
-        boolean foundController = false;
-
-        while (!foundController) {
+        while (route.isConditional()) {
+            ConditionalController conditionalController = applicationContext.getBean(ConditionalController.class);
 
-            if (isConditionalController(controllerClass)) {
-                ConditionalController conditionalController = applicationContext.getBean(ConditionalController.class);
-
-                try {
-                    if (!conditionalController.willRender(companyNumber, penaltyRef, companyAccountsId)) {
-                        controllerClass = getControllerClass(controllerClass, direction);
-                        continue;
-                    }
-                } catch (ServiceException e) {
-
-                    throw new NavigationException("Error when determining whether to render conditional controller " + conditionalController.getClass().toString(), e);
+            try {
+                if (conditionalController.willRender(companyNumber, penaltyRef, companyAccountsId)) {
+                    break;
                 }
-            }
+            } catch (ServiceException e) {
 
-            foundController = true;
+                throw new NavigationException("Error when determining whether to render conditional controller " + conditionalController.getClass().toString(), e);
+            }
+            route = getRoute(getControllerClass(route.getControllerClass(), direction));
         }
 
-        return controllerClass;
+        return route;
     }
 
     /**
@@ -160,29 +165,8 @@ public class NavigatorService {
      */
     public String getNextControllerRedirect(Class<?> clazz, String... pathVars) {
 
-        Class<?> nextControllerClass = findControllerClass(clazz, Direction.FORWARD, pathVars);
-
-        RequestMapping requestMappingAnnotation = AnnotationUtils
-                .findAnnotation(nextControllerClass, RequestMapping.class);
-        if (requestMappingAnnotation == null) {
-            throw new MissingAnnotationException("Missing @RequestMapping annotation on " + nextControllerClass);
-        }
-
-        String[] mappings = requestMappingAnnotation.value();
-
-        if (mappings.length == 0) {
-            throw new MissingAnnotationException("Missing @RequestMapping value on " + nextControllerClass);
-        }
-
-        for (String mapping : mappings) {
-            UriTemplate mappingTemplate = new UriTemplate(mapping);
-
-            if (pathVars.length == mappingTemplate.getVariableNames().size()) {
-                return UrlBasedViewResolver.REDIRECT_URL_PREFIX + mappingTemplate.expand((Object[]) pathVars);
-            }
-        }
-
-        throw new NavigationException("No mapping found that matches the number of path variables provided");
+        return UrlBasedViewResolver.REDIRECT_URL_PREFIX
+                + findRoute(clazz, Direction.FORWARD, pathVars).expand(pathVars);
     }
 
     /**
@@ -198,39 +182,115 @@ public class NavigatorService {
      */
     public String getPreviousControllerPath(Class<?> clazz, String... pathVars) {
 
-        Class<?> previousControllerClass = findControllerClass(clazz, Direction.BACKWARD, pathVars);
+        return findRoute(clazz, Direction.BACKWARD, pathVars).expand(pathVars);
+    }
+
+    /**
+     * Reads the navigation annotations and {@link RequestMapping} paths of the
+     * controller class {@code clazz}. Missing annotations are recorded rather
+     * than thrown so that they are only reported when navigation depends on them.
+     *
+     * @param clazz the controller class
+     * @return the route for the controller class
+     */
+    private static Route compileRoute(Class<?> clazz) {
+        NextController nextController = AnnotationUtils.findAnnotation(clazz, NextController.class);
+        PreviousController previousController = AnnotationUtils.findAnnotation(clazz, PreviousController.class);
+        RequestMapping requestMapping = AnnotationUtils.findAnnotation(clazz, RequestMapping.class);
+
+        String mappingError = null;
+        Map<Integer, UriTemplate> templates = new HashMap<>();
+        if (requestMapping == null) {
+            mappingError = "Missing @RequestMapping annotation on " + clazz;
+        } else if (requestMapping.value().length == 0) {
+            mappingError = "Missing @RequestMapping value on " + clazz;
+        } else {
+            for (String mapping : requestMapping.value()) {
+                UriTemplate mappingTemplate = new UriTemplate(mapping);
+                templates.putIfAbsent(mappingTemplate.getVariableNames().size(), mappingTemplate);
+            }
+        }
+
+        return new Route(clazz,
+                nextController != null ? nextController.value() : null,
+                previousController != null ? previousController.value() : null,
+                ConditionalController.class.isAssignableFrom(clazz),
+                mappingError,
+                Map.copyOf(templates));
+    }
 
-        RequestMapping requestMappingAnnotation = AnnotationUtils
-                .findAnnotation(previousControllerClass, RequestMapping.class);
-        if (requestMappingAnnotation == null) {
-            throw new MissingAnnotationException("Missing @RequestMapping annotation on " + previousControllerClass);
+    /**
+     * A compiled controller in the chain: the controllers either side of it
+     * and its {@link RequestMapping} templates keyed by their number of path
+     * variables.
+     */
+    private static final class Route {
+
+        private final Class<?> controllerClass;
+        private final Class<?> nextControllerClass;
+        private final Class<?> previousControllerClass;
+        private final boolean conditional;
+        private final String mappingError;
+        private final Map<Integer, UriTemplate> templatesByVariableCount;
+
+        private Route(Class<?> controllerClass, Class<?> nextControllerClass,
+                Class<?> previousControllerClass, boolean conditional, String mappingError,
+                Map<Integer, UriTemplate> templatesByVariableCount) {
+            this.controllerClass = controllerClass;
+            this.nextControllerClass = nextControllerClass;
+            this.previousControllerClass = previousControllerClass;
+            this.conditional = conditional;
+            this.mappingError = mappingError;
+            this.templatesByVariableCount = templatesByVariableCount;
         }
 
-        String[] mappings = requestMappingAnnotation.value();
+        Class<?> getControllerClass() {
+            return controllerClass;
+        }
 
-        if (mappings.length == 0) {
-            throw new MissingAnnotationException("Missing @RequestMapping value on " + previousControllerClass);
+        Class<?> getNextControllerClass() {
+            if (nextControllerClass == null) {
+                throw new MissingAnnotationException("Missing @NextController annotation on " + controllerClass);
+            }
+            return nextControllerClass;
         }
 
-        for (String mapping : mappings) {
-            UriTemplate mappingTemplate = new UriTemplate(mapping);
+        Class<?> getPreviousControllerClass() {
+            if (previousControllerClass == null) {
+                throw new MissingAnnotationException("Missing @PreviousController annotation on " + controllerClass);
+            }
+            return previousControllerClass;
+        }
 
-            if (pathVars.length == mappingTemplate.getVariableNames().size()) {
-                return mappingTemplate.expand((Object[]) pathVars).toString();
+        List<Class<?>> getLinkedControllerClasses() {
+            List<Class<?>> linkedControllerClasses = new ArrayList<>();
+            if (nextControllerClass != null) {
+                linkedControllerClasses.add(nextControllerClass);
             }
+            if (previousControllerClass != null) {
+                linkedControllerClasses.add(previousControllerClass);
+            }
+            return linkedControllerClasses;
         }
 
-        throw new NavigationException("No mapping found that matches the number of path variables provided");
-    }
+        boolean isConditional() {
+            return conditional;
+        }
 
-    /**
-     * Returns true if {@code clazz} implements the {@link ConditionalController}
-     * interface, otherwise returns false.
-     *
-     * @return true if {@code clazz} implements the {@link ConditionalController} interface
-     */
-    private boolean isConditionalController(Class<?> clazz) {
-        return ConditionalController.class.isAssignableFrom(clazz);
+        void checkMapped() {
+            if (mappingError != null) {
+                throw new MissingAnnotationException(mappingError);
+            }
+        }
+
+        String expand(String... pathVars) {
+            checkMapped();
+            UriTemplate mappingTemplate = templatesByVariableCount.get(pathVars.length);
+            if (mappingTemplate == null) {
+                throw new NavigationException("No mapping found that matches the number of path variables provided");
+            }
+            return mappingTemplate.expand((Object[]) pathVars).toString();
+        }
     }
 
     private enum Direction {
@@ -2,6 +2,7 @@ package uk.gov.companieshouse.web.pps.service.payment;
 
 import uk.gov.companieshouse.api.model.financialpenalty.PayableFinancialPenaltySession;
 import uk.gov.companieshouse.web.pps.exception.ServiceException;
+import uk.gov.companieshouse.web.pps.models.PenaltyKey;
 
 public interface PaymentService {
 
@@ -10,8 +11,7 @@ public interface PaymentService {
      */
     String createPaymentSession(
             PayableFinancialPenaltySession payableFinancialPenaltySession,
-            String companyNumber,
-            String penaltyRef
+            PenaltyKey penaltyKey
     )
             throws ServiceException;
 }
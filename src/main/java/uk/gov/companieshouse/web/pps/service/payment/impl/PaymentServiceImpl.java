@@ -9,19 +9,19 @@ import uk.gov.companieshouse.api.model.financialpenalty.PayableFinancialPenaltyS
 import uk.gov.companieshouse.api.model.payment.PaymentApi;
 import uk.gov.companieshouse.api.model.payment.PaymentSessionApi;
 import uk.gov.companieshouse.environment.EnvironmentReader;
-import uk.gov.companieshouse.logging.Logger;
-import uk.gov.companieshouse.logging.LoggerFactory;
 import uk.gov.companieshouse.web.pps.PPSWebApplication;
 import uk.gov.companieshouse.web.pps.api.ApiClientService;
+import uk.gov.companieshouse.web.pps.api.UpstreamCallHandler;
+import uk.gov.companieshouse.web.pps.api.UpstreamOperation;
 import uk.gov.companieshouse.web.pps.exception.ServiceException;
+import uk.gov.companieshouse.web.pps.logging.ServiceLogger;
+import uk.gov.companieshouse.web.pps.models.PenaltyKey;
 import uk.gov.companieshouse.web.pps.service.payment.PaymentService;
 import uk.gov.companieshouse.web.pps.session.SessionService;
+import uk.gov.companieshouse.web.pps.session.SessionView;
 
-import java.util.Arrays;
 import java.util.UUID;
 
-import static uk.gov.companieshouse.web.pps.service.ServiceConstants.PAYMENT_STATE;
-
 @Service
 public class PaymentServiceImpl implements PaymentService {
 
@@ -29,6 +29,8 @@ public class PaymentServiceImpl implements PaymentService {
 
     private final SessionService sessionService;
 
+    private final UpstreamCallHandler upstreamCallHandler;
+
     private final String chsUrl;
 
     private final String apiUrl;
@@ -43,18 +45,29 @@ public class PaymentServiceImpl implements PaymentService {
 
     private static final String PENALTY_PAYMENT_REFERENCE_PREFIX = "financial_penalty_";
 
-    protected static final Logger LOGGER = LoggerFactory
+    protected static final ServiceLogger LOGGER = ServiceLogger
             .getLogger(PPSWebApplication.APPLICATION_NAME_SPACE);
 
-    public PaymentServiceImpl(ApiClientService apiClientService, SessionService sessionService, EnvironmentReader environmentReader) {
+    public PaymentServiceImpl(ApiClientService apiClientService, SessionService sessionService,
+            UpstreamCallHandler upstreamCallHandler, EnvironmentReader environmentReader) {
         this.apiClientService = apiClientService;
         this.sessionService = sessionService;
+        this.upstreamCallHandler = upstreamCallHandler;
         this.chsUrl = environmentReader.getMandatoryString(CHS_URL);
         this.apiUrl = environmentReader.getMandatoryString(API_URL);
     }
 
     @Override
     public String createPaymentSession(
+            PayableFinancialPenaltySession payableFinancialPenaltySession,
+            PenaltyKey penaltyKey)
+            throws ServiceException {
+        return upstreamCallHandler.call(UpstreamOperation.PAYMENT_SESSION_CREATE, penaltyKey,
+                () -> postPaymentSession(payableFinancialPenaltySession, penaltyKey.companyNumber(),
+                        penaltyKey.penaltyRef()));
+    }
+
+    private String postPaymentSession(
             PayableFinancialPenaltySession payableFinancialPenaltySession,
             String companyNumber,
             String penaltyRef)
@@ -77,29 +90,26 @@ public class PaymentServiceImpl implements PaymentService {
         paymentSessionApi.setResource(apiUrl + payableFinancialPenaltySession.getLinks().get("self") + "/payment");
         paymentSessionApi.setReference(PENALTY_PAYMENT_REFERENCE_PREFIX + payableFinancialPenaltySession.getPayableRef());
         paymentSessionApi.setState(paymentState);
-        LOGGER.info(String.format("[%s]: Creating payment session", requestId));
-        LOGGER.info("SESSION REDIRECT URI: " + paymentSessionApi.getRedirectUri());
-        LOGGER.info("SESSION REFERENCE: " + paymentSessionApi.getReference());
-        LOGGER.info("SESSION RESOURCE: " + paymentSessionApi.getResource());
-        LOGGER.info("SESSION STATE: " + paymentSessionApi.getState());
+        LOGGER.info("[%s]: Creating payment session", requestId);
+        LOGGER.debug("[%s]: Payment session redirect URI: %s, reference: %s, resource: %s, state: %s",
+                requestId, paymentSessionApi.getRedirectUri(), paymentSessionApi.getReference(),
+                paymentSessionApi.getResource(), paymentSessionApi.getState());
 
         try {
-            LOGGER.debug(String.format("[%s]: Sending request to API to create payment session for company number %s amd penalty ref %s",
-                    requestId, companyNumber, penaltyRef));
+            LOGGER.debug("[%s]: Sending request to API to create payment session for company number %s amd penalty ref %s",
+                    requestId, companyNumber, penaltyRef);
             ApiResponse<PaymentApi> apiResponse = apiClient.payment().create(PAYMENT_URL, paymentSessionApi).execute();
-            LOGGER.debug(String.format("[%s]: Successfully created payment session for company number %s and penalty ref %s",
-                    requestId, companyNumber, penaltyRef));
+            LOGGER.debug("[%s]: Successfully created payment session for company number %s and penalty ref %s",
+                    requestId, companyNumber, penaltyRef);
 
             setPaymentStateOnSession(paymentState);
 
             return apiResponse.getData().getLinks().get(JOURNEY_LINK);
         } catch (ApiErrorResponseException e) {
-            LOGGER.info(String.format("[%s]: ", requestId));
-            LOGGER.info("API RESPONSE HEADERS: " + e.getHeaders());
-            LOGGER.info("API RESPONSE STACKTRACE: " + Arrays.toString(e.getStackTrace()));
-            LOGGER.info("API RESPONSE DETAILS: " + e.getDetails());
-            LOGGER.info("API RESPONSE MESSAGE: " + e.getMessage());
-            LOGGER.info("API RESPONSE CONTENT: " + e.getContent());
+            LOGGER.error(String.format("[%s]: Error creating payment session, status code: %d, details: %s",
+                    requestId, e.getStatusCode(), e.getDetails()), e);
+            LOGGER.debug("[%s]: Payment session error response headers: %s, content: %s",
+                    requestId, e.getHeaders(), e.getContent());
 
             throw new ServiceException("Error creating payment session, status code: " + e.getStatusCode(), e);
         } catch (URIValidationException e) {
@@ -110,7 +120,7 @@ public class PaymentServiceImpl implements PaymentService {
 
     private void setPaymentStateOnSession(String paymentState) {
 
-        sessionService.getSessionDataFromContext().put(PAYMENT_STATE, paymentState);
+        SessionView.current(sessionService).setPaymentState(paymentState);
     }
 
 }
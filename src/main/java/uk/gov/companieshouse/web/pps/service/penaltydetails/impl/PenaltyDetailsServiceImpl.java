@@ -5,21 +5,20 @@ import org.springframework.context.MessageSource;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.view.UrlBasedViewResolver;
 import uk.gov.companieshouse.api.model.financialpenalty.FinancialPenalty;
-import uk.gov.companieshouse.logging.Logger;
-import uk.gov.companieshouse.logging.LoggerFactory;
 import uk.gov.companieshouse.web.pps.PPSWebApplication;
 import uk.gov.companieshouse.web.pps.config.PenaltyConfigurationProperties;
 import uk.gov.companieshouse.web.pps.exception.ServiceException;
+import uk.gov.companieshouse.web.pps.logging.ServiceLogger;
 import uk.gov.companieshouse.web.pps.models.EnterDetails;
-import uk.gov.companieshouse.web.pps.service.company.CompanyService;
+import uk.gov.companieshouse.web.pps.models.PenaltyKey;
 import uk.gov.companieshouse.web.pps.service.finance.FinanceServiceHealthCheck;
 import uk.gov.companieshouse.web.pps.service.navigation.NavigatorService;
 import uk.gov.companieshouse.web.pps.service.penaltydetails.PenaltyDetailsService;
+import uk.gov.companieshouse.web.pps.service.penaltypayment.PenaltyAssessment;
 import uk.gov.companieshouse.web.pps.service.penaltypayment.PenaltyPaymentService;
 import uk.gov.companieshouse.web.pps.service.response.PPSServiceResponse;
 import uk.gov.companieshouse.web.pps.util.FeatureFlagChecker;
 import uk.gov.companieshouse.web.pps.util.PenaltyReference;
-import uk.gov.companieshouse.web.pps.util.PenaltyUtils;
 
 import java.util.HashMap;
 import java.util.List;
@@ -30,9 +29,6 @@ import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 import static java.util.Locale.UK;
 import static org.springframework.web.servlet.view.UrlBasedViewResolver.REDIRECT_URL_PREFIX;
-import static uk.gov.companieshouse.api.model.financialpenalty.PayableStatus.CLOSED;
-import static uk.gov.companieshouse.api.model.financialpenalty.PayableStatus.CLOSED_INSTALMENT_PLAN;
-import static uk.gov.companieshouse.api.model.financialpenalty.PayableStatus.CLOSED_PENDING_ALLOCATION;
 import static uk.gov.companieshouse.web.pps.controller.BaseController.BACK_LINK_URL_ATTR;
 import static uk.gov.companieshouse.web.pps.service.ServiceConstants.ENTER_DETAILS_MODEL_ATTR;
 import static uk.gov.companieshouse.web.pps.service.ServiceConstants.PENALTY_REFERENCE_STARTS_WITH_ATTR;
@@ -42,7 +38,7 @@ import static uk.gov.companieshouse.web.pps.util.PenaltyReference.SANCTIONS;
 @Service
 public class PenaltyDetailsServiceImpl implements PenaltyDetailsService {
 
-    protected static final Logger LOGGER = LoggerFactory.getLogger(
+    protected static final ServiceLogger LOGGER = ServiceLogger.getLogger(
             PPSWebApplication.APPLICATION_NAME_SPACE);
     private static final String ONLINE_PAYMENT_UNAVAILABLE = "/online-payment-unavailable";
     private static final String PAYABLE_PENALTY = "Payable penalty ";
@@ -50,7 +46,6 @@ public class PenaltyDetailsServiceImpl implements PenaltyDetailsService {
     private static final String PENALTY_PAID = "/penalty-paid";
     private static final String PENALTY_PAYMENT_IN_PROGRESS = "/penalty-payment-in-progress";
     private static final String INSTALMENT_PLAN = "/instalment-plan";
-    private final CompanyService companyService;
     private final FeatureFlagChecker featureFlagChecker;
     private final MessageSource messageSource;
     private final NavigatorService navigatorService;
@@ -59,14 +54,12 @@ public class PenaltyDetailsServiceImpl implements PenaltyDetailsService {
     private final FinanceServiceHealthCheck financeServiceHealthCheck;
 
     public PenaltyDetailsServiceImpl(
-            CompanyService companyService,
             FeatureFlagChecker featureFlagChecker,
             MessageSource messageSource,
             NavigatorService navigatorService,
             PenaltyConfigurationProperties penaltyConfigurationProperties,
             PenaltyPaymentService penaltyPaymentService,
             FinanceServiceHealthCheck financeServiceHealthCheck) {
-        this.companyService = companyService;
         this.featureFlagChecker = featureFlagChecker;
         this.messageSource = messageSource;
         this.navigatorService = navigatorService;
@@ -79,30 +72,23 @@ public class PenaltyDetailsServiceImpl implements PenaltyDetailsService {
     public PPSServiceResponse getEnterDetails(String penaltyReferenceStartsWith)
             throws IllegalArgumentException {
         var healthCheck = financeServiceHealthCheck.checkIfAvailable();
-        var url = healthCheck.getUrl();
-
-        PPSServiceResponse serviceResponse = new PPSServiceResponse();
-        if (url.isPresent()) {
-            healthCheck.getBaseModelAttributes().ifPresent(serviceResponse::setBaseModelAttributes);
-            healthCheck.getModelAttributes().ifPresent(serviceResponse::setModelAttributes);
-            serviceResponse.setUrl(url.get());
-        } else {
-            PenaltyReference penaltyReference = PenaltyReference.fromStartsWith(
-                    penaltyReferenceStartsWith);
-            if (FALSE.equals(featureFlagChecker.isPenaltyRefEnabled(penaltyReference))) {
-                serviceResponse.setUrl(REDIRECT_URL_PREFIX
-                        + penaltyConfigurationProperties.getUnscheduledServiceDownPath());
-            } else {
-                var enterDetails = new EnterDetails();
-                enterDetails.setPenaltyReferenceName(penaltyReference.name());
-                serviceResponse.setModelAttributes(Map.of(
-                        ENTER_DETAILS_MODEL_ATTR, enterDetails,
-                        PENALTY_REFERENCE_STARTS_WITH_ATTR, penaltyReferenceStartsWith));
-                serviceResponse.setBaseModelAttributes(createBaseAttributesUpdate());
-            }
+        if (healthCheck.url() != null) {
+            return healthCheck;
         }
 
-        return serviceResponse;
+        PenaltyReference penaltyReference = PenaltyReference.fromStartsWith(
+                penaltyReferenceStartsWith);
+        if (FALSE.equals(featureFlagChecker.isPenaltyRefEnabled(penaltyReference))) {
+            return PPSServiceResponse.redirect(REDIRECT_URL_PREFIX
+                    + penaltyConfigurationProperties.getUnscheduledServiceDownPath());
+        }
+
+        var enterDetails = new EnterDetails();
+        enterDetails.setPenaltyReferenceName(penaltyReference.name());
+        return PPSServiceResponse.render(
+                Map.of(ENTER_DETAILS_MODEL_ATTR, enterDetails,
+                        PENALTY_REFERENCE_STARTS_WITH_ATTR, penaltyReferenceStartsWith),
+                createBaseAttributesUpdate());
     }
 
     @Override
@@ -110,74 +96,71 @@ public class PenaltyDetailsServiceImpl implements PenaltyDetailsService {
             EnterDetails enterDetails, boolean hasBindingErrors, Class<?> clazz)
             throws ServiceException {
 
-        PPSServiceResponse serviceResponse = new PPSServiceResponse();
         if (hasBindingErrors) {
-            serviceResponse.setBaseModelAttributes(createBaseAttributesUpdate());
-        } else {
-            String penaltyRef = enterDetails.getPenaltyRef().toUpperCase();
-            String companyNumber = companyService.appendToCompanyNumber(
-                    enterDetails.getCompanyNumber().toUpperCase());
-            List<FinancialPenalty> penaltyAndCosts = penaltyPaymentService.getFinancialPenalties(
-                    companyNumber, penaltyRef);
-            getPostDetailsRedirectPath(penaltyAndCosts, companyNumber, penaltyRef, clazz)
-                    .ifPresentOrElse(serviceResponse::setUrl, () -> {
-                        String code = "details.penalty-details-not-found-error."
-                                + enterDetails.getPenaltyReferenceName();
-                        serviceResponse.setErrorRequestMsg(
-                                messageSource.getMessage(code, null, UK));
-                        serviceResponse.setBaseModelAttributes(createBaseAttributesUpdate());
-                    });
+            return PPSServiceResponse.render(null, createBaseAttributesUpdate());
+        }
+
+        PenaltyKey penaltyKey = PenaltyKey.of(
+                PenaltyKey.normaliseCompanyNumber(enterDetails.getCompanyNumber().toUpperCase()),
+                enterDetails.getPenaltyRef().toUpperCase());
+        List<FinancialPenalty> penaltyAndCosts = penaltyPaymentService.getFinancialPenalties(
+                penaltyKey);
+        Optional<String> redirectPath = getPostDetailsRedirectPath(penaltyAndCosts,
+                penaltyKey.companyNumber(), penaltyKey.penaltyRef(), clazz);
+        if (redirectPath.isPresent()) {
+            return PPSServiceResponse.redirect(redirectPath.get());
         }
 
-        return serviceResponse;
+        String code = "details.penalty-details-not-found-error."
+                + enterDetails.getPenaltyReferenceName();
+        return PPSServiceResponse.error(null, messageSource.getMessage(code, null, UK),
+                createBaseAttributesUpdate());
     }
 
     private Optional<String> getPostDetailsRedirectPath(List<FinancialPenalty> penaltyAndCosts,
             String companyNumber, String penaltyRef, Class<?> clazz) {
-        if (PenaltyUtils.penaltyTypeDisabled(penaltyAndCosts, penaltyRef)) {
+        var assessment = PenaltyAssessment.assess(penaltyAndCosts, penaltyRef);
+        if (assessment.isDisabled()) {
             String msg = String.format("Online payment unavailable for penalty type, company number %s and penalty reference: %s", companyNumber, penaltyRef);
             return logAndGetRedirectUrl(msg, ONLINE_PAYMENT_UNAVAILABLE, companyNumber, penaltyRef);
         }
 
-        var payablePenalties = penaltyAndCosts.stream()
-                .filter(financialPenalty -> penaltyRef.equals(financialPenalty.getId()))
-                .toList();
-        if (payablePenalties.isEmpty()) {
+        Optional<FinancialPenalty> payablePenaltyOptional = assessment.getTargetPenalty();
+        if (payablePenaltyOptional.isEmpty()) {
             String msg = String.format(
                     "No payable penalties for company number %s and penalty ref %s", companyNumber,
                     penaltyRef);
             return logAndGetRedirectUrl(msg, null, companyNumber, penaltyRef);
         }
 
-        var payablePenalty = payablePenalties.getFirst();
+        var payablePenalty = payablePenaltyOptional.get();
 
-        if (CLOSED_INSTALMENT_PLAN == payablePenalty.getPayableStatus()) {
+        if (assessment.isClosedInstalmentPlan()) {
             String msg = PAYABLE_PENALTY + payablePenalty.getId() + " is closed with instalment plan";
             return logAndGetRedirectUrl(msg, INSTALMENT_PLAN, companyNumber, penaltyRef);
         }
-        if (penaltyAndCosts.size() > 1) {
+        if (assessment.hasMultipleItems()) {
             String msg = String.format(
                     "Online payment unavailable as there is not a single payable penalty. "
                             + "There are %s penalty and costs for company number %s and penalty reference: %s",
-                    penaltyAndCosts.size(), companyNumber, penaltyRef);
+                    assessment.getItemCount(), companyNumber, penaltyRef);
             return logAndGetRedirectUrl(msg, ONLINE_PAYMENT_UNAVAILABLE, companyNumber, penaltyRef);
         }
 
-        if (CLOSED_PENDING_ALLOCATION == payablePenalty.getPayableStatus()) {
+        if (assessment.isClosedPendingAllocation()) {
             String msg = PAYABLE_PENALTY + payablePenalty.getId() + " is closed pending allocation";
             return logAndGetRedirectUrl(msg, PENALTY_PAYMENT_IN_PROGRESS, companyNumber,
                     penaltyRef);
         }
-        if (TRUE.equals(payablePenalty.getPaid())) {
+        if (assessment.isPaid()) {
             String msg = PAYABLE_PENALTY + payablePenalty.getId() + " is paid";
             return logAndGetRedirectUrl(msg, PENALTY_PAID, companyNumber, penaltyRef);
         }
-        if (TRUE.equals(payablePenalty.getDca())) {
+        if (assessment.isDca()) {
             String msg = PAYABLE_PENALTY + payablePenalty.getId() + " is with DCA";
             return logAndGetRedirectUrl(msg, PENALTY_IN_DCA, companyNumber, penaltyRef);
         }
-        if (CLOSED == payablePenalty.getPayableStatus()
-                || !payablePenalty.getOriginalAmount().equals(payablePenalty.getOutstanding())) {
+        if (assessment.isClosed() || !assessment.isAmountMatch()) {
             String msg = String.format(
                     "Payable penalty %s payable status is %s, type is %s, original amount is %s, outstanding amount is %s",
                     payablePenalty.getId(), payablePenalty.getPayableStatus(),
@@ -187,10 +170,9 @@ public class PenaltyDetailsServiceImpl implements PenaltyDetailsService {
             return logAndGetRedirectUrl(msg, ONLINE_PAYMENT_UNAVAILABLE, companyNumber, penaltyRef);
         }
 
-        LOGGER.debug(
-                String.format("Penalty %s is payable, payableStatus: %s, isPaid: %s, isDca: %s",
-                        penaltyRef, payablePenalty.getPayableStatus(), payablePenalty.getPaid(),
-                        payablePenalty.getDca()));
+        LOGGER.debug("Penalty %s is payable, payableStatus: %s, isPaid: %s, isDca: %s",
+                penaltyRef, payablePenalty.getPayableStatus(), payablePenalty.getPaid(),
+                payablePenalty.getDca());
 
         return Optional.of(
                 navigatorService.getNextControllerRedirect(clazz, companyNumber, penaltyRef));
@@ -208,7 +190,7 @@ public class PenaltyDetailsServiceImpl implements PenaltyDetailsService {
     }
 
     private Map<String, String> createBaseAttributesUpdate() {
-        Map<String, String> attributes = new HashMap<>();
+        Map<String, String> attributes = HashMap.newHashMap(2);
         attributes.put(SIGN_OUT_URL_ATTR, penaltyConfigurationProperties.getSignOutPath());
         attributes.put(BACK_LINK_URL_ATTR, getBackLink());
         return attributes;
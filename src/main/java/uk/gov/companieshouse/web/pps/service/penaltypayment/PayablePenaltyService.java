@@ -3,12 +3,13 @@ package uk.gov.companieshouse.web.pps.service.penaltypayment;
 import uk.gov.companieshouse.api.model.financialpenalty.PayableFinancialPenalties;
 import uk.gov.companieshouse.api.model.financialpenalty.PayableFinancialPenaltySession;
 import uk.gov.companieshouse.web.pps.exception.ServiceException;
+import uk.gov.companieshouse.web.pps.models.PenaltyKey;
 
 public interface PayablePenaltyService {
 
     PayableFinancialPenalties getPayableFinancialPenalties(String companyNumber, String payableRef) throws ServiceException;
 
-    PayableFinancialPenaltySession createPayableFinancialPenaltySession(String companyNumber, String penaltyRef, Integer amount)
+    PayableFinancialPenaltySession createPayableFinancialPenaltySession(PenaltyKey penaltyKey, Integer amount)
             throws ServiceException;
 
 }
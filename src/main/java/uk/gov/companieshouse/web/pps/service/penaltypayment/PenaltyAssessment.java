@@ -0,0 +1,118 @@
+package uk.gov.companieshouse.web.pps.service.penaltypayment;
+
+import uk.gov.companieshouse.api.model.financialpenalty.FinancialPenalty;
+
+import java.util.List;
+import java.util.Optional;
+
+import static java.lang.Boolean.TRUE;
+import static uk.gov.companieshouse.api.model.financialpenalty.PayableStatus.CLOSED;
+import static uk.gov.companieshouse.api.model.financialpenalty.PayableStatus.CLOSED_INSTALMENT_PLAN;
+import static uk.gov.companieshouse.api.model.financialpenalty.PayableStatus.CLOSED_PENDING_ALLOCATION;
+import static uk.gov.companieshouse.api.model.financialpenalty.PayableStatus.DISABLED;
+import static uk.gov.companieshouse.api.model.financialpenalty.PayableStatus.OPEN;
+import static uk.gov.companieshouse.web.pps.service.penaltypayment.impl.PenaltyPaymentServiceImpl.PENALTY_TYPE;
+
+/**
+ * What the enter details and view penalties pages need to know about a penalty reference,
+ * worked out in a single pass over the penalty and costs returned by
+ * {@link PenaltyPaymentService#getFinancialPenalties}.
+ * <p>
+ * The target penalty is the first item with the penalty reference, whatever its type. The
+ * open penalty is the first item with the penalty reference that is an open penalty.
+ */
+public final class PenaltyAssessment {
+
+    private final int itemCount;
+    private final FinancialPenalty targetPenalty;
+    private final FinancialPenalty openPenalty;
+    private final boolean disabled;
+
+    private PenaltyAssessment(int itemCount, FinancialPenalty targetPenalty,
+            FinancialPenalty openPenalty, boolean disabled) {
+        this.itemCount = itemCount;
+        this.targetPenalty = targetPenalty;
+        this.openPenalty = openPenalty;
+        this.disabled = disabled;
+    }
+
+    public static PenaltyAssessment assess(List<FinancialPenalty> penaltyAndCosts, String penaltyRef) {
+        FinancialPenalty targetPenalty = null;
+        FinancialPenalty openPenalty = null;
+        boolean disabled = false;
+
+        for (FinancialPenalty financialPenalty : penaltyAndCosts) {
+            if (!penaltyRef.equals(financialPenalty.getId())) {
+                continue;
+            }
+            if (targetPenalty == null) {
+                targetPenalty = financialPenalty;
+            }
+            if (PENALTY_TYPE.equals(financialPenalty.getType())) {
+                if (openPenalty == null && OPEN == financialPenalty.getPayableStatus()) {
+                    openPenalty = financialPenalty;
+                }
+                disabled |= DISABLED == financialPenalty.getPayableStatus();
+            }
+        }
+
+        return new PenaltyAssessment(penaltyAndCosts.size(), targetPenalty, openPenalty, disabled);
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    /**
+     * Returns whether there is anything besides the penalty to pay, in which case the
+     * penalty cannot be paid online.
+     *
+     * @return true if there is more than one penalty or cost
+     */
+    public boolean hasMultipleItems() {
+        return itemCount > 1;
+    }
+
+    public Optional<FinancialPenalty> getTargetPenalty() {
+        return Optional.ofNullable(targetPenalty);
+    }
+
+    public Optional<FinancialPenalty> getOpenPenalty() {
+        return Optional.ofNullable(openPenalty);
+    }
+
+    public boolean isDisabled() {
+        return disabled;
+    }
+
+    public boolean isClosedInstalmentPlan() {
+        return targetPenalty != null && CLOSED_INSTALMENT_PLAN == targetPenalty.getPayableStatus();
+    }
+
+    public boolean isClosedPendingAllocation() {
+        return targetPenalty != null && CLOSED_PENDING_ALLOCATION == targetPenalty.getPayableStatus();
+    }
+
+    public boolean isClosed() {
+        return targetPenalty != null && CLOSED == targetPenalty.getPayableStatus();
+    }
+
+    public boolean isPaid() {
+        return targetPenalty != null && TRUE.equals(targetPenalty.getPaid());
+    }
+
+    public boolean isDca() {
+        return targetPenalty != null && TRUE.equals(targetPenalty.getDca());
+    }
+
+    /**
+     * Returns whether nothing has been paid off the target penalty yet. Partly paid
+     * penalties cannot be paid online.
+     *
+     * @return true if the outstanding amount is the original amount
+     */
+    public boolean isAmountMatch() {
+        return targetPenalty != null
+                && targetPenalty.getOriginalAmount().equals(targetPenalty.getOutstanding());
+    }
+}
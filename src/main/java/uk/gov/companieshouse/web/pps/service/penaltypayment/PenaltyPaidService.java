@@ -1,10 +1,11 @@
 package uk.gov.companieshouse.web.pps.service.penaltypayment;
 
 import uk.gov.companieshouse.web.pps.exception.ServiceException;
+import uk.gov.companieshouse.web.pps.models.PenaltyKey;
 import uk.gov.companieshouse.web.pps.service.response.PPSServiceResponse;
 
 public interface PenaltyPaidService {
 
-    PPSServiceResponse getPaid(final String companyNumber, final String penaltyRef) throws ServiceException;
+    PPSServiceResponse getPaid(final PenaltyKey penaltyKey) throws ServiceException;
 
 }
@@ -3,12 +3,19 @@ package uk.gov.companieshouse.web.pps.service.penaltypayment;
 import uk.gov.companieshouse.api.model.financialpenalty.FinanceHealthcheck;
 import uk.gov.companieshouse.api.model.financialpenalty.FinancialPenalty;
 import uk.gov.companieshouse.web.pps.exception.ServiceException;
+import uk.gov.companieshouse.web.pps.models.PenaltyKey;
 
 import java.util.List;
 
 public interface PenaltyPaymentService {
 
-    List<FinancialPenalty> getFinancialPenalties(String companyNumber, String penaltyRef) throws ServiceException;
+    List<FinancialPenalty> getFinancialPenalties(PenaltyKey penaltyKey) throws ServiceException;
+
+    /**
+     * Fetches the penalty and costs from the API, never from the cache, for use when the
+     * penalty is about to be paid.
+     */
+    List<FinancialPenalty> getLatestFinancialPenalties(PenaltyKey penaltyKey) throws ServiceException;
 
     FinanceHealthcheck checkFinanceSystemAvailableTime() throws ServiceException;
 
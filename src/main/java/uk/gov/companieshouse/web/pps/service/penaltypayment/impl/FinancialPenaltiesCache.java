@@ -0,0 +1,74 @@
+package uk.gov.companieshouse.web.pps.service.penaltypayment.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.api.model.financialpenalty.FinancialPenalty;
+import uk.gov.companieshouse.web.pps.config.CacheConfigurationProperties;
+import uk.gov.companieshouse.web.pps.config.CacheConfigurationProperties.ExpiringCache;
+import uk.gov.companieshouse.web.pps.session.SessionService;
+import uk.gov.companieshouse.web.pps.session.SessionView;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Short-lived cache of the filtered penalty and costs list for a company number and penalty
+ * reference, so the enter details and view penalties steps of a journey share a single fetch
+ * of the company's penalties. Entries belong to the session that fetched them and are never
+ * served to another session; requests without a session id are not cached. Entries are
+ * removed once a payable session is created for the penalty.
+ */
+@Component
+public class FinancialPenaltiesCache {
+
+    static final String CACHE_NAME = "financialPenalties";
+
+    private final SessionService sessionService;
+    private final boolean enabled;
+    private final Cache<CacheKey, List<FinancialPenalty>> cache;
+
+    public FinancialPenaltiesCache(CacheConfigurationProperties cacheConfigurationProperties,
+            SessionService sessionService, MeterRegistry meterRegistry) {
+        this.sessionService = sessionService;
+        ExpiringCache cacheProperties = cacheConfigurationProperties.getFinancialPenalties();
+        this.enabled = cacheProperties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(cacheProperties.getTimeToLive())
+                .maximumSize(cacheProperties.getMaximumSize())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Optional<List<FinancialPenalty>> get(String companyNumber, String penaltyRef) {
+        String sessionId = getSessionId();
+        if (!enabled || sessionId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.getIfPresent(new CacheKey(sessionId, companyNumber, penaltyRef)));
+    }
+
+    public void put(String companyNumber, String penaltyRef, List<FinancialPenalty> penaltyAndCosts) {
+        String sessionId = getSessionId();
+        if (enabled && sessionId != null) {
+            cache.put(new CacheKey(sessionId, companyNumber, penaltyRef), List.copyOf(penaltyAndCosts));
+        }
+    }
+
+    public void invalidate(String companyNumber, String penaltyRef) {
+        String sessionId = getSessionId();
+        if (sessionId != null) {
+            cache.invalidate(new CacheKey(sessionId, companyNumber, penaltyRef));
+        }
+    }
+
+    private String getSessionId() {
+        return SessionView.current(sessionService).getSessionId();
+    }
+
+    private record CacheKey(String sessionId, String companyNumber, String penaltyRef) {
+    }
+}
@@ -0,0 +1,238 @@
+package uk.gov.companieshouse.web.pps.service.penaltypayment.impl;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import uk.gov.companieshouse.api.model.financialpenalty.FinancialPenalty;
+import uk.gov.companieshouse.api.model.financialpenalty.PayableStatus;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static java.lang.Boolean.FALSE;
+import static uk.gov.companieshouse.web.pps.service.penaltypayment.impl.PenaltyPaymentServiceImpl.OTHER_TYPE;
+import static uk.gov.companieshouse.web.pps.service.penaltypayment.impl.PenaltyPaymentServiceImpl.PENALTY_TYPE;
+
+/**
+ * Reads a financial penalties response a token at a time, keeping only the items the penalty
+ * and costs can be chosen from: the first penalty with the penalty reference, and the unpaid or
+ * referenced costs that could belong to it. An item is dropped as soon as its {@code id},
+ * {@code is_paid}, {@code type} or {@code made_up_date} rules it out, and the rest of its fields
+ * are skipped without being read, so a company's penalty history costs a single pass over the
+ * response rather than a {@code FinancialPenalty} per item.
+ * <p>
+ * Only the fields the service uses are read from the kept items.
+ */
+public class FinancialPenaltiesReader {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final String ITEMS = "items";
+    private static final String ID = "id";
+    private static final String IS_PAID = "is_paid";
+    private static final String IS_DCA = "is_dca";
+    private static final String DUE_DATE = "due_date";
+    private static final String MADE_UP_DATE = "made_up_date";
+    private static final String ORIGINAL_AMOUNT = "original_amount";
+    private static final String OUTSTANDING = "outstanding";
+    private static final String TYPE = "type";
+    private static final String REASON = "reason";
+    private static final String PAYABLE_STATUS = "payable_status";
+
+    private final int maxItems;
+
+    public FinancialPenaltiesReader(int maxItems) {
+        if (maxItems < 1) {
+            throw new IllegalArgumentException("Maximum items must be at least 1: " + maxItems);
+        }
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * Reads the penalty and the costs that could belong to it from a financial penalties
+     * response, in the order they appear. Costs read before the penalty are kept whatever their
+     * made up date, as the penalty's is not yet known.
+     *
+     * @param content the response body, which is not closed
+     * @param penaltyRef the penalty reference
+     * @return the penalty and costs, or empty if more would be kept than the maximum, in which
+     *     case the rest of the response is not read
+     * @throws IOException if the response cannot be read or is not a financial penalties response
+     */
+    public Optional<List<FinancialPenalty>> readPenaltyOrUnpaidItems(InputStream content,
+            String penaltyRef) throws IOException {
+        List<FinancialPenalty> penaltyOrUnpaidItems = new ArrayList<>();
+        try (JsonParser parser = JSON_FACTORY.createParser(content)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected financial penalties object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                if (parser.nextToken() == JsonToken.START_ARRAY && ITEMS.equals(fieldName)) {
+                    if (!readItems(parser, penaltyRef, penaltyOrUnpaidItems)) {
+                        return Optional.empty();
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return Optional.of(penaltyOrUnpaidItems);
+    }
+
+    private boolean readItems(JsonParser parser, String penaltyRef,
+            List<FinancialPenalty> penaltyOrUnpaidItems) throws IOException {
+        Item item = new Item(penaltyRef);
+        FinancialPenalty penalty = null;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            if (!item.read(parser, penalty)) {
+                continue;
+            }
+            if (penaltyOrUnpaidItems.size() == maxItems) {
+                return false;
+            }
+            FinancialPenalty financialPenalty = item.toFinancialPenalty();
+            if (PENALTY_TYPE.equals(financialPenalty.getType())) {
+                penalty = financialPenalty;
+            }
+            penaltyOrUnpaidItems.add(financialPenalty);
+        }
+        return true;
+    }
+
+    /**
+     * The fields of the item being read, reused for every item so that nothing is bound for
+     * the items that are skipped.
+     */
+    private static final class Item {
+
+        private final String penaltyRef;
+
+        private String id;
+        private Boolean paid;
+        private Boolean dca;
+        private String dueDate;
+        private String madeUpDate;
+        private Integer originalAmount;
+        private Integer outstanding;
+        private String type;
+        private String reason;
+        private PayableStatus payableStatus;
+
+        private Item(String penaltyRef) {
+            this.penaltyRef = penaltyRef;
+        }
+
+        /**
+         * Reads the next item, skipping its remaining fields once it is ruled out.
+         *
+         * @param parser the parser, positioned at the start of the item
+         * @param penalty the penalty, if it has already been read
+         * @return whether the item is kept
+         */
+        private boolean read(JsonParser parser, FinancialPenalty penalty) throws IOException {
+            id = null;
+            paid = null;
+            dca = null;
+            dueDate = null;
+            madeUpDate = null;
+            originalAmount = null;
+            outstanding = null;
+            type = null;
+            reason = null;
+            payableStatus = null;
+
+            boolean excluded = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if (excluded) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (token == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                switch (fieldName) {
+                    case ID -> id = parser.getValueAsString();
+                    case IS_PAID -> paid = parser.getValueAsBoolean();
+                    case IS_DCA -> dca = parser.getValueAsBoolean();
+                    case DUE_DATE -> dueDate = parser.getValueAsString();
+                    case MADE_UP_DATE -> madeUpDate = parser.getValueAsString();
+                    case ORIGINAL_AMOUNT -> originalAmount = parser.getValueAsInt();
+                    case OUTSTANDING -> outstanding = parser.getValueAsInt();
+                    case TYPE -> type = parser.getValueAsString();
+                    case REASON -> reason = parser.getValueAsString();
+                    case PAYABLE_STATUS -> payableStatus = readPayableStatus(parser);
+                    default -> parser.skipChildren();
+                }
+                excluded = isExcluded(penalty);
+            }
+            return !excluded && isKept(penalty);
+        }
+
+        /**
+         * Whether the fields read so far already rule the item out, whatever its other fields.
+         */
+        private boolean isExcluded(FinancialPenalty penalty) {
+            boolean referenced = penaltyRef.equals(id);
+            if (id != null && !referenced && paid != null && !FALSE.equals(paid)) {
+                return true;
+            }
+            if (PENALTY_TYPE.equals(type)) {
+                return penalty != null || (id != null && !referenced);
+            }
+            if (OTHER_TYPE.equals(type)) {
+                return penalty != null && id != null && !referenced && madeUpDate != null
+                        && !madeUpDate.equals(penalty.getMadeUpDate());
+            }
+            return type != null;
+        }
+
+        private boolean isKept(FinancialPenalty penalty) {
+            boolean referenced = penaltyRef.equals(id);
+            if (!referenced && !FALSE.equals(paid)) {
+                return false;
+            }
+            if (PENALTY_TYPE.equals(type)) {
+                return referenced && penalty == null;
+            }
+            return OTHER_TYPE.equals(type) && (referenced || penalty == null
+                    || Objects.equals(penalty.getMadeUpDate(), madeUpDate));
+        }
+
+        private static PayableStatus readPayableStatus(JsonParser parser) throws IOException {
+            try {
+                return PayableStatus.valueOf(parser.getValueAsString());
+            } catch (IllegalArgumentException ex) {
+                throw new JsonParseException(parser, "Unknown payable status", ex);
+            }
+        }
+
+        private FinancialPenalty toFinancialPenalty() {
+            FinancialPenalty financialPenalty = new FinancialPenalty();
+            financialPenalty.setId(id);
+            financialPenalty.setPaid(paid);
+            financialPenalty.setDca(dca);
+            financialPenalty.setDueDate(dueDate);
+            financialPenalty.setMadeUpDate(madeUpDate);
+            financialPenalty.setOriginalAmount(originalAmount);
+            financialPenalty.setOutstanding(outstanding);
+            financialPenalty.setType(type);
+            financialPenalty.setReason(reason);
+            financialPenalty.setPayableStatus(payableStatus);
+            return financialPenalty;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package uk.gov.companieshouse.web.pps.service.penaltypayment.impl;
+
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import uk.gov.companieshouse.api.error.ApiErrorResponseException;
+import uk.gov.companieshouse.api.model.financialpenalty.FinancialPenalty;
+import uk.gov.companieshouse.web.pps.config.UpstreamConfigurationProperties;
+import uk.gov.companieshouse.web.pps.config.UpstreamConfigurationProperties.FinancialPenaltiesStreamingSettings;
+import uk.gov.companieshouse.web.pps.exception.ServiceException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Fetches the penalty or unpaid items for a penalty reference straight from the financial
+ * penalties endpoint, reading the response with {@link FinancialPenaltiesReader} as it arrives
+ * rather than binding the whole response through the SDK. Used instead of the SDK when
+ * {@code upstream.financial-penalties-streaming.enabled} is set.
+ * <p>
+ * Requests carry the same identity as those made through {@code ApiClientManager}: the API key,
+ * the request id and the passthrough header of the inbound request, when there is one.
+ */
+@Component
+public class FinancialPenaltiesStreamingClient {
+
+    private static final String REQUEST_ID_HEADER = "X-Request-Id";
+    private static final String ERIC_PASSTHROUGH_TOKEN_HEADER = "ERIC-Access-Token";
+
+    private final boolean enabled;
+    private final String apiUrl;
+    private final String authorization;
+    private final Duration timeout;
+    private final FinancialPenaltiesReader financialPenaltiesReader;
+    private final HttpClient httpClient;
+
+    public FinancialPenaltiesStreamingClient(
+            UpstreamConfigurationProperties upstreamConfigurationProperties) {
+        FinancialPenaltiesStreamingSettings settings =
+                upstreamConfigurationProperties.getFinancialPenaltiesStreaming();
+        this.enabled = settings.isEnabled();
+        this.apiUrl = StringUtils.removeEnd(settings.getApiUrl(), "/");
+        this.authorization = "Basic " + Base64.getEncoder().encodeToString(
+                (StringUtils.defaultString(settings.getApiKey()) + ":").getBytes(StandardCharsets.UTF_8));
+        this.timeout = upstreamConfigurationProperties.getFinancialPenaltiesTimeout();
+        this.financialPenaltiesReader = new FinancialPenaltiesReader(settings.getMaxItems());
+        this.httpClient = enabled
+                ? HttpClient.newBuilder().connectTimeout(timeout).build()
+                : null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Streams the penalty and the costs that could belong to it for a penalty reference.
+     *
+     * @return the penalty and costs, or empty if there are more than
+     *     {@code upstream.financial-penalties-streaming.max-items} of them
+     */
+    public Optional<List<FinancialPenalty>> getPenaltyOrUnpaidItems(String uri, String requestId,
+            String penaltyRef) throws ApiErrorResponseException, ServiceException {
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(apiUrl + uri))
+                .timeout(timeout)
+                .header("Accept", "application/json")
+                .header("Authorization", authorization)
+                .GET();
+        if (StringUtils.isNotBlank(requestId)) {
+            requestBuilder.header(REQUEST_ID_HEADER, requestId);
+        }
+        String passthroughHeader = getPassthroughHeader();
+        if (StringUtils.isNotBlank(passthroughHeader)) {
+            requestBuilder.header(ERIC_PASSTHROUGH_TOKEN_HEADER, passthroughHeader);
+        }
+
+        try {
+            HttpResponse<InputStream> response = httpClient.send(requestBuilder.build(),
+                    HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream content = response.body()) {
+                if (response.statusCode() != HttpStatus.OK.value()) {
+                    // Reported the same way as an error response through the SDK
+                    throw new ApiErrorResponseException(new HttpResponseException.Builder(
+                            response.statusCode(), null, new HttpHeaders()));
+                }
+                return financialPenaltiesReader.readPenaltyOrUnpaidItems(content, penaltyRef);
+            }
+        } catch (ApiErrorResponseException ex) {
+            throw ex;
+        } catch (IOException ex) {
+            throw new ServiceException(String.format(
+                    "[%s]: Error streaming financial penalties from API", requestId), ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ServiceException(String.format(
+                    "[%s]: Interrupted streaming financial penalties from API", requestId), ex);
+        }
+    }
+
+    private static String getPassthroughHeader() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes instanceof ServletRequestAttributes servletRequestAttributes) {
+            return servletRequestAttributes.getRequest().getHeader(ERIC_PASSTHROUGH_TOKEN_HEADER);
+        }
+        return null;
+    }
+}
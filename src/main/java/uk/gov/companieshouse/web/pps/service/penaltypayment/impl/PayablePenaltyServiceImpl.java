@@ -10,11 +10,13 @@ import uk.gov.companieshouse.api.model.financialpenalty.FinancialPenaltySession;
 import uk.gov.companieshouse.api.model.financialpenalty.PayableFinancialPenalties;
 import uk.gov.companieshouse.api.model.financialpenalty.PayableFinancialPenaltySession;
 import uk.gov.companieshouse.api.model.financialpenalty.Transaction;
-import uk.gov.companieshouse.logging.Logger;
-import uk.gov.companieshouse.logging.LoggerFactory;
 import uk.gov.companieshouse.web.pps.PPSWebApplication;
 import uk.gov.companieshouse.web.pps.api.ApiClientService;
+import uk.gov.companieshouse.web.pps.api.UpstreamCallHandler;
+import uk.gov.companieshouse.web.pps.api.UpstreamOperation;
 import uk.gov.companieshouse.web.pps.exception.ServiceException;
+import uk.gov.companieshouse.web.pps.logging.ServiceLogger;
+import uk.gov.companieshouse.web.pps.models.PenaltyKey;
 import uk.gov.companieshouse.web.pps.service.penaltypayment.PayablePenaltyService;
 
 import java.util.Collections;
@@ -28,38 +30,62 @@ public class PayablePenaltyServiceImpl implements PayablePenaltyService {
     private static final UriTemplate POST_PAYABLE_URI =
             new UriTemplate("/company/{companyNumber}/penalties/payable");
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(PPSWebApplication.APPLICATION_NAME_SPACE);
+    private static final ServiceLogger LOGGER = ServiceLogger.getLogger(PPSWebApplication.APPLICATION_NAME_SPACE);
 
     private final ApiClientService apiClientService;
+    private final FinancialPenaltiesCache financialPenaltiesCache;
+    private final UpstreamCallHandler upstreamCallHandler;
 
-    public PayablePenaltyServiceImpl(ApiClientService apiClientService) {
+    public PayablePenaltyServiceImpl(ApiClientService apiClientService,
+            FinancialPenaltiesCache financialPenaltiesCache,
+            UpstreamCallHandler upstreamCallHandler) {
         this.apiClientService = apiClientService;
+        this.financialPenaltiesCache = financialPenaltiesCache;
+        this.upstreamCallHandler = upstreamCallHandler;
     }
 
     @Override
     public PayableFinancialPenalties getPayableFinancialPenalties(String companyNumber, String payableRef) throws ServiceException {
+        return upstreamCallHandler.call(UpstreamOperation.PAYABLE_PENALTIES_GET,
+                () -> fetchPayableFinancialPenalties(companyNumber, payableRef));
+    }
+
+    @Override
+    public PayableFinancialPenaltySession createPayableFinancialPenaltySession(PenaltyKey penaltyKey, Integer amount)
+            throws ServiceException {
+        String companyNumber = penaltyKey.companyNumber();
+        String penaltyRef = penaltyKey.penaltyRef();
+        PayableFinancialPenaltySession payableFinancialPenaltySession = upstreamCallHandler.call(
+                UpstreamOperation.PAYABLE_PENALTY_SESSION_CREATE, penaltyKey,
+                () -> postPayableFinancialPenaltySession(companyNumber, penaltyRef, amount));
+        // The penalty is now being paid, so later steps must see its latest state
+        financialPenaltiesCache.invalidate(companyNumber, penaltyRef);
+
+        return payableFinancialPenaltySession;
+    }
+
+    private PayableFinancialPenalties fetchPayableFinancialPenalties(String companyNumber, String payableRef) throws ServiceException {
         ApiClient apiClient = apiClientService.getPublicApiClient();
         String requestId = apiClient.getHttpClient().getRequestId();
         PayableFinancialPenalties payableFinancialPenalties;
 
         try {
             String uri = GET_PAYABLE_URI.expand(companyNumber, payableRef).toString();
-            LOGGER.debug(String.format("[%s]: Sending request to API [%s] to fetch  payable financial penalties for company number %s and payable ref %s",
-                    requestId, uri, companyNumber, payableRef));
+            LOGGER.debug("[%s]: Sending request to API [%s] to fetch  payable financial penalties for company number %s and payable ref %s",
+                    requestId, uri, companyNumber, payableRef);
             payableFinancialPenalties = apiClient.payableFinancialPenalty().get(uri).execute().getData();
         } catch (ApiErrorResponseException ex) {
             throw new ServiceException(String.format("[%s]: Error retrieving payable financial penalties from API", requestId), ex);
         } catch (URIValidationException ex) {
             throw new ServiceException(String.format("[%s]: Invalid URI for payable financial penalties", requestId), ex);
         }
-        LOGGER.debug(String.format("[%s]: Successfully fetched payable financial penalties for company number %s and payable ref %s",
-                requestId, companyNumber, payableRef));
+        LOGGER.debug("[%s]: Successfully fetched payable financial penalties for company number %s and payable ref %s",
+                requestId, companyNumber, payableRef);
 
         return payableFinancialPenalties;
     }
 
-    @Override
-    public PayableFinancialPenaltySession createPayableFinancialPenaltySession(String companyNumber, String penaltyRef, Integer amount)
+    private PayableFinancialPenaltySession postPayableFinancialPenaltySession(String companyNumber, String penaltyRef, Integer amount)
             throws ServiceException {
         ApiClient apiClient = apiClientService.getPublicApiClient();
         String requestId = apiClient.getHttpClient().getRequestId();
@@ -68,16 +94,16 @@ public class PayablePenaltyServiceImpl implements PayablePenaltyService {
         try {
             String uri = POST_PAYABLE_URI.expand(companyNumber, penaltyRef).toString();
             FinancialPenaltySession financialPenaltySession = generateFinancialPenaltySessionData(penaltyRef, amount);
-            LOGGER.debug(String.format("[%s]: Sending request to API [%s] to create payable financial penalty session for company number %s, penalty ref %s and amount %d",
-                    requestId, uri, companyNumber, penaltyRef, amount));
+            LOGGER.debug("[%s]: Sending request to API [%s] to create payable financial penalty session for company number %s, penalty ref %s and amount %d",
+                    requestId, uri, companyNumber, penaltyRef, amount);
             apiResponse = apiClient.payableFinancialPenalty().create(uri, financialPenaltySession).execute();
         } catch (ApiErrorResponseException ex) {
             throw new ServiceException(String.format("[%s]: Error creating payable financial penalty session", requestId), ex);
         } catch (URIValidationException ex) {
             throw new ServiceException(String.format("[%s]: Invalid URI for payable financial penalty", requestId), ex);
         }
-        LOGGER.debug(String.format("[%s]: Successfully created payable financial penalty session for company number %s, penalty ref %s and amount %d",
-                requestId, companyNumber, penaltyRef, amount));
+        LOGGER.debug("[%s]: Successfully created payable financial penalty session for company number %s, penalty ref %s and amount %d",
+                requestId, companyNumber, penaltyRef, amount);
 
         return apiResponse.getData();
     }
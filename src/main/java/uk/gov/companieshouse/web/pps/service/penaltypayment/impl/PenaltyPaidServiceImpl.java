@@ -3,10 +3,10 @@ package uk.gov.companieshouse.web.pps.service.penaltypayment.impl;
 import org.springframework.stereotype.Service;
 import uk.gov.companieshouse.web.pps.config.PenaltyConfigurationProperties;
 import uk.gov.companieshouse.web.pps.exception.ServiceException;
+import uk.gov.companieshouse.web.pps.models.PenaltyKey;
 import uk.gov.companieshouse.web.pps.service.company.CompanyService;
 import uk.gov.companieshouse.web.pps.service.penaltypayment.PenaltyPaidService;
 import uk.gov.companieshouse.web.pps.service.response.PPSServiceResponse;
-import uk.gov.companieshouse.web.pps.util.PenaltyUtils;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -28,35 +28,28 @@ public class PenaltyPaidServiceImpl implements PenaltyPaidService {
         this.penaltyConfigurationProperties = penaltyConfigurationProperties;
     }
 
-    public PPSServiceResponse getPaid(final String companyNumber, final String penaltyRef) throws ServiceException {
-        PPSServiceResponse serviceResponse = new PPSServiceResponse();
-
-        serviceResponse.setModelAttributes(createModelUpdate(companyNumber, penaltyRef));
-
-        serviceResponse.setBaseModelAttributes(createBaseModelUpdate(penaltyRef));
-
-        return serviceResponse;
+    public PPSServiceResponse getPaid(final PenaltyKey penaltyKey) throws ServiceException {
+        return PPSServiceResponse.render(createModelUpdate(penaltyKey),
+                createBaseModelUpdate(penaltyKey));
     }
 
-    private Map<String, Object> createModelUpdate(String companyNumber, String penaltyRef) throws ServiceException {
-        var companyProfileApi = companyService.getCompanyProfile(companyNumber);
-        Map<String, Object> modelUpdate = new HashMap<>();
-        modelUpdate.put(PENALTY_REF_ATTR, penaltyRef);
-        modelUpdate.put(COMPANY_NAME_ATTR, companyProfileApi.getCompanyName());
+    private Map<String, Object> createModelUpdate(PenaltyKey penaltyKey) throws ServiceException {
+        Map<String, Object> modelUpdate = HashMap.newHashMap(2);
+        modelUpdate.put(PENALTY_REF_ATTR, penaltyKey.penaltyRef());
+        modelUpdate.put(COMPANY_NAME_ATTR, companyService.getCompanyName(penaltyKey.companyNumber()));
         return modelUpdate;
     }
 
-    private Map<String, String> createBaseModelUpdate(String penaltyRef) {
-        Map<String, String> modelUpdate = new HashMap<>();
-        modelUpdate.put(BACK_LINK_ATTR, getBackUrl(penaltyRef));
+    private Map<String, String> createBaseModelUpdate(PenaltyKey penaltyKey) {
+        Map<String, String> modelUpdate = HashMap.newHashMap(2);
+        modelUpdate.put(BACK_LINK_ATTR, getBackUrl(penaltyKey));
         modelUpdate.put(SIGN_OUT_URL_ATTR, penaltyConfigurationProperties.getSignOutPath());
         return modelUpdate;
     }
 
-    private String getBackUrl(String penaltyRef) {
+    private String getBackUrl(PenaltyKey penaltyKey) {
         return penaltyConfigurationProperties.getEnterDetailsPath()
-                + "?ref-starts-with=" + PenaltyUtils.getPenaltyReferenceType(penaltyRef)
-                .getStartsWith();
+                + "?ref-starts-with=" + penaltyKey.penaltyReference().getStartsWith();
     }
 
 }
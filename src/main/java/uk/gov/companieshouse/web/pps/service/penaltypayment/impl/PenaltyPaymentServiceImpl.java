@@ -1,5 +1,6 @@
 package uk.gov.companieshouse.web.pps.service.penaltypayment.impl;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.springframework.stereotype.Service;
@@ -10,13 +11,18 @@ import uk.gov.companieshouse.api.handler.exception.URIValidationException;
 import uk.gov.companieshouse.api.model.financialpenalty.FinanceHealthcheck;
 import uk.gov.companieshouse.api.model.financialpenalty.FinancialPenalties;
 import uk.gov.companieshouse.api.model.financialpenalty.FinancialPenalty;
-import uk.gov.companieshouse.logging.Logger;
-import uk.gov.companieshouse.logging.LoggerFactory;
 import uk.gov.companieshouse.web.pps.PPSWebApplication;
 import uk.gov.companieshouse.web.pps.api.ApiClientService;
+import uk.gov.companieshouse.web.pps.api.RequestCoalescer;
+import uk.gov.companieshouse.web.pps.api.UpstreamCallHandler;
+import uk.gov.companieshouse.web.pps.api.UpstreamOperation;
+import uk.gov.companieshouse.web.pps.config.UpstreamConfigurationProperties;
 import uk.gov.companieshouse.web.pps.exception.ServiceException;
+import uk.gov.companieshouse.web.pps.logging.ServiceLogger;
+import uk.gov.companieshouse.web.pps.models.PenaltyKey;
 import uk.gov.companieshouse.web.pps.service.penaltypayment.PenaltyPaymentService;
-import uk.gov.companieshouse.web.pps.util.PenaltyUtils;
+import uk.gov.companieshouse.web.pps.session.SessionService;
+import uk.gov.companieshouse.web.pps.session.SessionView;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -38,73 +44,162 @@ public class PenaltyPaymentServiceImpl implements PenaltyPaymentService {
     public static final String OTHER_TYPE = "other";
 
     private static final String MESSAGE_JSON_OBJECT_KEY = "message";
-    private static final Logger LOGGER = LoggerFactory.getLogger(PPSWebApplication.APPLICATION_NAME_SPACE);
+    private static final ServiceLogger LOGGER = ServiceLogger.getLogger(PPSWebApplication.APPLICATION_NAME_SPACE);
 
     private final ApiClientService apiClientService;
-
-    public PenaltyPaymentServiceImpl(ApiClientService apiClientService) {
+    private final SessionService sessionService;
+    private final FinancialPenaltiesCache financialPenaltiesCache;
+    private final UpstreamCallHandler upstreamCallHandler;
+    private final FinancialPenaltiesStreamingClient financialPenaltiesStreamingClient;
+    private final RequestCoalescer<List<FinancialPenalty>> financialPenaltiesRequests;
+
+    public PenaltyPaymentServiceImpl(ApiClientService apiClientService,
+            SessionService sessionService,
+            FinancialPenaltiesCache financialPenaltiesCache,
+            UpstreamCallHandler upstreamCallHandler,
+            FinancialPenaltiesStreamingClient financialPenaltiesStreamingClient,
+            UpstreamConfigurationProperties upstreamConfigurationProperties,
+            MeterRegistry meterRegistry) {
         this.apiClientService = apiClientService;
+        this.sessionService = sessionService;
+        this.financialPenaltiesCache = financialPenaltiesCache;
+        this.upstreamCallHandler = upstreamCallHandler;
+        this.financialPenaltiesStreamingClient = financialPenaltiesStreamingClient;
+        this.financialPenaltiesRequests = new RequestCoalescer<>(
+                UpstreamOperation.FINANCIAL_PENALTIES_GET,
+                upstreamConfigurationProperties.getFinancialPenaltiesTimeout(), meterRegistry);
+    }
+
+    @Override
+    public List<FinancialPenalty> getFinancialPenalties(PenaltyKey penaltyKey) throws ServiceException {
+        String companyNumber = penaltyKey.companyNumber();
+        String penaltyRef = penaltyKey.penaltyRef();
+        Optional<List<FinancialPenalty>> cachedPenaltyAndCosts = financialPenaltiesCache.get(companyNumber, penaltyRef);
+        if (cachedPenaltyAndCosts.isPresent()) {
+            LOGGER.debug("Using cached financial penalties for company number %s and penalty ref %s",
+                    companyNumber, penaltyRef);
+            return cachedPenaltyAndCosts.get();
+        }
+
+        String uri = getFinancialPenaltiesUri(penaltyKey);
+        String sessionId = SessionView.current(sessionService).getSessionId();
+        List<FinancialPenalty> penaltyAndCosts;
+        if (sessionId == null) {
+            // Without a session there is no telling whose fetch it is, so it is not shared
+            penaltyAndCosts = callFinancialPenalties(uri, penaltyKey);
+        } else {
+            // Shared only within the session, like the cache; the items are picked out for the
+            // penalty as they are read, so its reference is part of the key
+            penaltyAndCosts = financialPenaltiesRequests.call(sessionId + "#" + uri + "#" + penaltyRef,
+                    () -> callFinancialPenalties(uri, penaltyKey));
+        }
+        financialPenaltiesCache.put(companyNumber, penaltyRef, penaltyAndCosts);
+        return penaltyAndCosts;
     }
 
     @Override
-    public List<FinancialPenalty> getFinancialPenalties(String companyNumber, String penaltyRef) throws ServiceException {
+    public List<FinancialPenalty> getLatestFinancialPenalties(PenaltyKey penaltyKey) throws ServiceException {
+        // Not shared with a fetch already in flight either, as that may have started before a change
+        return callFinancialPenalties(getFinancialPenaltiesUri(penaltyKey), penaltyKey);
+    }
+
+    private List<FinancialPenalty> callFinancialPenalties(String uri, PenaltyKey penaltyKey)
+            throws ServiceException {
+        return upstreamCallHandler.call(UpstreamOperation.FINANCIAL_PENALTIES_GET, penaltyKey,
+                () -> fetchFinancialPenalties(uri, penaltyKey.companyNumber(), penaltyKey.penaltyRef(),
+                        penaltyKey.penaltyReference().name()));
+    }
+
+    private static String getFinancialPenaltiesUri(PenaltyKey penaltyKey) {
+        return GET_FINANCIAL_PENALTIES_URI.expand(penaltyKey.companyNumber(),
+                penaltyKey.penaltyReference().name()).toString();
+    }
+
+    private List<FinancialPenalty> fetchFinancialPenalties(String uri, String companyNumber,
+            String penaltyRef, String penaltyReferenceType) throws ServiceException {
         ApiClient apiClient = apiClientService.getPublicApiClient();
         String requestId = apiClient.getHttpClient().getRequestId();
-        FinancialPenalties financialPenalties;
+        List<FinancialPenalty> items;
 
         try {
-            String penaltyReferenceType = PenaltyUtils.getPenaltyReferenceType(penaltyRef).name();
-            String uri = GET_FINANCIAL_PENALTIES_URI.expand(companyNumber, penaltyReferenceType).toString();
-            LOGGER.debug(String.format("[%s]: Sending request to API [%s] to fetch financial penalties (%s) for company number %s and penalty ref %s",
-                requestId, uri, penaltyReferenceType, companyNumber, penaltyRef));
-            financialPenalties = apiClient.financialPenalty().get(uri).execute().getData();
+            LOGGER.debug("[%s]: Sending request to API [%s] to fetch financial penalties (%s) for company number %s and penalty ref %s",
+                requestId, uri, penaltyReferenceType, companyNumber, penaltyRef);
+            Optional<List<FinancialPenalty>> streamedItems = Optional.empty();
+            if (financialPenaltiesStreamingClient.isEnabled()) {
+                streamedItems = financialPenaltiesStreamingClient.getPenaltyOrUnpaidItems(uri, requestId, penaltyRef);
+                if (streamedItems.isEmpty()) {
+                    LOGGER.info("[%s]: Too many penalty or unpaid items to stream for company number %s and penalty ref %s, fetching through the SDK",
+                            requestId, companyNumber, penaltyRef);
+                }
+            }
+            if (streamedItems.isPresent()) {
+                items = streamedItems.get();
+            } else {
+                FinancialPenalties financialPenalties = apiClient.financialPenalty().get(uri).execute().getData();
+                items = financialPenalties.getTotalResults() == 0
+                        ? Collections.emptyList()
+                        : financialPenalties.getItems();
+            }
         } catch (ApiErrorResponseException ex) {
             throw new ServiceException(String.format("[%s]: Error retrieving financial penalties from API", requestId), ex);
         } catch (IllegalArgumentException | URIValidationException ex) {
             throw new ServiceException(String.format("[%s]: Invalid URI for financial penalties", requestId), ex);
         }
 
-        if (financialPenalties.getTotalResults() == 0) {
-            LOGGER.debug(String.format("[%s]: No financial penalties results for company number %s and penalty ref %s",
-                    requestId, companyNumber, penaltyRef));
+        if (items.isEmpty()) {
+            LOGGER.debug("[%s]: No financial penalties results for company number %s and penalty ref %s",
+                    requestId, companyNumber, penaltyRef);
             return Collections.emptyList();
         }
-        LOGGER.debug(String.format("[%s]: Request to fetch financial penalties successful for company number %s and penalty ref %s",
-                requestId, companyNumber, penaltyRef));
-
-        var penaltyOrUnpaidItems = financialPenalties.getItems().stream()
-                .filter(financialPenalty -> penaltyRef.equals(financialPenalty.getId())
-                        || FALSE.equals(financialPenalty.getPaid()))
-                .toList();
-        LOGGER.debug(String.format("[%s]: %d Penalty or unpaid items for company number %s and penalty ref %s",
-                requestId, penaltyOrUnpaidItems.size(), companyNumber, penaltyRef));
-
-        Optional<FinancialPenalty> penaltyOptional = penaltyOrUnpaidItems.stream()
-                .filter(financialPenalty -> penaltyRef.equals(financialPenalty.getId()))
-                .filter(financialPenalty -> PENALTY_TYPE.equals(financialPenalty.getType()))
-                .findFirst();
-
-        if (penaltyOptional.isPresent()) {
-            FinancialPenalty penalty = penaltyOptional.get();
-            var unpaidLegalCosts = penaltyOrUnpaidItems.stream()
-                    .filter(financialPenalty -> OTHER_TYPE.equals(financialPenalty.getType()))
-                    .filter(financialPenalty -> penaltyRef.equals(financialPenalty.getId())
-                            || penalty.getMadeUpDate().equals(financialPenalty.getMadeUpDate()))
-                    .toList();
-
-            var penaltyAndCosts = new ArrayList<FinancialPenalty>();
-            penaltyAndCosts.add(penalty);
-            penaltyAndCosts.addAll(unpaidLegalCosts);
-
-            LOGGER.debug(String.format("[%s]: %d Penalty and costs for company number %s and penalty ref %s",
-                    requestId, penaltyAndCosts.size(), companyNumber, penaltyRef));
-            return penaltyAndCosts;
+        LOGGER.debug("[%s]: Request to fetch financial penalties successful for company number %s and penalty ref %s",
+                requestId, companyNumber, penaltyRef);
+
+        // One pass over the items: costs are kept until the penalty's made up date is known
+        int penaltyOrUnpaidItemCount = 0;
+        FinancialPenalty penalty = null;
+        List<FinancialPenalty> unpaidCosts = new ArrayList<>();
+        for (FinancialPenalty financialPenalty : items) {
+            if (!penaltyRef.equals(financialPenalty.getId())
+                    && !FALSE.equals(financialPenalty.getPaid())) {
+                continue;
+            }
+            penaltyOrUnpaidItemCount++;
+            if (penalty == null && penaltyRef.equals(financialPenalty.getId())
+                    && PENALTY_TYPE.equals(financialPenalty.getType())) {
+                penalty = financialPenalty;
+            } else if (OTHER_TYPE.equals(financialPenalty.getType())) {
+                unpaidCosts.add(financialPenalty);
+            }
+        }
+        LOGGER.debug("[%s]: %d Penalty or unpaid items for company number %s and penalty ref %s",
+                requestId, penaltyOrUnpaidItemCount, companyNumber, penaltyRef);
+
+        if (penalty == null) {
+            return Collections.emptyList();
         }
-        return Collections.emptyList();
+
+        var penaltyAndCosts = new ArrayList<FinancialPenalty>(unpaidCosts.size() + 1);
+        penaltyAndCosts.add(penalty);
+        for (FinancialPenalty unpaidCost : unpaidCosts) {
+            if (penaltyRef.equals(unpaidCost.getId())
+                    || penalty.getMadeUpDate().equals(unpaidCost.getMadeUpDate())) {
+                penaltyAndCosts.add(unpaidCost);
+            }
+        }
+
+        LOGGER.debug("[%s]: %d Penalty and costs for company number %s and penalty ref %s",
+                requestId, penaltyAndCosts.size(), companyNumber, penaltyRef);
+        return penaltyAndCosts;
     }
 
     @Override
     public FinanceHealthcheck checkFinanceSystemAvailableTime() throws ServiceException {
+        // Concurrent checks are already made as one by the caching health check provider
+        return upstreamCallHandler.call(UpstreamOperation.FINANCE_HEALTHCHECK_GET,
+                this::fetchFinanceHealthcheck);
+    }
+
+    private FinanceHealthcheck fetchFinanceHealthcheck() throws ServiceException {
         ApiClient apiClient = apiClientService.getPublicApiClient();
         String requestId = apiClient.getHttpClient().getRequestId();
         FinanceHealthcheck financeHealthcheck;
@@ -113,7 +208,7 @@ public class PenaltyPaymentServiceImpl implements PenaltyPaymentService {
             String uri = FINANCE_HEALTHCHECK_URI.toString();
             financeHealthcheck = apiClient.financeHealthcheckResourceHandler().get(uri).execute().getData();
         } catch (ApiErrorResponseException ex) {
-            LOGGER.debug(String.format("[%s]: Error status code: %d, Error message: %s", requestId, ex.getStatusCode(), ex.getMessage()));
+            LOGGER.debug("[%s]: Error status code: %d, Error message: %s", requestId, ex.getStatusCode(), ex.getMessage());
             if (ex.getStatusCode() == 503) {
                 // Generate a financeHealthcheck object to return from the exception
 
@@ -1,10 +1,9 @@
 package uk.gov.companieshouse.web.pps.service.penaltyrefstartswith.impl;
 
 import org.springframework.stereotype.Service;
-import uk.gov.companieshouse.logging.Logger;
-import uk.gov.companieshouse.logging.LoggerFactory;
 import uk.gov.companieshouse.web.pps.PPSWebApplication;
 import uk.gov.companieshouse.web.pps.config.PenaltyConfigurationProperties;
+import uk.gov.companieshouse.web.pps.logging.ServiceLogger;
 import uk.gov.companieshouse.web.pps.models.PenaltyReferenceChoice;
 import uk.gov.companieshouse.web.pps.service.finance.FinanceServiceHealthCheck;
 import uk.gov.companieshouse.web.pps.service.penaltyrefstartswith.PenaltyRefStartsWithService;
@@ -24,7 +23,7 @@ import static uk.gov.companieshouse.web.pps.service.ServiceConstants.PENALTY_REF
 @Service
 public class PenaltyRefStartsWithServiceImpl implements PenaltyRefStartsWithService {
 
-    protected static final Logger LOGGER = LoggerFactory
+    protected static final ServiceLogger LOGGER = ServiceLogger
             .getLogger(PPSWebApplication.APPLICATION_NAME_SPACE);
 
     private final List<PenaltyReference> availablePenaltyReference;
@@ -47,77 +46,55 @@ public class PenaltyRefStartsWithServiceImpl implements PenaltyRefStartsWithServ
     @Override
     public PPSServiceResponse viewPenaltyRefStartsWith() {
         var healthCheck = financeServiceHealthCheck.checkIfAvailable();
-        var url = healthCheck.getUrl();
-
-        PPSServiceResponse serviceResponse = new PPSServiceResponse();
-        if (url.isPresent()) {
-            healthCheck.getBaseModelAttributes().ifPresent(serviceResponse::setBaseModelAttributes);
-            healthCheck.getModelAttributes().ifPresent(serviceResponse::setModelAttributes);
-            serviceResponse.setUrl(url.get());
-        } else {
-            LOGGER.debug(
-                    String.format("Available penalty reference types: %s",availablePenaltyReference));
-            if (availablePenaltyReference.size() == 1) {
-                return setUpEnterDetails();
-            }
-
-            serviceResponse.setModelAttributes(setModelForViewPenaltyRefStartWith());
-            serviceResponse.setBaseModelAttributes(setBackUrl());
+        if (healthCheck.url() != null) {
+            return healthCheck;
         }
 
-        return serviceResponse;
+        LOGGER.debug("Available penalty reference types: %s",availablePenaltyReference);
+        if (availablePenaltyReference.size() == 1) {
+            return setUpEnterDetails();
+        }
+
+        return PPSServiceResponse.render(setModelForViewPenaltyRefStartWith(), setBackUrl());
     }
 
     @Override
     public PPSServiceResponse postPenaltyRefStartsWithError() {
-        PPSServiceResponse serviceResponse = new PPSServiceResponse();
-
-        serviceResponse.setModelAttributes(setModelForPostPenaltyRefStartWith());
-        serviceResponse.setBaseModelAttributes(setBackUrl());
-        return serviceResponse;
+        return PPSServiceResponse.render(setModelForPostPenaltyRefStartWith(), setBackUrl());
     }
 
     @Override
     public PPSServiceResponse postPenaltyRefStartsWithNext(
             PenaltyReferenceChoice penaltyReferenceChoice) {
 
-        PPSServiceResponse serviceResponse = new PPSServiceResponse();
-
         PenaltyReference selectedPenaltyReference = penaltyReferenceChoice.getSelectedPenaltyReference();
-        LOGGER.debug(String.format("Selected penalty type: %s, starts with: %s",
-                selectedPenaltyReference.name(), selectedPenaltyReference.getStartsWith()));
+        LOGGER.debug("Selected penalty type: %s, starts with: %s",
+                selectedPenaltyReference.name(), selectedPenaltyReference.getStartsWith());
 
-        serviceResponse.setUrl(
+        return PPSServiceResponse.redirect(
                 REDIRECT_URL_PREFIX + penaltyConfigurationProperties.getEnterDetailsPath()
                         + "?ref-starts-with=" + selectedPenaltyReference.getStartsWith());
-        return serviceResponse;
-
     }
 
     private PPSServiceResponse setUpEnterDetails() {
-        PPSServiceResponse serviceResponse = new PPSServiceResponse();
-        serviceResponse.setUrl(
+        return PPSServiceResponse.redirect(
                 REDIRECT_URL_PREFIX + penaltyConfigurationProperties.getEnterDetailsPath()
                         + "?ref-starts-with=" + availablePenaltyReference.getFirst()
                         .getStartsWith());
-        return serviceResponse;
     }
 
     private Map<String, Object> setModelForViewPenaltyRefStartWith() {
-        Map<String, Object> modelAttributes = new HashMap<>();
-        modelAttributes.put(AVAILABLE_PENALTY_REF_ATTR, availablePenaltyReference);
-        modelAttributes.put(PENALTY_REFERENCE_CHOICE_ATTR, new PenaltyReferenceChoice());
-        return modelAttributes;
+        return Map.of(
+                AVAILABLE_PENALTY_REF_ATTR, availablePenaltyReference,
+                PENALTY_REFERENCE_CHOICE_ATTR, new PenaltyReferenceChoice());
     }
 
     private Map<String, Object> setModelForPostPenaltyRefStartWith() {
-        Map<String, Object> modelAttributes = new HashMap<>();
-        modelAttributes.put(AVAILABLE_PENALTY_REF_ATTR, availablePenaltyReference);
-        return modelAttributes;
+        return Map.of(AVAILABLE_PENALTY_REF_ATTR, availablePenaltyReference);
     }
 
     private Map<String, String> setBackUrl() {
-        Map<String, String> baseModelAttributes = new HashMap<>();
+        Map<String, String> baseModelAttributes = HashMap.newHashMap(1);
         baseModelAttributes.put(BACK_LINK_URL_ATTR, penaltyConfigurationProperties.getStartPath());
         return baseModelAttributes;
     }
@@ -1,67 +1,113 @@
 package uk.gov.companieshouse.web.pps.service.response;
 
-import org.apache.commons.lang3.StringUtils;
-
 import java.util.Map;
-import java.util.Optional;
-
-public class PPSServiceResponse {
 
-    private String url;
-    private String errorRequestMsg;
-    private Map<String, String> baseModelAttributes;
-    private Map<String, Object> modelAttributes;
-    private Map<String, Object> sessionAttributes;
-
-    public PPSServiceResponse() {
+/**
+ * The outcome of a service call, for the controller to act on: render a page, redirect to
+ * another, or report an error. Responses are immutable and their attribute maps are handed
+ * to the model as they are, so services should build them with {@link Map#of} where the
+ * values cannot be null, or a map sized for its entries where they can.
+ * <p>
+ * The accessors are common to all responses and return {@code null} or an empty map where a
+ * response has nothing to say, so that callers do not need to check the type to read them.
+ */
+public sealed interface PPSServiceResponse
+        permits PPSServiceResponse.Render, PPSServiceResponse.Redirect, PPSServiceResponse.Error {
+
+    /**
+     * Returns a response for rendering the controller's own template, with nothing to add to
+     * the model.
+     *
+     * @return the response
+     */
+    static PPSServiceResponse render() {
+        return Render.DEFAULT;
     }
 
-    public PPSServiceResponse(String url, String errorRequestMsg,
-            Map<String, String> baseModelAttributes, Map<String, Object> modelAttributes, Map<String, Object> sessionAttributes) {
-        this.url = url;
-        this.errorRequestMsg = errorRequestMsg;
-        this.baseModelAttributes = baseModelAttributes;
-        this.modelAttributes = modelAttributes;
-        this.sessionAttributes = sessionAttributes;
+    static PPSServiceResponse render(Map<String, Object> modelAttributes,
+            Map<String, String> baseModelAttributes) {
+        return new Render(null, modelAttributes, baseModelAttributes);
     }
 
-    public Optional<String> getUrl() {
-        return StringUtils.isNotEmpty(url) ? Optional.of(url) : Optional.empty();
+    static PPSServiceResponse renderView(String viewName, Map<String, Object> modelAttributes,
+            Map<String, String> baseModelAttributes) {
+        return new Render(viewName, modelAttributes, baseModelAttributes);
     }
 
-    public void setUrl(String url) {
-        this.url = url;
+    static PPSServiceResponse redirect(String url) {
+        return new Redirect(url);
     }
 
-    public Optional<String> getErrorRequestMsg() {
-        return StringUtils.isNotEmpty(errorRequestMsg) ? Optional.of(errorRequestMsg) : Optional.empty();
+    static PPSServiceResponse error(String url, String errorRequestMsg,
+            Map<String, String> baseModelAttributes) {
+        return new Error(url, errorRequestMsg, baseModelAttributes);
     }
 
-    public void setErrorRequestMsg(String errorRequestMsg) {
-        this.errorRequestMsg = errorRequestMsg;
-    }
+    /**
+     * Returns the view to render or the redirect to follow.
+     *
+     * @return the view name or redirect, or {@code null} for the controller's own template
+     */
+    String url();
 
-    public Optional<Map<String, String>> getBaseModelAttributes() {
-        return baseModelAttributes == null ? Optional.empty() : Optional.of(baseModelAttributes);
+    default String errorRequestMsg() {
+        return null;
     }
 
-    public void setBaseModelAttributes(Map<String, String> baseModelAttributes) {
-        this.baseModelAttributes = baseModelAttributes;
+    default Map<String, Object> modelAttributes() {
+        return Map.of();
     }
 
-    public Optional<Map<String, Object>> getModelAttributes() {
-        return modelAttributes == null ? Optional.empty() : Optional.of(modelAttributes);
+    default Map<String, String> baseModelAttributes() {
+        return Map.of();
     }
 
-    public void setModelAttributes(Map<String, Object> modelAttributes) {
-        this.modelAttributes = modelAttributes;
+    /**
+     * Renders a page.
+     *
+     * @param viewName            the view to render, or {@code null} for the controller's own
+     *                            template
+     * @param modelAttributes     attributes for the page itself
+     * @param baseModelAttributes the back link and sign out URLs
+     */
+    record Render(String viewName, Map<String, Object> modelAttributes,
+                  Map<String, String> baseModelAttributes) implements PPSServiceResponse {
+
+        private static final Render DEFAULT = new Render(null, Map.of(), Map.of());
+
+        public Render {
+            modelAttributes = modelAttributes == null ? Map.of() : modelAttributes;
+            baseModelAttributes = baseModelAttributes == null ? Map.of() : baseModelAttributes;
+        }
+
+        @Override
+        public String url() {
+            return viewName;
+        }
     }
 
-    public Optional<Map<String, Object>> getSessionAttributes() {
-        return sessionAttributes == null ? Optional.empty() : Optional.of(sessionAttributes);
+    /**
+     * Redirects to another page.
+     *
+     * @param url the redirect, including the {@code redirect:} prefix
+     */
+    record Redirect(String url) implements PPSServiceResponse {
     }
 
-    public void setSessionAttributes(Map<String, Object> sessionAttributes) {
-        this.sessionAttributes = sessionAttributes;
+    /**
+     * Reports an error, either on the controller's own template or by sending the user
+     * elsewhere.
+     *
+     * @param url                 the view or redirect to show the error on, or {@code null}
+     *                            for the controller's own template
+     * @param errorRequestMsg     the message to report
+     * @param baseModelAttributes the back link and sign out URLs
+     */
+    record Error(String url, String errorRequestMsg,
+                 Map<String, String> baseModelAttributes) implements PPSServiceResponse {
+
+        public Error {
+            baseModelAttributes = baseModelAttributes == null ? Map.of() : baseModelAttributes;
+        }
     }
 }
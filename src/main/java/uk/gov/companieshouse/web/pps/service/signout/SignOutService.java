@@ -1,13 +1,12 @@
 package uk.gov.companieshouse.web.pps.service.signout;
 
-import uk.gov.companieshouse.web.pps.service.response.PPSServiceResponse;
-
 import java.util.Map;
+import java.util.Optional;
 
 public interface SignOutService {
     boolean isUserSignedIn(Map<String, Object> sessionData);
 
-    PPSServiceResponse resolveBackLink(String referrer);
+    Optional<String> resolveBackLink(String referrer);
 
     String determineRedirect(String radioValue, String priorUrl);
 }
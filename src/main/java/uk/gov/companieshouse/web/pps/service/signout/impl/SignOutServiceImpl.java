@@ -3,14 +3,13 @@ package uk.gov.companieshouse.web.pps.service.signout.impl;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
 import uk.gov.companieshouse.web.pps.config.PenaltyConfigurationProperties;
-import uk.gov.companieshouse.web.pps.service.response.PPSServiceResponse;
 import uk.gov.companieshouse.web.pps.service.signout.SignOutService;
 import uk.gov.companieshouse.web.pps.validation.AllowlistChecker;
 
 import java.util.Map;
+import java.util.Optional;
 
 import static uk.gov.companieshouse.web.pps.service.ServiceConstants.SIGN_IN_INFO;
-import static uk.gov.companieshouse.web.pps.service.ServiceConstants.URL_PRIOR_SIGN_OUT;
 
 @Service
 public class SignOutServiceImpl implements SignOutService {
@@ -30,25 +29,17 @@ public class SignOutServiceImpl implements SignOutService {
     }
 
     @Override
-    public PPSServiceResponse resolveBackLink(String referer) {
-        PPSServiceResponse response = new PPSServiceResponse();
+    public Optional<String> resolveBackLink(String referer) {
         if (StringUtils.isBlank(referer)) {
-            return response;
+            return Optional.empty();
         }
 
         String allowedUrl = allowlistChecker.checkURL(referer);
         if (allowlistChecker.checkSignOutIsReferer(allowedUrl)) {
-            return response;
+            return Optional.empty();
         }
 
-        response.setSessionAttributes(createSessionAttributes(allowedUrl));
-        response.setUrl(allowedUrl);
-
-        return response;
-    }
-
-    private Map<String, Object> createSessionAttributes(String allowedUrl){
-        return Map.of(URL_PRIOR_SIGN_OUT, allowedUrl);
+        return Optional.of(allowedUrl);
     }
 
     @Override
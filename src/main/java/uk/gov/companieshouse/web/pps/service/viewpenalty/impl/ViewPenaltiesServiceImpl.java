@@ -2,18 +2,21 @@ package uk.gov.companieshouse.web.pps.service.viewpenalty.impl;
 
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.view.UrlBasedViewResolver;
-import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
 import uk.gov.companieshouse.api.model.financialpenalty.FinancialPenalty;
 import uk.gov.companieshouse.api.model.financialpenalty.PayableFinancialPenaltySession;
-import uk.gov.companieshouse.logging.Logger;
-import uk.gov.companieshouse.logging.LoggerFactory;
 import uk.gov.companieshouse.web.pps.PPSWebApplication;
+import uk.gov.companieshouse.web.pps.api.ApiRoute;
+import uk.gov.companieshouse.web.pps.api.AsyncApiClientService;
 import uk.gov.companieshouse.web.pps.config.PenaltyConfigurationProperties;
+import uk.gov.companieshouse.web.pps.config.UpstreamConfigurationProperties;
 import uk.gov.companieshouse.web.pps.exception.ServiceException;
+import uk.gov.companieshouse.web.pps.logging.ServiceLogger;
+import uk.gov.companieshouse.web.pps.models.PenaltyKey;
 import uk.gov.companieshouse.web.pps.service.company.CompanyService;
 import uk.gov.companieshouse.web.pps.service.finance.FinanceServiceHealthCheck;
 import uk.gov.companieshouse.web.pps.service.payment.PaymentService;
 import uk.gov.companieshouse.web.pps.service.penaltypayment.PayablePenaltyService;
+import uk.gov.companieshouse.web.pps.service.penaltypayment.PenaltyAssessment;
 import uk.gov.companieshouse.web.pps.service.penaltypayment.PenaltyPaymentService;
 import uk.gov.companieshouse.web.pps.service.response.PPSServiceResponse;
 import uk.gov.companieshouse.web.pps.service.viewpenalty.ViewPenaltiesService;
@@ -21,14 +24,18 @@ import uk.gov.companieshouse.web.pps.util.FeatureFlagChecker;
 import uk.gov.companieshouse.web.pps.util.PenaltyReference;
 import uk.gov.companieshouse.web.pps.util.PenaltyUtils;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static java.lang.Boolean.FALSE;
 import static org.springframework.web.servlet.view.UrlBasedViewResolver.REDIRECT_URL_PREFIX;
-import static uk.gov.companieshouse.api.model.financialpenalty.PayableStatus.OPEN;
 import static uk.gov.companieshouse.web.pps.service.ServiceConstants.AMOUNT_ATTR;
 import static uk.gov.companieshouse.web.pps.service.ServiceConstants.BACK_LINK_URL_ATTR;
 import static uk.gov.companieshouse.web.pps.service.ServiceConstants.COMPANY_NAME_ATTR;
@@ -36,12 +43,11 @@ import static uk.gov.companieshouse.web.pps.service.ServiceConstants.PENALTY_REF
 import static uk.gov.companieshouse.web.pps.service.ServiceConstants.PENALTY_REF_ATTR;
 import static uk.gov.companieshouse.web.pps.service.ServiceConstants.REASON_ATTR;
 import static uk.gov.companieshouse.web.pps.service.ServiceConstants.SIGN_OUT_URL_ATTR;
-import static uk.gov.companieshouse.web.pps.service.penaltypayment.impl.PenaltyPaymentServiceImpl.PENALTY_TYPE;
 
 @Service
 public class ViewPenaltiesServiceImpl implements ViewPenaltiesService {
 
-    protected static final Logger LOGGER = LoggerFactory
+    protected static final ServiceLogger LOGGER = ServiceLogger
             .getLogger(PPSWebApplication.APPLICATION_NAME_SPACE);
     private static final String ONLINE_PAYMENT_UNAVAILABLE = "online-payment-unavailable";
 
@@ -52,6 +58,8 @@ public class ViewPenaltiesServiceImpl implements ViewPenaltiesService {
     private final PenaltyConfigurationProperties penaltyConfigurationProperties;
     private final FeatureFlagChecker featureFlagChecker;
     private final FinanceServiceHealthCheck financeServiceHealthCheck;
+    private final AsyncApiClientService asyncApiClientService;
+    private final UpstreamConfigurationProperties upstreamConfigurationProperties;
 
     public ViewPenaltiesServiceImpl(
             PayablePenaltyService payablePenaltyService,
@@ -60,7 +68,9 @@ public class ViewPenaltiesServiceImpl implements ViewPenaltiesService {
             PenaltyPaymentService penaltyPaymentService,
             PenaltyConfigurationProperties penaltyConfigurationProperties,
             FeatureFlagChecker featureFlagChecker,
-            FinanceServiceHealthCheck financeServiceHealthCheck) {
+            FinanceServiceHealthCheck financeServiceHealthCheck,
+            AsyncApiClientService asyncApiClientService,
+            UpstreamConfigurationProperties upstreamConfigurationProperties) {
 
         this.payablePenaltyService = payablePenaltyService;
         this.paymentService = paymentService;
@@ -69,142 +79,151 @@ public class ViewPenaltiesServiceImpl implements ViewPenaltiesService {
         this.penaltyConfigurationProperties = penaltyConfigurationProperties;
         this.featureFlagChecker = featureFlagChecker;
         this.financeServiceHealthCheck = financeServiceHealthCheck;
+        this.asyncApiClientService = asyncApiClientService;
+        this.upstreamConfigurationProperties = upstreamConfigurationProperties;
     }
 
     @Override
-    public PPSServiceResponse viewPenalties(String companyNumber, String penaltyRef)
+    public PPSServiceResponse viewPenalties(PenaltyKey penaltyKey)
             throws IllegalArgumentException, ServiceException {
         var healthCheck = financeServiceHealthCheck.checkIfAvailable();
-        var url = healthCheck.getUrl();
-
-        PPSServiceResponse serviceResponse = new PPSServiceResponse();
-        if (url.isPresent()) {
-            healthCheck.getBaseModelAttributes().ifPresent(serviceResponse::setBaseModelAttributes);
-            healthCheck.getModelAttributes().ifPresent(serviceResponse::setModelAttributes);
-            serviceResponse.setUrl(url.get());
-        } else {
-            Optional<PenaltyReference> penaltyReference = getPenaltyReference(penaltyRef,
-                    companyNumber);
-
-            if (penaltyReference.isEmpty()) {
-                return setServiceDownUrl(serviceResponse);
-            }
-            setBackUrl(serviceResponse, penaltyReference.get());
+        if (healthCheck.url() != null) {
+            return healthCheck;
+        }
 
-            List<FinancialPenalty> penaltyAndCosts = penaltyPaymentService.getFinancialPenalties(
-                    companyNumber, penaltyRef);
+        Optional<PenaltyReference> penaltyReference = getPenaltyReference(penaltyKey);
+        if (penaltyReference.isEmpty()) {
+            return getServiceDownResponse();
+        }
 
-            LOGGER.debug(String.format(
-                    "Checking if online payment for penalty %s is available for company number %s",
-                    penaltyRef, companyNumber));
+        // The company name is fetched speculatively while the penalties are validated
+        Future<List<FinancialPenalty>> penaltyAndCostsFuture = asyncApiClientService.supplyAsync(
+                ApiRoute.PENALTY_PAYMENT,
+                () -> penaltyPaymentService.getFinancialPenalties(penaltyKey));
+        Future<String> companyNameFuture = asyncApiClientService.supplyAsync(
+                ApiRoute.COMPANY,
+                () -> companyService.getCompanyName(penaltyKey.companyNumber()));
+        try {
+            // The company name is left to complete on an early redirect, as it is cached for the
+            // next step of the journey and the route's bulkhead bounds the work left running
+            return getViewPenaltiesResponse(penaltyKey, penaltyReference.get(),
+                    penaltyAndCostsFuture, companyNameFuture);
+        } catch (ServiceException | RuntimeException ex) {
+            // The journey ends here, so nothing is left running for a step that will not come
+            penaltyAndCostsFuture.cancel(true);
+            companyNameFuture.cancel(true);
+            throw ex;
+        }
+    }
 
-            if (PenaltyUtils.penaltyTypeDisabled(penaltyAndCosts, penaltyRef)) {
-                serviceResponse.setUrl(buildOnlinePaymentUnavailablePath(companyNumber, penaltyRef));
-                return serviceResponse;
-            }
+    private PPSServiceResponse getViewPenaltiesResponse(
+            PenaltyKey penaltyKey,
+            PenaltyReference penaltyReference,
+            Future<List<FinancialPenalty>> penaltyAndCostsFuture,
+            Future<String> companyNameFuture) throws ServiceException {
+        String companyNumber = penaltyKey.companyNumber();
+        String penaltyRef = penaltyKey.penaltyRef();
+        List<FinancialPenalty> penaltyAndCosts = awaitUpstream(penaltyAndCostsFuture,
+                upstreamConfigurationProperties.getFinancialPenaltiesTimeout(),
+                "financial penalties");
+
+        LOGGER.debug("Checking if online payment for penalty %s is available for company number %s",
+                penaltyRef, companyNumber);
+
+        var assessment = PenaltyAssessment.assess(penaltyAndCosts, penaltyRef);
+        if (assessment.isDisabled()) {
+            return PPSServiceResponse.redirect(
+                    buildOnlinePaymentUnavailablePath(companyNumber, penaltyRef));
+        }
 
-            // User can only pay for a penalty with no associated legal costs
-            if (isPenaltyRefMultiplePenalty(penaltyAndCosts, companyNumber, penaltyRef)) {
-                return setServiceDownUrl(serviceResponse);
-            }
+        // User can only pay for a penalty with no associated legal costs
+        if (isPenaltyRefMultiplePenalty(assessment, companyNumber, penaltyRef)) {
+            return getServiceDownResponse();
+        }
 
-            Optional<FinancialPenalty> payablePenaltyOptional = getOpenPenalty(penaltyAndCosts,
-                    penaltyRef);
-            if (payablePenaltyOptional.isEmpty()) {
-                loggingPenaltyRefNoOpenPenalty(companyNumber, penaltyRef);
-                return setServiceDownUrl(serviceResponse);
-            }
+        Optional<FinancialPenalty> payablePenaltyOptional = assessment.getOpenPenalty();
+        if (payablePenaltyOptional.isEmpty()) {
+            loggingPenaltyRefNoOpenPenalty(companyNumber, penaltyRef);
+            return getServiceDownResponse();
+        }
 
-            FinancialPenalty payablePenalty = payablePenaltyOptional.get();
-            if (!isOutstandingAmountMatch(payablePenalty)) {
-                return setServiceDownUrl(serviceResponse);
-            }
+        FinancialPenalty payablePenalty = payablePenaltyOptional.get();
+        if (!isOutstandingAmountMatch(payablePenalty)) {
+            return getServiceDownResponse();
+        }
 
-            setModelForViewPenalties(serviceResponse, companyNumber, penaltyRef, payablePenalty);
+        String companyName = awaitUpstream(companyNameFuture,
+                upstreamConfigurationProperties.getCompanyNameTimeout(), "company name");
 
-            LOGGER.debug(
-                    String.format(
-                            "Online payment for penalty %s is available for company number %s",
-                            penaltyRef, companyNumber));
-        }
-        return serviceResponse;
+        LOGGER.debug("Online payment for penalty %s is available for company number %s",
+                penaltyRef, companyNumber);
+        return PPSServiceResponse.render(
+                createModelUpdate(companyName, penaltyKey, payablePenalty),
+                createBaseModelUpdate(penaltyReference));
     }
 
     @Override
-    public String postViewPenalties(String companyNumber, String penaltyRef) throws ServiceException {
+    public String postViewPenalties(PenaltyKey penaltyKey) throws ServiceException {
+        String companyNumber = penaltyKey.companyNumber();
+        String penaltyRef = penaltyKey.penaltyRef();
         String redirectPathUnscheduledServiceDown = REDIRECT_URL_PREFIX +
                 penaltyConfigurationProperties.getUnscheduledServiceDownPath();
 
-        List<FinancialPenalty> penaltyAndCosts = penaltyPaymentService.getFinancialPenalties(
-                companyNumber, penaltyRef);
+        // The payable session is built from the penalty as it is now, not as it was viewed
+        List<FinancialPenalty> penaltyAndCosts = penaltyPaymentService.getLatestFinancialPenalties(
+                penaltyKey);
 
-        LOGGER.debug(String.format(
-                "Checking if online payment for penalty %s is available for company number %s",
-                penaltyRef, companyNumber));
+        LOGGER.debug("Checking if online payment for penalty %s is available for company number %s",
+                penaltyRef, companyNumber);
 
-        if (PenaltyUtils.penaltyTypeDisabled(penaltyAndCosts, penaltyRef)) {
+        var assessment = PenaltyAssessment.assess(penaltyAndCosts, penaltyRef);
+        if (assessment.isDisabled()) {
             return buildOnlinePaymentUnavailablePath(companyNumber, penaltyRef);
         }
 
-        if (isPenaltyRefMultiplePenalty(penaltyAndCosts, companyNumber, penaltyRef)) {
+        if (isPenaltyRefMultiplePenalty(assessment, companyNumber, penaltyRef)) {
             return redirectPathUnscheduledServiceDown;
         }
 
-        Optional<FinancialPenalty> payablePenaltyOptional = getOpenPenalty(penaltyAndCosts,
-                penaltyRef);
+        Optional<FinancialPenalty> payablePenaltyOptional = assessment.getOpenPenalty();
 
         if (payablePenaltyOptional.isEmpty()) {
             loggingPenaltyRefNoOpenPenalty(companyNumber, penaltyRef);
             return redirectPathUnscheduledServiceDown;
         }
 
-        LOGGER.debug(
-                String.format("Online payment for penalty %s is available for company number %s",
-                        penaltyRef, companyNumber));
+        LOGGER.debug("Online payment for penalty %s is available for company number %s",
+                penaltyRef, companyNumber);
 
         PayableFinancialPenaltySession payableFinancialPenaltySession = payablePenaltyService.createPayableFinancialPenaltySession(
-                companyNumber,
-                penaltyRef,
+                penaltyKey,
                 payablePenaltyOptional.get().getOutstanding());
 
         return UrlBasedViewResolver.REDIRECT_URL_PREFIX + paymentService.createPaymentSession(
-                payableFinancialPenaltySession, companyNumber, penaltyRef) + "?summary=false";
+                payableFinancialPenaltySession, penaltyKey) + "?summary=false";
     }
 
-    private Optional<FinancialPenalty> getOpenPenalty(List<FinancialPenalty> penaltyAndCosts,
-            String penaltyRef) {
-        return penaltyAndCosts.stream()
-                .filter(penalty -> penaltyRef.equals(penalty.getId()))
-                .filter(penalty -> OPEN == penalty.getPayableStatus())
-                .filter(penalty -> PENALTY_TYPE.equals(penalty.getType()))
-                .findFirst();
-    }
-
-    private void setModelForViewPenalties(
-            PPSServiceResponse serviceResponse,
-            String companyNumber,
-            String penaltyRef,
-            FinancialPenalty payablePenalty) throws ServiceException {
-        CompanyProfileApi companyProfileApi = companyService.getCompanyProfile(companyNumber);
-        Map<String, Object> modelAttributes = new HashMap<>();
-        modelAttributes.put(COMPANY_NAME_ATTR, companyProfileApi.getCompanyName());
-        modelAttributes.put(PENALTY_REF_ATTR, penaltyRef);
-        modelAttributes.put(PENALTY_REFERENCE_NAME_ATTR,
-                PenaltyUtils.getPenaltyReferenceType(penaltyRef).name());
+    private Map<String, Object> createModelUpdate(
+            String companyName,
+            PenaltyKey penaltyKey,
+            FinancialPenalty payablePenalty) {
+        Map<String, Object> modelAttributes = HashMap.newHashMap(5);
+        modelAttributes.put(COMPANY_NAME_ATTR, companyName);
+        modelAttributes.put(PENALTY_REF_ATTR, penaltyKey.penaltyRef());
+        modelAttributes.put(PENALTY_REFERENCE_NAME_ATTR, penaltyKey.penaltyReference().name());
         modelAttributes.put(REASON_ATTR, payablePenalty.getReason());
         modelAttributes.put(AMOUNT_ATTR,
                 PenaltyUtils.getFormattedAmount(payablePenalty.getOutstanding()));
-        serviceResponse.setModelAttributes(modelAttributes);
+        return modelAttributes;
     }
 
     private boolean isPenaltyRefMultiplePenalty(
-            List<FinancialPenalty> penaltyAndCosts,
+            PenaltyAssessment assessment,
             String companyNumber,
             String penaltyRef) {
-        if (penaltyAndCosts.size() > 1) {
-            LOGGER.info(String.format(
-                    "Online payment unavailable as there is not a single payable penalty. There are %s penalty and costs for company number %s and penalty ref %s",
-                    penaltyAndCosts.size(), companyNumber, penaltyRef));
+        if (assessment.hasMultipleItems()) {
+            LOGGER.info("Online payment unavailable as there is not a single payable penalty. There are %s penalty and costs for company number %s and penalty ref %s",
+                    assessment.getItemCount(), companyNumber, penaltyRef);
             return true;
         }
         return false;
@@ -214,53 +233,68 @@ public class ViewPenaltiesServiceImpl implements ViewPenaltiesService {
             String companyNumber,
             String penaltyRef
     ) {
-        LOGGER.info(String.format(
-                "Online payment unavailable as there is no open penalty for company number %s and penalty ref %s",
-                companyNumber, penaltyRef));
+        LOGGER.info("Online payment unavailable as there is no open penalty for company number %s and penalty ref %s",
+                companyNumber, penaltyRef);
     }
 
     private boolean isOutstandingAmountMatch(FinancialPenalty payablePenalty) {
         if (!payablePenalty.getOriginalAmount().equals(payablePenalty.getOutstanding())) {
-            LOGGER.info(String.format(
-                    "Penalty %s is not valid for online payment. Online partial payment of penalty is not allowed",
-                    payablePenalty.getId()));
+            LOGGER.info("Penalty %s is not valid for online payment. Online partial payment of penalty is not allowed",
+                    payablePenalty.getId());
             return false;
         }
         return true;
     }
 
-    private Optional<PenaltyReference> getPenaltyReference(String penaltyRef, String companyNumber)
-            throws IllegalArgumentException {
-        PenaltyReference penaltyReference = PenaltyUtils.getPenaltyReferenceType(penaltyRef);
-        LOGGER.debug(
-                String.format("Checking if penalty ref type %s is enabled for company number %s",
-                        penaltyReference.name(), companyNumber));
+    private <T> T awaitUpstream(Future<T> future, Duration timeout, String description)
+            throws ServiceException {
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof ServiceException serviceException) {
+                throw serviceException;
+            }
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ServiceException("Error retrieving " + description, ex.getCause());
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            throw new ServiceException(String.format("Timed out after %d ms retrieving %s",
+                    timeout.toMillis(), description), ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ServiceException("Interrupted retrieving " + description, ex);
+        }
+    }
+
+    private Optional<PenaltyReference> getPenaltyReference(PenaltyKey penaltyKey) {
+        PenaltyReference penaltyReference = penaltyKey.penaltyReference();
+        String companyNumber = penaltyKey.companyNumber();
+        LOGGER.debug("Checking if penalty ref type %s is enabled for company number %s",
+                penaltyReference.name(), companyNumber);
         if (FALSE.equals(featureFlagChecker.isPenaltyRefEnabled(penaltyReference))) {
-            LOGGER.debug(
-                    String.format("Penalty reference type %s not enabled for company number %s",
-                            penaltyReference.name(), companyNumber));
+            LOGGER.debug("Penalty reference type %s not enabled for company number %s",
+                penaltyReference.name(), companyNumber);
             return Optional.empty();
         }
-        LOGGER.debug(String.format("Penalty ref type %s is enabled for company number %s",
-                penaltyReference.name(), companyNumber));
+        LOGGER.debug("Penalty ref type %s is enabled for company number %s",
+                penaltyReference.name(), companyNumber);
         return Optional.of(penaltyReference);
     }
 
-    private void setBackUrl(PPSServiceResponse serviceResponse,
-            PenaltyReference penaltyReference) {
-        Map<String, String> baseModelAttributes = new HashMap<>();
+    private Map<String, String> createBaseModelUpdate(PenaltyReference penaltyReference) {
+        Map<String, String> baseModelAttributes = HashMap.newHashMap(2);
         String redirectBackUrl = penaltyConfigurationProperties.getEnterDetailsPath()
                 + "?ref-starts-with=" + penaltyReference.getStartsWith();
         baseModelAttributes.put(BACK_LINK_URL_ATTR, redirectBackUrl);
         baseModelAttributes.put(SIGN_OUT_URL_ATTR, penaltyConfigurationProperties.getSignOutPath());
-        serviceResponse.setBaseModelAttributes(baseModelAttributes);
+        return baseModelAttributes;
     }
 
-    private PPSServiceResponse setServiceDownUrl(PPSServiceResponse serviceResponse) {
-        String redirectPathUnscheduledServiceDown = REDIRECT_URL_PREFIX +
-                penaltyConfigurationProperties.getUnscheduledServiceDownPath();
-        serviceResponse.setUrl(redirectPathUnscheduledServiceDown);
-        return serviceResponse;
+    private PPSServiceResponse getServiceDownResponse() {
+        return PPSServiceResponse.redirect(REDIRECT_URL_PREFIX +
+                penaltyConfigurationProperties.getUnscheduledServiceDownPath());
     }
 
     private String buildOnlinePaymentUnavailablePath(String companyNumber, String penaltyRef) {
@@ -0,0 +1,197 @@
+package uk.gov.companieshouse.web.pps.session;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import uk.gov.companieshouse.web.pps.util.PenaltyUtils;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+
+import static uk.gov.companieshouse.web.pps.service.ServiceConstants.PAYMENT_STATE;
+import static uk.gov.companieshouse.web.pps.service.ServiceConstants.SESSION_ID;
+import static uk.gov.companieshouse.web.pps.service.ServiceConstants.SIGN_IN_INFO;
+
+/**
+ * A typed view of the session data for the current request. The sign in state and email are
+ * read from the session data once, when the view is created, and the view is kept as a request
+ * attribute so that interceptors, controllers and services share it rather than each going
+ * back to the {@link SessionService}.
+ * <p>
+ * Changes to the attributes this application owns are made through the view, which leaves
+ * the session data untouched when a value is unchanged. Saving the session data to the store
+ * is left to the session handler.
+ */
+public final class SessionView {
+
+    static final String SESSION_VIEW_ATTR = SessionView.class.getName();
+
+    private final Map<String, Object> sessionData;
+    private final boolean signedIn;
+    private final String loginEmail;
+    private int changeCount;
+
+    private SessionView(Map<String, Object> sessionData) {
+        this.sessionData = sessionData;
+        this.signedIn = sessionData != null && sessionData.get(SIGN_IN_INFO) != null;
+        this.loginEmail = signedIn ? PenaltyUtils.getLoginEmail(sessionData) : "";
+    }
+
+    /**
+     * Returns the view of the session data for the current request, creating it from the
+     * session service the first time it is asked for. Outside of a request a new view is
+     * returned on every call.
+     *
+     * @param sessionService the session service
+     * @return the view of the session data
+     */
+    public static SessionView current(SessionService sessionService) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return of(sessionService.getSessionDataFromContext());
+        }
+        Object sessionView = requestAttributes.getAttribute(SESSION_VIEW_ATTR,
+                RequestAttributes.SCOPE_REQUEST);
+        if (sessionView instanceof SessionView view) {
+            return view;
+        }
+        SessionView view = of(sessionService.getSessionDataFromContext());
+        requestAttributes.setAttribute(SESSION_VIEW_ATTR, view, RequestAttributes.SCOPE_REQUEST);
+        return view;
+    }
+
+    /**
+     * Creates a view of the given session data.
+     *
+     * @param sessionData the session data, or {@code null} if there is no session
+     * @return the view of the session data
+     */
+    public static SessionView of(Map<String, Object> sessionData) {
+        return new SessionView(sessionData);
+    }
+
+    public boolean hasSession() {
+        return sessionData != null;
+    }
+
+    public boolean isSignedIn() {
+        return signedIn;
+    }
+
+    public String getLoginEmail() {
+        return loginEmail;
+    }
+
+    /**
+     * Returns the id the session store holds the session under.
+     *
+     * @return the session id, or {@code null} if there is no session
+     */
+    public String getSessionId() {
+        return getString(SESSION_ID);
+    }
+
+    public boolean hasPaymentState() {
+        return sessionData != null && sessionData.containsKey(PAYMENT_STATE);
+    }
+
+    public String getPaymentState() {
+        return getString(PAYMENT_STATE);
+    }
+
+    public void setPaymentState(String paymentState) {
+        put(PAYMENT_STATE, paymentState);
+    }
+
+    /**
+     * Removes the payment state from the session, so that it can only be used once.
+     *
+     * @return the payment state that was removed, or {@code null} if there was none
+     */
+    public String removePaymentState() {
+        String paymentState = getPaymentState();
+        remove(PAYMENT_STATE);
+        return paymentState;
+    }
+
+    public Object get(String key) {
+        return sessionData == null ? null : sessionData.get(key);
+    }
+
+    public String getString(String key) {
+        Object value = get(key);
+        return value == null ? null : value.toString();
+    }
+
+    /**
+     * Sets a session attribute, writing to the session data only if the value has changed.
+     *
+     * @param key   the attribute name
+     * @param value the attribute value
+     */
+    public void put(String key, Object value) {
+        if (sessionData == null) {
+            return;
+        }
+        if (value == null) {
+            remove(key);
+        } else if (!Objects.equals(sessionData.get(key), value)) {
+            sessionData.put(key, value);
+            changeCount++;
+        }
+    }
+
+    /**
+     * Removes a session attribute, writing to the session data only if it was present.
+     *
+     * @param key the attribute name
+     */
+    public void remove(String key) {
+        if (sessionData != null && sessionData.containsKey(key)) {
+            sessionData.remove(key);
+            changeCount++;
+        }
+    }
+
+    /**
+     * Returns how many changes this request has made to the session data through the view.
+     * Used for metrics only; the session store is still written by the session handler.
+     *
+     * @return the number of attributes set or removed
+     */
+    public int getChangeCount() {
+        return changeCount;
+    }
+
+    /**
+     * Estimates the size of the session data once serialised, by adding up the lengths of
+     * its keys and values. Used for metrics, so it does not need to match the session store
+     * exactly.
+     *
+     * @return the estimated size in bytes, or 0 if there is no session
+     */
+    public long estimateSize() {
+        return sessionData == null ? 0 : estimateSize(sessionData);
+    }
+
+    private static long estimateSize(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            long size = 2;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += estimateSize(entry.getKey()) + estimateSize(entry.getValue()) + 2;
+            }
+            return size;
+        }
+        if (value instanceof Collection<?> collection) {
+            long size = 2;
+            for (Object element : collection) {
+                size += estimateSize(element) + 1;
+            }
+            return size;
+        }
+        if (value instanceof CharSequence text) {
+            return text.length() + 2L;
+        }
+        return value == null ? 4 : value.toString().length();
+    }
+}
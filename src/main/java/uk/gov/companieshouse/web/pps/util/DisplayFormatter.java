@@ -0,0 +1,112 @@
+package uk.gov.companieshouse.web.pps.util;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * Formats amounts, dates and times for display. Safe to share between request threads: amounts
+ * are formatted with integer arithmetic rather than a shared {@code DecimalFormat}, the date
+ * formatters are immutable and compiled once, and the payment date is worked out once a day.
+ * Dates are shown as they are in the UK, whatever the time zone of the server.
+ */
+public final class DisplayFormatter {
+
+    public static final ZoneId UK_ZONE = ZoneId.of("Europe/London");
+
+    private static final DateTimeFormatter PAYMENT_DATE_FORMAT =
+            DateTimeFormatter.ofPattern("d MMMM uuuu", Locale.UK);
+    private static final DateTimeFormatter DATE_TIME_FORMAT =
+            DateTimeFormatter.ofPattern("h:mm a 'on' EEEE d MMMM yyyy", Locale.UK);
+
+    // "-2,147,483,648" is the longest amount
+    private static final int MAX_AMOUNT_LENGTH = 14;
+
+    private static final DisplayFormatter SYSTEM = new DisplayFormatter(Clock.system(UK_ZONE));
+
+    private final Clock clock;
+    private volatile PaymentDate paymentDate;
+
+    DisplayFormatter(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the formatter using the system clock.
+     *
+     * @return the shared formatter
+     */
+    public static DisplayFormatter system() {
+        return SYSTEM;
+    }
+
+    /**
+     * Formats a whole pound amount with comma separated thousands, such as {@code 1,500}.
+     *
+     * @param amount the amount
+     * @return the formatted amount
+     */
+    public static String formatAmount(int amount) {
+        long remaining = Math.abs((long) amount);
+        char[] chars = new char[MAX_AMOUNT_LENGTH];
+        int position = chars.length;
+        int digits = 0;
+        do {
+            if (digits > 0 && digits % 3 == 0) {
+                chars[--position] = ',';
+            }
+            chars[--position] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+            digits++;
+        } while (remaining != 0);
+        if (amount < 0) {
+            chars[--position] = '-';
+        }
+        return new String(chars, position, chars.length - position);
+    }
+
+    /**
+     * Formats a date and time as the UK time it falls on, such as
+     * {@code 11:00 pm on Friday 8 November 2019}.
+     *
+     * @param dateTime the date and time
+     * @return the formatted date and time
+     */
+    public static String formatDateTime(OffsetDateTime dateTime) {
+        return dateTime.atZoneSameInstant(UK_ZONE).format(DATE_TIME_FORMAT);
+    }
+
+    /**
+     * Returns today's date in the UK, such as {@code 8 November 2019}. The date is formatted
+     * once and reused until midnight UK time.
+     *
+     * @return today's date for display
+     */
+    public String getPaymentDateDisplay() {
+        Instant now = clock.instant();
+        PaymentDate current = paymentDate;
+        if (current == null || !current.covers(now.toEpochMilli())) {
+            // Threads crossing midnight together may each format the date, which is harmless
+            current = PaymentDate.of(LocalDate.ofInstant(now, UK_ZONE));
+            paymentDate = current;
+        }
+        return current.display();
+    }
+
+    private record PaymentDate(String display, long startOfDay, long startOfNextDay) {
+
+        private static PaymentDate of(LocalDate date) {
+            return new PaymentDate(date.format(PAYMENT_DATE_FORMAT),
+                    date.atStartOfDay(UK_ZONE).toInstant().toEpochMilli(),
+                    date.plusDays(1).atStartOfDay(UK_ZONE).toInstant().toEpochMilli());
+        }
+
+        private boolean covers(long epochMilli) {
+            return epochMilli >= startOfDay && epochMilli < startOfNextDay;
+        }
+    }
+}
@@ -2,27 +2,23 @@ package uk.gov.companieshouse.web.pps.util;
 
 import org.apache.commons.lang3.StringUtils;
 import uk.gov.companieshouse.api.model.financialpenalty.FinancialPenalty;
+import uk.gov.companieshouse.web.pps.service.penaltypayment.PenaltyAssessment;
 
-import java.text.DecimalFormat;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 
-import static uk.gov.companieshouse.api.model.financialpenalty.PayableStatus.DISABLED;
 import static uk.gov.companieshouse.web.pps.service.ServiceConstants.SIGN_IN_INFO;
-import static uk.gov.companieshouse.web.pps.service.penaltypayment.impl.PenaltyPaymentServiceImpl.PENALTY_TYPE;
 
 public final class PenaltyUtils {
 
-    private static final DecimalFormat AMOUNT_FORMATTER = new DecimalFormat("#,###");
-
     private PenaltyUtils() {
     }
 
     public static String getFormattedAmount(final Integer amount) {
-        return AMOUNT_FORMATTER.format(amount);
+        if (amount == null) {
+            throw new IllegalArgumentException("Amount is null");
+        }
+        return DisplayFormatter.formatAmount(amount);
     }
 
     public static String getLoginEmail(final Map<String, Object> sessionData) {
@@ -37,8 +33,7 @@ public final class PenaltyUtils {
     }
 
     public static String getPaymentDateDisplay() {
-        return LocalDate.now()
-                .format(DateTimeFormatter.ofPattern("d MMMM uuuu", Locale.UK));
+        return DisplayFormatter.system().getPaymentDateDisplay();
     }
 
     public static PenaltyReference getPenaltyReferenceType(final String penaltyRef) {
@@ -52,10 +47,7 @@ public final class PenaltyUtils {
     }
 
     public static boolean penaltyTypeDisabled(List<FinancialPenalty> penalties, String penaltyRef) {
-        return penalties.stream().anyMatch(penalty ->
-                PENALTY_TYPE.equals(penalty.getType()) // is a penalty
-                        && penaltyRef.equals(penalty.getId()) // is target penalty
-                        && DISABLED.equals(penalty.getPayableStatus())); // is disabled
+        return PenaltyAssessment.assess(penalties, penaltyRef).isDisabled();
     }
 }
 
@@ -1,6 +1,5 @@
 package uk.gov.companieshouse.web.pps.validation;
 
-import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.BindingResult;
 import uk.gov.companieshouse.web.pps.models.EnterDetails;
@@ -12,14 +11,21 @@ import static java.util.Locale.UK;
 import static java.util.ResourceBundle.getBundle;
 import static uk.gov.companieshouse.web.pps.util.PenaltyReference.SANCTIONS_ROE;
 
+/**
+ * Validates the company number and penalty reference entered on the enter details page. Each
+ * value is checked in a single pass over its characters, which records everything the checks
+ * below need, so a valid entry is accepted without building any strings or patterns.
+ */
 @Component
 public class EnterDetailsValidator {
 
-    private static final String COMPANY_NUMBER_REGEX = "^([a-zA-Z0-9]{8}|\\d{1,8})$";
-    private static final String OVERSEAS_ENTITY_ID_REGEX = "^[Oo][Ee]\\d{6}$";
-    private static final String LATE_FILING_PENALTY_REF_REGEX = "^[Aa]\\d{7}$";
-    private static final String SANCTIONS_PENALTY_REF_REGEX = "^[Pp]\\d{7}$";
-    private static final String SANCTIONS_ROE_PENALTY_REF_REGEX = "^[Uu]\\d{7}$";
+    private static final int FORMAT_LENGTH = 8;
+
+    // What a single pass over a value found
+    private static final int HAS_SPACE = 1;
+    private static final int NOT_BLANK = 1 << 1;
+    private static final int NOT_ALPHANUMERIC = 1 << 2;
+    private static final int NOT_FORMAT = 1 << 3;
 
     private final ResourceBundle bundle;
 
@@ -34,93 +40,137 @@ public class EnterDetailsValidator {
 
     public void isValidCompanyNumber(final EnterDetails enterDetails,
             final BindingResult bindingResult) {
-        String companyNumberField = "companyNumber";
+        String companyNumber = enterDetails.getCompanyNumber();
         String penaltyReferenceName = enterDetails.getPenaltyReferenceName();
 
-        // company number is empty
-        if (StringUtils.isEmpty(enterDetails.getCompanyNumber())) {
-            String key =
-                    "enterDetails.companyNumber.notValid." + enterDetails.getPenaltyReferenceName();
-            bindingResult.rejectValue(companyNumberField, companyNumberField,
-                    bundle.getString(key));
-        }
-        // company number contains space
-        else if (StringUtils.containsAny(enterDetails.getCompanyNumber(), " ")) {
-            String key =
-                    "enterDetails.companyNumber.noSpaces." + enterDetails.getPenaltyReferenceName();
-            bindingResult.rejectValue(companyNumberField, companyNumberField,
-                    bundle.getString(key));
-        }
-        // company number less than 8 characters
-        else if (enterDetails.getCompanyNumber().length() < 8) {
-            String key =
-                    "enterDetails.companyNumber.lessCharacters."
-                            + enterDetails.getPenaltyReferenceName();
-            bindingResult.rejectValue(companyNumberField, companyNumberField,
-                    bundle.getString(key));
-        }
-        // company number contains non alphanumeric characters
-        else if (!StringUtils.isAlphanumeric(enterDetails.getCompanyNumber())) {
-            String key =
-                    "enterDetails.companyNumber.nonAlphanumeric."
-                            + enterDetails.getPenaltyReferenceName();
-            bindingResult.rejectValue(companyNumberField, companyNumberField,
-                    bundle.getString(key));
-        }
-        // company number in incorrect format
-        else {
-            String regex = SANCTIONS_ROE.name().equals(penaltyReferenceName)
-                    ? OVERSEAS_ENTITY_ID_REGEX
-                    : COMPANY_NUMBER_REGEX;
-            if (!enterDetails.getCompanyNumber().matches(regex)) {
-                String key = "enterDetails.companyNumber.incorrectFormat."
-                        + enterDetails.getPenaltyReferenceName();
-                bindingResult.rejectValue(companyNumberField, companyNumberField,
-                        bundle.getString(key));
+        String error;
+        if (companyNumber == null || companyNumber.isEmpty()) {
+            error = "notValid";
+        } else {
+            Format format = SANCTIONS_ROE.name().equals(penaltyReferenceName)
+                    ? Format.OVERSEAS_ENTITY_ID
+                    : Format.COMPANY_NUMBER;
+            int found = scan(companyNumber, format);
+            if ((found & HAS_SPACE) != 0) {
+                error = "noSpaces";
+            } else if (companyNumber.length() < FORMAT_LENGTH) {
+                error = "lessCharacters";
+            } else if ((found & NOT_ALPHANUMERIC) != 0) {
+                error = "nonAlphanumeric";
+            } else if ((found & NOT_FORMAT) != 0) {
+                error = "incorrectFormat";
+            } else {
+                return;
             }
         }
+
+        String companyNumberField = "companyNumber";
+        String key = "enterDetails.companyNumber." + error + "." + penaltyReferenceName;
+        bindingResult.rejectValue(companyNumberField, companyNumberField, bundle.getString(key));
     }
 
     public void isValidPenaltyRef(final EnterDetails enterDetails,
             final BindingResult bindingResult) {
         String penaltyRef = enterDetails.getPenaltyRef();
-        String penaltyRefField = "penaltyRef";
         String penaltyReferenceName = enterDetails.getPenaltyReferenceName();
 
-        // penalty reference is empty
-        if (StringUtils.isBlank(penaltyRef)) {
-            bindingResult.rejectValue(penaltyRefField, penaltyRefField,
-                    bundle.getString("enterDetails.penaltyRef.notValid"));
+        String key;
+        if (penaltyRef == null) {
+            key = "enterDetails.penaltyRef.notValid";
+        } else {
+            Format format = Format.forPenaltyRef(penaltyReferenceName);
+            int found = scan(penaltyRef, format);
+            if ((found & NOT_BLANK) == 0) {
+                key = "enterDetails.penaltyRef.notValid";
+            } else if ((found & HAS_SPACE) != 0) {
+                key = "enterDetails.penaltyRef.noSpaces";
+            } else if (penaltyRef.length() < FORMAT_LENGTH) {
+                key = "enterDetails.penaltyRef.lessCharacters";
+            } else if ((found & NOT_ALPHANUMERIC) != 0) {
+                key = "enterDetails.penaltyRef.nonAlphanumeric." + penaltyReferenceName;
+            } else if (format == null) {
+                // Fails for a penalty reference name that is missing or unknown
+                PenaltyReference.valueOf(penaltyReferenceName);
+                return;
+            } else if ((found & NOT_FORMAT) != 0) {
+                key = "enterDetails.penaltyRef.incorrectFormat";
+            } else {
+                return;
+            }
         }
-        // penalty reference contains space
-        else if (StringUtils.containsAny(penaltyRef, " ")) {
-            bindingResult.rejectValue(penaltyRefField, penaltyRefField,
-                    bundle.getString("enterDetails.penaltyRef.noSpaces"));
+
+        String penaltyRefField = "penaltyRef";
+        bindingResult.rejectValue(penaltyRefField, penaltyRefField, bundle.getString(key));
+    }
+
+    private static int scan(String value, Format format) {
+        int length = value.length();
+        int found = length == FORMAT_LENGTH ? 0 : NOT_FORMAT;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == ' ') {
+                found |= HAS_SPACE;
+            }
+            if (!Character.isWhitespace(c)) {
+                found |= NOT_BLANK;
+            }
+            if (!Character.isLetterOrDigit(c)) {
+                found |= NOT_ALPHANUMERIC;
+            }
+            if (format != null && i < FORMAT_LENGTH && !format.accepts(i, c)) {
+                found |= NOT_FORMAT;
+            }
         }
-        // penalty reference less than 8 characters
-        else if (penaltyRef.length() < 8) {
-            bindingResult.rejectValue(penaltyRefField, penaltyRefField,
-                    bundle.getString("enterDetails.penaltyRef.lessCharacters"));
+        return found;
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    /**
+     * The 8 character formats: a company number of letters and digits, or an upper or lower
+     * case prefix followed by digits.
+     */
+    private enum Format {
+        COMPANY_NUMBER(""),
+        OVERSEAS_ENTITY_ID("OE"),
+        LATE_FILING_PENALTY_REF("A"),
+        SANCTIONS_PENALTY_REF("P"),
+        SANCTIONS_ROE_PENALTY_REF("U");
+
+        private final String prefix;
+
+        Format(String prefix) {
+            this.prefix = prefix;
         }
-        // penalty reference contains non alphanumeric characters
-        else if (!StringUtils.isAlphanumeric(enterDetails.getPenaltyRef())) {
-            String key =
-                    "enterDetails.penaltyRef.nonAlphanumeric."
-                            + enterDetails.getPenaltyReferenceName();
-            bindingResult.rejectValue(penaltyRefField, penaltyRefField,
-                    bundle.getString(key));
+
+        private static Format forPenaltyRef(String penaltyReferenceName) {
+            for (PenaltyReference penaltyReference : PenaltyReference.values()) {
+                if (penaltyReference.name().equals(penaltyReferenceName)) {
+                    return switch (penaltyReference) {
+                        case LATE_FILING -> LATE_FILING_PENALTY_REF;
+                        case SANCTIONS -> SANCTIONS_PENALTY_REF;
+                        case SANCTIONS_ROE -> SANCTIONS_ROE_PENALTY_REF;
+                    };
+                }
+            }
+            return null;
         }
-        // penalty reference in incorrect format
-        else {
-            String regex = switch (PenaltyReference.valueOf(penaltyReferenceName)) {
-                case LATE_FILING -> LATE_FILING_PENALTY_REF_REGEX;
-                case SANCTIONS -> SANCTIONS_PENALTY_REF_REGEX;
-                case SANCTIONS_ROE -> SANCTIONS_ROE_PENALTY_REF_REGEX;
-            };
-            if (!penaltyRef.matches(regex)) {
-                bindingResult.rejectValue(penaltyRefField, penaltyRefField,
-                        bundle.getString("enterDetails.penaltyRef.incorrectFormat"));
+
+        private boolean accepts(int index, char c) {
+            if (this == COMPANY_NUMBER) {
+                return isAsciiLetter(c) || isAsciiDigit(c);
+            }
+            if (index < prefix.length()) {
+                char upperCase = prefix.charAt(index);
+                return c == upperCase || c == Character.toLowerCase(upperCase);
             }
+            return isAsciiDigit(c);
         }
     }
 }
@@ -8,11 +8,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import uk.gov.companieshouse.web.pps.interceptor.LoggingInterceptor;
+import uk.gov.companieshouse.web.pps.interceptor.SessionMetricsInterceptor;
 import uk.gov.companieshouse.web.pps.interceptor.UserDetailsInterceptor;
 
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -21,6 +27,9 @@ class PPSWebApplicationTest {
     @Mock
     private LoggingInterceptor loggingInterceptor;
 
+    @Mock
+    private SessionMetricsInterceptor sessionMetricsInterceptor;
+
     @Mock
     private UserDetailsInterceptor userDetailsInterceptor;
 
@@ -39,13 +48,11 @@ class PPSWebApplicationTest {
     void addInterceptors() {
         ppsWebApplication.addInterceptors(registry);
 
-        ArgumentCaptor<LoggingInterceptor> captorLoggingInterceptor =
-                ArgumentCaptor.forClass(LoggingInterceptor.class);
-
-        ArgumentCaptor<UserDetailsInterceptor> captorUserDetails =
-                ArgumentCaptor.forClass(UserDetailsInterceptor.class);
+        ArgumentCaptor<HandlerInterceptor> captorInterceptor =
+                ArgumentCaptor.forClass(HandlerInterceptor.class);
 
-        verify(registry).addInterceptor(captorLoggingInterceptor.capture());
-        verify(registry).addInterceptor(captorUserDetails.capture());
+        verify(registry, times(3)).addInterceptor(captorInterceptor.capture());
+        assertEquals(List.of(loggingInterceptor, sessionMetricsInterceptor, userDetailsInterceptor),
+                captorInterceptor.getAllValues());
     }
 }
@@ -0,0 +1,52 @@
+package uk.gov.companieshouse.web.pps.api;
+
+import uk.gov.companieshouse.api.ApiClient;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An {@link ApiClientService} for tests that hands out the given SDK client and records which
+ * method asked for it. Every upstream call takes a client for itself, so the recorded callers
+ * are the upstream calls made since the last {@link #reset()}, including those made away from
+ * the request thread.
+ */
+public class CountingApiClientService implements ApiClientService {
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final ApiClient apiClient;
+    private final List<String> callers = new ArrayList<>();
+
+    public CountingApiClientService(ApiClient apiClient) {
+        this.apiClient = apiClient;
+    }
+
+    @Override
+    public ApiClient getPublicApiClient() {
+        String caller = STACK_WALKER.walk(frames -> frames.skip(1).findFirst()
+                .map(frame -> getSimpleName(frame.getClassName()) + "." + frame.getMethodName())
+                .orElse("unknown"));
+        synchronized (callers) {
+            callers.add(caller);
+        }
+        return apiClient;
+    }
+
+    /**
+     * Returns the upstream calls made since the last reset, and starts counting again.
+     *
+     * @return the class and method that made each call, in the order they were made
+     */
+    public List<String> reset() {
+        synchronized (callers) {
+            List<String> calls = List.copyOf(callers);
+            callers.clear();
+            return calls;
+        }
+    }
+
+    private static String getSimpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+}
@@ -0,0 +1,212 @@
+package uk.gov.companieshouse.web.pps.api;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gov.companieshouse.web.pps.exception.ServiceException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static uk.gov.companieshouse.web.pps.api.RequestCoalescer.COALESCED_METRIC;
+import static uk.gov.companieshouse.web.pps.api.UpstreamOperation.COMPANY_PROFILE_GET;
+
+class RequestCoalescerTest {
+
+    private static final String URI = "/company/12345678";
+    private static final int WAITERS = 4;
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private MeterRegistry meterRegistry;
+    private RequestCoalescer<String> coalescer;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new RequestCoalescer<>(COMPANY_PROFILE_GET, TIMEOUT, meterRegistry);
+        executor = Executors.newFixedThreadPool(WAITERS + 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Call - concurrent callers for the same key share one upstream call")
+    void concurrentCallersShareOneCall() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ApiCall<String> blockingCall = () -> {
+            calls.incrementAndGet();
+            await(release);
+            return "profile";
+        };
+
+        List<Future<String>> results = startWaiters(blockingCall);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("profile", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, calls.get());
+        assertEquals(WAITERS, coalesced());
+        assertEquals(0, coalescer.getInFlightCount());
+    }
+
+    @Test
+    @DisplayName("Call - failure of the shared call is thrown to every caller")
+    void failureIsSharedWithWaiters() throws Exception {
+        ServiceException failure = new ServiceException("Error retrieving company profile", null);
+        CountDownLatch release = new CountDownLatch(1);
+        ApiCall<String> failingCall = () -> {
+            await(release);
+            throw failure;
+        };
+
+        List<Future<String>> results = startWaiters(failingCall);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            ExecutionException ex = assertThrows(ExecutionException.class,
+                    () -> result.get(5, TimeUnit.SECONDS));
+            assertSame(failure, ex.getCause());
+        }
+        assertEquals(0, coalescer.getInFlightCount());
+    }
+
+    @Test
+    @DisplayName("Call - result is not kept once the call completes")
+    void resultIsNotRetained() throws ServiceException {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertEquals("profile-1", coalescer.call(URI, () -> "profile-" + calls.incrementAndGet()));
+        assertEquals("profile-2", coalescer.call(URI, () -> "profile-" + calls.incrementAndGet()));
+
+        assertEquals(0, coalescer.getInFlightCount());
+        assertEquals(0, coalesced());
+    }
+
+    @Test
+    @DisplayName("Call - callers for different keys make their own calls")
+    void differentKeysAreNotCoalesced() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> first = executor.submit(() -> coalescer.call(URI, () -> {
+            await(release);
+            return "first";
+        }));
+        awaitInFlight(1);
+
+        assertEquals("second", coalescer.call(URI + "/other", () -> "second"));
+        release.countDown();
+
+        assertEquals("first", first.get(5, TimeUnit.SECONDS));
+        assertEquals(0, coalesced());
+    }
+
+    @Test
+    @DisplayName("Call - waiter makes the call itself when the caller making it is interrupted")
+    void waiterRetriesWhenLeaderInterrupted() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> coalescer.call(URI, () -> {
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new ServiceException("Interrupted", ex);
+            }
+            return "leader";
+        }));
+        awaitInFlight(1);
+        Future<String> waiter = executor.submit(() -> coalescer.call(URI, () -> "waiter"));
+        awaitCoalesced(1);
+
+        leader.cancel(true);
+
+        assertEquals("waiter", waiter.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(ServiceException.class,
+                assertThrows(ExecutionException.class, leader::get).getCause());
+        assertEquals(0, coalescer.getInFlightCount());
+    }
+
+    @Test
+    @DisplayName("Call - waiter gives up once the timeout passes without the shared call completing")
+    void waiterTimesOut() throws Exception {
+        coalescer = new RequestCoalescer<>(COMPANY_PROFILE_GET, Duration.ofMillis(50), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> coalescer.call(URI, () -> {
+            await(release);
+            return "leader";
+        }));
+        awaitInFlight(1);
+
+        ServiceException ex = assertThrows(ServiceException.class,
+                () -> coalescer.call(URI, () -> "waiter"));
+        release.countDown();
+
+        assertInstanceOf(TimeoutException.class, ex.getCause());
+        assertEquals("leader", leader.get(5, TimeUnit.SECONDS));
+        assertEquals(0, coalescer.getInFlightCount());
+    }
+
+    /**
+     * Starts a caller that makes the call, then waits until every other caller has joined it.
+     */
+    private List<Future<String>> startWaiters(ApiCall<String> call) throws InterruptedException {
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> coalescer.call(URI, call)));
+        awaitInFlight(1);
+        for (int i = 0; i < WAITERS; i++) {
+            results.add(executor.submit(() -> coalescer.call(URI, call)));
+        }
+        awaitCoalesced(WAITERS);
+        return results;
+    }
+
+    private void awaitInFlight(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalescer.getInFlightCount() < count) {
+            assertTrue(System.nanoTime() < deadline, "Call did not start");
+            Thread.sleep(1);
+        }
+    }
+
+    private void awaitCoalesced(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalesced() < count) {
+            assertTrue(System.nanoTime() < deadline, "Callers did not join the call");
+            Thread.sleep(1);
+        }
+    }
+
+    private double coalesced() {
+        return meterRegistry.get(COALESCED_METRIC).tag("operation", "company_profile_get").counter().count();
+    }
+
+    private static void await(CountDownLatch latch) throws ServiceException {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ServiceException("Interrupted", ex);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package uk.gov.companieshouse.web.pps.api.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import uk.gov.companieshouse.web.pps.api.ApiRoute;
+import uk.gov.companieshouse.web.pps.api.AsyncApiClientService;
+import uk.gov.companieshouse.web.pps.api.UpstreamCallHandler;
+import uk.gov.companieshouse.web.pps.exception.ServiceException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncApiClientServiceImplTest {
+
+    private static final String COMPANY_NAME = "TEST_COMPANY";
+
+    @Mock
+    private UpstreamCallHandler mockUpstreamCallHandler;
+
+    private AsyncApiClientService asyncApiClientService;
+
+    @BeforeEach
+    void setUp() {
+        asyncApiClientService = new AsyncApiClientServiceImpl(new SimpleAsyncTaskExecutor(),
+                mockUpstreamCallHandler);
+    }
+
+    @Test
+    @DisplayName("Supply async - completes with the result of the call")
+    void supplyAsyncCompletesWithResult() throws Exception {
+        CompletableFuture<String> result = asyncApiClientService.supplyAsync(ApiRoute.COMPANY,
+                () -> COMPANY_NAME);
+
+        assertEquals(COMPANY_NAME, result.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Supply async - completes exceptionally with the ServiceException thrown")
+    void supplyAsyncCompletesWithServiceException() {
+        ServiceException serviceException = new ServiceException("Error retrieving Company Details", null);
+
+        CompletableFuture<String> result = asyncApiClientService.supplyAsync(ApiRoute.COMPANY,
+                () -> {
+                    throw serviceException;
+                });
+
+        ExecutionException ex = assertThrows(ExecutionException.class,
+                () -> result.get(5, TimeUnit.SECONDS));
+        assertEquals(serviceException, ex.getCause());
+    }
+
+    @Test
+    @DisplayName("Supply async - fails without calling when the route's circuit is open")
+    void supplyAsyncCircuitOpen() {
+        when(mockUpstreamCallHandler.isCircuitOpen(ApiRoute.COMPANY)).thenReturn(true);
+        AtomicBoolean called = new AtomicBoolean();
+
+        CompletableFuture<String> result = asyncApiClientService.supplyAsync(ApiRoute.COMPANY,
+                () -> {
+                    called.set(true);
+                    return COMPANY_NAME;
+                });
+
+        ExecutionException ex = assertThrows(ExecutionException.class,
+                () -> result.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(ServiceException.class, ex.getCause());
+        assertFalse(called.get());
+    }
+
+    @Test
+    @DisplayName("Supply async - cancelling the future interrupts the call")
+    void supplyAsyncCancelInterruptsCall() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CompletableFuture<String> result = asyncApiClientService.supplyAsync(ApiRoute.COMPANY,
+                () -> {
+                    started.countDown();
+                    try {
+                        new CountDownLatch(1).await();
+                    } catch (InterruptedException ex) {
+                        interrupted.countDown();
+                    }
+                    return COMPANY_NAME;
+                });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        result.cancel(true);
+
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,228 @@
+package uk.gov.companieshouse.web.pps.api.impl;
+
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gov.companieshouse.api.error.ApiErrorResponseException;
+import uk.gov.companieshouse.web.pps.api.ApiCall;
+import uk.gov.companieshouse.web.pps.api.ApiRoute;
+import uk.gov.companieshouse.web.pps.api.UpstreamCallHandler;
+import uk.gov.companieshouse.web.pps.api.UpstreamOperation;
+import uk.gov.companieshouse.web.pps.config.UpstreamConfigurationProperties;
+import uk.gov.companieshouse.web.pps.exception.ServiceException;
+import uk.gov.companieshouse.web.pps.models.PenaltyKey;
+
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static uk.gov.companieshouse.web.pps.api.impl.UpstreamCallHandlerImpl.UPSTREAM_REJECTED_METRIC;
+import static uk.gov.companieshouse.web.pps.api.impl.UpstreamCallHandlerImpl.UPSTREAM_REQUESTS_METRIC;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.COMPANY_NUMBER;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.PENALTY_REF;
+
+class UpstreamCallHandlerImplTest {
+
+    private static final String COMPANY_NAME = "TEST_COMPANY";
+    private static final PenaltyKey PENALTY_KEY = PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF);
+    private static final int MINIMUM_NUMBER_OF_CALLS = 4;
+
+    private UpstreamConfigurationProperties upstreamConfigurationProperties;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        upstreamConfigurationProperties = new UpstreamConfigurationProperties();
+        upstreamConfigurationProperties.getCircuitBreaker().setSlidingWindowSize(MINIMUM_NUMBER_OF_CALLS);
+        upstreamConfigurationProperties.getCircuitBreaker().setMinimumNumberOfCalls(MINIMUM_NUMBER_OF_CALLS);
+        upstreamConfigurationProperties.getCircuitBreaker().setWaitDurationInOpenState(Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("Call - server errors open the circuit and later calls fail fast")
+    void callServerErrorsOpenCircuit() {
+        UpstreamCallHandler upstreamCallHandler = createUpstreamCallHandler();
+        AtomicInteger calls = new AtomicInteger();
+        ApiCall<String> failingCall = () -> {
+            calls.incrementAndGet();
+            throw apiError(500);
+        };
+
+        for (int i = 0; i < MINIMUM_NUMBER_OF_CALLS; i++) {
+            assertThrows(ServiceException.class,
+                    () -> upstreamCallHandler.call(UpstreamOperation.FINANCE_HEALTHCHECK_GET, failingCall));
+        }
+
+        assertTrue(upstreamCallHandler.isCircuitOpen(ApiRoute.PENALTY_PAYMENT));
+        assertFalse(upstreamCallHandler.isCircuitOpen(ApiRoute.COMPANY));
+        assertThrows(ServiceException.class,
+                () -> upstreamCallHandler.call(UpstreamOperation.FINANCE_HEALTHCHECK_GET, failingCall));
+        assertEquals(MINIMUM_NUMBER_OF_CALLS, calls.get());
+        assertEquals(1, meterRegistry.get(UPSTREAM_REJECTED_METRIC)
+                .tag("operation", "finance_healthcheck_get")
+                .tag("reason", "circuit_open")
+                .counter().count());
+    }
+
+    @Test
+    @DisplayName("Call - latency recorded by operation, penalty reference type and outcome")
+    void callRecordsLatency() throws ServiceException {
+        UpstreamCallHandler upstreamCallHandler = createUpstreamCallHandler();
+
+        upstreamCallHandler.call(UpstreamOperation.FINANCIAL_PENALTIES_GET, PENALTY_KEY, () -> COMPANY_NAME);
+        upstreamCallHandler.call(UpstreamOperation.FINANCIAL_PENALTIES_GET, PENALTY_KEY, () -> COMPANY_NAME);
+        assertThrows(ServiceException.class,
+                () -> upstreamCallHandler.call(UpstreamOperation.FINANCIAL_PENALTIES_GET, PENALTY_KEY, () -> {
+                    throw apiError(404);
+                }));
+        assertThrows(ServiceException.class,
+                () -> upstreamCallHandler.call(UpstreamOperation.COMPANY_PROFILE_GET, () -> {
+                    throw apiError(503);
+                }));
+
+        assertEquals(2, requests("financial_penalties_get", "LATE_FILING", "success"));
+        assertEquals(3, meterRegistry.get(UPSTREAM_REQUESTS_METRIC).timers().size());
+        assertEquals(1, requests("financial_penalties_get", "LATE_FILING", "4xx"));
+        assertEquals(1, requests("company_profile_get", "none", "5xx"));
+    }
+
+    @Test
+    @DisplayName("Call - client errors do not open the circuit")
+    void callClientErrorsDoNotOpenCircuit() {
+        UpstreamCallHandler upstreamCallHandler = createUpstreamCallHandler();
+        ServiceException notFound = apiError(404);
+
+        for (int i = 0; i < MINIMUM_NUMBER_OF_CALLS; i++) {
+            ServiceException thrown = assertThrows(ServiceException.class,
+                    () -> upstreamCallHandler.call(UpstreamOperation.COMPANY_PROFILE_GET, () -> {
+                        throw notFound;
+                    }));
+            assertEquals(notFound, thrown);
+        }
+
+        assertFalse(upstreamCallHandler.isCircuitOpen(ApiRoute.COMPANY));
+    }
+
+    @Test
+    @DisplayName("Call - cancelled calls do not open the circuit")
+    void callCancelledDoesNotOpenCircuit() {
+        UpstreamCallHandler upstreamCallHandler = createUpstreamCallHandler();
+
+        try {
+            for (int i = 0; i < MINIMUM_NUMBER_OF_CALLS; i++) {
+                assertThrows(ServiceException.class,
+                        () -> upstreamCallHandler.call(UpstreamOperation.FINANCE_HEALTHCHECK_GET, () -> {
+                            // The SDK reports an interrupted request as a connection failure
+                            Thread.currentThread().interrupt();
+                            throw apiError(500);
+                        }));
+            }
+        } finally {
+            Thread.interrupted();
+        }
+
+        assertFalse(upstreamCallHandler.isCircuitOpen(ApiRoute.PENALTY_PAYMENT));
+        assertEquals(MINIMUM_NUMBER_OF_CALLS, requests("finance_healthcheck_get", "none", "cancelled"));
+    }
+
+    @Test
+    @DisplayName("Call - calls failing on interrupted I/O are recorded as cancelled")
+    void callInterruptedIoRecordedAsCancelled() {
+        UpstreamCallHandler upstreamCallHandler = createUpstreamCallHandler();
+
+        for (int i = 0; i < MINIMUM_NUMBER_OF_CALLS; i++) {
+            assertThrows(ServiceException.class,
+                    () -> upstreamCallHandler.call(UpstreamOperation.FINANCE_HEALTHCHECK_GET, () -> {
+                        throw new ServiceException("Error retrieving finance health check",
+                                new InterruptedIOException());
+                    }));
+        }
+
+        assertEquals(MINIMUM_NUMBER_OF_CALLS, requests("finance_healthcheck_get", "none", "cancelled"));
+    }
+
+    @Test
+    @DisplayName("Call - circuit breaker disabled never opens the circuit")
+    void callCircuitBreakerDisabled() {
+        upstreamConfigurationProperties.getCircuitBreaker().setEnabled(false);
+        UpstreamCallHandler upstreamCallHandler = createUpstreamCallHandler();
+
+        for (int i = 0; i < MINIMUM_NUMBER_OF_CALLS; i++) {
+            assertThrows(ServiceException.class,
+                    () -> upstreamCallHandler.call(UpstreamOperation.FINANCE_HEALTHCHECK_GET, () -> {
+                        throw apiError(500);
+                    }));
+        }
+
+        assertFalse(upstreamCallHandler.isCircuitOpen(ApiRoute.PENALTY_PAYMENT));
+    }
+
+    @Test
+    @DisplayName("Call - fails fast when the route is at its concurrency limit")
+    void callRouteConcurrencyLimit() throws Exception {
+        upstreamConfigurationProperties.setRouteConcurrencyLimits(Map.of(ApiRoute.COMPANY, 1));
+        upstreamConfigurationProperties.setRouteAcquireTimeout(Duration.ofMillis(50));
+        UpstreamCallHandler upstreamCallHandler = createUpstreamCallHandler();
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> blocked = CompletableFuture.supplyAsync(() -> {
+            try {
+                return upstreamCallHandler.call(UpstreamOperation.COMPANY_PROFILE_GET, () -> {
+                    started.countDown();
+                    awaitQuietly(release);
+                    return COMPANY_NAME;
+                });
+            } catch (ServiceException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertThrows(ServiceException.class,
+                () -> upstreamCallHandler.call(UpstreamOperation.COMPANY_PROFILE_GET, () -> COMPANY_NAME));
+        assertEquals(COMPANY_NAME, upstreamCallHandler.call(UpstreamOperation.FINANCE_HEALTHCHECK_GET, () -> COMPANY_NAME));
+
+        release.countDown();
+        assertEquals(COMPANY_NAME, blocked.get(5, TimeUnit.SECONDS));
+        assertFalse(upstreamCallHandler.isCircuitOpen(ApiRoute.COMPANY));
+    }
+
+    private UpstreamCallHandler createUpstreamCallHandler() {
+        return new UpstreamCallHandlerImpl(upstreamConfigurationProperties, meterRegistry);
+    }
+
+    private long requests(String operation, String penaltyReferenceType, String outcome) {
+        return meterRegistry.get(UPSTREAM_REQUESTS_METRIC)
+                .tag("operation", operation)
+                .tag("penalty_reference_type", penaltyReferenceType)
+                .tag("outcome", outcome)
+                .timer().count();
+    }
+
+    private static ServiceException apiError(int statusCode) {
+        return new ServiceException("Error calling API", new ApiErrorResponseException(
+                new HttpResponseException.Builder(statusCode, "Error", new HttpHeaders())));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package uk.gov.companieshouse.web.pps.config;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RequestContextTaskDecoratorTest {
+
+    private static final String REQUEST_ID_HEADER = "X-Request-ID";
+
+    private final RequestContextTaskDecorator decorator = new RequestContextTaskDecorator();
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Decorate - task sees the headers and attributes of the submitting request")
+    void taskSeesHeadersAndAttributes() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(REQUEST_ID_HEADER, "request-id");
+        request.setAttribute("session", "session-data");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        AtomicReference<HttpServletRequest> workerRequest = new AtomicReference<>();
+        Runnable task = decorator.decorate(() -> workerRequest.set(currentRequest()));
+        RequestContextHolder.resetRequestAttributes();
+        task.run();
+
+        assertNotSame(request, workerRequest.get());
+        assertEquals("request-id", workerRequest.get().getHeader("x-request-id"));
+        assertEquals("session-data", workerRequest.get().getAttribute("session"));
+        assertNull(RequestContextHolder.getRequestAttributes());
+    }
+
+    @Test
+    @DisplayName("Decorate - task does not reach the submitting request")
+    void taskDoesNotReachSubmittingRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        AtomicReference<HttpServletRequest> workerRequest = new AtomicReference<>();
+        decorator.decorate(() -> {
+            workerRequest.set(currentRequest());
+            currentRequest().setAttribute("worker", "value");
+        }).run();
+
+        assertNull(request.getAttribute("worker"));
+        assertEquals("value", workerRequest.get().getAttribute("worker"));
+    }
+
+    @Test
+    @DisplayName("Decorate - task sees the request line, session, cookies and client of the submitting request")
+    void taskSeesReadOnlyRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET",
+                "/pay-penalty/company/12345678/penalty/A1234567/view-penalties");
+        request.setQueryString("summary=false");
+        request.addParameter("summary", "false");
+        request.setRemoteAddr("192.0.2.1");
+        MockHttpSession session = new MockHttpSession();
+        request.setSession(session);
+        request.setCookies(new Cookie("__SID", "session-cookie"));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        AtomicReference<HttpServletRequest> workerRequest = new AtomicReference<>();
+        Runnable task = decorator.decorate(() -> workerRequest.set(currentRequest()));
+        RequestContextHolder.resetRequestAttributes();
+        request.setRequestURI("/recycled");
+        request.getCookies()[0].setValue("recycled");
+        task.run();
+
+        HttpServletRequest detached = workerRequest.get();
+        assertEquals("GET", detached.getMethod());
+        assertEquals("/pay-penalty/company/12345678/penalty/A1234567/view-penalties",
+                detached.getRequestURI());
+        assertEquals("summary=false", detached.getQueryString());
+        assertEquals("false", detached.getParameter("summary"));
+        assertEquals("192.0.2.1", detached.getRemoteAddr());
+        assertSame(session, detached.getSession(false));
+        assertEquals("session-cookie", detached.getCookies()[0].getValue());
+        assertThrows(IllegalStateException.class, detached::getInputStream);
+    }
+
+    @Test
+    @DisplayName("Decorate - task submitted outside a request runs without request attributes")
+    void taskOutsideRequest() {
+        AtomicReference<Object> workerAttributes = new AtomicReference<>("unset");
+        decorator.decorate(() -> workerAttributes.set(RequestContextHolder.getRequestAttributes())).run();
+
+        assertNull(workerAttributes.get());
+    }
+
+    private static HttpServletRequest currentRequest() {
+        return assertInstanceOf(ServletRequestAttributes.class, RequestContextHolder.getRequestAttributes())
+                .getRequest();
+    }
+}
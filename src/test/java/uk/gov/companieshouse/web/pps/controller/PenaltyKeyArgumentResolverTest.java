@@ -0,0 +1,56 @@
+package uk.gov.companieshouse.web.pps.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerMapping;
+import uk.gov.companieshouse.web.pps.exception.InvalidPenaltyKeyException;
+import uk.gov.companieshouse.web.pps.models.PenaltyKey;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static uk.gov.companieshouse.web.pps.util.PenaltyReference.LATE_FILING;
+
+class PenaltyKeyArgumentResolverTest {
+
+    private final PenaltyKeyArgumentResolver resolver = new PenaltyKeyArgumentResolver();
+
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        request = new MockHttpServletRequest();
+    }
+
+    @Test
+    @DisplayName("Resolve - key built from the path variables once per request")
+    void resolveOncePerRequest() {
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE,
+                Map.of("companyNumber", "123456", "penaltyRef", "A1234567"));
+        ServletWebRequest webRequest = new ServletWebRequest(request);
+
+        PenaltyKey penaltyKey = resolver.resolveArgument(null, null, webRequest, null);
+
+        assertEquals(new PenaltyKey("123456", "A1234567", LATE_FILING), penaltyKey);
+        assertSame(penaltyKey, resolver.resolveArgument(null, null, webRequest, null));
+        assertSame(penaltyKey, PenaltyKeyArgumentResolver.getResolvedPenaltyKey(request));
+    }
+
+    @Test
+    @DisplayName("Resolve - unknown penalty reference type")
+    void resolveUnknownPenaltyReferenceType() {
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE,
+                Map.of("companyNumber", "12345678", "penaltyRef", "F1234567"));
+        ServletWebRequest webRequest = new ServletWebRequest(request);
+
+        assertThrows(InvalidPenaltyKeyException.class,
+                () -> resolver.resolveArgument(null, null, webRequest, null));
+        assertNull(PenaltyKeyArgumentResolver.getResolvedPenaltyKey(request));
+    }
+}
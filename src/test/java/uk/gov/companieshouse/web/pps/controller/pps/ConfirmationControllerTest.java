@@ -13,7 +13,9 @@ import org.springframework.context.MessageSource;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import uk.gov.companieshouse.web.pps.config.PenaltyConfigurationProperties;
+import uk.gov.companieshouse.web.pps.controller.PenaltyKeyArgumentResolver;
 import uk.gov.companieshouse.web.pps.exception.ServiceException;
+import uk.gov.companieshouse.web.pps.models.PenaltyKey;
 import uk.gov.companieshouse.web.pps.service.confirmation.ConfirmationService;
 import uk.gov.companieshouse.web.pps.service.navigation.NavigatorService;
 import uk.gov.companieshouse.web.pps.service.response.PPSServiceResponse;
@@ -21,7 +23,6 @@ import uk.gov.companieshouse.web.pps.session.SessionService;
 import uk.gov.companieshouse.web.pps.util.PenaltyTestData;
 import uk.gov.companieshouse.web.pps.util.PenaltyUtils;
 
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Stream;
@@ -107,7 +108,9 @@ class ConfirmationControllerTest {
                 mockMessageSource,
                 mockConfirmationService
         );
-        this.mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+        this.mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setCustomArgumentResolvers(new PenaltyKeyArgumentResolver())
+                .build();
     }
 
     @ParameterizedTest
@@ -116,8 +119,8 @@ class ConfirmationControllerTest {
     void getViewConfirmationSuccess(PenaltyTestData penaltyTestData) throws Exception {
         PPSServiceResponse response = getPpsServiceResponse(penaltyTestData);
 
-        when(mockConfirmationService.getConfirmationUrl(penaltyTestData.customerCode(),
-                penaltyTestData.penaltyRef(), PAYABLE_REF, STATE, PAID.label
+        when(mockConfirmationService.getConfirmationUrl(PenaltyKey.of(penaltyTestData.customerCode(),
+                penaltyTestData.penaltyRef()), PAYABLE_REF, STATE, PAID.label
         ))
                 .thenReturn(response);
 
@@ -150,7 +153,7 @@ class ConfirmationControllerTest {
         modelAttributes.put(PAYMENT_DATE_ATTR, PenaltyUtils.getPaymentDateDisplay());
         modelAttributes.put(PENALTY_AMOUNT_ATTR, PenaltyUtils.getFormattedAmount(20));
 
-        return new PPSServiceResponse("", "", baseModelAttributes, modelAttributes, Collections.emptyMap());
+        return PPSServiceResponse.render(modelAttributes, baseModelAttributes);
     }
 
 
@@ -158,10 +161,9 @@ class ConfirmationControllerTest {
     @DisplayName("Get View Confirmation Screen - payment status cancelled returns resume url "
             + "redirect")
     void getRequestStatusIsCancelled() throws Exception {
-        PPSServiceResponse response = new PPSServiceResponse(RESUME_URL_PATH, "",
-                Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap());
+        PPSServiceResponse response = PPSServiceResponse.redirect(RESUME_URL_PATH);
 
-        when(mockConfirmationService.getConfirmationUrl(COMPANY_NUMBER, LFP_PENALTY_REF,
+        when(mockConfirmationService.getConfirmationUrl(PenaltyKey.of(COMPANY_NUMBER, LFP_PENALTY_REF),
                 PAYABLE_REF, STATE, CANCELLED.label)).thenReturn(response);
 
         this.mockMvc.perform(get(VIEW_CONFIRMATION_PATH_LFP)
@@ -179,10 +181,9 @@ class ConfirmationControllerTest {
         String errMsg = "Payment state value is not present in session, Expected: " +
                 PAID.label;
         String url = REDIRECT_URL_PREFIX + UNSCHEDULED_SERVICE_DOWN_PATH;
-        PPSServiceResponse response = new PPSServiceResponse(url, errMsg,
-                Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap());
+        PPSServiceResponse response = PPSServiceResponse.error(url, errMsg, null);
 
-        when(mockConfirmationService.getConfirmationUrl(COMPANY_NUMBER, LFP_PENALTY_REF,
+        when(mockConfirmationService.getConfirmationUrl(PenaltyKey.of(COMPANY_NUMBER, LFP_PENALTY_REF),
                 PAYABLE_REF, STATE, CANCELLED.label)).thenReturn(response);
 
         this.mockMvc.perform(get(VIEW_CONFIRMATION_PATH_LFP)
@@ -201,7 +202,7 @@ class ConfirmationControllerTest {
                 .thenReturn(UNSCHEDULED_SERVICE_DOWN_PATH);
         doThrow(ServiceException.class)
                 .when(mockConfirmationService)
-                .getConfirmationUrl(COMPANY_NUMBER, LFP_PENALTY_REF, PAYABLE_REF, STATE,
+                .getConfirmationUrl(PenaltyKey.of(COMPANY_NUMBER, LFP_PENALTY_REF), PAYABLE_REF, STATE,
                         CANCELLED.label);
 
         this.mockMvc.perform(get(VIEW_CONFIRMATION_PATH_LFP)
@@ -24,7 +24,6 @@ import uk.gov.companieshouse.web.pps.session.SessionService;
 import uk.gov.companieshouse.web.pps.util.PenaltyReference;
 import uk.gov.companieshouse.web.pps.validation.EnterDetailsValidator;
 
-import java.util.HashMap;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -106,8 +105,8 @@ class EnterDetailsControllerTest {
         var enterDetails = new EnterDetails();
         enterDetails.setPenaltyReferenceName(penaltyReference.name());
 
-        var serviceResponse = buildServiceResponse(true, true);
-        serviceResponse.setModelAttributes(Map.of(ENTER_DETAILS_MODEL_ATTR, enterDetails));
+        var serviceResponse = PPSServiceResponse.render(
+                Map.of(ENTER_DETAILS_MODEL_ATTR, enterDetails), buildBaseAttributes());
 
         var startsWith = penaltyReference.getStartsWith();
 
@@ -126,9 +125,8 @@ class EnterDetailsControllerTest {
     @DisplayName("Get Details Health check fails")
     void getEnterDetailsWhenHealthCheckFails(String viewName) throws Exception {
 
-        var serviceResponse = buildServiceResponse(false, false);
+        var serviceResponse = PPSServiceResponse.renderView(viewName, null, null);
         var startsWith = LATE_FILING.getStartsWith();
-        serviceResponse.setUrl(viewName);
 
         when(mockPenaltyDetailsService.getEnterDetails(startsWith)).thenReturn(serviceResponse);
 
@@ -160,10 +158,9 @@ class EnterDetailsControllerTest {
     @DisplayName("Get Details fails for invalid penalty reference starts with")
     void getEnterDetailsWhenStartsWithIsInvalid() throws Exception {
 
-        var serviceResponse = buildServiceResponse(false, false);
         var startsWith = SANCTIONS.getStartsWith();
         var url = REDIRECT_URL_PREFIX + UNSCHEDULED_SERVICE_DOWN_PATH;
-        serviceResponse.setUrl(url);
+        var serviceResponse = PPSServiceResponse.redirect(url);
 
         when(mockPenaltyDetailsService.getEnterDetails(startsWith)).thenReturn(serviceResponse);
 
@@ -184,8 +181,7 @@ class EnterDetailsControllerTest {
     })
     @DisplayName("Post Details success path")
     void postRequestSuccessPath(String penaltyReferenceName, String penaltyRef, String companyNumber) throws Exception {
-        var serviceResponse = buildServiceResponse(true, true);
-        serviceResponse.setUrl(NEXT_CONTROLLER_PATH);
+        var serviceResponse = PPSServiceResponse.redirect(NEXT_CONTROLLER_PATH);
 
         when(mockPenaltyDetailsService.postEnterDetails(any(), anyBoolean(), any()))
                 .thenReturn(serviceResponse);
@@ -202,7 +198,7 @@ class EnterDetailsControllerTest {
     @DisplayName("Post Details failure path - Input validation error")
     void postRequestInvalidInput() throws Exception {
 
-        var serviceResponse = buildServiceResponse(true, true);
+        var serviceResponse = PPSServiceResponse.render(null, buildBaseAttributes());
 
         when(mockPenaltyDetailsService.postEnterDetails(any(), anyBoolean(), any())).thenReturn(serviceResponse);
 
@@ -221,7 +217,8 @@ class EnterDetailsControllerTest {
     @DisplayName("Post Details failure path - penalty not found")
     void postRequestPenaltyNotFound() throws Exception {
 
-        PPSServiceResponse serviceResponse = buildServiceResponse(true, true);
+        PPSServiceResponse serviceResponse = PPSServiceResponse.error(null,
+                "Penalty details not found", buildBaseAttributes());
 
         when(mockPenaltyDetailsService.postEnterDetails(any(), anyBoolean(), any())).thenReturn(serviceResponse);
 
@@ -232,6 +229,7 @@ class EnterDetailsControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(view().name(ENTER_DETAILS_TEMPLATE_NAME))
                 .andExpect(model().attributeExists(TEMPLATE_NAME_MODEL_ATTR))
+                .andExpect(model().attributeHasErrors(ENTER_DETAILS_MODEL_ATTR))
                 .andExpect(model().attributeExists(BACK_LINK_MODEL_ATTR));
     }
 
@@ -251,18 +249,7 @@ class EnterDetailsControllerTest {
                 .andExpect(view().name(REDIRECT_URL_PREFIX + UNSCHEDULED_SERVICE_DOWN_PATH));
     }
 
-    private PPSServiceResponse buildServiceResponse(boolean backLink, boolean signOutLink) {
-        PPSServiceResponse serviceResponse = new PPSServiceResponse();
-        Map<String, String> baseAttributes = new HashMap<>();
-        if (backLink) {
-            baseAttributes.put(BACK_LINK_URL_ATTR, BACK_LINK_URL);
-        }
-        if (signOutLink) {
-            baseAttributes.put(SIGN_OUT_URL_ATTR, SIGN_OUT_URL);
-        }
-        if (!baseAttributes.isEmpty()) {
-            serviceResponse.setBaseModelAttributes(baseAttributes);
-        }
-        return serviceResponse;
+    private Map<String, String> buildBaseAttributes() {
+        return Map.of(BACK_LINK_URL_ATTR, BACK_LINK_URL, SIGN_OUT_URL_ATTR, SIGN_OUT_URL);
     }
 }
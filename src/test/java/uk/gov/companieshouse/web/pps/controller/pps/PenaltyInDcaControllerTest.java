@@ -11,6 +11,7 @@ import org.springframework.context.MessageSource;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import uk.gov.companieshouse.web.pps.config.PenaltyConfigurationProperties;
+import uk.gov.companieshouse.web.pps.controller.PenaltyKeyArgumentResolver;
 import uk.gov.companieshouse.web.pps.service.navigation.NavigatorService;
 import uk.gov.companieshouse.web.pps.session.SessionService;
 
@@ -54,7 +55,9 @@ class PenaltyInDcaControllerTest {
                 mockSessionService,
                 mockPenaltyConfigurationProperties,
                 mockMessageSource);
-        this.mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+        this.mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setCustomArgumentResolvers(new PenaltyKeyArgumentResolver())
+                .build();
     }
 
     @Test
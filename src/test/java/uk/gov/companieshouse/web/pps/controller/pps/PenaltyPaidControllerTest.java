@@ -13,14 +13,15 @@ import org.springframework.context.MessageSource;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import uk.gov.companieshouse.web.pps.config.PenaltyConfigurationProperties;
+import uk.gov.companieshouse.web.pps.controller.PenaltyKeyArgumentResolver;
 import uk.gov.companieshouse.web.pps.exception.ServiceException;
+import uk.gov.companieshouse.web.pps.models.PenaltyKey;
 import uk.gov.companieshouse.web.pps.service.navigation.NavigatorService;
 import uk.gov.companieshouse.web.pps.service.penaltypayment.PenaltyPaidService;
 import uk.gov.companieshouse.web.pps.service.response.PPSServiceResponse;
 import uk.gov.companieshouse.web.pps.session.SessionService;
 import uk.gov.companieshouse.web.pps.util.PenaltyTestData;
 
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Stream;
@@ -84,7 +85,9 @@ class PenaltyPaidControllerTest {
                 mockPenaltyPaidService,
                 mockPenaltyConfigurationProperties,
                 mockMessageSource);
-        this.mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+        this.mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setCustomArgumentResolvers(new PenaltyKeyArgumentResolver())
+                .build();
     }
 
     @ParameterizedTest
@@ -93,8 +96,8 @@ class PenaltyPaidControllerTest {
     void getRequestSuccess(PenaltyTestData penaltyTestData) throws Exception {
         PPSServiceResponse response = getPpsServiceResponse(penaltyTestData);
 
-        when(mockPenaltyPaidService.getPaid(penaltyTestData.customerCode(),
-                penaltyTestData.penaltyRef())).thenReturn(response);
+        when(mockPenaltyPaidService.getPaid(PenaltyKey.of(penaltyTestData.customerCode(),
+                penaltyTestData.penaltyRef()))).thenReturn(response);
 
         this.mockMvc.perform(get(penaltyTestData.path()))
                 .andExpect(status().isOk())
@@ -113,7 +116,7 @@ class PenaltyPaidControllerTest {
         modelAttributes.put(PENALTY_REF_ATTR, penaltyTestData.penaltyRef());
         modelAttributes.put(COMPANY_NAME_ATTR, "Brewery");
 
-        return new PPSServiceResponse("", "", baseModelAttributes, modelAttributes, Collections.emptyMap());
+        return PPSServiceResponse.render(modelAttributes, baseModelAttributes);
     }
 
     @Test
@@ -121,7 +124,7 @@ class PenaltyPaidControllerTest {
     void getRequestErrorRetrievingCompanyDetails() throws Exception {
         doThrow(ServiceException.class)
                 .when(mockPenaltyPaidService)
-                .getPaid(COMPANY_NUMBER, PENALTY_REF);
+                .getPaid(PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF));
 
         when(mockPenaltyConfigurationProperties.getUnscheduledServiceDownPath()).thenReturn(
                 UNSCHEDULED_SERVICE_DOWN_PATH);
@@ -82,8 +82,7 @@ class PenaltyRefStartsWithControllerTest {
     @Test
     @DisplayName("Get 'penaltyRefStartsWith' screen - redirect late filing details")
     void getPenaltyRefStartsWithSanctionsDisabled() throws Exception {
-        PPSServiceResponse mockServiceResponse = new PPSServiceResponse();
-        mockServiceResponse.setUrl(setUpEnterDetailsUrl(LATE_FILING));
+        PPSServiceResponse mockServiceResponse = PPSServiceResponse.redirect(setUpEnterDetailsUrl(LATE_FILING));
 
         when(mockPenaltyRefStartsWithService.viewPenaltyRefStartsWith()).thenReturn(mockServiceResponse);
 
@@ -95,9 +94,7 @@ class PenaltyRefStartsWithControllerTest {
     @Test
     @DisplayName("Get 'penaltyRefStartsWith' screen - success")
     void getPenaltyRefStartsWithSanctionsEnabled() throws Exception {
-        PPSServiceResponse serviceResponse = new PPSServiceResponse();
-        serviceResponse.setModelAttributes(setModelForViewPenaltyRefStartWith());
-        serviceResponse.setBaseModelAttributes(setBackUrl());
+        PPSServiceResponse serviceResponse = PPSServiceResponse.render(setModelForViewPenaltyRefStartWith(), setBackUrl());
 
         when(mockPenaltyRefStartsWithService.viewPenaltyRefStartsWith()).thenReturn(serviceResponse);
 
@@ -112,8 +109,7 @@ class PenaltyRefStartsWithControllerTest {
     @DisplayName("Get 'penaltyRefStartsWith' screen - failed financial health check planned maintenance")
     void getRequestLateFilingPenaltyPlanMaintenance() throws Exception {
 
-        PPSServiceResponse serviceResponse = new PPSServiceResponse();
-        serviceResponse.setUrl(SERVICE_UNAVAILABLE_VIEW_NAME);
+        PPSServiceResponse serviceResponse = PPSServiceResponse.renderView(SERVICE_UNAVAILABLE_VIEW_NAME, null, null);
 
         when(mockPenaltyRefStartsWithService.viewPenaltyRefStartsWith()).thenReturn(serviceResponse);
 
@@ -126,9 +122,7 @@ class PenaltyRefStartsWithControllerTest {
     @DisplayName("Get 'penaltyRefStartsWith' screen - failed financial health check return unscheduled service down")
     void getRequestLateFilingPenaltyOtherView() throws Exception {
 
-        PPSServiceResponse serviceResponse = new PPSServiceResponse();
-        serviceResponse.setUrl(REDIRECT_URL_PREFIX + UNSCHEDULED_SERVICE_DOWN_PATH);
-        serviceResponse.setBaseModelAttributes(setBackUrl());
+        PPSServiceResponse serviceResponse = PPSServiceResponse.redirect(REDIRECT_URL_PREFIX + UNSCHEDULED_SERVICE_DOWN_PATH);
 
         when(mockPenaltyRefStartsWithService.viewPenaltyRefStartsWith()).thenReturn(serviceResponse);
 
@@ -141,9 +135,7 @@ class PenaltyRefStartsWithControllerTest {
     @DisplayName("Post 'penaltyRefStartsWith' screen - error: none selected")
     void postPenaltyRefStartsWithWhenNoneSelected() throws Exception {
 
-        PPSServiceResponse mockServiceResponse = new PPSServiceResponse();
-        mockServiceResponse.setModelAttributes(setModelForPostPenaltyRefStartWithError());
-        mockServiceResponse.setBaseModelAttributes(setBackUrl());
+        PPSServiceResponse mockServiceResponse = PPSServiceResponse.render(setModelForPostPenaltyRefStartWithError(), setBackUrl());
 
         when(mockPenaltyRefStartsWithService.postPenaltyRefStartsWithError()).thenReturn(mockServiceResponse);
 
@@ -159,9 +151,7 @@ class PenaltyRefStartsWithControllerTest {
     @DisplayName("Post 'penaltyRefStartsWith' screen - success: late filing selected")
     void postPenaltyRefStartsWithWhenLateFilingSelected() throws Exception {
 
-        PPSServiceResponse mockServiceResponse = new PPSServiceResponse();
-        mockServiceResponse.setBaseModelAttributes(setBackUrl());
-        mockServiceResponse.setUrl(setUpEnterDetailsUrl(LATE_FILING));
+        PPSServiceResponse mockServiceResponse = PPSServiceResponse.redirect(setUpEnterDetailsUrl(LATE_FILING));
 
         when(mockPenaltyRefStartsWithService.postPenaltyRefStartsWithNext(any(PenaltyReferenceChoice.class))).thenReturn(mockServiceResponse);
 
@@ -175,9 +165,7 @@ class PenaltyRefStartsWithControllerTest {
     @Test
     @DisplayName("Post 'penaltyRefStartsWith' screen - success: sanction selected")
     void postPenaltyRefStartsWithWhenSanctionSelected() throws Exception {
-        PPSServiceResponse mockServiceResponse = new PPSServiceResponse();
-        mockServiceResponse.setBaseModelAttributes(setBackUrl());
-        mockServiceResponse.setUrl(setUpEnterDetailsUrl(SANCTIONS));
+        PPSServiceResponse mockServiceResponse = PPSServiceResponse.redirect(setUpEnterDetailsUrl(SANCTIONS));
 
         when(mockPenaltyRefStartsWithService.postPenaltyRefStartsWithNext(any(PenaltyReferenceChoice.class))).thenReturn(mockServiceResponse);
 
@@ -191,9 +179,7 @@ class PenaltyRefStartsWithControllerTest {
     @Test
     @DisplayName("Post 'penaltyRefStartsWith' screen - success: roe selected")
     void postPenaltyRefStartsWithWhenRoeSelected() throws Exception {
-        PPSServiceResponse mockServiceResponse = new PPSServiceResponse();
-        mockServiceResponse.setBaseModelAttributes(setBackUrl());
-        mockServiceResponse.setUrl(setUpEnterDetailsUrl(SANCTIONS_ROE));
+        PPSServiceResponse mockServiceResponse = PPSServiceResponse.redirect(setUpEnterDetailsUrl(SANCTIONS_ROE));
 
         when(mockPenaltyRefStartsWithService.postPenaltyRefStartsWithNext(any(PenaltyReferenceChoice.class))).thenReturn(mockServiceResponse);
 
@@ -12,12 +12,12 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import uk.gov.companieshouse.web.pps.config.PenaltyConfigurationProperties;
 import uk.gov.companieshouse.web.pps.service.navigation.NavigatorService;
-import uk.gov.companieshouse.web.pps.service.response.PPSServiceResponse;
 import uk.gov.companieshouse.web.pps.service.signout.SignOutService;
 import uk.gov.companieshouse.web.pps.session.SessionService;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.nullable;
@@ -27,6 +27,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.flash;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
 import static org.springframework.web.servlet.view.UrlBasedViewResolver.REDIRECT_URL_PREFIX;
@@ -77,7 +78,7 @@ class SignOutControllerTest {
     void getRequestSuccess() throws Exception {
         when(mockSessionService.getSessionDataFromContext()).thenReturn(sessionData);
         when(mockSignOutService.isUserSignedIn(sessionData)).thenReturn(true);
-        when(mockSignOutService.resolveBackLink(nullable(String.class))).thenReturn(new PPSServiceResponse());
+        when(mockSignOutService.resolveBackLink(nullable(String.class))).thenReturn(Optional.empty());
         when(mockPenaltyConfigurationProperties.getPayPenaltyPath()).thenReturn("/pay-penalty");
 
         mockMvc.perform(get(SIGN_OUT_PATH))
@@ -89,16 +90,14 @@ class SignOutControllerTest {
     @Test
     @DisplayName("GET Sign out - success with referer backlink")
     void getPreviousReferer() throws Exception {
-        PPSServiceResponse response = new PPSServiceResponse();
-        response.setUrl(PREVIOUS_PATH);
-
         when(mockSessionService.getSessionDataFromContext()).thenReturn(sessionData);
         when(mockSignOutService.isUserSignedIn(sessionData)).thenReturn(true);
-        when(mockSignOutService.resolveBackLink(anyString())).thenReturn(response);
+        when(mockSignOutService.resolveBackLink(anyString())).thenReturn(Optional.of(PREVIOUS_PATH));
 
         mockMvc.perform(get(SIGN_OUT_PATH).header(REFERER, PREVIOUS_PATH))
                 .andExpect(status().isOk())
-                .andExpect(model().attributeExists(BACK_LINK))
+                .andExpect(model().attribute(BACK_LINK, PREVIOUS_PATH))
+                .andExpect(request().sessionAttribute(URL_PRIOR_SIGN_OUT, PREVIOUS_PATH))
                 .andExpect(view().name(SIGN_OUT_TEMPLATE_NAME));
     }
 
@@ -108,7 +107,7 @@ class SignOutControllerTest {
         when(mockSessionService.getSessionDataFromContext()).thenReturn(sessionData);
         when(mockSignOutService.isUserSignedIn(sessionData)).thenReturn(true);
         when(mockSignOutService.resolveBackLink(anyString()))
-                .thenReturn(new PPSServiceResponse());
+                .thenReturn(Optional.empty());
 
         mockMvc.perform(get(SIGN_OUT_PATH).header(REFERER, SIGN_OUT_PATH))
                 .andExpect(status().isOk())
@@ -20,8 +20,6 @@ import uk.gov.companieshouse.web.pps.service.navigation.NavigatorService;
 import uk.gov.companieshouse.web.pps.service.response.PPSServiceResponse;
 import uk.gov.companieshouse.web.pps.session.SessionService;
 
-import java.util.Collections;
-
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -75,7 +73,7 @@ class StartControllerTest {
     @DisplayName("Get pay penalty start page - redirect to GOV UK Pay Penalty - Start now page")
     void getRequestRedirectToGovUkPayPenalty() throws Exception {
 
-        PPSServiceResponse serviceResponse = getPpsServiceResponse(REDIRECT_URL_PREFIX + GOV_UK_PAY_PENALTY_URL);
+        PPSServiceResponse serviceResponse = PPSServiceResponse.redirect(REDIRECT_URL_PREFIX + GOV_UK_PAY_PENALTY_URL);
 
         when(mockFinanceServiceHealthCheck.checkIfAvailableAtStart(any())).thenReturn(serviceResponse);
 
@@ -90,7 +88,7 @@ class StartControllerTest {
     @DisplayName("Get pay penalty start page - error checking finance system")
     void getRequestErrorCheckingFinanceSystem() throws Exception {
 
-        PPSServiceResponse serviceResponse = getPpsServiceResponse(
+        PPSServiceResponse serviceResponse = PPSServiceResponse.redirect(
                 REDIRECT_URL_PREFIX + UNSCHEDULED_SERVICE_DOWN_PATH);
 
         when(mockFinanceServiceHealthCheck.checkIfAvailableAtStart(any())).thenReturn(serviceResponse);
@@ -106,7 +104,7 @@ class StartControllerTest {
     @DisplayName("Get pay penalty start page - finance system offline")
     void getRequestFinanceSystemOffline() throws Exception {
 
-        PPSServiceResponse serviceResponse = getPpsServiceResponse(SERVICE_UNAVAILABLE_VIEW_NAME);
+        PPSServiceResponse serviceResponse = PPSServiceResponse.renderView(SERVICE_UNAVAILABLE_VIEW_NAME, null, null);
 
         when(mockFinanceServiceHealthCheck.checkIfAvailableAtStart(any())).thenReturn(serviceResponse);
 
@@ -121,7 +119,7 @@ class StartControllerTest {
     @DisplayName("Get pay penalty start path param - redirect to penalty ref starts with")
     void getStartPathParamRequestRedirectToPenaltyRefStartsWithWhenVisitFromGovUk() throws Exception {
 
-        PPSServiceResponse serviceResponse = getPpsServiceResponse(PENALTY_REF_STARTS_WITH_PATH);
+        PPSServiceResponse serviceResponse = PPSServiceResponse.redirect(PENALTY_REF_STARTS_WITH_PATH);
 
         when(mockFinanceServiceHealthCheck.checkIfAvailableAtStart(any())).thenReturn(serviceResponse);
 
@@ -143,12 +141,6 @@ class StartControllerTest {
                 .andExpect(view().name(PENALTY_REF_STARTS_WITH_PATH));
     }
 
-    private static PPSServiceResponse getPpsServiceResponse(String url) {
-        return new PPSServiceResponse(
-                url, "",
-                Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap());
-    }
-
     private void configureNextController() {
         when(mockNavigatorService.getNextControllerRedirect(any()))
                 .thenReturn(PENALTY_REF_STARTS_WITH_PATH);
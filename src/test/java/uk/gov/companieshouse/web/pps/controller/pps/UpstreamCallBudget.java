@@ -0,0 +1,80 @@
+package uk.gov.companieshouse.web.pps.controller.pps;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.web.servlet.ResultHandler;
+import org.springframework.web.util.UriTemplate;
+import uk.gov.companieshouse.web.pps.api.CountingApiClientService;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.springframework.http.HttpMethod.GET;
+import static org.springframework.http.HttpMethod.POST;
+
+/**
+ * The most upstream API calls each page may make to answer a single request with nothing
+ * cached, so that a change which adds a round trip to a page has to raise its budget here.
+ */
+enum UpstreamCallBudget {
+
+    // The penalties
+    ENTER_DETAILS_POST(POST, "/pay-penalty/enter-details", 1),
+    // The finance health check, the penalties and the company name
+    VIEW_PENALTIES_GET(GET, "/pay-penalty/company/{companyNumber}/penalty/{penaltyRef}/view-penalties", 3),
+    // The penalties, the payable session and the payment session
+    VIEW_PENALTIES_POST(POST, "/pay-penalty/company/{companyNumber}/penalty/{penaltyRef}/view-penalties", 3),
+    // The payable session and the company name
+    CONFIRMATION_GET(GET, "/pay-penalty/company/{companyNumber}/penalty/{penaltyRef}/payable/{payableRef}/confirmation", 2);
+
+    private final HttpMethod method;
+    private final UriTemplate path;
+    private final int maxCalls;
+
+    UpstreamCallBudget(HttpMethod method, String path, int maxCalls) {
+        this.method = method;
+        this.path = new UriTemplate(path);
+        this.maxCalls = maxCalls;
+    }
+
+    static Optional<UpstreamCallBudget> forRequest(HttpServletRequest request) {
+        for (UpstreamCallBudget budget : values()) {
+            if (budget.method.matches(request.getMethod()) && budget.path.matches(request.getRequestURI())) {
+                return Optional.of(budget);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns a filter that starts counting the upstream calls afresh for each request, so that
+     * calls made while setting up a test are not charged to it.
+     */
+    static Filter countPerRequest(CountingApiClientService apiClientService) {
+        return (request, response, chain) -> {
+            apiClientService.reset();
+            chain.doFilter(request, response);
+        };
+    }
+
+    /**
+     * Returns a result handler that fails the request if it made more upstream calls than the
+     * budget for its page, or if its page has no budget.
+     */
+    static ResultHandler enforce(CountingApiClientService apiClientService) {
+        return result -> {
+            HttpServletRequest request = result.getRequest();
+            UpstreamCallBudget budget = forRequest(request).orElseThrow(() -> new AssertionError(
+                    "No upstream call budget for " + request.getMethod() + " " + request.getRequestURI()));
+            budget.check(apiClientService.reset());
+        };
+    }
+
+    void check(List<String> calls) {
+        if (calls.size() > maxCalls) {
+            throw new AssertionError(String.format("%s made %d upstream calls, over its budget of %d: %s",
+                    this, calls.size(), maxCalls, calls));
+        }
+    }
+}
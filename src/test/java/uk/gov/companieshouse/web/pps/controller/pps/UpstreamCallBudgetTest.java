@@ -0,0 +1,261 @@
+package uk.gov.companieshouse.web.pps.controller.pps;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import uk.gov.companieshouse.api.ApiClient;
+import uk.gov.companieshouse.api.model.financialpenalty.FinancialPenaltySession;
+import uk.gov.companieshouse.api.model.payment.PaymentApi;
+import uk.gov.companieshouse.api.model.payment.PaymentSessionApi;
+import uk.gov.companieshouse.environment.EnvironmentReader;
+import uk.gov.companieshouse.web.pps.api.CountingApiClientService;
+import uk.gov.companieshouse.web.pps.api.UpstreamCallHandler;
+import uk.gov.companieshouse.web.pps.api.impl.AsyncApiClientServiceImpl;
+import uk.gov.companieshouse.web.pps.api.impl.UpstreamCallHandlerImpl;
+import uk.gov.companieshouse.web.pps.config.CacheConfigurationProperties;
+import uk.gov.companieshouse.web.pps.config.FeatureFlagConfigurationProperties;
+import uk.gov.companieshouse.web.pps.config.PenaltyConfigurationProperties;
+import uk.gov.companieshouse.web.pps.config.UpstreamConfigurationProperties;
+import uk.gov.companieshouse.web.pps.controller.PenaltyKeyArgumentResolver;
+import uk.gov.companieshouse.web.pps.service.company.CompanyService;
+import uk.gov.companieshouse.web.pps.service.company.impl.CompanyServiceImpl;
+import uk.gov.companieshouse.web.pps.service.confirmation.impl.ConfirmationServiceImpl;
+import uk.gov.companieshouse.web.pps.service.finance.FinanceServiceHealthCheck;
+import uk.gov.companieshouse.web.pps.service.finance.impl.CachingFinanceHealthcheckProvider;
+import uk.gov.companieshouse.web.pps.service.finance.impl.FinanceServiceHealthCheckImpl;
+import uk.gov.companieshouse.web.pps.service.navigation.NavigatorService;
+import uk.gov.companieshouse.web.pps.service.payment.impl.PaymentServiceImpl;
+import uk.gov.companieshouse.web.pps.service.penaltydetails.impl.PenaltyDetailsServiceImpl;
+import uk.gov.companieshouse.web.pps.service.penaltypayment.PayablePenaltyService;
+import uk.gov.companieshouse.web.pps.service.penaltypayment.PenaltyPaymentService;
+import uk.gov.companieshouse.web.pps.service.penaltypayment.impl.FinancialPenaltiesCache;
+import uk.gov.companieshouse.web.pps.service.penaltypayment.impl.FinancialPenaltiesStreamingClient;
+import uk.gov.companieshouse.web.pps.service.penaltypayment.impl.PayablePenaltyServiceImpl;
+import uk.gov.companieshouse.web.pps.service.penaltypayment.impl.PenaltyPaymentServiceImpl;
+import uk.gov.companieshouse.web.pps.service.viewpenalty.impl.ViewPenaltiesServiceImpl;
+import uk.gov.companieshouse.web.pps.session.SessionService;
+import uk.gov.companieshouse.web.pps.util.FeatureFlagChecker;
+import uk.gov.companieshouse.web.pps.validation.EnterDetailsValidator;
+
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
+import static org.springframework.web.servlet.view.UrlBasedViewResolver.REDIRECT_URL_PREFIX;
+import static uk.gov.companieshouse.web.pps.controller.pps.ConfirmationController.CONFIRMATION_PAGE_TEMPLATE_NAME;
+import static uk.gov.companieshouse.web.pps.controller.pps.ViewPenaltiesController.VIEW_PENALTIES_TEMPLATE_NAME;
+import static uk.gov.companieshouse.web.pps.service.ServiceConstants.PAYMENT_STATE;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.COMPANY_NUMBER;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.DATE;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.PAYABLE_REF;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.PENALTY_REF;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.UNSCHEDULED_SERVICE_DOWN_PATH;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.VALID_LATE_FILING_REASON;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.financeHealthcheckHealthy;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.oneFinancialPenalties;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.payableFinancialPenaltySession;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.validCompanyProfile;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.validFinancialPenalty;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.validPayableFinancialPenalties;
+import static uk.gov.companieshouse.web.pps.util.PaymentStatus.PAID;
+import static uk.gov.companieshouse.web.pps.util.PenaltyReference.LATE_FILING;
+
+/**
+ * Runs each page against the real services, with only the SDK stubbed, and fails any request
+ * that makes more upstream calls than its {@link UpstreamCallBudget}.
+ */
+@ExtendWith(MockitoExtension.class)
+class UpstreamCallBudgetTest {
+
+    private MockMvc mockMvc;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ApiClient apiClient;
+
+    @Mock
+    private MessageSource mockMessageSource;
+
+    @Mock
+    private NavigatorService mockNavigatorService;
+
+    @Mock
+    private SessionService mockSessionService;
+
+    @Mock
+    private EnvironmentReader mockEnvironmentReader;
+
+    private final Map<String, Object> sessionData = new HashMap<>();
+
+    private static final String VIEW_PENALTIES_PATH = String.format(
+            "/pay-penalty/company/%s/penalty/%s/view-penalties", COMPANY_NUMBER, PENALTY_REF);
+    private static final String CONFIRMATION_PATH = String.format(
+            "/pay-penalty/company/%s/penalty/%s/payable/%s/confirmation", COMPANY_NUMBER, PENALTY_REF, PAYABLE_REF);
+    private static final String PAYMENT_JOURNEY_URL = "http://payments/987654321/pay";
+    private static final String STATE = "state";
+
+    @BeforeEach
+    void setup() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CountingApiClientService apiClientService = new CountingApiClientService(apiClient);
+        UpstreamConfigurationProperties upstreamConfigurationProperties = new UpstreamConfigurationProperties();
+        CacheConfigurationProperties cacheConfigurationProperties = new CacheConfigurationProperties();
+        PenaltyConfigurationProperties penaltyConfigurationProperties = new PenaltyConfigurationProperties();
+        penaltyConfigurationProperties.setUnscheduledServiceDownPath(UNSCHEDULED_SERVICE_DOWN_PATH);
+        FeatureFlagChecker featureFlagChecker = new FeatureFlagChecker(new FeatureFlagConfigurationProperties());
+        when(mockEnvironmentReader.getMandatoryString(anyString())).thenReturn("http://localhost");
+        lenient().when(mockSessionService.getSessionDataFromContext()).thenReturn(sessionData);
+
+        UpstreamCallHandler upstreamCallHandler = new UpstreamCallHandlerImpl(
+                upstreamConfigurationProperties, meterRegistry);
+        FinancialPenaltiesCache financialPenaltiesCache = new FinancialPenaltiesCache(
+                cacheConfigurationProperties, mockSessionService, meterRegistry);
+        PenaltyPaymentService penaltyPaymentService = new PenaltyPaymentServiceImpl(apiClientService,
+                mockSessionService, financialPenaltiesCache, upstreamCallHandler,
+                new FinancialPenaltiesStreamingClient(upstreamConfigurationProperties),
+                upstreamConfigurationProperties, meterRegistry);
+        PayablePenaltyService payablePenaltyService = new PayablePenaltyServiceImpl(apiClientService,
+                financialPenaltiesCache, upstreamCallHandler);
+        CompanyService companyService = new CompanyServiceImpl(apiClientService, upstreamCallHandler,
+                cacheConfigurationProperties, meterRegistry);
+        FinanceServiceHealthCheck financeServiceHealthCheck = new FinanceServiceHealthCheckImpl(
+                penaltyConfigurationProperties,
+                new CachingFinanceHealthcheckProvider(penaltyPaymentService,
+                        cacheConfigurationProperties, upstreamConfigurationProperties, Clock.systemUTC(),
+                        meterRegistry),
+                upstreamCallHandler);
+
+        EnterDetailsController enterDetailsController = new EnterDetailsController(
+                mockNavigatorService, mockSessionService, penaltyConfigurationProperties,
+                mockMessageSource, new EnterDetailsValidator(),
+                new PenaltyDetailsServiceImpl(featureFlagChecker, mockMessageSource,
+                        mockNavigatorService, penaltyConfigurationProperties,
+                        penaltyPaymentService, financeServiceHealthCheck));
+        ViewPenaltiesController viewPenaltiesController = new ViewPenaltiesController(
+                mockNavigatorService, mockSessionService, penaltyConfigurationProperties,
+                mockMessageSource,
+                new ViewPenaltiesServiceImpl(payablePenaltyService,
+                        new PaymentServiceImpl(apiClientService, mockSessionService,
+                                upstreamCallHandler, mockEnvironmentReader),
+                        companyService, penaltyPaymentService, penaltyConfigurationProperties,
+                        featureFlagChecker, financeServiceHealthCheck,
+                        new AsyncApiClientServiceImpl(new SimpleAsyncTaskExecutor(), upstreamCallHandler),
+                        upstreamConfigurationProperties));
+        ConfirmationController confirmationController = new ConfirmationController(
+                mockNavigatorService, mockSessionService, penaltyConfigurationProperties,
+                mockMessageSource,
+                new ConfirmationServiceImpl(mockSessionService, penaltyConfigurationProperties,
+                        companyService, payablePenaltyService));
+
+        this.mockMvc = MockMvcBuilders.standaloneSetup(enterDetailsController,
+                        viewPenaltiesController, confirmationController)
+                .setCustomArgumentResolvers(new PenaltyKeyArgumentResolver())
+                .addFilters(UpstreamCallBudget.countPerRequest(apiClientService))
+                .alwaysDo(UpstreamCallBudget.enforce(apiClientService))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Post Enter Details - within upstream call budget")
+    void postEnterDetails() throws Exception {
+        givenFinancialPenalties();
+        when(mockNavigatorService.getNextControllerRedirect(eq(EnterDetailsController.class), any(), any()))
+                .thenReturn(REDIRECT_URL_PREFIX + VIEW_PENALTIES_PATH);
+
+        this.mockMvc.perform(post("/pay-penalty/enter-details")
+                        .param("penaltyReferenceName", LATE_FILING.name())
+                        .param("companyNumber", COMPANY_NUMBER)
+                        .param("penaltyRef", PENALTY_REF))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl(VIEW_PENALTIES_PATH));
+    }
+
+    @Test
+    @DisplayName("Get View Penalties - within upstream call budget")
+    void getViewPenalties() throws Exception {
+        givenFinanceHealthcheck();
+        givenFinancialPenalties();
+        givenCompanyProfile();
+
+        this.mockMvc.perform(get(VIEW_PENALTIES_PATH))
+                .andExpect(status().isOk())
+                .andExpect(view().name(VIEW_PENALTIES_TEMPLATE_NAME));
+    }
+
+    @Test
+    @DisplayName("Post View Penalties - within upstream call budget")
+    void postViewPenalties() throws Exception {
+        givenFinancialPenalties();
+        PaymentApi payment = new PaymentApi();
+        payment.setLinks(Map.of("journey", PAYMENT_JOURNEY_URL));
+        when(apiClient.payableFinancialPenalty().create(anyString(), any(FinancialPenaltySession.class))
+                .execute().getData()).thenReturn(payableFinancialPenaltySession(COMPANY_NUMBER));
+        when(apiClient.payment().create(anyString(), any(PaymentSessionApi.class))
+                .execute().getData()).thenReturn(payment);
+
+        this.mockMvc.perform(post(VIEW_PENALTIES_PATH))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl(PAYMENT_JOURNEY_URL + "?summary=false"));
+    }
+
+    @Test
+    @DisplayName("Get Confirmation - within upstream call budget")
+    void getConfirmation() throws Exception {
+        givenCompanyProfile();
+        sessionData.put(PAYMENT_STATE, STATE);
+        when(apiClient.payableFinancialPenalty().get(anyString()).execute().getData())
+                .thenReturn(validPayableFinancialPenalties(COMPANY_NUMBER, PENALTY_REF, VALID_LATE_FILING_REASON));
+
+        this.mockMvc.perform(get(CONFIRMATION_PATH)
+                        .param("ref", PAYABLE_REF)
+                        .param("state", STATE)
+                        .param("status", PAID.label))
+                .andExpect(status().isOk())
+                .andExpect(view().name(CONFIRMATION_PAGE_TEMPLATE_NAME));
+    }
+
+    @Test
+    @DisplayName("Upstream call budget - exceeded")
+    void budgetExceeded() {
+        List<String> calls = List.of("checkFinanceSystemAvailableTime", "getFinancialPenalties",
+                "getCompanyProfile", "getFinancialPenalties");
+
+        assertThrows(AssertionError.class, () -> UpstreamCallBudget.VIEW_PENALTIES_GET.check(calls));
+    }
+
+    private void givenFinanceHealthcheck() throws Exception {
+        when(apiClient.financeHealthcheckResourceHandler().get(anyString()).execute().getData())
+                .thenReturn(financeHealthcheckHealthy());
+    }
+
+    private void givenFinancialPenalties() throws Exception {
+        when(apiClient.financialPenalty().get(anyString()).execute().getData())
+                .thenReturn(oneFinancialPenalties(validFinancialPenalty(PENALTY_REF, DATE)));
+    }
+
+    private void givenCompanyProfile() throws Exception {
+        when(apiClient.company().get(anyString()).execute().getData())
+                .thenReturn(validCompanyProfile(COMPANY_NUMBER));
+    }
+}
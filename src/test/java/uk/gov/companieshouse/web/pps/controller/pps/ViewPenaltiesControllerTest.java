@@ -13,7 +13,10 @@ import org.springframework.context.MessageSource;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import uk.gov.companieshouse.web.pps.config.PenaltyConfigurationProperties;
+import uk.gov.companieshouse.web.pps.controller.PenaltyKeyArgumentResolver;
+import uk.gov.companieshouse.web.pps.exception.GlobalExceptionHandler;
 import uk.gov.companieshouse.web.pps.exception.ServiceException;
+import uk.gov.companieshouse.web.pps.models.PenaltyKey;
 import uk.gov.companieshouse.web.pps.service.navigation.NavigatorService;
 import uk.gov.companieshouse.web.pps.service.response.PPSServiceResponse;
 import uk.gov.companieshouse.web.pps.service.viewpenalty.ViewPenaltiesService;
@@ -25,12 +28,15 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Stream;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
 import static org.springframework.web.servlet.view.UrlBasedViewResolver.REDIRECT_URL_PREFIX;
@@ -98,7 +104,10 @@ class ViewPenaltiesControllerTest {
                 mockPenaltyConfigurationProperties,
                 mockMessageSource,
                 mockViewPenaltiesService);
-        this.mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+        this.mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setCustomArgumentResolvers(new PenaltyKeyArgumentResolver())
+                .setControllerAdvice(new GlobalExceptionHandler(mockPenaltyConfigurationProperties))
+                .build();
     }
 
     @ParameterizedTest
@@ -118,12 +127,10 @@ class ViewPenaltiesControllerTest {
         modelAttributes.put(REASON_ATTR, penaltyTestData.reasonForPenalty());
         modelAttributes.put(AMOUNT_ATTR, PenaltyUtils.getFormattedAmount(100));
 
-        PPSServiceResponse serviceResponse = new PPSServiceResponse();
-        serviceResponse.setBaseModelAttributes(baseModelAttributes);
-        serviceResponse.setModelAttributes(modelAttributes);
+        PPSServiceResponse serviceResponse = PPSServiceResponse.render(modelAttributes, baseModelAttributes);
 
-        when(mockViewPenaltiesService.viewPenalties(penaltyTestData.customerCode(),
-                penaltyTestData.penaltyRef())).thenReturn(serviceResponse);
+        when(mockViewPenaltiesService.viewPenalties(PenaltyKey.of(penaltyTestData.customerCode(),
+                penaltyTestData.penaltyRef()))).thenReturn(serviceResponse);
 
         this.mockMvc.perform(get(penaltyTestData.path()))
                 .andExpect(status().isOk())
@@ -135,8 +142,8 @@ class ViewPenaltiesControllerTest {
                 .andExpect(model().attribute(BACK_LINK_URL_ATTR, ENTER_DETAILS_PATH))
                 .andExpect(model().attribute(PENALTY_REFERENCE_NAME_ATTR, penaltyTestData.name()));
 
-        verify(mockViewPenaltiesService).viewPenalties(penaltyTestData.customerCode(),
-                penaltyTestData.penaltyRef());
+        verify(mockViewPenaltiesService).viewPenalties(PenaltyKey.of(penaltyTestData.customerCode(),
+                penaltyTestData.penaltyRef()));
         verify(mockPenaltyConfigurationProperties).getSurveyLink();
     }
 
@@ -144,17 +151,16 @@ class ViewPenaltiesControllerTest {
     @DisplayName("Get View Penalties - unscheduled error")
     void getRequestLateFilingPenaltyPenaltyRefNotFound() throws Exception {
 
-        PPSServiceResponse serviceResponse = new PPSServiceResponse();
-        serviceResponse.setUrl(REDIRECT_URL_PREFIX + UNSCHEDULED_SERVICE_DOWN_PATH);
+        PPSServiceResponse serviceResponse = PPSServiceResponse.redirect(REDIRECT_URL_PREFIX + UNSCHEDULED_SERVICE_DOWN_PATH);
 
-        when(mockViewPenaltiesService.viewPenalties(COMPANY_NUMBER, LFP_PENALTY_REF)).thenReturn(
+        when(mockViewPenaltiesService.viewPenalties(PenaltyKey.of(COMPANY_NUMBER, LFP_PENALTY_REF))).thenReturn(
                 serviceResponse);
 
         this.mockMvc.perform(get(LFP_VIEW_PENALTIES_PATH))
                 .andExpect(status().is3xxRedirection())
                 .andExpect(view().name(REDIRECT_URL_PREFIX + UNSCHEDULED_SERVICE_DOWN_PATH));
 
-        verify(mockViewPenaltiesService).viewPenalties(COMPANY_NUMBER, LFP_PENALTY_REF);
+        verify(mockViewPenaltiesService).viewPenalties(PenaltyKey.of(COMPANY_NUMBER, LFP_PENALTY_REF));
 
     }
 
@@ -163,7 +169,7 @@ class ViewPenaltiesControllerTest {
     void getRequestLateFilingPenaltyIllegalArgumentException() throws Exception {
 
         doThrow(IllegalArgumentException.class).
-                when(mockViewPenaltiesService).viewPenalties(COMPANY_NUMBER, LFP_PENALTY_REF);
+                when(mockViewPenaltiesService).viewPenalties(PenaltyKey.of(COMPANY_NUMBER, LFP_PENALTY_REF));
 
         when(mockPenaltyConfigurationProperties.getUnscheduledServiceDownPath()).thenReturn(
                 UNSCHEDULED_SERVICE_DOWN_PATH);
@@ -172,16 +178,30 @@ class ViewPenaltiesControllerTest {
                 .andExpect(status().is3xxRedirection())
                 .andExpect(view().name(REDIRECT_URL_PREFIX + UNSCHEDULED_SERVICE_DOWN_PATH));
 
-        verify(mockViewPenaltiesService).viewPenalties(COMPANY_NUMBER, LFP_PENALTY_REF);
+        verify(mockViewPenaltiesService).viewPenalties(PenaltyKey.of(COMPANY_NUMBER, LFP_PENALTY_REF));
 
     }
 
     @Test
-    @DisplayName("Get View Penalties - ServiceException when getCompanyProfile")
+    @DisplayName("Get View Penalties - unknown penalty reference type in the path")
+    void getRequestUnknownPenaltyReferenceType() throws Exception {
+
+        when(mockPenaltyConfigurationProperties.getUnscheduledServiceDownPath()).thenReturn(
+                UNSCHEDULED_SERVICE_DOWN_PATH);
+
+        this.mockMvc.perform(get(String.format(VIEW_PENALTIES_PATH, COMPANY_NUMBER, "X1234567")))
+                .andExpect(status().isFound())
+                .andExpect(redirectedUrl(UNSCHEDULED_SERVICE_DOWN_PATH));
+
+        verify(mockViewPenaltiesService, never()).viewPenalties(any());
+    }
+
+    @Test
+    @DisplayName("Get View Penalties - ServiceException when getCompanyName")
     void getRequestLateFilingPenaltyServiceException() throws Exception {
 
         doThrow(ServiceException.class).
-                when(mockViewPenaltiesService).viewPenalties(COMPANY_NUMBER, LFP_PENALTY_REF);
+                when(mockViewPenaltiesService).viewPenalties(PenaltyKey.of(COMPANY_NUMBER, LFP_PENALTY_REF));
 
         when(mockPenaltyConfigurationProperties.getUnscheduledServiceDownPath()).thenReturn(
                 UNSCHEDULED_SERVICE_DOWN_PATH);
@@ -190,7 +210,7 @@ class ViewPenaltiesControllerTest {
                 .andExpect(status().is3xxRedirection())
                 .andExpect(view().name(REDIRECT_URL_PREFIX + UNSCHEDULED_SERVICE_DOWN_PATH));
 
-        verify(mockViewPenaltiesService).viewPenalties(COMPANY_NUMBER, LFP_PENALTY_REF);
+        verify(mockViewPenaltiesService).viewPenalties(PenaltyKey.of(COMPANY_NUMBER, LFP_PENALTY_REF));
 
     }
 
@@ -198,10 +218,9 @@ class ViewPenaltiesControllerTest {
     @DisplayName("Get View Penalties - failed financial health check planned maintenance")
     void getRequestLateFilingPenaltyPlanMaintenance() throws Exception {
 
-        PPSServiceResponse serviceResponse = new PPSServiceResponse();
-        serviceResponse.setUrl(SERVICE_UNAVAILABLE_VIEW_NAME);
+        PPSServiceResponse serviceResponse = PPSServiceResponse.renderView(SERVICE_UNAVAILABLE_VIEW_NAME, null, null);
 
-        when(mockViewPenaltiesService.viewPenalties(COMPANY_NUMBER, LFP_PENALTY_REF)).thenReturn(
+        when(mockViewPenaltiesService.viewPenalties(PenaltyKey.of(COMPANY_NUMBER, LFP_PENALTY_REF))).thenReturn(
                 serviceResponse);
 
         this.mockMvc.perform(get(LFP_VIEW_PENALTIES_PATH))
@@ -213,10 +232,9 @@ class ViewPenaltiesControllerTest {
     @DisplayName("Get View Penalties - failed financial health check return unschedule service down")
     void getRequestLateFilingPenaltyOtherView() throws Exception {
 
-        PPSServiceResponse serviceResponse = new PPSServiceResponse();
-        serviceResponse.setUrl(REDIRECT_URL_PREFIX + UNSCHEDULED_SERVICE_DOWN_PATH);
+        PPSServiceResponse serviceResponse = PPSServiceResponse.redirect(REDIRECT_URL_PREFIX + UNSCHEDULED_SERVICE_DOWN_PATH);
 
-        when(mockViewPenaltiesService.viewPenalties(COMPANY_NUMBER, LFP_PENALTY_REF)).thenReturn(
+        when(mockViewPenaltiesService.viewPenalties(PenaltyKey.of(COMPANY_NUMBER, LFP_PENALTY_REF))).thenReturn(
                 serviceResponse);
 
         this.mockMvc.perform(get(LFP_VIEW_PENALTIES_PATH))
@@ -228,7 +246,7 @@ class ViewPenaltiesControllerTest {
     @DisplayName("Post View Penalties - success path")
     void postRequestSuccess() throws Exception {
 
-        when(mockViewPenaltiesService.postViewPenalties(COMPANY_NUMBER, LFP_PENALTY_REF))
+        when(mockViewPenaltiesService.postViewPenalties(PenaltyKey.of(COMPANY_NUMBER, LFP_PENALTY_REF)))
                 .thenReturn(REDIRECT_URL_PREFIX + MOCK_PAYMENTS_URL + SUMMARY_FALSE_PARAMETER);
 
         this.mockMvc.perform(post(LFP_VIEW_PENALTIES_PATH))
@@ -236,7 +254,7 @@ class ViewPenaltiesControllerTest {
                 .andExpect(view().name(
                         REDIRECT_URL_PREFIX + MOCK_PAYMENTS_URL + SUMMARY_FALSE_PARAMETER));
 
-        verify(mockViewPenaltiesService).postViewPenalties(COMPANY_NUMBER, LFP_PENALTY_REF);
+        verify(mockViewPenaltiesService).postViewPenalties(PenaltyKey.of(COMPANY_NUMBER, LFP_PENALTY_REF));
 
     }
 
@@ -244,14 +262,14 @@ class ViewPenaltiesControllerTest {
     @DisplayName("Post View Penalties - error returning Late Filing Penalty")
     void postRequestErrorRetrievingPenalty() throws Exception {
 
-        when(mockViewPenaltiesService.postViewPenalties(COMPANY_NUMBER, LFP_PENALTY_REF))
+        when(mockViewPenaltiesService.postViewPenalties(PenaltyKey.of(COMPANY_NUMBER, LFP_PENALTY_REF)))
                 .thenReturn(REDIRECT_URL_PREFIX + UNSCHEDULED_SERVICE_DOWN_PATH);
 
         this.mockMvc.perform(post(LFP_VIEW_PENALTIES_PATH))
                 .andExpect(status().is3xxRedirection())
                 .andExpect(view().name(REDIRECT_URL_PREFIX + UNSCHEDULED_SERVICE_DOWN_PATH));
 
-        verify(mockViewPenaltiesService).postViewPenalties(COMPANY_NUMBER, LFP_PENALTY_REF);
+        verify(mockViewPenaltiesService).postViewPenalties(PenaltyKey.of(COMPANY_NUMBER, LFP_PENALTY_REF));
 
     }
 
@@ -260,7 +278,7 @@ class ViewPenaltiesControllerTest {
     void postRequestExceptionRetrievingPenalty() throws Exception {
 
         doThrow(ServiceException.class).
-                when(mockViewPenaltiesService).postViewPenalties(COMPANY_NUMBER, LFP_PENALTY_REF);
+                when(mockViewPenaltiesService).postViewPenalties(PenaltyKey.of(COMPANY_NUMBER, LFP_PENALTY_REF));
 
         when(mockPenaltyConfigurationProperties.getUnscheduledServiceDownPath()).thenReturn(
                 UNSCHEDULED_SERVICE_DOWN_PATH);
@@ -269,7 +287,7 @@ class ViewPenaltiesControllerTest {
                 .andExpect(status().is3xxRedirection())
                 .andExpect(view().name(REDIRECT_URL_PREFIX + UNSCHEDULED_SERVICE_DOWN_PATH));
 
-        verify(mockViewPenaltiesService).postViewPenalties(COMPANY_NUMBER, LFP_PENALTY_REF);
+        verify(mockViewPenaltiesService).postViewPenalties(PenaltyKey.of(COMPANY_NUMBER, LFP_PENALTY_REF));
 
     }
 
@@ -32,4 +32,16 @@ class GlobalExceptionHandlerTest {
         RuntimeException ex = new RuntimeException();
         assertEquals(REDIRECT_URL_PREFIX + UNSCHEDULED_SERVICE_DOWN_PATH, controller.handleRuntimeException(httpServletRequest, ex));
     }
+
+    @Test
+    @DisplayName("Get View Error Screen - invalid penalty key")
+    void getInvalidPenaltyKeyError() {
+        mockPenaltyConfigurationProperties = new PenaltyConfigurationProperties();
+        mockPenaltyConfigurationProperties.setUnscheduledServiceDownPath(UNSCHEDULED_SERVICE_DOWN_PATH);
+        GlobalExceptionHandler controller = new GlobalExceptionHandler(mockPenaltyConfigurationProperties);
+        InvalidPenaltyKeyException ex = new InvalidPenaltyKeyException("Invalid penalty reference",
+                new IllegalArgumentException());
+        assertEquals(REDIRECT_URL_PREFIX + UNSCHEDULED_SERVICE_DOWN_PATH,
+                controller.handleInvalidPenaltyKeyException(httpServletRequest, ex));
+    }
 }
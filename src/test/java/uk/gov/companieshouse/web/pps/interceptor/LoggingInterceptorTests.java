@@ -13,19 +13,33 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.servlet.ModelAndView;
 import uk.gov.companieshouse.logging.util.LogContextProperties;
+import uk.gov.companieshouse.web.pps.controller.pps.ConfirmationController;
+import uk.gov.companieshouse.web.pps.service.journey.JourneyStep;
+import uk.gov.companieshouse.web.pps.service.journey.JourneyTimingService;
+import uk.gov.companieshouse.web.pps.util.PenaltyReference;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Map;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static uk.gov.companieshouse.web.pps.interceptor.LoggingInterceptor.HANDLING_STARTED_AT_ATTR;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.PENALTY_REF;
 
 @ExtendWith(MockitoExtension.class)
 class LoggingInterceptorTests {
@@ -39,6 +53,9 @@ class LoggingInterceptorTests {
     @Mock
     private HttpSession session;
 
+    @Mock
+    private JourneyTimingService mockJourneyTimingService;
+
     @InjectMocks
     private LoggingInterceptor loggingInterceptor;
     private ByteArrayOutputStream out;
@@ -74,6 +91,27 @@ class LoggingInterceptorTests {
         assertThat(data, containsString("\"event\":\"info\""));
         assertThat(data, containsString("duration"));
         assertThat(data, containsString("status\":200"));
+        verify(mockJourneyTimingService, never()).recordStep(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Tests the interceptor records the journey step handled")
+    void postHandleRecordsJourneyStep() {
+        HandlerMethod handlerMethod = mock(HandlerMethod.class);
+        doReturn(ConfirmationController.class).when(handlerMethod).getBeanType();
+        when(session.getAttribute(LogContextProperties.START_TIME_KEY.value()))
+                .thenReturn(System.currentTimeMillis());
+        when(httpServletResponse.getStatus()).thenReturn(HttpStatus.SC_OK);
+        when(httpServletRequest.getAttribute(HANDLING_STARTED_AT_ATTR)).thenReturn(System.nanoTime());
+        when(httpServletRequest.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE))
+                .thenReturn(Map.of("penaltyRef", PENALTY_REF));
+        when(httpServletRequest.getHeader("X-Request-ID")).thenReturn("request-id");
+
+        loggingInterceptor.postHandle(httpServletRequest, httpServletResponse, handlerMethod,
+                new ModelAndView());
+
+        verify(mockJourneyTimingService).recordStep(eq(JourneyStep.CONFIRMATION),
+                eq(PenaltyReference.LATE_FILING), eq("request-id"), any(Duration.class));
     }
 
     private JSONObject getOutputJson() throws JSONException {
@@ -0,0 +1,101 @@
+package uk.gov.companieshouse.web.pps.interceptor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+import uk.gov.companieshouse.web.pps.session.SessionService;
+import uk.gov.companieshouse.web.pps.session.SessionView;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+import static uk.gov.companieshouse.web.pps.interceptor.SessionMetricsInterceptor.CHANGED_OUTCOME;
+import static uk.gov.companieshouse.web.pps.interceptor.SessionMetricsInterceptor.SESSION_SIZE_METRIC;
+import static uk.gov.companieshouse.web.pps.interceptor.SessionMetricsInterceptor.SESSION_CHANGES_METRIC;
+import static uk.gov.companieshouse.web.pps.interceptor.SessionMetricsInterceptor.UNCHANGED_OUTCOME;
+import static uk.gov.companieshouse.web.pps.service.ServiceConstants.PAYMENT_STATE;
+
+@ExtendWith(MockitoExtension.class)
+class SessionMetricsInterceptorTests {
+
+    private static final String ENDPOINT = "/pay-penalty/company/{companyNumber}/penalty/{penaltyRef}";
+
+    @Mock
+    private SessionService mockSessionService;
+
+    private MeterRegistry meterRegistry;
+    private Map<String, Object> sessionData;
+    private MockHttpServletRequest request;
+    private SessionMetricsInterceptor sessionMetricsInterceptor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sessionData = new HashMap<>();
+        request = new MockHttpServletRequest();
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, ENDPOINT);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        sessionMetricsInterceptor = new SessionMetricsInterceptor(mockSessionService, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Unchanged session - request counted as unchanged")
+    void unchangedSessionCounted() {
+        when(mockSessionService.getSessionDataFromContext()).thenReturn(sessionData);
+
+        sessionMetricsInterceptor.afterCompletion(request, new MockHttpServletResponse(), new Object(), null);
+
+        assertEquals(1, changes(UNCHANGED_OUTCOME));
+    }
+
+    @Test
+    @DisplayName("Changed session - change counted and size recorded")
+    void changedSessionCounted() {
+        when(mockSessionService.getSessionDataFromContext()).thenReturn(sessionData);
+
+        SessionView.current(mockSessionService).setPaymentState("state");
+        sessionMetricsInterceptor.afterCompletion(request, new MockHttpServletResponse(), new Object(), null);
+
+        assertTrue(sessionData.containsKey(PAYMENT_STATE));
+        assertEquals(1, changes(CHANGED_OUTCOME));
+        assertEquals(SessionView.of(sessionData).estimateSize(), meterRegistry.get(SESSION_SIZE_METRIC)
+                .tag("endpoint", ENDPOINT)
+                .summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("No session - nothing recorded")
+    void noSession() {
+        sessionMetricsInterceptor.afterCompletion(request, new MockHttpServletResponse(), new Object(), null);
+
+        assertNull(meterRegistry.find(SESSION_SIZE_METRIC).summary());
+        assertNull(meterRegistry.find(SESSION_CHANGES_METRIC).counter());
+    }
+
+    private double changes(String outcome) {
+        return meterRegistry.get(SESSION_CHANGES_METRIC)
+                .tag("endpoint", ENDPOINT)
+                .tag("outcome", outcome)
+                .counter().count();
+    }
+}
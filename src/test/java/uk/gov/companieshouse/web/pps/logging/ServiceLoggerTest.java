@@ -0,0 +1,72 @@
+package uk.gov.companieshouse.web.pps.logging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static uk.gov.companieshouse.web.pps.PPSWebApplication.APPLICATION_NAME_SPACE;
+
+class ServiceLoggerTest {
+
+    private static final ServiceLogger LOGGER = ServiceLogger.getLogger(APPLICATION_NAME_SPACE);
+
+    private PrintStream systemOut;
+    private ByteArrayOutputStream out;
+
+    @BeforeEach
+    void setUp() {
+        systemOut = System.out;
+        out = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(out));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(systemOut);
+    }
+
+    @Test
+    @DisplayName("Debug - message only built when debug is enabled")
+    void debugSupplierOnlyCalledWhenEnabled() {
+        AtomicInteger calls = new AtomicInteger();
+
+        LOGGER.debug(() -> {
+            calls.incrementAndGet();
+            return "Debug message";
+        });
+
+        assertEquals(LOGGER.isDebugEnabled() ? 1 : 0, calls.get());
+    }
+
+    @Test
+    @DisplayName("Sampled info - first and every nth occurrence written")
+    void sampledInfo() {
+        assumeTrue(LOGGER.isInfoEnabled());
+        ServiceLogger.Sampled sampled = LOGGER.sampled(10);
+
+        for (int i = 0; i < 25; i++) {
+            sampled.info("Sampled event %d", i);
+        }
+
+        String output = out.toString();
+        assertEquals(3, output.split("Sampled event", -1).length - 1);
+        assertTrue(output.contains("Sampled event 0"));
+        assertTrue(output.contains("Sampled event 10 (9 similar messages not logged)"));
+        assertTrue(output.contains("Sampled event 20 (9 similar messages not logged)"));
+    }
+
+    @Test
+    @DisplayName("Sampled - rejects a sampling rate below one")
+    void sampledInvalidRate() {
+        assertThrows(IllegalArgumentException.class, () -> LOGGER.sampled(0));
+    }
+}
@@ -0,0 +1,58 @@
+package uk.gov.companieshouse.web.pps.models;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static uk.gov.companieshouse.web.pps.util.PenaltyReference.LATE_FILING;
+import static uk.gov.companieshouse.web.pps.util.PenaltyReference.SANCTIONS;
+import static uk.gov.companieshouse.web.pps.util.PenaltyReference.SANCTIONS_ROE;
+
+class PenaltyKeyTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "SE123456, SE123456",
+            "12345678, 12345678",
+            "123456, 00123456",
+            "1, 00000001",
+            "123456789, 123456789",
+            "SE12, SE12"
+    })
+    @DisplayName("Normalise company number - all digits padded with zeros to 8 characters")
+    void normaliseCompanyNumber(String companyNumber, String expected) {
+        assertEquals(expected, PenaltyKey.normaliseCompanyNumber(companyNumber));
+    }
+
+    @Test
+    @DisplayName("Of - penalty reference type resolved and company number kept as given")
+    void of() {
+        assertEquals(new PenaltyKey("123456", "A1234567", LATE_FILING),
+                PenaltyKey.of("123456", "A1234567"));
+        assertEquals(new PenaltyKey("12345678", "P1234567", SANCTIONS),
+                PenaltyKey.of("12345678", "P1234567"));
+        assertEquals(new PenaltyKey("OE123456", "u1234567", SANCTIONS_ROE),
+                PenaltyKey.of("OE123456", "u1234567"));
+    }
+
+    @Test
+    @DisplayName("Of - unknown penalty reference type")
+    void ofUnknownPenaltyReferenceType() {
+        IllegalArgumentException expectedException = assertThrowsExactly(
+                IllegalArgumentException.class, () -> PenaltyKey.of("12345678", "F4444444"));
+        assertEquals("Penalty Reference Starts With 'F' is invalid",
+                expectedException.getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " "})
+    @DisplayName("Of - blank penalty reference")
+    void ofBlankPenaltyReference(String penaltyRef) {
+        assertThrowsExactly(IllegalArgumentException.class,
+                () -> PenaltyKey.of("12345678", penaltyRef));
+    }
+}
@@ -4,21 +4,33 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import uk.gov.companieshouse.web.pps.config.MetricsConfigurationProperties;
 import uk.org.webcompere.systemstubs.environment.EnvironmentVariables;
 import uk.org.webcompere.systemstubs.jupiter.SystemStub;
 import uk.org.webcompere.systemstubs.jupiter.SystemStubsExtension;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SystemStubsExtension.class)
 @ExtendWith(MockitoExtension.class)
 class WebSecurityTests {
 
+    private static final String METRICS_USERNAME = "metrics";
+
     @Mock
     private HttpSecurity httpSecurity;
 
@@ -56,6 +68,36 @@ class WebSecurityTests {
         assertEquals(webSecurity.healthcheckSecurityFilterChain(httpSecurity), httpSecurity.build());
     }
 
+    @Test
+    @DisplayName(" apply security filter to /pay-penalty/prometheus")
+    void prometheusSecurityFilterChainTest() throws Exception {
+        MetricsConfigurationProperties metricsConfigurationProperties = new MetricsConfigurationProperties();
+        metricsConfigurationProperties.setUsername(METRICS_USERNAME);
+        metricsConfigurationProperties.setPassword("password");
+        stubPrometheusSecurity();
+
+        assertEquals(webSecurity.prometheusSecurityFilterChain(httpSecurity, metricsConfigurationProperties),
+                httpSecurity.build());
+
+        ArgumentCaptor<UserDetailsService> metricsUsers = ArgumentCaptor.forClass(UserDetailsService.class);
+        verify(httpSecurity).userDetailsService(metricsUsers.capture());
+        assertEquals(List.of(new SimpleGrantedAuthority("ROLE_METRICS")),
+                List.copyOf(metricsUsers.getValue().loadUserByUsername(METRICS_USERNAME).getAuthorities()));
+    }
+
+    @Test
+    @DisplayName(" refuse every request to /pay-penalty/prometheus when no credentials are set")
+    void prometheusSecurityFilterChainWithoutCredentialsTest() throws Exception {
+        stubPrometheusSecurity();
+
+        webSecurity.prometheusSecurityFilterChain(httpSecurity, new MetricsConfigurationProperties());
+
+        ArgumentCaptor<UserDetailsService> metricsUsers = ArgumentCaptor.forClass(UserDetailsService.class);
+        verify(httpSecurity).userDetailsService(metricsUsers.capture());
+        assertThrows(UsernameNotFoundException.class,
+                () -> metricsUsers.getValue().loadUserByUsername(METRICS_USERNAME));
+    }
+
     @Test
     @DisplayName(" apply security filter to /pay-penalty/unscheduled-service-down")
     void scheduledServiceDownSecurityFilterChainTest() throws Exception {
@@ -76,4 +118,11 @@ class WebSecurityTests {
         when(httpSecurity.securityMatcher("/error")).thenReturn(httpSecurity);
         assertEquals(webSecurity.errorPageSecurityFilterChain(httpSecurity), httpSecurity.build());
     }
+
+    private void stubPrometheusSecurity() throws Exception {
+        when(httpSecurity.securityMatcher("/pay-penalty/prometheus")).thenReturn(httpSecurity);
+        when(httpSecurity.authorizeHttpRequests(any())).thenReturn(httpSecurity);
+        when(httpSecurity.httpBasic(any())).thenReturn(httpSecurity);
+        when(httpSecurity.userDetailsService(any())).thenReturn(httpSecurity);
+    }
 }
@@ -1,5 +1,8 @@
 package uk.gov.companieshouse.web.pps.service.company.impl;
 
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,11 +19,23 @@ import uk.gov.companieshouse.api.http.HttpClient;
 import uk.gov.companieshouse.api.model.ApiResponse;
 import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
 import uk.gov.companieshouse.web.pps.api.ApiClientService;
+import uk.gov.companieshouse.web.pps.api.impl.UpstreamCallHandlerImpl;
+import uk.gov.companieshouse.web.pps.config.CacheConfigurationProperties;
+import uk.gov.companieshouse.web.pps.config.UpstreamConfigurationProperties;
 import uk.gov.companieshouse.web.pps.exception.ServiceException;
 import uk.gov.companieshouse.web.pps.service.company.CompanyService;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +57,9 @@ class CompanyServiceImplTest {
     @Mock
     private CompanyGet companyGet;
 
+    @Mock
+    private CompanyGet otherCompanyGet;
+
     @Mock
     private ApiResponse<CompanyProfileApi> responseWithData;
 
@@ -50,43 +68,23 @@ class CompanyServiceImplTest {
 
     private CompanyService companyService;
 
-    private static final String COMPANY_NUMBER_WITH_LETTERS = "SE123456";
+    private CacheConfigurationProperties cacheConfigurationProperties;
 
     private static final String COMPANY_NUMBER_WITH_EIGHT_DIGITS = "12345678";
 
     private static final String COMPANY_URI = "/company/" + COMPANY_NUMBER_WITH_EIGHT_DIGITS;
 
-    private static final String COMPANY_NUMBER_WITH_SIX_DIGITS = "123456";
+    private static final String COMPANY_NAME = "TEST_COMPANY";
 
-    private static final String APPENDED_SIX_DIGIT_COMPANY_NUMBER = "00123456";
+    private static final String OTHER_COMPANY_NUMBER = "87654321";
 
     @BeforeEach
     void setUp() {
-        companyService = new CompanyServiceImpl(apiClientService);
-    }
-
-    @Test
-    @DisplayName("Append - Do not append to company number with letters")
-    void validateCompanyNumberWithLettersNotAppended() {
-
-        String companyNumber = companyService.appendToCompanyNumber(COMPANY_NUMBER_WITH_LETTERS);
-        assertEquals(COMPANY_NUMBER_WITH_LETTERS, companyNumber);
-    }
-
-    @Test
-    @DisplayName("Append - Eight Digit company number returned the same")
-    void validationEightDigitCompanyNumberReturnedTheSame() {
-
-        String companyNumber = companyService.appendToCompanyNumber(COMPANY_NUMBER_WITH_EIGHT_DIGITS);
-        assertEquals(COMPANY_NUMBER_WITH_EIGHT_DIGITS, companyNumber);
-    }
-
-    @Test
-    @DisplayName("Append - Six Digit company number should have 0's appended to beginning")
-    void validationSixDigitCompanyNumberReturnedWithAppendedZeros() {
-
-        String companyNumber = companyService.appendToCompanyNumber(COMPANY_NUMBER_WITH_SIX_DIGITS);
-        assertEquals(APPENDED_SIX_DIGIT_COMPANY_NUMBER, companyNumber);
+        cacheConfigurationProperties = new CacheConfigurationProperties();
+        companyService = new CompanyServiceImpl(apiClientService,
+                new UpstreamCallHandlerImpl(new UpstreamConfigurationProperties(), new SimpleMeterRegistry()),
+                cacheConfigurationProperties,
+                new SimpleMeterRegistry());
     }
 
     private void initGetCompany() {
@@ -149,4 +147,176 @@ class CompanyServiceImplTest {
                 companyService.getCompanyProfile(COMPANY_NUMBER_WITH_EIGHT_DIGITS));
     }
 
+    @Test
+    @DisplayName("Get Company Name - Repeat request served from cache")
+    void getCompanyNameServedFromCache() throws ServiceException, ApiErrorResponseException, URIValidationException {
+
+        initGetCompany();
+
+        when(companyGet.execute()).thenReturn(responseWithData);
+
+        when(responseWithData.getData()).thenReturn(companyProfile);
+
+        when(companyProfile.getCompanyName()).thenReturn(COMPANY_NAME);
+
+        when(apiClient.getHttpClient()).thenReturn(httpClient);
+
+        when(httpClient.getRequestId()).thenReturn("");
+
+        assertEquals(COMPANY_NAME, companyService.getCompanyName(COMPANY_NUMBER_WITH_EIGHT_DIGITS));
+        assertEquals(COMPANY_NAME, companyService.getCompanyName(COMPANY_NUMBER_WITH_EIGHT_DIGITS));
+
+        verify(companyGet, times(1)).execute();
+    }
+
+    @Test
+    @DisplayName("Get Company Name - Not found response is cached")
+    void getCompanyNameNotFoundCached() throws ApiErrorResponseException, URIValidationException {
+
+        initGetCompany();
+
+        when(companyGet.execute()).thenThrow(new ApiErrorResponseException(
+                new HttpResponseException.Builder(404, "Not Found", new HttpHeaders())));
+
+        when(apiClient.getHttpClient()).thenReturn(httpClient);
+
+        when(httpClient.getRequestId()).thenReturn("");
+
+        assertThrows(ServiceException.class, () ->
+                companyService.getCompanyName(COMPANY_NUMBER_WITH_EIGHT_DIGITS));
+        assertThrows(ServiceException.class, () ->
+                companyService.getCompanyName(COMPANY_NUMBER_WITH_EIGHT_DIGITS));
+
+        verify(companyGet, times(1)).execute();
+    }
+
+    @Test
+    @DisplayName("Get Company Name - Other errors are not cached")
+    void getCompanyNameErrorNotCached() throws ApiErrorResponseException, URIValidationException {
+
+        initGetCompany();
+
+        when(companyGet.execute()).thenThrow(new ApiErrorResponseException(
+                new HttpResponseException.Builder(500, "Internal Server Error", new HttpHeaders())));
+
+        when(apiClient.getHttpClient()).thenReturn(httpClient);
+
+        when(httpClient.getRequestId()).thenReturn("");
+
+        assertThrows(ServiceException.class, () ->
+                companyService.getCompanyName(COMPANY_NUMBER_WITH_EIGHT_DIGITS));
+        assertThrows(ServiceException.class, () ->
+                companyService.getCompanyName(COMPANY_NUMBER_WITH_EIGHT_DIGITS));
+
+        verify(companyGet, times(2)).execute();
+    }
+
+    @Test
+    @DisplayName("Get Company Name - Concurrent look ups of a company share one load")
+    void getCompanyNameConcurrentLookUpsShareOneLoad() throws Exception {
+
+        initGetCompany();
+
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(companyGet.execute()).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return responseWithData;
+        });
+
+        when(responseWithData.getData()).thenReturn(companyProfile);
+
+        when(companyProfile.getCompanyName()).thenReturn(COMPANY_NAME);
+
+        when(apiClient.getHttpClient()).thenReturn(httpClient);
+
+        when(httpClient.getRequestId()).thenReturn("");
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executor.submit(() ->
+                    companyService.getCompanyName(COMPANY_NUMBER_WITH_EIGHT_DIGITS));
+            loading.await(5, TimeUnit.SECONDS);
+            Future<String> second = executor.submit(() ->
+                    companyService.getCompanyName(COMPANY_NUMBER_WITH_EIGHT_DIGITS));
+            assertThrows(TimeoutException.class, () -> second.get(100, TimeUnit.MILLISECONDS));
+
+            release.countDown();
+            assertEquals(COMPANY_NAME, first.get(5, TimeUnit.SECONDS));
+            assertEquals(COMPANY_NAME, second.get(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+
+        verify(companyGet, times(1)).execute();
+    }
+
+    @Test
+    @DisplayName("Get Company Name - Slow load does not hold up look ups of another company")
+    void getCompanyNameSlowLoadDoesNotBlockOtherCompanies() throws Exception {
+
+        initGetCompany();
+
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(companyGet.execute()).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return responseWithData;
+        });
+
+        when(companyResourceHandler.get("/company/" + OTHER_COMPANY_NUMBER)).thenReturn(otherCompanyGet);
+
+        when(otherCompanyGet.execute()).thenReturn(responseWithData);
+
+        when(responseWithData.getData()).thenReturn(companyProfile);
+
+        when(companyProfile.getCompanyName()).thenReturn(COMPANY_NAME);
+
+        when(apiClient.getHttpClient()).thenReturn(httpClient);
+
+        when(httpClient.getRequestId()).thenReturn("");
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> slowCompanyName = executor.submit(() ->
+                    companyService.getCompanyName(COMPANY_NUMBER_WITH_EIGHT_DIGITS));
+            loading.await(5, TimeUnit.SECONDS);
+
+            assertEquals(COMPANY_NAME, companyService.getCompanyName(OTHER_COMPANY_NUMBER));
+
+            release.countDown();
+            assertEquals(COMPANY_NAME, slowCompanyName.get(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Get Company Name - Cache disabled always fetches company profile")
+    void getCompanyNameCacheDisabled() throws ServiceException, ApiErrorResponseException, URIValidationException {
+
+        cacheConfigurationProperties.getCompanyNames().setEnabled(false);
+
+        initGetCompany();
+
+        when(companyGet.execute()).thenReturn(responseWithData);
+
+        when(responseWithData.getData()).thenReturn(companyProfile);
+
+        when(companyProfile.getCompanyName()).thenReturn(COMPANY_NAME);
+
+        when(apiClient.getHttpClient()).thenReturn(httpClient);
+
+        when(httpClient.getRequestId()).thenReturn("");
+
+        assertEquals(COMPANY_NAME, companyService.getCompanyName(COMPANY_NUMBER_WITH_EIGHT_DIGITS));
+        assertEquals(COMPANY_NAME, companyService.getCompanyName(COMPANY_NUMBER_WITH_EIGHT_DIGITS));
+
+        verify(companyGet, times(2)).execute();
+    }
+
 }
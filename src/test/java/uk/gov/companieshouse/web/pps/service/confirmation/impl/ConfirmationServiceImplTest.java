@@ -8,6 +8,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.companieshouse.api.model.financialpenalty.PayableFinancialPenalties;
 import uk.gov.companieshouse.web.pps.config.PenaltyConfigurationProperties;
+import uk.gov.companieshouse.web.pps.models.PenaltyKey;
 import uk.gov.companieshouse.web.pps.service.company.CompanyService;
 import uk.gov.companieshouse.web.pps.service.penaltypayment.PayablePenaltyService;
 import uk.gov.companieshouse.web.pps.session.SessionService;
@@ -19,6 +20,7 @@ import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 import static org.springframework.web.servlet.view.UrlBasedViewResolver.REDIRECT_URL_PREFIX;
@@ -31,6 +33,7 @@ import static uk.gov.companieshouse.web.pps.service.ServiceConstants.SIGN_OUT_UR
 import static uk.gov.companieshouse.web.pps.service.confirmation.impl.ConfirmationServiceImpl.PAYMENT_DATE_ATTR;
 import static uk.gov.companieshouse.web.pps.service.confirmation.impl.ConfirmationServiceImpl.PENALTY_AMOUNT_ATTR;
 import static uk.gov.companieshouse.web.pps.service.confirmation.impl.ConfirmationServiceImpl.REASON_FOR_PENALTY_ATTR;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.COMPANY_NAME;
 import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.COMPANY_NUMBER;
 import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.LFP_PENALTY_REF;
 import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.PAYABLE_REF;
@@ -66,33 +69,33 @@ class ConfirmationServiceImplTest {
     void emptyUrlReturnedOnSuccess() throws Exception {
         Map<String, Object> sessionData = new HashMap<>(Map.of(PAYMENT_STATE, STATE));
 
-        when(mockCompanyService.getCompanyProfile(COMPANY_NUMBER))
-                .thenReturn(PPSTestUtility.validCompanyProfile(COMPANY_NUMBER));
+        when(mockCompanyService.getCompanyName(COMPANY_NUMBER))
+                .thenReturn(COMPANY_NAME);
         when(mockPayablePenaltyService.getPayableFinancialPenalties(COMPANY_NUMBER, PAYABLE_REF))
                 .thenReturn(PPSTestUtility.validPayableFinancialPenalties(COMPANY_NUMBER,
                         LFP_PENALTY_REF, VALID_LATE_FILING_REASON));
         when(mockSessionService.getSessionDataFromContext()).thenReturn(sessionData);
         when(mockPenaltyConfigurationProperties.getSignOutPath()).thenReturn(SIGN_OUT_PATH);
 
-        var result = confirmationServiceImpl.getConfirmationUrl(COMPANY_NUMBER, LFP_PENALTY_REF,
+        var result = confirmationServiceImpl.getConfirmationUrl(PenaltyKey.of(COMPANY_NUMBER, LFP_PENALTY_REF),
                 PAYABLE_REF, STATE, PAID.label);
 
-        assertFalse( result.getUrl().isPresent());
-        assertFalse(result.getErrorRequestMsg().isPresent());
-        assertTrue( result.getBaseModelAttributes().isPresent());
-        assertTrue( result.getModelAttributes().isPresent());
-
-        assertTrue(result.getModelAttributes().get().containsKey(COMPANY_NUMBER_ATTR));
-        assertTrue(result.getModelAttributes().get().containsKey(PENALTY_REF_ATTR));
-        assertTrue(result.getModelAttributes().get().containsKey(COMPANY_NAME_ATTR));
-        assertTrue(result.getModelAttributes().get().containsKey(PAYMENT_DATE_ATTR));
-        assertTrue(result.getModelAttributes().get().containsKey(COMPANY_NUMBER_ATTR));
-        assertTrue(result.getModelAttributes().get().containsKey(PENALTY_AMOUNT_ATTR));
-        assertEquals(VALID_LATE_FILING_REASON, result.getModelAttributes().get().get(REASON_FOR_PENALTY_ATTR));
-        assertEquals(LATE_FILING.name(), result.getModelAttributes().get().get(
+        assertNull(result.url());
+        assertNull(result.errorRequestMsg());
+        assertFalse(result.baseModelAttributes().isEmpty());
+        assertFalse(result.modelAttributes().isEmpty());
+
+        assertTrue(result.modelAttributes().containsKey(COMPANY_NUMBER_ATTR));
+        assertTrue(result.modelAttributes().containsKey(PENALTY_REF_ATTR));
+        assertTrue(result.modelAttributes().containsKey(COMPANY_NAME_ATTR));
+        assertTrue(result.modelAttributes().containsKey(PAYMENT_DATE_ATTR));
+        assertTrue(result.modelAttributes().containsKey(COMPANY_NUMBER_ATTR));
+        assertTrue(result.modelAttributes().containsKey(PENALTY_AMOUNT_ATTR));
+        assertEquals(VALID_LATE_FILING_REASON, result.modelAttributes().get(REASON_FOR_PENALTY_ATTR));
+        assertEquals(LATE_FILING.name(), result.modelAttributes().get(
                 PENALTY_REFERENCE_NAME_ATTR));
 
-        assertTrue(result.getBaseModelAttributes().get().containsKey(SIGN_OUT_URL_ATTR));
+        assertTrue(result.baseModelAttributes().containsKey(SIGN_OUT_URL_ATTR));
     }
 
     @Test
@@ -100,8 +103,8 @@ class ConfirmationServiceImplTest {
     void emptyUrlReturnedOnSuccessWithNullPayment() throws Exception {
         Map<String, Object> sessionData = new HashMap<>(Map.of(PAYMENT_STATE, STATE));
 
-        when(mockCompanyService.getCompanyProfile(COMPANY_NUMBER))
-                .thenReturn(PPSTestUtility.validCompanyProfile(COMPANY_NUMBER));
+        when(mockCompanyService.getCompanyName(COMPANY_NUMBER))
+                .thenReturn(COMPANY_NAME);
 
         PayableFinancialPenalties penalty = PPSTestUtility.validPayableFinancialPenalties(
                 COMPANY_NUMBER, LFP_PENALTY_REF, VALID_LATE_FILING_REASON);
@@ -113,25 +116,25 @@ class ConfirmationServiceImplTest {
         when(mockSessionService.getSessionDataFromContext()).thenReturn(sessionData);
         when(mockPenaltyConfigurationProperties.getSignOutPath()).thenReturn(SIGN_OUT_PATH);
 
-        var result = confirmationServiceImpl.getConfirmationUrl(COMPANY_NUMBER, LFP_PENALTY_REF,
+        var result = confirmationServiceImpl.getConfirmationUrl(PenaltyKey.of(COMPANY_NUMBER, LFP_PENALTY_REF),
                 PAYABLE_REF, STATE, PAID.label);
 
-        assertFalse( result.getUrl().isPresent());
-        assertFalse(result.getErrorRequestMsg().isPresent());
-        assertTrue( result.getBaseModelAttributes().isPresent());
-        assertTrue( result.getModelAttributes().isPresent());
-
-        assertTrue(result.getModelAttributes().get().containsKey(COMPANY_NUMBER_ATTR));
-        assertTrue(result.getModelAttributes().get().containsKey(PENALTY_REF_ATTR));
-        assertTrue(result.getModelAttributes().get().containsKey(COMPANY_NAME_ATTR));
-        assertTrue(result.getModelAttributes().get().containsKey(PAYMENT_DATE_ATTR));
-        assertTrue(result.getModelAttributes().get().containsKey(COMPANY_NUMBER_ATTR));
-        assertTrue(result.getModelAttributes().get().containsKey(PENALTY_AMOUNT_ATTR));
-        assertEquals(VALID_LATE_FILING_REASON, result.getModelAttributes().get().get(REASON_FOR_PENALTY_ATTR));
-        assertEquals(LATE_FILING.name(), result.getModelAttributes().get().get(
+        assertNull(result.url());
+        assertNull(result.errorRequestMsg());
+        assertFalse(result.baseModelAttributes().isEmpty());
+        assertFalse(result.modelAttributes().isEmpty());
+
+        assertTrue(result.modelAttributes().containsKey(COMPANY_NUMBER_ATTR));
+        assertTrue(result.modelAttributes().containsKey(PENALTY_REF_ATTR));
+        assertTrue(result.modelAttributes().containsKey(COMPANY_NAME_ATTR));
+        assertTrue(result.modelAttributes().containsKey(PAYMENT_DATE_ATTR));
+        assertTrue(result.modelAttributes().containsKey(COMPANY_NUMBER_ATTR));
+        assertTrue(result.modelAttributes().containsKey(PENALTY_AMOUNT_ATTR));
+        assertEquals(VALID_LATE_FILING_REASON, result.modelAttributes().get(REASON_FOR_PENALTY_ATTR));
+        assertEquals(LATE_FILING.name(), result.modelAttributes().get(
                 PENALTY_REFERENCE_NAME_ATTR));
 
-        assertTrue(result.getBaseModelAttributes().get().containsKey(SIGN_OUT_URL_ATTR));
+        assertTrue(result.baseModelAttributes().containsKey(SIGN_OUT_URL_ATTR));
     }
 
     @Test
@@ -140,16 +143,16 @@ class ConfirmationServiceImplTest {
         when(mockSessionService.getSessionDataFromContext()).thenReturn(Collections.emptyMap());
         when(mockPenaltyConfigurationProperties.getUnscheduledServiceDownPath()).thenReturn(UNSCHEDULED_SERVICE_DOWN_PATH);
 
-        var result = confirmationServiceImpl.getConfirmationUrl(COMPANY_NUMBER, LFP_PENALTY_REF,
+        var result = confirmationServiceImpl.getConfirmationUrl(PenaltyKey.of(COMPANY_NUMBER, LFP_PENALTY_REF),
                 PAYABLE_REF, CANCELLED.label, PAID.label);
 
         String expectedUrl = REDIRECT_URL_PREFIX + UNSCHEDULED_SERVICE_DOWN_PATH;
         String expectErrMsg = "Payment state value is not present in session, Expected: " + CANCELLED.label;
 
-        result.getUrl().ifPresent(url -> assertEquals(expectedUrl, url));
-        result.getErrorRequestMsg().ifPresent(e -> assertEquals(expectErrMsg, e));
-        assertFalse(result.getBaseModelAttributes().isPresent());
-        assertFalse(result.getModelAttributes().isPresent());
+        assertEquals(expectedUrl, result.url());
+        assertEquals(expectErrMsg, result.errorRequestMsg());
+        assertTrue(result.baseModelAttributes().isEmpty());
+        assertTrue(result.modelAttributes().isEmpty());
     }
 
     @Test
@@ -160,17 +163,17 @@ class ConfirmationServiceImplTest {
         when(mockSessionService.getSessionDataFromContext()).thenReturn(sessionData);
         when(mockPenaltyConfigurationProperties.getUnscheduledServiceDownPath()).thenReturn(UNSCHEDULED_SERVICE_DOWN_PATH);
 
-        var result = confirmationServiceImpl.getConfirmationUrl(COMPANY_NUMBER, LFP_PENALTY_REF,
+        var result = confirmationServiceImpl.getConfirmationUrl(PenaltyKey.of(COMPANY_NUMBER, LFP_PENALTY_REF),
                 PAYABLE_REF, CANCELLED.label, PAID.label);
 
         String expectedUrl = REDIRECT_URL_PREFIX + UNSCHEDULED_SERVICE_DOWN_PATH;
         String expectErrMsg = "Payment state value in session is not as expected, possible tampering of session Expected: " +
                 PAID.label + ", Received: " + CANCELLED.label;
 
-        result.getUrl().ifPresent(url -> assertEquals(expectedUrl, url));
-        result.getErrorRequestMsg().ifPresent(e -> assertEquals(expectErrMsg, e));
-        assertFalse(result.getBaseModelAttributes().isPresent());
-        assertFalse(result.getModelAttributes().isPresent());
+        assertEquals(expectedUrl, result.url());
+        assertEquals(expectErrMsg, result.errorRequestMsg());
+        assertTrue(result.baseModelAttributes().isEmpty());
+        assertTrue(result.modelAttributes().isEmpty());
     }
 
     @Test
@@ -182,15 +185,15 @@ class ConfirmationServiceImplTest {
         when(mockPayablePenaltyService.getPayableFinancialPenalties(COMPANY_NUMBER, PAYABLE_REF))
                 .thenReturn(PPSTestUtility.validPayableFinancialPenalties(COMPANY_NUMBER, LFP_PENALTY_REF, VALID_LATE_FILING_REASON));
 
-        var result = confirmationServiceImpl.getConfirmationUrl(COMPANY_NUMBER, LFP_PENALTY_REF,
+        var result = confirmationServiceImpl.getConfirmationUrl(PenaltyKey.of(COMPANY_NUMBER, LFP_PENALTY_REF),
                 PAYABLE_REF, PAID.label, CANCELLED.label);
 
         String expectedUrl = REDIRECT_URL_PREFIX + "/pay-penalty/company/" + COMPANY_NUMBER + "/penalty/" + LFP_PENALTY_REF + "/view-penalties";
 
-        result.getUrl().ifPresent(url -> assertEquals(expectedUrl, url));
-        assertFalse(result.getErrorRequestMsg().isPresent());
-        assertFalse(result.getBaseModelAttributes().isPresent());
-        assertFalse(result.getModelAttributes().isPresent());
+        assertEquals(expectedUrl, result.url());
+        assertNull(result.errorRequestMsg());
+        assertTrue(result.baseModelAttributes().isEmpty());
+        assertTrue(result.modelAttributes().isEmpty());
     }
 
 }
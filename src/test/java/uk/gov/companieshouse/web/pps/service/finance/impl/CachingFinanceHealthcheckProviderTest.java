@@ -0,0 +1,226 @@
+package uk.gov.companieshouse.web.pps.service.finance.impl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.api.model.financialpenalty.FinanceHealthcheck;
+import uk.gov.companieshouse.api.model.financialpenalty.FinanceHealthcheckStatus;
+import uk.gov.companieshouse.web.pps.config.CacheConfigurationProperties;
+import uk.gov.companieshouse.web.pps.config.UpstreamConfigurationProperties;
+import uk.gov.companieshouse.web.pps.exception.ServiceException;
+import uk.gov.companieshouse.web.pps.service.penaltypayment.PenaltyPaymentService;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.companieshouse.web.pps.service.finance.impl.CachingFinanceHealthcheckProvider.CACHE_REQUESTS_METRIC;
+import static uk.gov.companieshouse.web.pps.service.finance.impl.CachingFinanceHealthcheckProvider.CACHE_STALENESS_METRIC;
+
+@ExtendWith(MockitoExtension.class)
+class CachingFinanceHealthcheckProviderTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-31T16:00:00Z");
+    private static final Duration TIME_TO_LIVE = Duration.ofSeconds(60);
+
+    @Mock
+    private PenaltyPaymentService mockPenaltyPaymentService;
+
+    private CacheConfigurationProperties cacheConfigurationProperties;
+    private MutableClock clock;
+    private MeterRegistry meterRegistry;
+    private CachingFinanceHealthcheckProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        cacheConfigurationProperties = new CacheConfigurationProperties();
+        cacheConfigurationProperties.getFinanceHealthcheck().setTimeToLive(TIME_TO_LIVE);
+        clock = new MutableClock(NOW);
+        meterRegistry = new SimpleMeterRegistry();
+        provider = new CachingFinanceHealthcheckProvider(mockPenaltyPaymentService,
+                cacheConfigurationProperties, new UpstreamConfigurationProperties(), clock, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Get finance health check - served from cache within time to live")
+    void getFinanceHealthcheckServedFromCache() throws ServiceException {
+        FinanceHealthcheck healthy = healthcheck(FinanceHealthcheckStatus.HEALTHY, null);
+        when(mockPenaltyPaymentService.checkFinanceSystemAvailableTime()).thenReturn(healthy);
+
+        assertSame(healthy, provider.getFinanceHealthcheck());
+        clock.advance(Duration.ofSeconds(30));
+        assertSame(healthy, provider.getFinanceHealthcheck());
+
+        verify(mockPenaltyPaymentService, times(1)).checkFinanceSystemAvailableTime();
+        assertEquals(1, requests("hit"));
+        assertEquals(1, requests("miss"));
+        assertEquals(30, meterRegistry.get(CACHE_STALENESS_METRIC).gauge().value());
+    }
+
+    @Test
+    @DisplayName("Get finance health check - reloaded once time to live has passed")
+    void getFinanceHealthcheckReloadedAfterTimeToLive() throws ServiceException {
+        FinanceHealthcheck healthy = healthcheck(FinanceHealthcheckStatus.HEALTHY, null);
+        when(mockPenaltyPaymentService.checkFinanceSystemAvailableTime()).thenReturn(healthy);
+
+        provider.getFinanceHealthcheck();
+        clock.advance(TIME_TO_LIVE);
+        provider.getFinanceHealthcheck();
+
+        verify(mockPenaltyPaymentService, times(2)).checkFinanceSystemAvailableTime();
+        assertEquals(2, requests("miss"));
+    }
+
+    @Test
+    @DisplayName("Get finance health check - planned maintenance expires at maintenance end time")
+    void getFinanceHealthcheckExpiresAtMaintenanceEnd() throws ServiceException {
+        FinanceHealthcheck maintenance = healthcheck(
+                FinanceHealthcheckStatus.UNHEALTHY_PLANNED_MAINTENANCE, "2025-01-31T16:00:10Z");
+        FinanceHealthcheck healthy = healthcheck(FinanceHealthcheckStatus.HEALTHY, null);
+        when(mockPenaltyPaymentService.checkFinanceSystemAvailableTime())
+                .thenReturn(maintenance, healthy);
+
+        assertSame(maintenance, provider.getFinanceHealthcheck());
+        clock.advance(Duration.ofSeconds(9));
+        assertSame(maintenance, provider.getFinanceHealthcheck());
+        clock.advance(Duration.ofSeconds(1));
+        assertSame(healthy, provider.getFinanceHealthcheck());
+
+        verify(mockPenaltyPaymentService, times(2)).checkFinanceSystemAvailableTime();
+    }
+
+    @Test
+    @DisplayName("Get finance health check - failures are not cached")
+    void getFinanceHealthcheckFailureNotCached() throws ServiceException {
+        FinanceHealthcheck healthy = healthcheck(FinanceHealthcheckStatus.HEALTHY, null);
+        when(mockPenaltyPaymentService.checkFinanceSystemAvailableTime())
+                .thenThrow(new ServiceException("Error retrieving Finance Healthcheck", null))
+                .thenReturn(healthy);
+
+        assertThrows(ServiceException.class, () -> provider.getFinanceHealthcheck());
+        assertSame(healthy, provider.getFinanceHealthcheck());
+
+        verify(mockPenaltyPaymentService, times(2)).checkFinanceSystemAvailableTime();
+    }
+
+    @Test
+    @DisplayName("Get finance health check - background refresh failure keeps cached result")
+    void refreshFailureKeepsCachedResult() throws ServiceException {
+        FinanceHealthcheck healthy = healthcheck(FinanceHealthcheckStatus.HEALTHY, null);
+        when(mockPenaltyPaymentService.checkFinanceSystemAvailableTime())
+                .thenReturn(healthy)
+                .thenThrow(new ServiceException("Error retrieving Finance Healthcheck", null));
+
+        provider.refresh();
+        provider.refresh();
+
+        assertSame(healthy, provider.getFinanceHealthcheck());
+        assertEquals(1, requests("hit"));
+    }
+
+    @Test
+    @DisplayName("Get finance health check - concurrent misses share a single upstream call")
+    void getFinanceHealthcheckSingleFlight() throws Exception {
+        FinanceHealthcheck healthy = healthcheck(FinanceHealthcheckStatus.HEALTHY, null);
+        CountDownLatch upstreamCalled = new CountDownLatch(1);
+        CountDownLatch releaseUpstream = new CountDownLatch(1);
+        when(mockPenaltyPaymentService.checkFinanceSystemAvailableTime()).thenAnswer(invocation -> {
+            upstreamCalled.countDown();
+            releaseUpstream.await(5, TimeUnit.SECONDS);
+            return healthy;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<FinanceHealthcheck>> results = new ArrayList<>();
+            results.add(executor.submit(provider::getFinanceHealthcheck));
+            upstreamCalled.await(5, TimeUnit.SECONDS);
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(provider::getFinanceHealthcheck));
+            }
+            releaseUpstream.countDown();
+
+            for (Future<FinanceHealthcheck> result : results) {
+                assertSame(healthy, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(mockPenaltyPaymentService, times(1)).checkFinanceSystemAvailableTime();
+    }
+
+    @Test
+    @DisplayName("Get finance health check - cache disabled always calls upstream")
+    void getFinanceHealthcheckCacheDisabled() throws ServiceException {
+        cacheConfigurationProperties.getFinanceHealthcheck().setEnabled(false);
+        FinanceHealthcheck healthy = healthcheck(FinanceHealthcheckStatus.HEALTHY, null);
+        when(mockPenaltyPaymentService.checkFinanceSystemAvailableTime()).thenReturn(healthy);
+
+        provider.getFinanceHealthcheck();
+        provider.getFinanceHealthcheck();
+
+        verify(mockPenaltyPaymentService, times(2)).checkFinanceSystemAvailableTime();
+        assertEquals(0, requests("miss"));
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get(CACHE_REQUESTS_METRIC).tag("result", result).counter().count();
+    }
+
+    private static FinanceHealthcheck healthcheck(FinanceHealthcheckStatus status,
+            String maintenanceEndTime) {
+        FinanceHealthcheck financeHealthcheck = new FinanceHealthcheck();
+        financeHealthcheck.setMessage(status.getStatus());
+        financeHealthcheck.setMaintenanceEndTime(maintenanceEndTime);
+        return financeHealthcheck;
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
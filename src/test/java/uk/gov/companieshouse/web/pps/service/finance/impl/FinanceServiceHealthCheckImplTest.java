@@ -8,15 +8,19 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.companieshouse.api.model.financialpenalty.FinanceHealthcheck;
 import uk.gov.companieshouse.api.model.financialpenalty.FinanceHealthcheckStatus;
+import uk.gov.companieshouse.web.pps.api.ApiRoute;
+import uk.gov.companieshouse.web.pps.api.UpstreamCallHandler;
 import uk.gov.companieshouse.web.pps.config.PenaltyConfigurationProperties;
 import uk.gov.companieshouse.web.pps.exception.ServiceException;
-import uk.gov.companieshouse.web.pps.service.penaltypayment.PenaltyPaymentService;
+import uk.gov.companieshouse.web.pps.service.finance.FinanceHealthcheckProvider;
 import uk.gov.companieshouse.web.pps.service.response.PPSServiceResponse;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.web.servlet.view.UrlBasedViewResolver.REDIRECT_URL_PREFIX;
 import static uk.gov.companieshouse.web.pps.service.ServiceConstants.DATE_STR;
@@ -33,11 +37,14 @@ class FinanceServiceHealthCheckImplTest {
     private FinanceServiceHealthCheckImpl financeServiceHealthCheck;
 
     @Mock
-    private PenaltyPaymentService mockPenaltyPaymentService;
+    private FinanceHealthcheckProvider mockFinanceHealthcheckProvider;
 
     @Mock
     private PenaltyConfigurationProperties mockPenaltyConfigurationProperties;
 
+    @Mock
+    private UpstreamCallHandler mockUpstreamCallHandler;
+
     private static final String UNKNOWN_STATUS = "Unknown";
 
     private static final String MAINTENANCE_END_TIME = "2001-08-03T04:05:06Z";
@@ -49,14 +56,14 @@ class FinanceServiceHealthCheckImplTest {
         FinanceHealthcheck mockFinancialHealthCheck = new FinanceHealthcheck();
         mockFinancialHealthCheck.setMessage(FinanceHealthcheckStatus.HEALTHY.getStatus());
 
-        when(mockPenaltyPaymentService.checkFinanceSystemAvailableTime()).thenReturn(mockFinancialHealthCheck);
+        when(mockFinanceHealthcheckProvider.getFinanceHealthcheck()).thenReturn(mockFinancialHealthCheck);
 
         var result = financeServiceHealthCheck.checkIfAvailableAtStart(0);
 
-        assertFalse( result.getUrl().isPresent());
-        assertFalse(result.getErrorRequestMsg().isPresent());
-        assertFalse( result.getBaseModelAttributes().isPresent());
-        assertFalse( result.getModelAttributes().isPresent());
+        assertNull(result.url());
+        assertNull(result.errorRequestMsg());
+        assertTrue(result.baseModelAttributes().isEmpty());
+        assertTrue(result.modelAttributes().isEmpty());
     }
 
     @Test
@@ -65,17 +72,16 @@ class FinanceServiceHealthCheckImplTest {
         FinanceHealthcheck mockFinancialHealthCheck = new FinanceHealthcheck();
         mockFinancialHealthCheck.setMessage(FinanceHealthcheckStatus.HEALTHY.getStatus());
 
-        when(mockPenaltyPaymentService.checkFinanceSystemAvailableTime()).thenReturn(mockFinancialHealthCheck);
+        when(mockFinanceHealthcheckProvider.getFinanceHealthcheck()).thenReturn(mockFinancialHealthCheck);
         when(mockPenaltyConfigurationProperties.getGovUkPayPenaltyUrl()).thenReturn(GOV_UK_PAY_PENALTY_URL);
 
         var result = financeServiceHealthCheck.checkIfAvailableAtStart(1);
 
-        assertTrue( result.getUrl().isPresent());
-        assertEquals(REDIRECT_URL_PREFIX + GOV_UK_PAY_PENALTY_URL, result.getUrl().get());
+        assertEquals(REDIRECT_URL_PREFIX + GOV_UK_PAY_PENALTY_URL, result.url());
 
-        assertFalse(result.getErrorRequestMsg().isPresent());
-        assertFalse( result.getBaseModelAttributes().isPresent());
-        assertFalse( result.getModelAttributes().isPresent());
+        assertNull(result.errorRequestMsg());
+        assertTrue(result.baseModelAttributes().isEmpty());
+        assertTrue(result.modelAttributes().isEmpty());
     }
 
     @Test
@@ -84,17 +90,16 @@ class FinanceServiceHealthCheckImplTest {
         FinanceHealthcheck mockFinancialHealthCheck = new FinanceHealthcheck();
         mockFinancialHealthCheck.setMessage(FinanceHealthcheckStatus.HEALTHY.getStatus());
 
-        when(mockPenaltyPaymentService.checkFinanceSystemAvailableTime()).thenReturn(mockFinancialHealthCheck);
+        when(mockFinanceHealthcheckProvider.getFinanceHealthcheck()).thenReturn(mockFinancialHealthCheck);
         when(mockPenaltyConfigurationProperties.getGovUkPayPenaltyUrl()).thenReturn(GOV_UK_PAY_PENALTY_URL);
 
         var result = financeServiceHealthCheck.checkIfAvailableAtStart(null);
 
-        assertTrue( result.getUrl().isPresent());
-        assertEquals(REDIRECT_URL_PREFIX + GOV_UK_PAY_PENALTY_URL, result.getUrl().get());
+        assertEquals(REDIRECT_URL_PREFIX + GOV_UK_PAY_PENALTY_URL, result.url());
 
-        assertFalse(result.getErrorRequestMsg().isPresent());
-        assertFalse( result.getBaseModelAttributes().isPresent());
-        assertFalse( result.getModelAttributes().isPresent());
+        assertNull(result.errorRequestMsg());
+        assertTrue(result.baseModelAttributes().isEmpty());
+        assertTrue(result.modelAttributes().isEmpty());
     }
 
     @Test
@@ -104,21 +109,20 @@ class FinanceServiceHealthCheckImplTest {
         mockFinancialHealthCheck.setMessage(FinanceHealthcheckStatus.UNHEALTHY_PLANNED_MAINTENANCE.getStatus());
         mockFinancialHealthCheck.setMaintenanceEndTime(MAINTENANCE_END_TIME);
 
-        when(mockPenaltyPaymentService.checkFinanceSystemAvailableTime()).thenReturn(mockFinancialHealthCheck);
+        when(mockFinanceHealthcheckProvider.getFinanceHealthcheck()).thenReturn(mockFinancialHealthCheck);
         when(mockPenaltyConfigurationProperties.getSignOutPath()).thenReturn(SIGN_OUT_PATH);
 
         var result = financeServiceHealthCheck.checkIfAvailableAtStart(0);
 
-        assertTrue( result.getUrl().isPresent());
-        assertEquals(SERVICE_UNAVAILABLE_VIEW_NAME, result.getUrl().get());
+        assertEquals(SERVICE_UNAVAILABLE_VIEW_NAME, result.url());
 
-        assertTrue( result.getModelAttributes().isPresent());
-        assertTrue(result.getModelAttributes().get().containsKey(DATE_STR));
-        assertEquals(1, result.getModelAttributes().get().size());
+        assertFalse(result.modelAttributes().isEmpty());
+        assertTrue(result.modelAttributes().containsKey(DATE_STR));
+        assertEquals(1, result.modelAttributes().size());
 
-        assertTrue( result.getBaseModelAttributes().isPresent());
-        assertTrue(result.getBaseModelAttributes().get().containsKey(SIGN_OUT_URL_ATTR));
-        assertEquals(1, result.getBaseModelAttributes().get().size());
+        assertFalse(result.baseModelAttributes().isEmpty());
+        assertTrue(result.baseModelAttributes().containsKey(SIGN_OUT_URL_ATTR));
+        assertEquals(1, result.baseModelAttributes().size());
 
     }
 
@@ -131,16 +135,15 @@ class FinanceServiceHealthCheckImplTest {
         mockFinancialHealthCheck.setMaintenanceEndTime(MAINTENANCE_END_TIME);
 
         when(mockPenaltyConfigurationProperties.getUnscheduledServiceDownPath()).thenReturn(UNSCHEDULED_SERVICE_DOWN_PATH);
-        when(mockPenaltyPaymentService.checkFinanceSystemAvailableTime()).thenReturn(mockFinancialHealthCheck);
+        when(mockFinanceHealthcheckProvider.getFinanceHealthcheck()).thenReturn(mockFinancialHealthCheck);
 
         var result = financeServiceHealthCheck.checkIfAvailableAtStart(0);
 
-        assertTrue( result.getUrl().isPresent());
-        assertEquals(REDIRECT_URL_PREFIX + UNSCHEDULED_SERVICE_DOWN_PATH, result.getUrl().get());
+        assertEquals(REDIRECT_URL_PREFIX + UNSCHEDULED_SERVICE_DOWN_PATH, result.url());
 
-        assertFalse( result.getModelAttributes().isPresent());
-        assertFalse(result.getErrorRequestMsg().isPresent());
-        assertFalse( result.getBaseModelAttributes().isPresent());
+        assertTrue(result.modelAttributes().isEmpty());
+        assertNull(result.errorRequestMsg());
+        assertTrue(result.baseModelAttributes().isEmpty());
     }
 
     @Test
@@ -148,33 +151,44 @@ class FinanceServiceHealthCheckImplTest {
     void healthCheckStartExceptionPlannedMaintenance() throws Exception {
         when(mockPenaltyConfigurationProperties.getUnscheduledServiceDownPath()).thenReturn(UNSCHEDULED_SERVICE_DOWN_PATH);
 
-        doThrow(ServiceException.class).when(mockPenaltyPaymentService).checkFinanceSystemAvailableTime();
+        doThrow(ServiceException.class).when(mockFinanceHealthcheckProvider).getFinanceHealthcheck();
 
         var result = financeServiceHealthCheck.checkIfAvailableAtStart(0);
 
-        assertTrue( result.getUrl().isPresent());
-        assertEquals(REDIRECT_URL_PREFIX + UNSCHEDULED_SERVICE_DOWN_PATH, result.getUrl().get());
+        assertEquals(REDIRECT_URL_PREFIX + UNSCHEDULED_SERVICE_DOWN_PATH, result.url());
 
-        assertFalse( result.getModelAttributes().isPresent());
-        assertFalse(result.getErrorRequestMsg().isPresent());
-        assertFalse( result.getBaseModelAttributes().isPresent());
+        assertTrue(result.modelAttributes().isEmpty());
+        assertNull(result.errorRequestMsg());
+        assertTrue(result.baseModelAttributes().isEmpty());
     }
 
 
+    @Test
+    @DisplayName("Health Check for start pages - penalty payment API circuit open")
+    void healthCheckStartCircuitOpen() {
+        when(mockPenaltyConfigurationProperties.getUnscheduledServiceDownPath()).thenReturn(UNSCHEDULED_SERVICE_DOWN_PATH);
+        when(mockUpstreamCallHandler.isCircuitOpen(ApiRoute.PENALTY_PAYMENT)).thenReturn(true);
+
+        var result = financeServiceHealthCheck.checkIfAvailableAtStart(1);
+
+        assertEquals(REDIRECT_URL_PREFIX + UNSCHEDULED_SERVICE_DOWN_PATH, result.url());
+        verifyNoInteractions(mockFinanceHealthcheckProvider);
+    }
+
     @Test
     @DisplayName("Health Check for other pages - healthy")
     void healthCheckOtherHealthy() throws Exception {
         FinanceHealthcheck mockFinancialHealthCheck = new FinanceHealthcheck();
         mockFinancialHealthCheck.setMessage(FinanceHealthcheckStatus.HEALTHY.getStatus());
 
-        when(mockPenaltyPaymentService.checkFinanceSystemAvailableTime()).thenReturn(mockFinancialHealthCheck);
+        when(mockFinanceHealthcheckProvider.getFinanceHealthcheck()).thenReturn(mockFinancialHealthCheck);
 
         PPSServiceResponse result = financeServiceHealthCheck.checkIfAvailable();
 
-        assertFalse( result.getUrl().isPresent());
-        assertFalse( result.getModelAttributes().isPresent());
-        assertFalse(result.getErrorRequestMsg().isPresent());
-        assertFalse( result.getBaseModelAttributes().isPresent());
+        assertNull(result.url());
+        assertTrue(result.modelAttributes().isEmpty());
+        assertNull(result.errorRequestMsg());
+        assertTrue(result.baseModelAttributes().isEmpty());
     }
 
     @Test
@@ -185,21 +199,20 @@ class FinanceServiceHealthCheckImplTest {
         mockFinancialHealthCheck.setMessage(FinanceHealthcheckStatus.UNHEALTHY_PLANNED_MAINTENANCE.getStatus());
         mockFinancialHealthCheck.setMaintenanceEndTime(MAINTENANCE_END_TIME);
 
-        when(mockPenaltyPaymentService.checkFinanceSystemAvailableTime()).thenReturn(mockFinancialHealthCheck);
+        when(mockFinanceHealthcheckProvider.getFinanceHealthcheck()).thenReturn(mockFinancialHealthCheck);
         when(mockPenaltyConfigurationProperties.getSignOutPath()).thenReturn(SIGN_OUT_PATH);
 
         PPSServiceResponse result = financeServiceHealthCheck.checkIfAvailable();
 
-        assertTrue( result.getUrl().isPresent());
-        assertEquals(SERVICE_UNAVAILABLE_VIEW_NAME, result.getUrl().get());
+        assertEquals(SERVICE_UNAVAILABLE_VIEW_NAME, result.url());
 
-        assertTrue( result.getModelAttributes().isPresent());
-        assertTrue(result.getModelAttributes().get().containsKey(DATE_STR));
-        assertEquals(1, result.getModelAttributes().get().size());
+        assertFalse(result.modelAttributes().isEmpty());
+        assertTrue(result.modelAttributes().containsKey(DATE_STR));
+        assertEquals(1, result.modelAttributes().size());
 
-        assertTrue( result.getBaseModelAttributes().isPresent());
-        assertTrue(result.getBaseModelAttributes().get().containsKey(SIGN_OUT_URL_ATTR));
-        assertEquals(1, result.getBaseModelAttributes().get().size());
+        assertFalse(result.baseModelAttributes().isEmpty());
+        assertTrue(result.baseModelAttributes().containsKey(SIGN_OUT_URL_ATTR));
+        assertEquals(1, result.baseModelAttributes().size());
     }
 
     @Test
@@ -207,16 +220,15 @@ class FinanceServiceHealthCheckImplTest {
     void healthCheckOtherExceptionPlannedMaintenance() throws Exception {
         when(mockPenaltyConfigurationProperties.getUnscheduledServiceDownPath()).thenReturn(UNSCHEDULED_SERVICE_DOWN_PATH);
 
-        doThrow(ServiceException.class).when(mockPenaltyPaymentService).checkFinanceSystemAvailableTime();
+        doThrow(ServiceException.class).when(mockFinanceHealthcheckProvider).getFinanceHealthcheck();
 
         PPSServiceResponse result = financeServiceHealthCheck.checkIfAvailable();
 
-        assertTrue( result.getUrl().isPresent());
-        assertEquals(REDIRECT_URL_PREFIX + UNSCHEDULED_SERVICE_DOWN_PATH, result.getUrl().get());
+        assertEquals(REDIRECT_URL_PREFIX + UNSCHEDULED_SERVICE_DOWN_PATH, result.url());
 
-        assertFalse( result.getModelAttributes().isPresent());
-        assertFalse(result.getErrorRequestMsg().isPresent());
-        assertFalse( result.getBaseModelAttributes().isPresent());
+        assertTrue(result.modelAttributes().isEmpty());
+        assertNull(result.errorRequestMsg());
+        assertTrue(result.baseModelAttributes().isEmpty());
     }
 
     @Test
@@ -228,17 +240,29 @@ class FinanceServiceHealthCheckImplTest {
         mockFinancialHealthCheck.setMaintenanceEndTime(ERROR_MAINTENANCE_END_TIME);
 
         when(mockPenaltyConfigurationProperties.getUnscheduledServiceDownPath()).thenReturn(UNSCHEDULED_SERVICE_DOWN_PATH);
-        when(mockPenaltyPaymentService.checkFinanceSystemAvailableTime()).thenReturn(mockFinancialHealthCheck);
+        when(mockFinanceHealthcheckProvider.getFinanceHealthcheck()).thenReturn(mockFinancialHealthCheck);
 
         PPSServiceResponse result = financeServiceHealthCheck.checkIfAvailable();
 
-        assertTrue( result.getUrl().isPresent());
-        assertEquals(REDIRECT_URL_PREFIX + UNSCHEDULED_SERVICE_DOWN_PATH, result.getUrl().get());
+        assertEquals(REDIRECT_URL_PREFIX + UNSCHEDULED_SERVICE_DOWN_PATH, result.url());
+
+        assertTrue(result.modelAttributes().isEmpty());
+        assertNull(result.errorRequestMsg());
+        assertTrue(result.baseModelAttributes().isEmpty());
+
+    }
+
+    @Test
+    @DisplayName("Health Check for other pages - penalty payment API circuit open")
+    void healthCheckOtherCircuitOpen() {
+        when(mockPenaltyConfigurationProperties.getUnscheduledServiceDownPath()).thenReturn(UNSCHEDULED_SERVICE_DOWN_PATH);
+        when(mockUpstreamCallHandler.isCircuitOpen(ApiRoute.PENALTY_PAYMENT)).thenReturn(true);
 
-        assertFalse( result.getModelAttributes().isPresent());
-        assertFalse(result.getErrorRequestMsg().isPresent());
-        assertFalse( result.getBaseModelAttributes().isPresent());
+        PPSServiceResponse result = financeServiceHealthCheck.checkIfAvailable();
 
+        assertEquals(REDIRECT_URL_PREFIX + UNSCHEDULED_SERVICE_DOWN_PATH, result.url());
+        assertTrue(result.modelAttributes().isEmpty());
+        verifyNoInteractions(mockFinanceHealthcheckProvider);
     }
 
     @Test
@@ -249,18 +273,17 @@ class FinanceServiceHealthCheckImplTest {
         mockFinancialHealthCheck.setMessage(FinanceHealthcheckStatus.UNHEALTHY_PLANNED_MAINTENANCE.getStatus());
         mockFinancialHealthCheck.setMaintenanceEndTime(MAINTENANCE_END_TIME);
 
-        when(mockPenaltyPaymentService.checkFinanceSystemAvailableTime()).thenReturn(mockFinancialHealthCheck);
+        when(mockFinanceHealthcheckProvider.getFinanceHealthcheck()).thenReturn(mockFinancialHealthCheck);
         when(mockPenaltyConfigurationProperties.getSignOutPath()).thenReturn(SIGN_OUT_PATH);
 
         var result = financeServiceHealthCheck.checkIfAvailable();
 
-        assertTrue( result.getUrl().isPresent());
-        assertEquals(SERVICE_UNAVAILABLE_VIEW_NAME, result.getUrl().get());
+        assertEquals(SERVICE_UNAVAILABLE_VIEW_NAME, result.url());
 
-        assertTrue(result.getModelAttributes().isPresent());
-        assertTrue(result.getModelAttributes().get().containsKey(DATE_STR));
+        assertFalse(result.modelAttributes().isEmpty());
+        assertTrue(result.modelAttributes().containsKey(DATE_STR));
 
-        String displayDateFormat = (String) result.getModelAttributes().get().get(DATE_STR);
+        String displayDateFormat = (String) result.modelAttributes().get(DATE_STR);
         assertEquals("5:05 am on Friday 3 August 2001", displayDateFormat);
     }
 }
@@ -0,0 +1,162 @@
+package uk.gov.companieshouse.web.pps.service.journey.impl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.web.pps.service.journey.JourneyStep;
+import uk.gov.companieshouse.web.pps.service.journey.JourneyTimingService;
+import uk.gov.companieshouse.web.pps.service.journey.impl.JourneyTimingServiceImpl.JourneyState;
+import uk.gov.companieshouse.web.pps.session.SessionService;
+import uk.gov.companieshouse.web.pps.util.PenaltyReference;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+import static uk.gov.companieshouse.web.pps.service.journey.impl.JourneyTimingServiceImpl.JOURNEY_ABANDONED_METRIC;
+import static uk.gov.companieshouse.web.pps.service.journey.impl.JourneyTimingServiceImpl.JOURNEY_DURATION_METRIC;
+import static uk.gov.companieshouse.web.pps.service.journey.impl.JourneyTimingServiceImpl.JOURNEY_KEY;
+import static uk.gov.companieshouse.web.pps.service.journey.impl.JourneyTimingServiceImpl.JOURNEY_STEPS_REACHED_METRIC;
+import static uk.gov.companieshouse.web.pps.service.journey.impl.JourneyTimingServiceImpl.JOURNEY_STEP_METRIC;
+
+@ExtendWith(MockitoExtension.class)
+class JourneyTimingServiceImplTest {
+
+    private static final String REQUEST_ID = "request-id";
+    private static final Duration HANDLING_TIME = Duration.ofMillis(20);
+
+    @Mock
+    private SessionService mockSessionService;
+
+    @Mock
+    private Clock mockClock;
+
+    private MeterRegistry meterRegistry;
+    private Map<String, Object> sessionData;
+    private JourneyTimingService journeyTimingService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sessionData = new HashMap<>();
+        journeyTimingService = new JourneyTimingServiceImpl(mockSessionService, meterRegistry, mockClock);
+    }
+
+    @Test
+    @DisplayName("Record step - whole journey timed from first step to confirmation")
+    void recordStepCompletedJourney() {
+        when(mockSessionService.getSessionDataFromContext()).thenReturn(sessionData);
+        when(mockClock.millis()).thenReturn(1_000L, 1_000L, 5_000L, 61_000L);
+
+        journeyTimingService.recordStep(JourneyStep.REF_STARTS_WITH, null, REQUEST_ID, HANDLING_TIME);
+        journeyTimingService.recordStep(JourneyStep.ENTER_DETAILS, PenaltyReference.LATE_FILING, "second", HANDLING_TIME);
+        journeyTimingService.recordStep(JourneyStep.CONFIRMATION, null, "third", HANDLING_TIME);
+
+        assertEquals(1, stepsReached(JourneyStep.REF_STARTS_WITH, "unknown"));
+        assertEquals(1, stepsReached(JourneyStep.ENTER_DETAILS, "LATE_FILING"));
+        assertEquals(1, stepsReached(JourneyStep.CONFIRMATION, "LATE_FILING"));
+        assertEquals(1, meterRegistry.get(JOURNEY_STEP_METRIC)
+                .tag("step", "confirmation")
+                .tag("penalty_reference_type", "LATE_FILING")
+                .timer().count());
+        assertEquals(60, meterRegistry.get(JOURNEY_DURATION_METRIC)
+                .tag("penalty_reference_type", "LATE_FILING")
+                .timer().totalTime(TimeUnit.SECONDS));
+        assertFalse(sessionData.containsKey(JOURNEY_KEY));
+    }
+
+    @Test
+    @DisplayName("Record step - journey identified by the request ID of its first step")
+    void recordStepJourneyId() {
+        when(mockSessionService.getSessionDataFromContext()).thenReturn(sessionData);
+        when(mockClock.millis()).thenReturn(1_000L);
+
+        journeyTimingService.recordStep(JourneyStep.START, null, REQUEST_ID, HANDLING_TIME);
+        journeyTimingService.recordStep(JourneyStep.REF_STARTS_WITH, null, "second", HANDLING_TIME);
+        journeyTimingService.recordStep(JourneyStep.ENTER_DETAILS, null, "third", HANDLING_TIME);
+
+        assertEquals(REQUEST_ID, journeyId());
+    }
+
+    @Test
+    @DisplayName("Record step - starting again counts the earlier journey as abandoned")
+    void recordStepAbandonedJourney() {
+        when(mockSessionService.getSessionDataFromContext()).thenReturn(sessionData);
+        when(mockClock.millis()).thenReturn(1_000L);
+
+        journeyTimingService.recordStep(JourneyStep.REF_STARTS_WITH, null, REQUEST_ID, HANDLING_TIME);
+        journeyTimingService.recordStep(JourneyStep.VIEW_PENALTIES, PenaltyReference.SANCTIONS, REQUEST_ID, HANDLING_TIME);
+        journeyTimingService.recordStep(JourneyStep.REF_STARTS_WITH, null, "second", HANDLING_TIME);
+
+        assertEquals(1, meterRegistry.get(JOURNEY_ABANDONED_METRIC)
+                .tag("step", "view_penalties")
+                .tag("penalty_reference_type", "SANCTIONS")
+                .counter().count());
+        assertEquals(2, stepsReached(JourneyStep.REF_STARTS_WITH, "unknown"));
+        assertEquals("second", journeyId());
+    }
+
+    @Test
+    @DisplayName("Record step - step outside a journey only records handling time")
+    void recordStepOutsideJourney() {
+        when(mockSessionService.getSessionDataFromContext()).thenReturn(sessionData);
+
+        journeyTimingService.recordStep(JourneyStep.CONFIRMATION, PenaltyReference.LATE_FILING, REQUEST_ID, HANDLING_TIME);
+
+        assertEquals(1, meterRegistry.get(JOURNEY_STEP_METRIC)
+                .tag("step", "confirmation")
+                .timer().count());
+        assertNull(meterRegistry.find(JOURNEY_DURATION_METRIC).timer());
+        assertNull(meterRegistry.find(JOURNEY_STEPS_REACHED_METRIC).counter());
+        assertFalse(sessionData.containsKey(JOURNEY_KEY));
+    }
+
+    @Test
+    @DisplayName("Record step - journey kept in the session as a single attribute")
+    void recordStepJourneyState() {
+        when(mockSessionService.getSessionDataFromContext()).thenReturn(sessionData);
+        when(mockClock.millis()).thenReturn(1_000L);
+
+        journeyTimingService.recordStep(JourneyStep.REF_STARTS_WITH, null, "id|with|separators", HANDLING_TIME);
+        journeyTimingService.recordStep(JourneyStep.VIEW_PENALTIES, PenaltyReference.SANCTIONS_ROE, REQUEST_ID, HANDLING_TIME);
+
+        assertEquals(Map.of(JOURNEY_KEY, "rs|3|U|id|with|separators"), sessionData);
+        assertEquals(new JourneyState("id|with|separators", 1_000L, JourneyStep.VIEW_PENALTIES,
+                PenaltyReference.SANCTIONS_ROE), JourneyState.decode((String) sessionData.get(JOURNEY_KEY)));
+    }
+
+    @Test
+    @DisplayName("Record step - unreadable journey in the session treated as no journey")
+    void recordStepUnreadableJourneyState() {
+        sessionData.put(JOURNEY_KEY, "not a journey");
+        when(mockSessionService.getSessionDataFromContext()).thenReturn(sessionData);
+
+        journeyTimingService.recordStep(JourneyStep.VIEW_PENALTIES, null, REQUEST_ID, HANDLING_TIME);
+
+        assertNull(meterRegistry.find(JOURNEY_STEPS_REACHED_METRIC).counter());
+        assertTrue(sessionData.containsKey(JOURNEY_KEY));
+    }
+
+    private String journeyId() {
+        return JourneyState.decode((String) sessionData.get(JOURNEY_KEY)).journeyId();
+    }
+
+    private double stepsReached(JourneyStep step, String penaltyReferenceType) {
+        return meterRegistry.get(JOURNEY_STEPS_REACHED_METRIC)
+                .tag("step", step.getTagValue())
+                .tag("penalty_reference_type", penaltyReferenceType)
+                .counter().count();
+    }
+}
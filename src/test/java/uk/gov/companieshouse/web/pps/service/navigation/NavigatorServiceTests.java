@@ -9,6 +9,7 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.MessageSource;
+import org.springframework.stereotype.Controller;
 import org.springframework.web.servlet.view.UrlBasedViewResolver;
 import uk.gov.companieshouse.web.pps.config.PenaltyConfigurationProperties;
 import uk.gov.companieshouse.web.pps.controller.ConditionalController;
@@ -28,6 +29,7 @@ import uk.gov.companieshouse.web.pps.session.SessionService;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.when;
 import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.COMPANY_NUMBER;
 import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.PENALTY_REF;
@@ -57,6 +59,35 @@ class NavigatorServiceTests {
         navigatorService = new NavigatorService(mockApplicationContext);
     }
 
+    @Test
+    void startupFailsWhenLinkedControllerHasNoRequestMapping() {
+        when(mockApplicationContext.getBeanNamesForAnnotation(Controller.class))
+                .thenReturn(new String[]{"mockControllerOne"});
+        doReturn(MockControllerOne.class).when(mockApplicationContext).getType("mockControllerOne");
+
+        Throwable exception = assertThrows(MissingAnnotationException.class, () ->
+                navigatorService.afterSingletonsInstantiated());
+
+        assertEquals("Missing @RequestMapping annotation on class uk.gov.companieshouse.web.pps.service.navigation.failure.MockControllerTwo", exception.getMessage());
+    }
+
+    @Test
+    void successfulRedirectUsingRoutesCompiledAtStartup() {
+        when(mockApplicationContext.getBeanNamesForAnnotation(Controller.class))
+                .thenReturn(new String[]{"mockSuccessJourneyControllerThree"});
+        doReturn(MockSuccessJourneyControllerThree.class).when(mockApplicationContext)
+                .getType("mockSuccessJourneyControllerThree");
+        when(mockApplicationContext.getBean(ConditionalController.class)).thenReturn(
+                new MockSuccessJourneyControllerTwo(navigatorService, mockSessionService, mockPenaltyConfigurationProperties, mockMessageSource));
+
+        navigatorService.afterSingletonsInstantiated();
+        String path = navigatorService.getPreviousControllerPath(MockSuccessJourneyControllerThree.class, COMPANY_NUMBER, PENALTY_REF,
+                COMPANY_LFP_ID);
+
+        assertEquals("/mock-success-journey-controller-one/"
+                + COMPANY_NUMBER + "/" + PENALTY_REF + "/" + COMPANY_LFP_ID, path);
+    }
+
     @Test
     void missingNextControllerAnnotation() {
         Throwable exception = assertThrows(MissingAnnotationException.class, () ->
@@ -1,5 +1,6 @@
 package uk.gov.companieshouse.web.pps.service.payment.impl;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,7 +20,10 @@ import uk.gov.companieshouse.api.model.payment.PaymentApi;
 import uk.gov.companieshouse.api.model.payment.PaymentSessionApi;
 import uk.gov.companieshouse.environment.EnvironmentReader;
 import uk.gov.companieshouse.web.pps.api.ApiClientService;
+import uk.gov.companieshouse.web.pps.api.impl.UpstreamCallHandlerImpl;
+import uk.gov.companieshouse.web.pps.config.UpstreamConfigurationProperties;
 import uk.gov.companieshouse.web.pps.exception.ServiceException;
+import uk.gov.companieshouse.web.pps.models.PenaltyKey;
 import uk.gov.companieshouse.web.pps.service.payment.PaymentService;
 import uk.gov.companieshouse.web.pps.session.SessionService;
 
@@ -90,7 +94,8 @@ class PaymentServiceImplTest {
     @BeforeEach
     void setUp() {
 
-        mockPaymentService = new PaymentServiceImpl(apiClientService, sessionService, environmentReader);
+        mockPaymentService = new PaymentServiceImpl(apiClientService, sessionService,
+                new UpstreamCallHandlerImpl(new UpstreamConfigurationProperties(), new SimpleMeterRegistry()), environmentReader);
 
         when(apiClientService.getPublicApiClient()).thenReturn(apiClient);
         when(apiClient.getHttpClient()).thenReturn(httpClient);
@@ -118,7 +123,7 @@ class PaymentServiceImplTest {
         when(links.get(JOURNEY_LINK)).thenReturn(JOURNEY_URL);
 
         String journeyUrl = mockPaymentService.createPaymentSession(
-                payableFinancialPenaltySession, COMPANY_NUMBER, PENALTY_REF);
+                payableFinancialPenaltySession, PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF));
 
         assertEquals(JOURNEY_URL, journeyUrl);
 
@@ -141,7 +146,7 @@ class PaymentServiceImplTest {
         when(links.get(JOURNEY_LINK)).thenReturn(JOURNEY_URL);
 
         String journeyUrl = mockPaymentService.createPaymentSession(
-                payableFinancialPenaltySession, COMPANY_NUMBER, CS_PENALTY_REF);
+                payableFinancialPenaltySession, PenaltyKey.of(COMPANY_NUMBER, CS_PENALTY_REF));
 
         assertEquals(JOURNEY_URL, journeyUrl);
 
@@ -157,7 +162,7 @@ class PaymentServiceImplTest {
 
         assertThrows(ServiceException.class, () ->
                 mockPaymentService.createPaymentSession(
-                        payableFinancialPenaltySession, COMPANY_NUMBER, PENALTY_REF));
+                        payableFinancialPenaltySession, PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF)));
 
         verify(sessionData, never()).put(eq(PAYMENT_STATE), anyString());
     }
@@ -171,7 +176,7 @@ class PaymentServiceImplTest {
 
         assertThrows(ServiceException.class, () ->
                 mockPaymentService.createPaymentSession(
-                        payableFinancialPenaltySession, COMPANY_NUMBER, PENALTY_REF));
+                        payableFinancialPenaltySession, PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF)));
 
         verify(sessionData, never()).put(eq(PAYMENT_STATE), anyString());
     }
@@ -16,7 +16,7 @@ import uk.gov.companieshouse.web.pps.config.PenaltyConfigurationProperties;
 import uk.gov.companieshouse.web.pps.controller.pps.EnterDetailsController;
 import uk.gov.companieshouse.web.pps.exception.ServiceException;
 import uk.gov.companieshouse.web.pps.models.EnterDetails;
-import uk.gov.companieshouse.web.pps.service.company.CompanyService;
+import uk.gov.companieshouse.web.pps.models.PenaltyKey;
 import uk.gov.companieshouse.web.pps.service.finance.FinanceServiceHealthCheck;
 import uk.gov.companieshouse.web.pps.service.navigation.NavigatorService;
 import uk.gov.companieshouse.web.pps.service.penaltypayment.PenaltyPaymentService;
@@ -34,7 +34,9 @@ import java.util.Map;
 import static java.time.LocalDate.now;
 import static java.util.Locale.UK;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -69,9 +71,6 @@ class PenaltyDetailsServiceImplTest {
     @Mock
     private FeatureFlagChecker mockFeatureFlagChecker;
 
-    @Mock
-    private CompanyService mockCompanyService;
-
     @Mock
     private PenaltyPaymentService mockPenaltyPaymentService;
 
@@ -118,18 +117,18 @@ class PenaltyDetailsServiceImplTest {
     void getEnterDetailsSuccessful(PenaltyReference penaltyReference) {
 
         when(mockFeatureFlagChecker.isPenaltyRefEnabled(penaltyReference)).thenReturn(true);
-        when(mockFinanceServiceHealthCheck.checkIfAvailable()).thenReturn(new PPSServiceResponse());
+        when(mockFinanceServiceHealthCheck.checkIfAvailable()).thenReturn(PPSServiceResponse.render());
 
         PPSServiceResponse actualServiceResponse = penaltyDetailsService
                 .getEnterDetails(penaltyReference.getStartsWith());
 
         assertNotNull(actualServiceResponse);
-        assertTrue(actualServiceResponse.getUrl().isEmpty());
-        assertTrue(actualServiceResponse.getModelAttributes().isPresent());
-        assertTrue(actualServiceResponse.getModelAttributes().get()
+        assertNull(actualServiceResponse.url());
+        assertFalse(actualServiceResponse.modelAttributes().isEmpty());
+        assertTrue(actualServiceResponse.modelAttributes()
                 .containsKey(ENTER_DETAILS_MODEL_ATTR));
-        assertTrue(actualServiceResponse.getBaseModelAttributes().isPresent());
-        assertTrue(actualServiceResponse.getBaseModelAttributes().get()
+        assertFalse(actualServiceResponse.baseModelAttributes().isEmpty());
+        assertTrue(actualServiceResponse.baseModelAttributes()
                 .containsKey(BACK_LINK_URL_ATTR));
     }
 
@@ -138,9 +137,8 @@ class PenaltyDetailsServiceImplTest {
     @DisplayName("Get Details - Unsuccessful health check")
     void getEnterDetailsFailedHealthCheck(String healthCheckRedirect) {
 
-        PPSServiceResponse healthCheck = new PPSServiceResponse();
-        healthCheck.setUrl(healthCheckRedirect);
-        healthCheck.setBaseModelAttributes(Map.of(SIGN_OUT_URL_ATTR, SIGN_OUT_PATH));
+        PPSServiceResponse healthCheck = PPSServiceResponse.renderView(healthCheckRedirect, null,
+                Map.of(SIGN_OUT_URL_ATTR, SIGN_OUT_PATH));
 
         when(mockFinanceServiceHealthCheck.checkIfAvailable()).thenReturn(healthCheck);
 
@@ -148,10 +146,9 @@ class PenaltyDetailsServiceImplTest {
                 .getEnterDetails(LATE_FILING.getStartsWith());
 
         assertNotNull(serviceResponse);
-        assertTrue(serviceResponse.getUrl().isPresent());
-        assertEquals(healthCheckRedirect, serviceResponse.getUrl().get());
-        assertTrue(serviceResponse.getBaseModelAttributes().isPresent());
-        assertTrue(serviceResponse.getBaseModelAttributes().get().containsKey(SIGN_OUT_URL_ATTR));
+        assertEquals(healthCheckRedirect, serviceResponse.url());
+        assertFalse(serviceResponse.baseModelAttributes().isEmpty());
+        assertTrue(serviceResponse.baseModelAttributes().containsKey(SIGN_OUT_URL_ATTR));
     }
 
     @ParameterizedTest
@@ -159,7 +156,7 @@ class PenaltyDetailsServiceImplTest {
     @DisplayName("Get Details - Penalty reference type not enabled")
     void getEnterDetailsFailedHealthCheck(PenaltyReference penaltyReference) {
 
-        when(mockFinanceServiceHealthCheck.checkIfAvailable()).thenReturn(new PPSServiceResponse());
+        when(mockFinanceServiceHealthCheck.checkIfAvailable()).thenReturn(PPSServiceResponse.render());
 
         when(mockFeatureFlagChecker.isPenaltyRefEnabled(penaltyReference)).thenReturn(false);
         when(mockPenaltyConfigurationProperties.getUnscheduledServiceDownPath()).thenReturn(
@@ -169,17 +166,16 @@ class PenaltyDetailsServiceImplTest {
                 .getEnterDetails(penaltyReference.getStartsWith());
 
         assertNotNull(serviceResponse);
-        assertTrue(serviceResponse.getUrl().isPresent());
         assertEquals(REDIRECT_URL_PREFIX + UNSCHEDULED_SERVICE_DOWN_PATH,
-                serviceResponse.getUrl().get());
-        assertTrue(serviceResponse.getBaseModelAttributes().isEmpty());
+                serviceResponse.url());
+        assertTrue(serviceResponse.baseModelAttributes().isEmpty());
     }
 
     @Test
     @DisplayName("Get Details - throws exception")
     void getEnterDetailsThrowsException() {
 
-        when(mockFinanceServiceHealthCheck.checkIfAvailable()).thenReturn(new PPSServiceResponse());
+        when(mockFinanceServiceHealthCheck.checkIfAvailable()).thenReturn(PPSServiceResponse.render());
 
         assertThrows(IllegalArgumentException.class, () -> penaltyDetailsService
                 .getEnterDetails("Z"));
@@ -195,17 +191,16 @@ class PenaltyDetailsServiceImplTest {
                         enterDetailsControllerClass);
 
         assertNotNull(serviceResponse);
-        assertTrue(serviceResponse.getUrl().isEmpty());
-        assertTrue(serviceResponse.getBaseModelAttributes().isPresent());
-        assertTrue(serviceResponse.getBaseModelAttributes().get().containsKey(BACK_LINK_URL_ATTR));
+        assertNull(serviceResponse.url());
+        assertFalse(serviceResponse.baseModelAttributes().isEmpty());
+        assertTrue(serviceResponse.baseModelAttributes().containsKey(BACK_LINK_URL_ATTR));
     }
 
     @Test
     @DisplayName("Post Details throws exception")
     void postDetailsThrowsException() throws Exception {
 
-        configureAppendCompanyNumber(COMPANY_NUMBER);
-        when(mockPenaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER, PENALTY_REF))
+        when(mockPenaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF)))
                 .thenThrow(new ServiceException("Failed to fetch penalties", new Exception()));
 
         assertThrows(ServiceException.class, () -> penaltyDetailsService
@@ -217,7 +212,6 @@ class PenaltyDetailsServiceImplTest {
     @Test
     @DisplayName("Post Details successfully - lower case LLP, correct penalty ref")
     void postDetailsCompanyNumberLowerCase() throws Exception {
-        configureAppendCompanyNumber(UPPER_CASE_LLP);
         configureValidPenalty(UPPER_CASE_LLP, PENALTY_REF);
         when(mockNavigatorService.getNextControllerRedirect(any(), any(), any())).thenReturn(
                 NEXT_CONTROLLER_PATH);
@@ -227,14 +221,28 @@ class PenaltyDetailsServiceImplTest {
                         buildEnterDetails(LOWER_CASE_LLP, PENALTY_REF, LATE_FILING.name()), false,
                         enterDetailsControllerClass);
 
-        assertPostEnterDetailsSuccess(serviceResponse, UPPER_CASE_LLP);
+        assertPostEnterDetailsSuccess(serviceResponse);
     }
 
 
+    @Test
+    @DisplayName("Post Details successfully - short company number padded with zeros")
+    void postDetailsShortCompanyNumberPadded() throws Exception {
+        configureValidPenalty("00123456", PENALTY_REF);
+        when(mockNavigatorService.getNextControllerRedirect(any(), any(), any())).thenReturn(
+                NEXT_CONTROLLER_PATH);
+
+        PPSServiceResponse serviceResponse = penaltyDetailsService
+                .postEnterDetails(
+                        buildEnterDetails("123456", PENALTY_REF, LATE_FILING.name()), false,
+                        enterDetailsControllerClass);
+
+        assertPostEnterDetailsSuccess(serviceResponse);
+    }
+
     @Test
     @DisplayName("Post Details successfully - upper case LLP, correct penalty ref")
     void postDetailsCompanyNumberUpperCase() throws Exception {
-        configureAppendCompanyNumber(UPPER_CASE_LLP);
         configureValidPenalty(UPPER_CASE_LLP, PENALTY_REF);
         when(mockNavigatorService.getNextControllerRedirect(any(), any(), any())).thenReturn(
                 NEXT_CONTROLLER_PATH);
@@ -244,7 +252,7 @@ class PenaltyDetailsServiceImplTest {
                         buildEnterDetails(UPPER_CASE_LLP, PENALTY_REF, LATE_FILING.name()), false,
                         enterDetailsControllerClass);
 
-        assertPostEnterDetailsSuccess(serviceResponse, UPPER_CASE_LLP);
+        assertPostEnterDetailsSuccess(serviceResponse);
     }
 
 
@@ -254,8 +262,7 @@ class PenaltyDetailsServiceImplTest {
     void postDetailsNoPayableFinancialPenaltyFound(PenaltyReference penaltyReference)
             throws Exception {
 
-        configureAppendCompanyNumber(COMPANY_NUMBER);
-        when(mockPenaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER, PENALTY_REF))
+        when(mockPenaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF)))
                 .thenReturn(Collections.emptyList());
 
         String messageCode = "details.penalty-details-not-found-error." + penaltyReference.name();
@@ -268,11 +275,9 @@ class PenaltyDetailsServiceImplTest {
                         false, enterDetailsControllerClass);
 
         assertNotNull(serviceResponse);
-        assertTrue(serviceResponse.getUrl().isEmpty());
-        assertTrue(serviceResponse.getErrorRequestMsg().isPresent());
-        assertEquals(message, serviceResponse.getErrorRequestMsg().get());
+        assertNull(serviceResponse.url());
+        assertEquals(message, serviceResponse.errorRequestMsg());
 
-        verify(mockCompanyService).appendToCompanyNumber(COMPANY_NUMBER);
         verify(mockMessageSource).getMessage(
                 "details.penalty-details-not-found-error." + penaltyReference.name(), null, UK);
     }
@@ -287,7 +292,6 @@ class PenaltyDetailsServiceImplTest {
     void postDetailsWhenMultiplePenaltyAndCosts(String penaltyReferenceName, String companyNumber,
             String penaltyRef) throws Exception {
 
-        configureAppendCompanyNumber(companyNumber);
 
         LocalDate madeUpDate = now();
         List<FinancialPenalty> financialPenalties = new ArrayList<>();
@@ -301,7 +305,7 @@ class PenaltyDetailsServiceImplTest {
                 madeUpDate.minusYears(1).toString()));
         financialPenalties.add(PPSTestUtility.notPenaltyTypeFinancialPenalty(penaltyRef,
                 madeUpDate.minusMonths(6).toString()));
-        when(mockPenaltyPaymentService.getFinancialPenalties(companyNumber, penaltyRef))
+        when(mockPenaltyPaymentService.getFinancialPenalties(PenaltyKey.of(companyNumber, penaltyRef)))
                 .thenReturn(financialPenalties);
 
         PPSServiceResponse serviceResponse = penaltyDetailsService
@@ -312,7 +316,7 @@ class PenaltyDetailsServiceImplTest {
                 REDIRECT_URL_PREFIX + "/pay-penalty/company/" + companyNumber + "/penalty/"
                         + penaltyRef + "/online-payment-unavailable";
 
-        assertRedirect(serviceResponse, expectedRedirectUrl, companyNumber);
+        assertRedirect(serviceResponse, expectedRedirectUrl);
     }
 
 
@@ -320,7 +324,6 @@ class PenaltyDetailsServiceImplTest {
     @DisplayName("Post Details failure - penalty has legal fees (DCA)")
     void postDetailsWithDCAPayments() throws Exception {
 
-        configureAppendCompanyNumber(COMPANY_NUMBER);
         configurePenaltyDCA();
 
         PPSServiceResponse serviceResponse = penaltyDetailsService
@@ -328,7 +331,7 @@ class PenaltyDetailsServiceImplTest {
                         buildEnterDetails(COMPANY_NUMBER, PENALTY_REF, LATE_FILING.name()), false,
                         enterDetailsControllerClass);
 
-        assertRedirect(serviceResponse, PENALTY_IN_DCA_PATH, COMPANY_NUMBER);
+        assertRedirect(serviceResponse, PENALTY_IN_DCA_PATH);
     }
 
 
@@ -336,7 +339,6 @@ class PenaltyDetailsServiceImplTest {
     @DisplayName("Post Details failure - penalty has payment pending")
     void postDetailsWithPendingPayment() throws Exception {
 
-        configureAppendCompanyNumber(COMPANY_NUMBER);
         configurePenaltyPaymentPending();
 
         PPSServiceResponse serviceResponse = penaltyDetailsService
@@ -344,7 +346,7 @@ class PenaltyDetailsServiceImplTest {
                         buildEnterDetails(COMPANY_NUMBER, PENALTY_REF, LATE_FILING.name()), false,
                         enterDetailsControllerClass);
 
-        assertRedirect(serviceResponse, PENALTY_PAYMENT_IN_PROGRESS_PATH, COMPANY_NUMBER);
+        assertRedirect(serviceResponse, PENALTY_PAYMENT_IN_PROGRESS_PATH);
     }
 
 
@@ -352,7 +354,6 @@ class PenaltyDetailsServiceImplTest {
     @DisplayName("Post Details failure - penalty is already paid")
     void postDetailsWhenPenaltyHasAlreadyBeenPaid() throws Exception {
 
-        configureAppendCompanyNumber(COMPANY_NUMBER);
         configurePenaltyAlreadyPaid();
 
         PPSServiceResponse serviceResponse = penaltyDetailsService
@@ -360,7 +361,7 @@ class PenaltyDetailsServiceImplTest {
                         buildEnterDetails(COMPANY_NUMBER, PENALTY_REF, LATE_FILING.name()), false,
                         enterDetailsControllerClass);
 
-        assertRedirect(serviceResponse, ALREADY_PAID_PATH, COMPANY_NUMBER);
+        assertRedirect(serviceResponse, ALREADY_PAID_PATH);
     }
 
 
@@ -368,7 +369,6 @@ class PenaltyDetailsServiceImplTest {
     @DisplayName("Post Details failure - penalty has negative outstanding amount")
     void postDetailsWhenPenaltyHasNegativeOutstandingAmount() throws Exception {
 
-        configureAppendCompanyNumber(COMPANY_NUMBER);
         configurePenaltyNegativeOutstanding();
 
         PPSServiceResponse serviceResponse = penaltyDetailsService
@@ -376,7 +376,7 @@ class PenaltyDetailsServiceImplTest {
                         buildEnterDetails(COMPANY_NUMBER, PENALTY_REF, LATE_FILING.name()), false,
                         enterDetailsControllerClass);
 
-        assertRedirect(serviceResponse, ONLINE_PAYMENT_UNAVAILABLE_PATH, COMPANY_NUMBER);
+        assertRedirect(serviceResponse, ONLINE_PAYMENT_UNAVAILABLE_PATH);
     }
 
 
@@ -384,7 +384,6 @@ class PenaltyDetailsServiceImplTest {
     @DisplayName("Post Details failure - penalty has been partially paid")
     void postDetailsWhenPenaltyIsPartiallyPaid() throws Exception {
 
-        configureAppendCompanyNumber(COMPANY_NUMBER);
         configurePenaltyPartiallyPaid();
 
         PPSServiceResponse serviceResponse = penaltyDetailsService
@@ -392,14 +391,13 @@ class PenaltyDetailsServiceImplTest {
                         buildEnterDetails(COMPANY_NUMBER, PENALTY_REF, LATE_FILING.name()), false,
                         enterDetailsControllerClass);
 
-        assertRedirect(serviceResponse, ONLINE_PAYMENT_UNAVAILABLE_PATH, COMPANY_NUMBER);
+        assertRedirect(serviceResponse, ONLINE_PAYMENT_UNAVAILABLE_PATH);
     }
 
     @Test
     @DisplayName("Post Details failure - penalty is disabled")
     void postDetailsWhenPenaltyIsDisabled() throws Exception {
 
-        configureAppendCompanyNumber(COMPANY_NUMBER);
         configurePenaltyDisabled();
 
         PPSServiceResponse serviceResponse = penaltyDetailsService
@@ -407,13 +405,12 @@ class PenaltyDetailsServiceImplTest {
                         buildEnterDetails(COMPANY_NUMBER, PENALTY_REF, LATE_FILING.name()), false,
                         enterDetailsControllerClass);
 
-        assertRedirect(serviceResponse, ONLINE_PAYMENT_UNAVAILABLE_PATH, COMPANY_NUMBER);
+        assertRedirect(serviceResponse, ONLINE_PAYMENT_UNAVAILABLE_PATH);
     }
 
     @Test
     @DisplayName("Post Details failure - penalty in instalment plan")
     void postDetailsWithInstalmentPlan() throws Exception {
-        configureAppendCompanyNumber(COMPANY_NUMBER);
         configureInstalmentPlanPenalty();
 
         PPSServiceResponse serviceResponse = penaltyDetailsService
@@ -421,7 +418,7 @@ class PenaltyDetailsServiceImplTest {
                         buildEnterDetails(COMPANY_NUMBER, PENALTY_REF, LATE_FILING.name()), false,
                         enterDetailsControllerClass);
 
-        assertRedirect(serviceResponse, INSTALMENT_PLAN_PATH, COMPANY_NUMBER);
+        assertRedirect(serviceResponse, INSTALMENT_PLAN_PATH);
     }
 
     @ParameterizedTest
@@ -433,7 +430,6 @@ class PenaltyDetailsServiceImplTest {
     @DisplayName("Post Details successfully")
     void postDetailsSuccessfully(String penaltyReferenceName, String companyNumber,
             String penaltyRef) throws Exception {
-        configureAppendCompanyNumber(companyNumber);
         configureValidPenalty(companyNumber, penaltyRef);
         when(mockNavigatorService.getNextControllerRedirect(any(), any(), any())).thenReturn(
                 NEXT_CONTROLLER_PATH);
@@ -443,12 +439,7 @@ class PenaltyDetailsServiceImplTest {
                         buildEnterDetails(companyNumber, penaltyRef, penaltyReferenceName), false,
                         enterDetailsControllerClass);
 
-        assertPostEnterDetailsSuccess(serviceResponse, companyNumber);
-    }
-
-    private void configureAppendCompanyNumber(String companyNumber) {
-        when(mockCompanyService.appendToCompanyNumber(companyNumber))
-                .thenReturn(companyNumber);
+        assertPostEnterDetailsSuccess(serviceResponse);
     }
 
     private EnterDetails buildEnterDetails(String companyNumber, String penaltyRef,
@@ -467,7 +458,7 @@ class PenaltyDetailsServiceImplTest {
         validFinancialPenalties.add(
                 PPSTestUtility.validFinancialPenalty(penaltyRef, now().minusYears(1).toString()));
 
-        when(mockPenaltyPaymentService.getFinancialPenalties(companyNumber, penaltyRef))
+        when(mockPenaltyPaymentService.getFinancialPenalties(PenaltyKey.of(companyNumber, penaltyRef)))
                 .thenReturn(validFinancialPenalties);
     }
 
@@ -477,7 +468,7 @@ class PenaltyDetailsServiceImplTest {
         dcaFinancialPenalty.add(
                 PPSTestUtility.dcaFinancialPenalty(PENALTY_REF, now().minusYears(1).toString()));
 
-        when(mockPenaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER, PENALTY_REF))
+        when(mockPenaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF)))
                 .thenReturn(dcaFinancialPenalty);
     }
 
@@ -487,7 +478,7 @@ class PenaltyDetailsServiceImplTest {
         paymentPendingFinancialPenalty.add(
                 PPSTestUtility.paymentPendingFinancialPenalty(PENALTY_REF));
 
-        when(mockPenaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER, PENALTY_REF))
+        when(mockPenaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF)))
                 .thenReturn(paymentPendingFinancialPenalty);
     }
 
@@ -497,7 +488,7 @@ class PenaltyDetailsServiceImplTest {
         paidFinancialPenalty.add(PPSTestUtility.paidFinancialPenalty(PENALTY_REF,
                 now().minusYears(1).toString()));
 
-        when(mockPenaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER, PENALTY_REF))
+        when(mockPenaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF)))
                 .thenReturn(paidFinancialPenalty);
     }
 
@@ -507,7 +498,7 @@ class PenaltyDetailsServiceImplTest {
         negativeOutstandingFinancialPenalty.add(PPSTestUtility.negativeOustandingFinancialPenalty(
                 PENALTY_REF, now().minusYears(1).toString()));
 
-        when(mockPenaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER, PENALTY_REF))
+        when(mockPenaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF)))
                 .thenReturn(negativeOutstandingFinancialPenalty);
     }
 
@@ -517,7 +508,7 @@ class PenaltyDetailsServiceImplTest {
         partialPaidFinancialPenalty.add(PPSTestUtility.partialPaidFinancialPenalty(PENALTY_REF,
                 now().minusYears(1).toString()));
 
-        when(mockPenaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER, PENALTY_REF))
+        when(mockPenaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF)))
                 .thenReturn(partialPaidFinancialPenalty);
     }
 
@@ -527,7 +518,7 @@ class PenaltyDetailsServiceImplTest {
         disabledFinancialPenalty.add(PPSTestUtility.disabledFinancialPenalty(PENALTY_REF,
                 now().minusYears(1).toString()));
 
-        when(mockPenaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER, PENALTY_REF))
+        when(mockPenaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF)))
                 .thenReturn(disabledFinancialPenalty);
     }
 
@@ -552,28 +543,21 @@ class PenaltyDetailsServiceImplTest {
         );
         instalmentPlanPenalty.add(instalmentPlanTransaction);
 
-        when(mockPenaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER, PENALTY_REF))
+        when(mockPenaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF)))
                 .thenReturn(instalmentPlanPenalty);
     }
 
-    private void assertRedirect(PPSServiceResponse serviceResponse, String expectedRedirectUrl,
-            String companyNumber) {
+    private void assertRedirect(PPSServiceResponse serviceResponse, String expectedRedirectUrl) {
         assertNotNull(serviceResponse);
-        assertTrue(serviceResponse.getUrl().isPresent());
-        assertEquals(expectedRedirectUrl, serviceResponse.getUrl().get());
-        assertTrue(serviceResponse.getBaseModelAttributes().isEmpty());
-
-        verify(mockCompanyService).appendToCompanyNumber(companyNumber);
+        assertEquals(expectedRedirectUrl, serviceResponse.url());
+        assertTrue(serviceResponse.baseModelAttributes().isEmpty());
     }
 
-    private void assertPostEnterDetailsSuccess(PPSServiceResponse serviceResponse,
-            String companyNumber) {
+    private void assertPostEnterDetailsSuccess(PPSServiceResponse serviceResponse) {
         assertNotNull(serviceResponse);
-        assertTrue(serviceResponse.getUrl().isPresent());
-        assertEquals(NEXT_CONTROLLER_PATH, serviceResponse.getUrl().get());
-        assertTrue(serviceResponse.getBaseModelAttributes().isEmpty());
+        assertEquals(NEXT_CONTROLLER_PATH, serviceResponse.url());
+        assertTrue(serviceResponse.baseModelAttributes().isEmpty());
 
-        verify(mockCompanyService).appendToCompanyNumber(companyNumber);
         verify(mockNavigatorService).getNextControllerRedirect(any(), any(), any());
     }
 
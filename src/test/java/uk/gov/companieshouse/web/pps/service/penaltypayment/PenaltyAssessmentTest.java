@@ -0,0 +1,110 @@
+package uk.gov.companieshouse.web.pps.service.penaltypayment;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gov.companieshouse.api.model.financialpenalty.FinancialPenalty;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static uk.gov.companieshouse.api.model.financialpenalty.PayableStatus.CLOSED_INSTALMENT_PLAN;
+import static uk.gov.companieshouse.web.pps.service.penaltypayment.impl.PenaltyPaymentServiceImpl.PENALTY_TYPE;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.DATE;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.PENALTY_REF;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.dcaFinancialPenalty;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.disabledFinancialPenalty;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.instalmentPlanPenalty;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.notPenaltyTypeFinancialPenalty;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.paidFinancialPenalty;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.partialPaidFinancialPenalty;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.paymentPendingFinancialPenalty;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.validFinancialPenalty;
+
+class PenaltyAssessmentTest {
+
+    private static final String OTHER_PENALTY_REF = "A1000007";
+
+    @Test
+    @DisplayName("Assess - single open penalty is payable")
+    void assessOpenPenalty() {
+        FinancialPenalty penalty = validFinancialPenalty(PENALTY_REF, DATE);
+
+        PenaltyAssessment assessment = PenaltyAssessment.assess(List.of(penalty), PENALTY_REF);
+
+        assertSame(penalty, assessment.getTargetPenalty().orElseThrow());
+        assertSame(penalty, assessment.getOpenPenalty().orElseThrow());
+        assertEquals(1, assessment.getItemCount());
+        assertFalse(assessment.hasMultipleItems());
+        assertFalse(assessment.isDisabled());
+        assertFalse(assessment.isPaid());
+        assertFalse(assessment.isDca());
+        assertFalse(assessment.isClosed());
+        assertTrue(assessment.isAmountMatch());
+    }
+
+    @Test
+    @DisplayName("Assess - penalty with costs has multiple items")
+    void assessPenaltyWithCosts() {
+        FinancialPenalty penalty = validFinancialPenalty(PENALTY_REF, DATE);
+        FinancialPenalty cost = notPenaltyTypeFinancialPenalty(OTHER_PENALTY_REF, DATE);
+
+        PenaltyAssessment assessment = PenaltyAssessment.assess(List.of(penalty, cost), PENALTY_REF);
+
+        assertTrue(assessment.hasMultipleItems());
+        assertEquals(2, assessment.getItemCount());
+        assertSame(penalty, assessment.getOpenPenalty().orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Assess - no item with the penalty reference")
+    void assessNoTargetPenalty() {
+        PenaltyAssessment assessment = PenaltyAssessment.assess(
+                List.of(validFinancialPenalty(OTHER_PENALTY_REF, DATE)), PENALTY_REF);
+
+        assertTrue(assessment.getTargetPenalty().isEmpty());
+        assertTrue(assessment.getOpenPenalty().isEmpty());
+        assertFalse(assessment.isPaid());
+        assertFalse(assessment.isAmountMatch());
+    }
+
+    @Test
+    @DisplayName("Assess - target penalty that is not a penalty type is not open")
+    void assessTargetNotPenaltyType() {
+        FinancialPenalty cost = notPenaltyTypeFinancialPenalty(PENALTY_REF, DATE);
+
+        PenaltyAssessment assessment = PenaltyAssessment.assess(List.of(cost), PENALTY_REF);
+
+        assertSame(cost, assessment.getTargetPenalty().orElseThrow());
+        assertTrue(assessment.getOpenPenalty().isEmpty());
+        assertTrue(assessment.isClosed());
+    }
+
+    @Test
+    @DisplayName("Assess - disabled penalty")
+    void assessDisabled() {
+        PenaltyAssessment assessment = PenaltyAssessment.assess(
+                List.of(disabledFinancialPenalty(PENALTY_REF, DATE)), PENALTY_REF);
+
+        assertTrue(assessment.isDisabled());
+        assertTrue(assessment.getOpenPenalty().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Assess - payable status and payment flags of the target penalty")
+    void assessFlags() {
+        assertTrue(PenaltyAssessment.assess(List.of(paidFinancialPenalty(PENALTY_REF, DATE)),
+                PENALTY_REF).isPaid());
+        assertTrue(PenaltyAssessment.assess(List.of(dcaFinancialPenalty(PENALTY_REF, DATE)),
+                PENALTY_REF).isDca());
+        assertTrue(PenaltyAssessment.assess(List.of(paymentPendingFinancialPenalty(PENALTY_REF)),
+                PENALTY_REF).isClosedPendingAllocation());
+        assertTrue(PenaltyAssessment.assess(List.of(instalmentPlanPenalty(PENALTY_REF, DATE,
+                PENALTY_TYPE, "Test reason", CLOSED_INSTALMENT_PLAN)),
+                PENALTY_REF).isClosedInstalmentPlan());
+        assertFalse(PenaltyAssessment.assess(List.of(partialPaidFinancialPenalty(PENALTY_REF, DATE)),
+                PENALTY_REF).isAmountMatch());
+    }
+}
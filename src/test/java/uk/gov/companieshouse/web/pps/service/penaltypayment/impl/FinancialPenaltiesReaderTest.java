@@ -0,0 +1,184 @@
+package uk.gov.companieshouse.web.pps.service.penaltypayment.impl;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import uk.gov.companieshouse.api.model.financialpenalty.FinancialPenalties;
+import uk.gov.companieshouse.api.model.financialpenalty.FinancialPenalty;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static java.lang.Boolean.FALSE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static uk.gov.companieshouse.api.model.financialpenalty.PayableStatus.OPEN;
+import static uk.gov.companieshouse.web.pps.service.penaltypayment.impl.PenaltyPaymentServiceImpl.OTHER_TYPE;
+import static uk.gov.companieshouse.web.pps.service.penaltypayment.impl.PenaltyPaymentServiceImpl.PENALTY_TYPE;
+
+class FinancialPenaltiesReaderTest {
+
+    private final FinancialPenaltiesReader reader = new FinancialPenaltiesReader(1000);
+
+    @ParameterizedTest
+    @CsvSource({
+            "company_12345678_penalties_LATE_FILING_response.json, A1234567",
+            "company_12345678_penalties_LATE_FILING_response.json, A0000001",
+            "company_12345678_penalties_LATE_FILING_response.json, A0000002",
+            "company_12345678_penalties_SANCTIONS_response.json, P0000602",
+            "company_12345678_penalties_SANCTIONS_response.json, P0000603"
+    })
+    @DisplayName("Read penalty or unpaid items - same items as binding the whole response")
+    void readMatchesFullBinding(String response, String penaltyRef)
+            throws IOException {
+        List<FinancialPenalty> expected = penaltyAndCandidateCosts(new ObjectMapper()
+                .readValue(getClass().getClassLoader().getResource(response), FinancialPenalties.class)
+                .getItems(), penaltyRef);
+
+        List<FinancialPenalty> items;
+        try (InputStream content = getClass().getClassLoader().getResourceAsStream(response)) {
+            items = reader.readPenaltyOrUnpaidItems(content, penaltyRef).orElseThrow();
+        }
+
+        assertEquals(expected.size(), items.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertItem(expected.get(i), items.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Read penalty or unpaid items - nulls, nested values and fields out of order")
+    void readSkipsUnusedValues() throws IOException {
+        String response = """
+                {"items": [
+                  {"links": {"self": "/penalty"}, "payable_status": "OPEN", "is_paid": false,
+                   "reason": null, "outstanding": 750.0, "id": "A4444444", "type": "penalty"},
+                  {"id": "A5555555", "is_paid": true, "type": "penalty", "payable_status": "CLOSED"}
+                ], "total_results": 2}
+                """;
+
+        List<FinancialPenalty> items = reader.readPenaltyOrUnpaidItems(content(response), "A4444444")
+                .orElseThrow();
+
+        assertEquals(1, items.size());
+        assertEquals("A4444444", items.getFirst().getId());
+        assertEquals(750, items.getFirst().getOutstanding());
+        assertEquals(OPEN, items.getFirst().getPayableStatus());
+    }
+
+    @Test
+    @DisplayName("Read penalty or unpaid items - fields of items ruled out are not read")
+    void readSkipsItemsRuledOut() throws IOException {
+        String response = """
+                {"items": [
+                  {"id": "A5555555", "is_paid": true, "payable_status": "NOT_A_STATUS"},
+                  {"type": "penalty", "id": "A6666666", "payable_status": "NOT_A_STATUS"},
+                  {"type": "other", "id": "A7777777", "is_paid": false, "made_up_date": "2024-01-31"},
+                  {"type": "penalty", "id": "A4444444", "is_paid": false, "made_up_date": "2024-03-31"},
+                  {"type": "other", "id": "A8888888", "made_up_date": "2024-01-31",
+                   "is_paid": false, "payable_status": "NOT_A_STATUS"},
+                  {"type": "other", "id": "A9999999", "is_paid": false, "made_up_date": "2024-03-31"}
+                ]}
+                """;
+
+        List<FinancialPenalty> items = reader.readPenaltyOrUnpaidItems(content(response), "A4444444")
+                .orElseThrow();
+
+        assertEquals(List.of("A7777777", "A4444444", "A9999999"),
+                items.stream().map(FinancialPenalty::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Read penalty or unpaid items - no items")
+    void readNoItems() throws IOException {
+        assertTrue(reader.readPenaltyOrUnpaidItems(content("{\"total_results\": 0}"), "A4444444")
+                .orElseThrow().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Read penalty or unpaid items - more kept items than the maximum")
+    void readMoreThanMaximumItems() throws IOException {
+        String response = """
+                {"items": [
+                  {"id": "A1", "is_paid": false, "type": "other"}, {"id": "A2", "is_paid": false, "type": "other"},
+                  {"id": "A3", "is_paid": false, "type": "other"}
+                ]}
+                """;
+
+        FinancialPenaltiesReader limitedReader = new FinancialPenaltiesReader(2);
+
+        assertTrue(limitedReader.readPenaltyOrUnpaidItems(content(response), "A4444444").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Read penalty or unpaid items - items ruled out do not count towards the maximum")
+    void readMaximumCountsKeptItems() throws IOException {
+        String response = """
+                {"items": [
+                  {"id": "A1", "is_paid": true, "type": "other"}, {"id": "A2", "is_paid": true, "type": "other"},
+                  {"id": "A4444444", "is_paid": false, "type": "penalty", "made_up_date": "2024-03-31"},
+                  {"id": "A3", "is_paid": false, "type": "other", "made_up_date": "2023-03-31"},
+                  {"id": "A5", "is_paid": false, "type": "other", "made_up_date": "2024-03-31"}
+                ]}
+                """;
+
+        FinancialPenaltiesReader limitedReader = new FinancialPenaltiesReader(2);
+
+        assertEquals(List.of("A4444444", "A5"),
+                limitedReader.readPenaltyOrUnpaidItems(content(response), "A4444444").orElseThrow()
+                        .stream().map(FinancialPenalty::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Read penalty or unpaid items - not a financial penalties response")
+    void readInvalidResponse() {
+        assertThrows(JsonParseException.class,
+                () -> reader.readPenaltyOrUnpaidItems(content("[]"), "A4444444"));
+    }
+
+    private static InputStream content(String response) {
+        return new ByteArrayInputStream(response.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<FinancialPenalty> penaltyAndCandidateCosts(List<FinancialPenalty> items,
+            String penaltyRef) {
+        List<FinancialPenalty> expected = new ArrayList<>();
+        FinancialPenalty penalty = null;
+        for (FinancialPenalty item : items) {
+            boolean referenced = penaltyRef.equals(item.getId());
+            if (!referenced && !FALSE.equals(item.getPaid())) {
+                continue;
+            }
+            if (PENALTY_TYPE.equals(item.getType()) && referenced && penalty == null) {
+                penalty = item;
+                expected.add(item);
+            } else if (OTHER_TYPE.equals(item.getType()) && (referenced || penalty == null
+                    || Objects.equals(penalty.getMadeUpDate(), item.getMadeUpDate()))) {
+                expected.add(item);
+            }
+        }
+        return expected;
+    }
+
+    private static void assertItem(FinancialPenalty expected, FinancialPenalty actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getPaid(), actual.getPaid());
+        assertEquals(expected.getDca(), actual.getDca());
+        assertEquals(expected.getDueDate(), actual.getDueDate());
+        assertEquals(expected.getMadeUpDate(), actual.getMadeUpDate());
+        assertEquals(expected.getOriginalAmount(), actual.getOriginalAmount());
+        assertEquals(expected.getOutstanding(), actual.getOutstanding());
+        assertEquals(expected.getType(), actual.getType());
+        assertEquals(expected.getReason(), actual.getReason());
+        assertEquals(expected.getPayableStatus(), actual.getPayableStatus());
+    }
+}
@@ -1,5 +1,6 @@
 package uk.gov.companieshouse.web.pps.service.penaltypayment.impl;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,7 +20,10 @@ import uk.gov.companieshouse.api.model.financialpenalty.FinancialPenaltySession;
 import uk.gov.companieshouse.api.model.financialpenalty.PayableFinancialPenalties;
 import uk.gov.companieshouse.api.model.financialpenalty.PayableFinancialPenaltySession;
 import uk.gov.companieshouse.web.pps.api.ApiClientService;
+import uk.gov.companieshouse.web.pps.api.impl.UpstreamCallHandlerImpl;
+import uk.gov.companieshouse.web.pps.config.UpstreamConfigurationProperties;
 import uk.gov.companieshouse.web.pps.exception.ServiceException;
+import uk.gov.companieshouse.web.pps.models.PenaltyKey;
 import uk.gov.companieshouse.web.pps.service.penaltypayment.PayablePenaltyService;
 import uk.gov.companieshouse.web.pps.util.PPSTestUtility;
 
@@ -27,6 +31,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.COMPANY_NUMBER;
 import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.PAYABLE_REF;
@@ -61,6 +67,9 @@ class PayablePenaltyServiceImplTest {
     @Mock
     private ApiResponse<PayableFinancialPenalties> payableFinancialPenaltiesApiResponse;
 
+    @Mock
+    private FinancialPenaltiesCache financialPenaltiesCache;
+
     private PayablePenaltyService payablePenaltyService;
 
     private static final Integer AMOUNT = 750;
@@ -71,7 +80,8 @@ class PayablePenaltyServiceImplTest {
 
     @BeforeEach
     void init() {
-        payablePenaltyService = new PayablePenaltyServiceImpl(apiClientService);
+        payablePenaltyService = new PayablePenaltyServiceImpl(apiClientService, financialPenaltiesCache,
+                new UpstreamCallHandlerImpl(new UpstreamConfigurationProperties(), new SimpleMeterRegistry()));
 
         when(apiClientService.getPublicApiClient()).thenReturn(apiClient);
         when(apiClient.getHttpClient()).thenReturn(httpClient);
@@ -138,9 +148,10 @@ class PayablePenaltyServiceImplTest {
         when(payableFinancialPenaltySessionApiResponse.getData()).thenReturn(payableFinancialPenaltySession);
 
         PayableFinancialPenaltySession createdLateFilingPenaltySession =
-                payablePenaltyService.createPayableFinancialPenaltySession(COMPANY_NUMBER, PENALTY_REF, AMOUNT);
+                payablePenaltyService.createPayableFinancialPenaltySession(PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF), AMOUNT);
 
         assertEquals(createdLateFilingPenaltySession, payableFinancialPenaltySession);
+        verify(financialPenaltiesCache).invalidate(COMPANY_NUMBER, PENALTY_REF);
     }
 
     @Test
@@ -152,7 +163,8 @@ class PayablePenaltyServiceImplTest {
         when(payableFinancialPenaltyCreate.execute()).thenThrow(ApiErrorResponseException.class);
 
         assertThrows(ServiceException.class, () ->
-                payablePenaltyService.createPayableFinancialPenaltySession(COMPANY_NUMBER, PENALTY_REF, AMOUNT));
+                payablePenaltyService.createPayableFinancialPenaltySession(PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF), AMOUNT));
+        verifyNoInteractions(financialPenaltiesCache);
     }
 
     @Test
@@ -164,6 +176,6 @@ class PayablePenaltyServiceImplTest {
         when(payableFinancialPenaltyCreate.execute()).thenThrow(URIValidationException.class);
 
         assertThrows(ServiceException.class, () ->
-                payablePenaltyService.createPayableFinancialPenaltySession(COMPANY_NUMBER, PENALTY_REF, AMOUNT));
+                payablePenaltyService.createPayableFinancialPenaltySession(PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF), AMOUNT));
     }
 }
@@ -9,11 +9,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.companieshouse.web.pps.config.PenaltyConfigurationProperties;
+import uk.gov.companieshouse.web.pps.models.PenaltyKey;
 import uk.gov.companieshouse.web.pps.service.company.CompanyService;
 import uk.gov.companieshouse.web.pps.service.response.PPSServiceResponse;
-import uk.gov.companieshouse.web.pps.util.PPSTestUtility;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -22,6 +23,7 @@ import static uk.gov.companieshouse.web.pps.controller.BaseController.BACK_LINK_
 import static uk.gov.companieshouse.web.pps.service.ServiceConstants.COMPANY_NAME_ATTR;
 import static uk.gov.companieshouse.web.pps.service.ServiceConstants.PENALTY_REF_ATTR;
 import static uk.gov.companieshouse.web.pps.service.ServiceConstants.SIGN_OUT_URL_ATTR;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.COMPANY_NAME;
 import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.COMPANY_NUMBER;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,25 +42,25 @@ class PenaltyPaidServiceImplTest {
     @Test
     @DisplayName("Get Penalty Paid - success path")
     void getRequestSuccess() throws Exception {
-        when(mockCompanyService.getCompanyProfile(COMPANY_NUMBER))
-                .thenReturn(PPSTestUtility.validCompanyProfile(COMPANY_NUMBER));
+        when(mockCompanyService.getCompanyName(COMPANY_NUMBER))
+                .thenReturn(COMPANY_NAME);
         when(mockPenaltyConfigurationProperties.getEnterDetailsPath())
                 .thenReturn("/pay-penalty/enter-details");
 
-        PPSServiceResponse result = penaltyPaidServiceImpl.getPaid(COMPANY_NUMBER, PENALTY_REF_ATTR);
+        PPSServiceResponse result = penaltyPaidServiceImpl.getPaid(PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF_ATTR));
 
-        verify(mockCompanyService, times(1)).getCompanyProfile(COMPANY_NUMBER);
+        verify(mockCompanyService, times(1)).getCompanyName(COMPANY_NUMBER);
 
-        assertFalse( result.getUrl().isPresent());
-        assertFalse(result.getErrorRequestMsg().isPresent());
-        assertTrue( result.getBaseModelAttributes().isPresent());
-        assertTrue( result.getModelAttributes().isPresent());
+        assertNull(result.url());
+        assertNull(result.errorRequestMsg());
+        assertFalse(result.baseModelAttributes().isEmpty());
+        assertFalse(result.modelAttributes().isEmpty());
 
-        assertTrue(result.getModelAttributes().get().containsKey(PENALTY_REF_ATTR));
-        assertTrue(result.getModelAttributes().get().containsKey(COMPANY_NAME_ATTR));
+        assertTrue(result.modelAttributes().containsKey(PENALTY_REF_ATTR));
+        assertTrue(result.modelAttributes().containsKey(COMPANY_NAME_ATTR));
 
-        assertTrue(result.getBaseModelAttributes().get().containsKey(BACK_LINK_ATTR));
-        assertTrue(result.getBaseModelAttributes().get().containsKey(SIGN_OUT_URL_ATTR));
+        assertTrue(result.baseModelAttributes().containsKey(BACK_LINK_ATTR));
+        assertTrue(result.baseModelAttributes().containsKey(SIGN_OUT_URL_ATTR));
     }
 
 }
\ No newline at end of file
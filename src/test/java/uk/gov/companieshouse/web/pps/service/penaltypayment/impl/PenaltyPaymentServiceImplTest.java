@@ -3,6 +3,7 @@ package uk.gov.companieshouse.web.pps.service.penaltypayment.impl;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.api.client.http.HttpHeaders;
 import com.google.api.client.http.HttpResponseException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,22 +26,39 @@ import uk.gov.companieshouse.api.model.financialpenalty.FinancialPenalties;
 import uk.gov.companieshouse.api.model.financialpenalty.FinancialPenalty;
 import uk.gov.companieshouse.api.model.financialpenalty.PayableStatus;
 import uk.gov.companieshouse.web.pps.api.ApiClientService;
+import uk.gov.companieshouse.web.pps.api.impl.UpstreamCallHandlerImpl;
+import uk.gov.companieshouse.web.pps.config.CacheConfigurationProperties;
+import uk.gov.companieshouse.web.pps.config.UpstreamConfigurationProperties;
 import uk.gov.companieshouse.web.pps.exception.ServiceException;
+import uk.gov.companieshouse.web.pps.models.PenaltyKey;
 import uk.gov.companieshouse.web.pps.service.penaltypayment.PenaltyPaymentService;
 import uk.gov.companieshouse.web.pps.util.PPSTestUtility;
 
 import java.io.IOException;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static java.time.LocalDate.now;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.companieshouse.api.model.financialpenalty.PayableStatus.CLOSED;
 import static uk.gov.companieshouse.api.model.financialpenalty.PayableStatus.OPEN;
+import static uk.gov.companieshouse.web.pps.service.ServiceConstants.SESSION_ID;
 import static uk.gov.companieshouse.web.pps.service.penaltypayment.impl.PenaltyPaymentServiceImpl.OTHER_TYPE;
 import static uk.gov.companieshouse.web.pps.service.penaltypayment.impl.PenaltyPaymentServiceImpl.PENALTY_TYPE;
 import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.COMPANY_NUMBER;
@@ -79,8 +97,13 @@ class PenaltyPaymentServiceImplTest {
     @Mock
     private ApiResponse<FinanceHealthcheck> healthcheckApiResponse;
 
+    @Mock
+    private FinancialPenaltiesStreamingClient financialPenaltiesStreamingClient;
+
     private PenaltyPaymentService penaltyPaymentService;
 
+    private Map<String, Object> sessionData;
+
     private static final String PENALTY_REF_TWO = "A0000001";
 
     private static final String GET_FINANCIAL_PENALTIES_LATE_FILING_URI =
@@ -98,7 +121,15 @@ class PenaltyPaymentServiceImplTest {
 
     @BeforeEach
     void init() {
-        penaltyPaymentService = new PenaltyPaymentServiceImpl(apiClientService);
+        sessionData = new HashMap<>(Map.of(SESSION_ID, "session-1"));
+        penaltyPaymentService = new PenaltyPaymentServiceImpl(apiClientService,
+                () -> sessionData,
+                new FinancialPenaltiesCache(new CacheConfigurationProperties(), () -> sessionData,
+                        new SimpleMeterRegistry()),
+                new UpstreamCallHandlerImpl(new UpstreamConfigurationProperties(), new SimpleMeterRegistry()),
+                new FinancialPenaltiesStreamingClient(new UpstreamConfigurationProperties()),
+                new UpstreamConfigurationProperties(),
+                new SimpleMeterRegistry());
 
         when(apiClientService.getPublicApiClient()).thenReturn(apiClient);
         when(apiClient.getHttpClient()).thenReturn(httpClient);
@@ -124,12 +155,161 @@ class PenaltyPaymentServiceImplTest {
         );
 
         List<FinancialPenalty> payableFinancialPenalties =
-                penaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER, PENALTY_REF);
+                penaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF));
 
         assertEquals(1, payableFinancialPenalties.size());
         assertEquals(validFinancialPenalty, payableFinancialPenalties.getFirst());
     }
 
+    @Test
+    @DisplayName("Get payable financial penalties - Repeat request served from cache")
+    void getPayableFinancialPenaltiesServedFromCache()
+            throws ServiceException, ApiErrorResponseException, URIValidationException {
+        when(apiClient.financialPenalty()).thenReturn(financialPenaltyResourceHandler);
+
+        FinancialPenalty validFinancialPenalty = PPSTestUtility.validFinancialPenalty(PENALTY_REF, now().minusYears(1).toString());
+
+        when(financialPenaltyResourceHandler.get(GET_FINANCIAL_PENALTIES_LATE_FILING_URI)).thenReturn(financialPenaltiesGet);
+        when(financialPenaltiesGet.execute()).thenReturn(responseWithData);
+
+        when(responseWithData.getData()).thenReturn(
+                PPSTestUtility.oneFinancialPenalties(validFinancialPenalty)
+        );
+
+        List<FinancialPenalty> firstPenaltyAndCosts =
+                penaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF));
+        List<FinancialPenalty> secondPenaltyAndCosts =
+                penaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF));
+
+        assertEquals(firstPenaltyAndCosts, secondPenaltyAndCosts);
+        verify(financialPenaltiesGet, times(1)).execute();
+    }
+
+    @Test
+    @DisplayName("Get payable financial penalties - Cached penalties not shared with another session")
+    void getPayableFinancialPenaltiesNotSharedBetweenSessions()
+            throws ServiceException, ApiErrorResponseException, URIValidationException {
+        when(apiClient.financialPenalty()).thenReturn(financialPenaltyResourceHandler);
+
+        FinancialPenalty validFinancialPenalty = PPSTestUtility.validFinancialPenalty(PENALTY_REF, now().minusYears(1).toString());
+
+        when(financialPenaltyResourceHandler.get(GET_FINANCIAL_PENALTIES_LATE_FILING_URI)).thenReturn(financialPenaltiesGet);
+        when(financialPenaltiesGet.execute()).thenReturn(responseWithData);
+
+        when(responseWithData.getData()).thenReturn(
+                PPSTestUtility.oneFinancialPenalties(validFinancialPenalty)
+        );
+
+        penaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF));
+        sessionData.put(SESSION_ID, "session-2");
+        penaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF));
+
+        verify(financialPenaltiesGet, times(2)).execute();
+    }
+
+    @Test
+    @DisplayName("Get payable financial penalties - Concurrent fetches not shared with another session")
+    void getPayableFinancialPenaltiesConcurrentFetchesNotSharedBetweenSessions() throws Exception {
+        ThreadLocal<Map<String, Object>> threadSessionData = new ThreadLocal<>();
+        PenaltyPaymentService sessionPenaltyPaymentService = new PenaltyPaymentServiceImpl(apiClientService,
+                threadSessionData::get,
+                new FinancialPenaltiesCache(new CacheConfigurationProperties(), threadSessionData::get,
+                        new SimpleMeterRegistry()),
+                new UpstreamCallHandlerImpl(new UpstreamConfigurationProperties(), new SimpleMeterRegistry()),
+                new FinancialPenaltiesStreamingClient(new UpstreamConfigurationProperties()),
+                new UpstreamConfigurationProperties(),
+                new SimpleMeterRegistry());
+        when(apiClient.financialPenalty()).thenReturn(financialPenaltyResourceHandler);
+
+        FinancialPenalty validFinancialPenalty = PPSTestUtility.validFinancialPenalty(PENALTY_REF, now().minusYears(1).toString());
+
+        when(financialPenaltyResourceHandler.get(GET_FINANCIAL_PENALTIES_LATE_FILING_URI)).thenReturn(financialPenaltiesGet);
+        // Each fetch waits for the other, so they only complete if neither is shared
+        CountDownLatch bothFetching = new CountDownLatch(2);
+        when(financialPenaltiesGet.execute()).thenAnswer(invocation -> {
+            bothFetching.countDown();
+            assertTrue(bothFetching.await(5, SECONDS));
+            return responseWithData;
+        });
+
+        when(responseWithData.getData()).thenReturn(
+                PPSTestUtility.oneFinancialPenalties(validFinancialPenalty)
+        );
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<List<FinancialPenalty>>> penaltyAndCosts = new ArrayList<>();
+            for (String sessionId : List.of("session-1", "session-2")) {
+                penaltyAndCosts.add(executor.submit(() -> {
+                    threadSessionData.set(Map.of(SESSION_ID, sessionId));
+                    return sessionPenaltyPaymentService.getFinancialPenalties(
+                            PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF));
+                }));
+            }
+            for (Future<List<FinancialPenalty>> sessionPenaltyAndCosts : penaltyAndCosts) {
+                assertEquals(List.of(validFinancialPenalty), sessionPenaltyAndCosts.get(10, SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(financialPenaltiesGet, times(2)).execute();
+    }
+
+    @Test
+    @DisplayName("Get payable financial penalties - Fetched through the SDK when too many to stream")
+    void getPayableFinancialPenaltiesTooManyToStream()
+            throws ServiceException, ApiErrorResponseException, URIValidationException {
+        PenaltyPaymentService streamingPenaltyPaymentService = new PenaltyPaymentServiceImpl(apiClientService,
+                () -> sessionData,
+                new FinancialPenaltiesCache(new CacheConfigurationProperties(), () -> sessionData,
+                        new SimpleMeterRegistry()),
+                new UpstreamCallHandlerImpl(new UpstreamConfigurationProperties(), new SimpleMeterRegistry()),
+                financialPenaltiesStreamingClient,
+                new UpstreamConfigurationProperties(),
+                new SimpleMeterRegistry());
+        when(financialPenaltiesStreamingClient.isEnabled()).thenReturn(true);
+        when(financialPenaltiesStreamingClient.getPenaltyOrUnpaidItems(GET_FINANCIAL_PENALTIES_LATE_FILING_URI,
+                "", PENALTY_REF)).thenReturn(Optional.empty());
+        when(apiClient.financialPenalty()).thenReturn(financialPenaltyResourceHandler);
+
+        FinancialPenalty validFinancialPenalty = PPSTestUtility.validFinancialPenalty(PENALTY_REF, now().minusYears(1).toString());
+
+        when(financialPenaltyResourceHandler.get(GET_FINANCIAL_PENALTIES_LATE_FILING_URI)).thenReturn(financialPenaltiesGet);
+        when(financialPenaltiesGet.execute()).thenReturn(responseWithData);
+
+        when(responseWithData.getData()).thenReturn(
+                PPSTestUtility.oneFinancialPenalties(validFinancialPenalty)
+        );
+
+        List<FinancialPenalty> payableFinancialPenalties =
+                streamingPenaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF));
+
+        assertEquals(List.of(validFinancialPenalty), payableFinancialPenalties);
+    }
+
+    @Test
+    @DisplayName("Get latest financial penalties - Always fetched from the API")
+    void getLatestFinancialPenaltiesNotServedFromCache()
+            throws ServiceException, ApiErrorResponseException, URIValidationException {
+        when(apiClient.financialPenalty()).thenReturn(financialPenaltyResourceHandler);
+
+        FinancialPenalty validFinancialPenalty = PPSTestUtility.validFinancialPenalty(PENALTY_REF, now().minusYears(1).toString());
+
+        when(financialPenaltyResourceHandler.get(GET_FINANCIAL_PENALTIES_LATE_FILING_URI)).thenReturn(financialPenaltiesGet);
+        when(financialPenaltiesGet.execute()).thenReturn(responseWithData);
+
+        when(responseWithData.getData()).thenReturn(
+                PPSTestUtility.oneFinancialPenalties(validFinancialPenalty)
+        );
+
+        penaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF));
+        List<FinancialPenalty> latestPenaltyAndCosts =
+                penaltyPaymentService.getLatestFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF));
+
+        assertEquals(List.of(validFinancialPenalty), latestPenaltyAndCosts);
+        verify(financialPenaltiesGet, times(2)).execute();
+    }
+
     @Test
     @DisplayName("Get payable financial penalties - Two Unpaid Penalties")
     void getPayableFinancialPenaltiesTwoUnpaid()
@@ -151,12 +331,12 @@ class PenaltyPaymentServiceImplTest {
         );
 
         List<FinancialPenalty> payableFinancialPenalties =
-                penaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER, PENALTY_REF_TWO);
+                penaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF_TWO));
         assertEquals(1, payableFinancialPenalties.size());
         assertEquals(validLateFilingPenalty2, payableFinancialPenalties.getFirst());
 
         payableFinancialPenalties =
-                penaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER, PENALTY_REF);
+                penaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF));
         assertEquals(1, payableFinancialPenalties.size());
         assertEquals(validLateFilingPenalty1, payableFinancialPenalties.getFirst());
     }
@@ -177,19 +357,19 @@ class PenaltyPaymentServiceImplTest {
 
         when(responseWithData.getData()).thenReturn(financialPenaltiesResponse);
 
-        List<FinancialPenalty> penaltyAndCosts = penaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER, "A1234567");
+        List<FinancialPenalty> penaltyAndCosts = penaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER, "A1234567"));
         assertSinglePenalty(penaltyAndCosts, 150, LATE_FILING_OF_ACCOUNTS_REASON, OPEN);
 
-        penaltyAndCosts = penaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER, "A0000003");
+        penaltyAndCosts = penaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER, "A0000003"));
         assertSinglePenalty(penaltyAndCosts, 1210, LATE_FILING_OF_ACCOUNTS_REASON, OPEN);
 
-        penaltyAndCosts = penaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER, "A0000004");
+        penaltyAndCosts = penaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER, "A0000004"));
         assertSinglePenalty(penaltyAndCosts, 750, LATE_FILING_OF_ACCOUNTS_REASON, OPEN);
 
-        penaltyAndCosts = penaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER, "A0000002");
+        penaltyAndCosts = penaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER, "A0000002"));
         assertSinglePenalty(penaltyAndCosts, 0, LATE_FILING_OF_ACCOUNTS_REASON, CLOSED);
 
-        penaltyAndCosts = penaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER, "A0000001");
+        penaltyAndCosts = penaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER, "A0000001"));
         assertEquals(3, penaltyAndCosts.size());
         final var penalty = penaltyAndCosts.getFirst();
         assertEquals(3000, penalty.getOutstanding());
@@ -226,19 +406,19 @@ class PenaltyPaymentServiceImplTest {
 
         when(responseWithData.getData()).thenReturn(financialPenaltiesResponse);
 
-        List<FinancialPenalty> penaltyAndCosts = penaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER, "P1234567");
+        List<FinancialPenalty> penaltyAndCosts = penaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER, "P1234567"));
         assertSinglePenalty(penaltyAndCosts, 250, FAILURE_TO_FILE_A_CONFIRMATION_STATEMENT_REASON, OPEN);
 
-        penaltyAndCosts = penaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER, "P0000600");
+        penaltyAndCosts = penaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER, "P0000600"));
         assertSinglePenalty(penaltyAndCosts, 600, FAILURE_TO_FILE_A_CONFIRMATION_STATEMENT_REASON, OPEN);
 
-        penaltyAndCosts = penaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER, "P0000601");
+        penaltyAndCosts = penaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER, "P0000601"));
         assertSinglePenalty(penaltyAndCosts, 601, FAILURE_TO_FILE_A_CONFIRMATION_STATEMENT_REASON, OPEN);
 
-        penaltyAndCosts = penaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER, "P0000602");
+        penaltyAndCosts = penaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER, "P0000602"));
         assertSinglePenalty(penaltyAndCosts, 0, FAILURE_TO_FILE_A_CONFIRMATION_STATEMENT_REASON, CLOSED);
 
-        penaltyAndCosts = penaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER, "P0000603");
+        penaltyAndCosts = penaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER, "P0000603"));
         assertEquals(2, penaltyAndCosts.size());
         final var penalty = penaltyAndCosts.getFirst();
         assertEquals(603, penalty.getOutstanding());
@@ -277,7 +457,7 @@ class PenaltyPaymentServiceImplTest {
         );
 
         List<FinancialPenalty> payableFinancialPenalties =
-                penaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER, PENALTY_REF);
+                penaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF));
 
         assertEquals(0, payableFinancialPenalties.size());
     }
@@ -300,7 +480,7 @@ class PenaltyPaymentServiceImplTest {
         );
 
         List<FinancialPenalty> payableFinancialPenalties =
-                penaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER, PENALTY_REF_TWO);
+                penaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF_TWO));
 
         assertEquals(0, payableFinancialPenalties.size());
     }
@@ -315,7 +495,7 @@ class PenaltyPaymentServiceImplTest {
         when(financialPenaltiesGet.execute()).thenThrow(ApiErrorResponseException.class);
 
         assertThrows(ServiceException.class, () ->
-                penaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER, PENALTY_REF));
+                penaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF)));
     }
 
     @Test
@@ -328,14 +508,7 @@ class PenaltyPaymentServiceImplTest {
         when(financialPenaltiesGet.execute()).thenThrow(URIValidationException.class);
 
         assertThrows(ServiceException.class, () ->
-                penaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER, PENALTY_REF));
-    }
-
-    @Test
-    @DisplayName("Get payable financial penalties - Throws IllegalArgumentException when penalty reference is invalid")
-    void getPayableFinancialPenaltiesThrowsIllegalArgumentExceptionWhenPenaltyReferenceIsInvalid() {
-        assertThrows(ServiceException.class, () ->
-                penaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER, ""));
+                penaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER, PENALTY_REF)));
     }
 
     @Test
@@ -17,13 +17,13 @@ import uk.gov.companieshouse.web.pps.util.PenaltyReference;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 import static java.lang.Boolean.TRUE;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 import static org.springframework.web.servlet.view.UrlBasedViewResolver.REDIRECT_URL_PREFIX;
@@ -58,7 +58,7 @@ class PenaltyRefStartsWithServiceImplTest {
     @Test
     @DisplayName("Get viewPenaltyRefStartWith - redirect late filing details")
     void getPenaltyRefStartsWithFeatureFlagDisabled() {
-        when(mockFinanceServiceHealthCheck.checkIfAvailable()).thenReturn(new PPSServiceResponse());
+        when(mockFinanceServiceHealthCheck.checkIfAvailable()).thenReturn(PPSServiceResponse.render());
 
         when(mockPenaltyConfigurationProperties.getAllowedRefStartsWith()).thenReturn(
                 List.of(LATE_FILING, SANCTIONS, SANCTIONS_ROE));
@@ -67,17 +67,16 @@ class PenaltyRefStartsWithServiceImplTest {
         penaltyRefStartsWithServiceImpl = new PenaltyRefStartsWithServiceImpl(
                 mockPenaltyConfigurationProperties, mockFeatureFlagChecker, mockFinanceServiceHealthCheck);
 
-        PPSServiceResponse mockServiceResponse = new PPSServiceResponse();
-        mockServiceResponse.setUrl(setUpEnterDetailsUrl(LATE_FILING));
+        PPSServiceResponse mockServiceResponse = PPSServiceResponse.redirect(setUpEnterDetailsUrl(LATE_FILING));
 
         PPSServiceResponse serviceResponse = penaltyRefStartsWithServiceImpl.viewPenaltyRefStartsWith();
-        assertEquals(mockServiceResponse.getUrl(), serviceResponse.getUrl());
+        assertEquals(mockServiceResponse.url(), serviceResponse.url());
     }
 
     @Test
     @DisplayName("Get viewPenaltyRefStartWith - successful")
     void getPenaltyRefStartsSuccessful() {
-        when(mockFinanceServiceHealthCheck.checkIfAvailable()).thenReturn(new PPSServiceResponse());
+        when(mockFinanceServiceHealthCheck.checkIfAvailable()).thenReturn(PPSServiceResponse.render());
 
         when(mockPenaltyConfigurationProperties.getAllowedRefStartsWith()).thenReturn(
                 List.of(LATE_FILING, SANCTIONS, SANCTIONS_ROE));
@@ -89,14 +88,14 @@ class PenaltyRefStartsWithServiceImplTest {
                 mockPenaltyConfigurationProperties, mockFeatureFlagChecker, mockFinanceServiceHealthCheck);
         PPSServiceResponse serviceResponse = penaltyRefStartsWithServiceImpl.viewPenaltyRefStartsWith();
 
-        assertEquals(Optional.empty(), serviceResponse.getUrl());
-        assertTrue(serviceResponse.getModelAttributes().isPresent());
-        assertThat(serviceResponse.getModelAttributes().get().toString(),
+        assertNull(serviceResponse.url());
+        assertFalse(serviceResponse.modelAttributes().isEmpty());
+        assertThat(serviceResponse.modelAttributes().toString(),
                 containsString(AVAILABLE_PENALTY_REF_ATTR));
-        assertThat(serviceResponse.getModelAttributes().get().toString(),
+        assertThat(serviceResponse.modelAttributes().toString(),
                 containsString(PENALTY_REFERENCE_CHOICE_ATTR));
-        assertTrue(serviceResponse.getBaseModelAttributes().isPresent());
-        assertThat(serviceResponse.getBaseModelAttributes().get().toString(),
+        assertFalse(serviceResponse.baseModelAttributes().isEmpty());
+        assertThat(serviceResponse.baseModelAttributes().toString(),
                 containsString(BACK_LINK_URL_ATTR));
     }
 
@@ -113,12 +112,12 @@ class PenaltyRefStartsWithServiceImplTest {
                 mockPenaltyConfigurationProperties, mockFeatureFlagChecker, mockFinanceServiceHealthCheck);
 
         PPSServiceResponse serviceResponse = penaltyRefStartsWithServiceImpl.postPenaltyRefStartsWithError();
-        assertEquals(Optional.empty(), serviceResponse.getUrl());
-        assertTrue(serviceResponse.getModelAttributes().isPresent());
-        assertThat(serviceResponse.getModelAttributes().get().toString(),
+        assertNull(serviceResponse.url());
+        assertFalse(serviceResponse.modelAttributes().isEmpty());
+        assertThat(serviceResponse.modelAttributes().toString(),
                 containsString(AVAILABLE_PENALTY_REF_ATTR));
-        assertTrue(serviceResponse.getBaseModelAttributes().isPresent());
-        assertThat(serviceResponse.getBaseModelAttributes().get().toString(),
+        assertFalse(serviceResponse.baseModelAttributes().isEmpty());
+        assertThat(serviceResponse.baseModelAttributes().toString(),
                 containsString(BACK_LINK_URL_ATTR));
     }
 
@@ -136,22 +135,19 @@ class PenaltyRefStartsWithServiceImplTest {
                 mockPenaltyConfigurationProperties, mockFeatureFlagChecker, mockFinanceServiceHealthCheck);
 
         PenaltyReference penaltyReference = PenaltyReference.fromStartsWith(startsWith);
-        PPSServiceResponse mockServiceResponse = new PPSServiceResponse();
-        mockServiceResponse.setUrl(setUpEnterDetailsUrl(penaltyReference));
+        PPSServiceResponse mockServiceResponse = PPSServiceResponse.redirect(setUpEnterDetailsUrl(penaltyReference));
         PenaltyReferenceChoice penaltyReferenceChoice = new PenaltyReferenceChoice();
         penaltyReferenceChoice.setSelectedPenaltyReference(penaltyReference);
 
         PPSServiceResponse serviceResponse = penaltyRefStartsWithServiceImpl.postPenaltyRefStartsWithNext(
                 penaltyReferenceChoice);
-        assertEquals(mockServiceResponse.getUrl(), serviceResponse.getUrl());
+        assertEquals(mockServiceResponse.url(), serviceResponse.url());
     }
 
     @Test
     @DisplayName("Get viewPenaltyRefStartWith - health check returning service unavailable")
     void getPenaltyRefStartsWithHealthCheckReturningServiceUnavailable() {
-        PPSServiceResponse healthCheck = new PPSServiceResponse();
-        healthCheck.setUrl(SERVICE_UNAVAILABLE_VIEW_NAME);
-        healthCheck.setBaseModelAttributes(Map.of(SIGN_OUT_URL_ATTR, SIGN_OUT_PATH));
+        PPSServiceResponse healthCheck = PPSServiceResponse.renderView(SERVICE_UNAVAILABLE_VIEW_NAME, null, Map.of(SIGN_OUT_URL_ATTR, SIGN_OUT_PATH));
 
         when(mockFinanceServiceHealthCheck.checkIfAvailable()).thenReturn(healthCheck);
 
@@ -164,19 +160,18 @@ class PenaltyRefStartsWithServiceImplTest {
 
         PPSServiceResponse serviceResponse = penaltyRefStartsWithServiceImpl.viewPenaltyRefStartsWith();
 
-        assertEquals(Optional.of(SERVICE_UNAVAILABLE_VIEW_NAME), serviceResponse.getUrl());
-        assertTrue(serviceResponse.getBaseModelAttributes().isPresent());
-        assertThat(serviceResponse.getBaseModelAttributes().get().toString(),
+        assertEquals(SERVICE_UNAVAILABLE_VIEW_NAME, serviceResponse.url());
+        assertFalse(serviceResponse.baseModelAttributes().isEmpty());
+        assertThat(serviceResponse.baseModelAttributes().toString(),
                 containsString(SIGN_OUT_URL_ATTR));
 
-        assertFalse(serviceResponse.getModelAttributes().isPresent());
+        assertTrue(serviceResponse.modelAttributes().isEmpty());
     }
 
     @Test
     @DisplayName("Get viewPenaltyRefStartWith -  health check returning redirect")
     void getPenaltyRefStartsWithHealthCheckReturningRedirect() {
-        PPSServiceResponse healthCheck = new PPSServiceResponse();
-        healthCheck.setUrl(REDIRECT_URL_PREFIX);
+        PPSServiceResponse healthCheck = PPSServiceResponse.redirect(REDIRECT_URL_PREFIX);
 
         when(mockFinanceServiceHealthCheck.checkIfAvailable()).thenReturn(healthCheck);
 
@@ -189,10 +184,10 @@ class PenaltyRefStartsWithServiceImplTest {
 
         PPSServiceResponse serviceResponse = penaltyRefStartsWithServiceImpl.viewPenaltyRefStartsWith();
 
-        assertEquals(Optional.of(REDIRECT_URL_PREFIX), serviceResponse.getUrl());
+        assertEquals(REDIRECT_URL_PREFIX, serviceResponse.url());
 
-        assertFalse(serviceResponse.getBaseModelAttributes().isPresent());
-        assertFalse(serviceResponse.getModelAttributes().isPresent());
+        assertTrue(serviceResponse.baseModelAttributes().isEmpty());
+        assertTrue(serviceResponse.modelAttributes().isEmpty());
     }
 
     private String setUpEnterDetailsUrl(PenaltyReference penaltyReference) {
@@ -1,15 +1,14 @@
 package uk.gov.companieshouse.web.pps.service.signout.impl;
 
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import uk.gov.companieshouse.web.pps.config.PenaltyConfigurationProperties;
-import uk.gov.companieshouse.web.pps.service.response.PPSServiceResponse;
 import uk.gov.companieshouse.web.pps.validation.AllowlistChecker;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -18,7 +17,6 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static uk.gov.companieshouse.web.pps.service.ServiceConstants.REFERER;
 import static uk.gov.companieshouse.web.pps.service.ServiceConstants.SIGN_IN_INFO;
-import static uk.gov.companieshouse.web.pps.service.ServiceConstants.URL_PRIOR_SIGN_OUT;
 
 class SignOutServiceImplTest {
 
@@ -48,22 +46,14 @@ class SignOutServiceImplTest {
     @Test
     void testResolveBackLink_withValidReferer() {
         HttpServletRequest request = mock(HttpServletRequest.class);
-        HttpSession session = mock(HttpSession.class);
 
         when(request.getHeader(REFERER)).thenReturn("/previous");
         when(mockAllowlistChecker.checkURL("/previous")).thenReturn("/previous");
         when(mockAllowlistChecker.checkSignOutIsReferer("/previous")).thenReturn(false);
-        when(request.getSession()).thenReturn(session);
 
-        PPSServiceResponse response = service.resolveBackLink(request.getHeader(REFERER));
+        Optional<String> backLink = service.resolveBackLink(request.getHeader(REFERER));
 
-        assertTrue(response.getUrl().isPresent());
-        assertEquals("/previous", response.getUrl().get());
-
-        assertTrue(response.getSessionAttributes().isPresent());
-        Map<String, Object> sessionAttributes = response.getSessionAttributes().get();
-        assertEquals(1, sessionAttributes.size());
-        assertEquals("/previous", sessionAttributes.get(URL_PRIOR_SIGN_OUT));
+        assertEquals(Optional.of("/previous"), backLink);
     }
 
     @Test
@@ -71,9 +61,9 @@ class SignOutServiceImplTest {
         HttpServletRequest request = mock(HttpServletRequest.class);
         when(request.getHeader(REFERER)).thenReturn(null);
 
-        PPSServiceResponse response = service.resolveBackLink(request.getHeader(REFERER));
+        Optional<String> backLink = service.resolveBackLink(request.getHeader(REFERER));
 
-        assertTrue(response.getUrl().isEmpty());
+        assertTrue(backLink.isEmpty());
     }
 
     @Test
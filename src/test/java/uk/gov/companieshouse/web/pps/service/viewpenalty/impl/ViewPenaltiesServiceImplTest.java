@@ -2,6 +2,7 @@ package uk.gov.companieshouse.web.pps.service.viewpenalty.impl;
 
 import java.util.Map;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,12 +10,18 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
+import org.springframework.core.task.support.TaskExecutorAdapter;
 import uk.gov.companieshouse.api.model.financialpenalty.FinancialPenalty;
 import uk.gov.companieshouse.api.model.financialpenalty.PayableFinancialPenaltySession;
+import uk.gov.companieshouse.web.pps.api.AsyncApiClientService;
+import uk.gov.companieshouse.web.pps.api.impl.AsyncApiClientServiceImpl;
+import uk.gov.companieshouse.web.pps.api.impl.UpstreamCallHandlerImpl;
 import uk.gov.companieshouse.web.pps.config.PenaltyConfigurationProperties;
+import uk.gov.companieshouse.web.pps.config.UpstreamConfigurationProperties;
 import uk.gov.companieshouse.web.pps.exception.ServiceException;
+import uk.gov.companieshouse.web.pps.models.PenaltyKey;
 import uk.gov.companieshouse.web.pps.service.company.CompanyService;
 import uk.gov.companieshouse.web.pps.service.finance.FinanceServiceHealthCheck;
 import uk.gov.companieshouse.web.pps.service.payment.PaymentService;
@@ -26,9 +33,11 @@ import uk.gov.companieshouse.web.pps.util.PPSTestUtility;
 import uk.gov.companieshouse.web.pps.util.PenaltyTestData;
 import uk.gov.companieshouse.web.pps.util.PenaltyUtils;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 import static java.lang.Boolean.FALSE;
@@ -38,8 +47,11 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 import static org.springframework.web.servlet.view.UrlBasedViewResolver.REDIRECT_URL_PREFIX;
@@ -51,6 +63,7 @@ import static uk.gov.companieshouse.web.pps.service.ServiceConstants.PENALTY_REF
 import static uk.gov.companieshouse.web.pps.service.ServiceConstants.REASON_ATTR;
 import static uk.gov.companieshouse.web.pps.service.ServiceConstants.SERVICE_UNAVAILABLE_VIEW_NAME;
 import static uk.gov.companieshouse.web.pps.service.ServiceConstants.SIGN_OUT_URL_ATTR;
+import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.COMPANY_NAME;
 import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.COMPANY_NUMBER;
 import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.CS_PENALTY_REF;
 import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.LFP_PENALTY_REF;
@@ -63,7 +76,6 @@ import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.VALID_AMOUNT;
 import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.VALID_CS_REASON;
 import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.VALID_LATE_FILING_REASON;
 import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.VALID_ROE_REASON;
-import static uk.gov.companieshouse.web.pps.util.PPSTestUtility.validCompanyProfile;
 import static uk.gov.companieshouse.web.pps.util.PenaltyReference.LATE_FILING;
 import static uk.gov.companieshouse.web.pps.util.PenaltyReference.SANCTIONS;
 import static uk.gov.companieshouse.web.pps.util.PenaltyReference.SANCTIONS_ROE;
@@ -98,7 +110,15 @@ class ViewPenaltiesServiceImplTest {
     @Mock
     private FinanceServiceHealthCheck mockFinanceServiceHealthCheck;
 
-    private static final String INVALID_PENALTY_REF = "F4444444";
+    @Spy
+    private UpstreamConfigurationProperties upstreamConfigurationProperties =
+            new UpstreamConfigurationProperties();
+
+    @Spy
+    private AsyncApiClientService asyncApiClientService = new AsyncApiClientServiceImpl(
+            new TaskExecutorAdapter(Runnable::run),
+            new UpstreamCallHandlerImpl(new UpstreamConfigurationProperties(), new SimpleMeterRegistry()));
+
 
     private static final String MOCK_PAYMENTS_URL = "pay.companieshouse/payments/987654321987654321/pay";
     private static final String SUMMARY_FALSE_PARAMETER = "?summary=false";
@@ -107,145 +127,128 @@ class ViewPenaltiesServiceImplTest {
     @Test
     @DisplayName("Get viewPenaltyRefStartWith - health check returning service unavailable")
     void getPenaltyRefStartsWithHealthCheckReturningServiceUnavailable() throws ServiceException {
-        PPSServiceResponse healthCheck = new PPSServiceResponse();
-        healthCheck.setUrl(SERVICE_UNAVAILABLE_VIEW_NAME);
-        healthCheck.setBaseModelAttributes(Map.of(SIGN_OUT_URL_ATTR, SIGN_OUT_PATH));
+        PPSServiceResponse healthCheck = PPSServiceResponse.renderView(SERVICE_UNAVAILABLE_VIEW_NAME, null, Map.of(SIGN_OUT_URL_ATTR, SIGN_OUT_PATH));
 
         when(mockFinanceServiceHealthCheck.checkIfAvailable()).thenReturn(healthCheck);
 
-        PPSServiceResponse serviceResponse = viewPenaltiesService.viewPenalties(COMPANY_NUMBER,
-                PENALTY_REF);
+        PPSServiceResponse serviceResponse = viewPenaltiesService.viewPenalties(PenaltyKey.of(COMPANY_NUMBER,
+                PENALTY_REF));
 
-        assertEquals(Optional.of(SERVICE_UNAVAILABLE_VIEW_NAME), serviceResponse.getUrl());
-        assertTrue(serviceResponse.getBaseModelAttributes().isPresent());
-        assertThat(serviceResponse.getBaseModelAttributes().get().toString(),
+        assertEquals(SERVICE_UNAVAILABLE_VIEW_NAME, serviceResponse.url());
+        assertFalse(serviceResponse.baseModelAttributes().isEmpty());
+        assertThat(serviceResponse.baseModelAttributes().toString(),
                 containsString(SIGN_OUT_URL_ATTR));
 
-        assertFalse(serviceResponse.getModelAttributes().isPresent());
+        assertTrue(serviceResponse.modelAttributes().isEmpty());
     }
 
     @Test
     @DisplayName("Get viewPenaltyRefStartWith -  health check returning redirect")
     void getPenaltyRefStartsWithHealthCheckReturningRedirect() throws ServiceException {
-        PPSServiceResponse healthCheck = new PPSServiceResponse();
-        healthCheck.setUrl(REDIRECT_URL_PREFIX);
+        PPSServiceResponse healthCheck = PPSServiceResponse.redirect(REDIRECT_URL_PREFIX);
 
         when(mockFinanceServiceHealthCheck.checkIfAvailable()).thenReturn(healthCheck);
 
-        PPSServiceResponse serviceResponse = viewPenaltiesService.viewPenalties(COMPANY_NUMBER,
-                PENALTY_REF);
+        PPSServiceResponse serviceResponse = viewPenaltiesService.viewPenalties(PenaltyKey.of(COMPANY_NUMBER,
+                PENALTY_REF));
 
-        assertEquals(Optional.of(REDIRECT_URL_PREFIX), serviceResponse.getUrl());
+        assertEquals(REDIRECT_URL_PREFIX, serviceResponse.url());
 
-        assertFalse(serviceResponse.getBaseModelAttributes().isPresent());
-        assertFalse(serviceResponse.getModelAttributes().isPresent());
+        assertTrue(serviceResponse.baseModelAttributes().isEmpty());
+        assertTrue(serviceResponse.modelAttributes().isEmpty());
     }
 
     @ParameterizedTest
     @MethodSource("penaltyTestDataProvider")
     @DisplayName("View Penalty - successful case")
     void viewPenaltiesSuccessful(PenaltyTestData penaltyTestData) throws Exception {
-        when(mockFinanceServiceHealthCheck.checkIfAvailable()).thenReturn(new PPSServiceResponse());
+        when(mockFinanceServiceHealthCheck.checkIfAvailable()).thenReturn(PPSServiceResponse.render());
 
-        CompanyProfileApi mockCompanyProfileApi = validCompanyProfile(
-                penaltyTestData.customerCode());
         List<FinancialPenalty> mockPenalties = new ArrayList<>();
         mockPenalties.add(
                 PPSTestUtility.validFinancialPenalty(penaltyTestData.penaltyRef(),
                         now().minusYears(1).toString()));
 
         configureFeatureFlag(penaltyTestData.penaltyRef(), TRUE);
-        when(mockCompanyService.getCompanyProfile(penaltyTestData.customerCode())).thenReturn(
-                mockCompanyProfileApi);
-        when(mockPenaltyPaymentService.getFinancialPenalties(penaltyTestData.customerCode(),
-                penaltyTestData.penaltyRef())).thenReturn(mockPenalties);
+        when(mockCompanyService.getCompanyName(penaltyTestData.customerCode())).thenReturn(
+                COMPANY_NAME);
+        when(mockPenaltyPaymentService.getFinancialPenalties(PenaltyKey.of(penaltyTestData.customerCode(),
+                penaltyTestData.penaltyRef()))).thenReturn(mockPenalties);
 
         PPSServiceResponse serviceResponse = viewPenaltiesService.viewPenalties(
-                penaltyTestData.customerCode(),
-                penaltyTestData.penaltyRef());
+                PenaltyKey.of(penaltyTestData.customerCode(),
+                penaltyTestData.penaltyRef()));
 
-        assertFalse(serviceResponse.getUrl().isPresent());
-        assertTrue(serviceResponse.getModelAttributes().isPresent());
-        assertThat(serviceResponse.getModelAttributes().get().toString(),
+        assertNull(serviceResponse.url());
+        assertFalse(serviceResponse.modelAttributes().isEmpty());
+        assertThat(serviceResponse.modelAttributes().toString(),
                 containsString(COMPANY_NAME_ATTR));
-        assertThat(serviceResponse.getModelAttributes().get().toString(),
+        assertThat(serviceResponse.modelAttributes().toString(),
                 containsString(PENALTY_REF_ATTR));
-        assertThat(serviceResponse.getModelAttributes().get().toString(),
+        assertThat(serviceResponse.modelAttributes().toString(),
                 containsString(PENALTY_REFERENCE_NAME_ATTR));
-        assertThat(serviceResponse.getModelAttributes().get().toString(),
+        assertThat(serviceResponse.modelAttributes().toString(),
                 containsString(REASON_ATTR));
-        assertThat(serviceResponse.getModelAttributes().get().toString(),
+        assertThat(serviceResponse.modelAttributes().toString(),
                 containsString(AMOUNT_ATTR));
-        assertTrue(serviceResponse.getBaseModelAttributes().isPresent());
-        assertThat(serviceResponse.getBaseModelAttributes().get().toString(),
+        assertFalse(serviceResponse.baseModelAttributes().isEmpty());
+        assertThat(serviceResponse.baseModelAttributes().toString(),
                 containsString(BACK_LINK_URL_ATTR));
     }
 
-    @Test
-    @DisplayName("View Penalty - exception when get penalty reference")
-    void viewPenaltiesPenaltyRefException() {
-        when(mockFinanceServiceHealthCheck.checkIfAvailable()).thenReturn(new PPSServiceResponse());
-
-        IllegalArgumentException expectedException = assertThrowsExactly(
-                IllegalArgumentException.class,
-                () -> viewPenaltiesService.viewPenalties(COMPANY_NUMBER, INVALID_PENALTY_REF));
-        assertEquals("Penalty Reference Starts With 'F' is invalid",
-                expectedException.getMessage());
-    }
-
     @Test
     @DisplayName("View Penalty - feature flag off when get penalty reference")
     void viewPenaltiesPenaltyRefFeatureFlagOff() throws Exception {
-        when(mockFinanceServiceHealthCheck.checkIfAvailable()).thenReturn(new PPSServiceResponse());
+        when(mockFinanceServiceHealthCheck.checkIfAvailable()).thenReturn(PPSServiceResponse.render());
 
         configureFeatureFlag(CS_PENALTY_REF, FALSE);
         configureUnscheduledError();
 
-        PPSServiceResponse serviceResponse = viewPenaltiesService.viewPenalties(COMPANY_NUMBER,
-                CS_PENALTY_REF);
+        PPSServiceResponse serviceResponse = viewPenaltiesService.viewPenalties(PenaltyKey.of(COMPANY_NUMBER,
+                CS_PENALTY_REF));
 
-        assertEquals(setMockUnscheduledErrorServiceResponse().getUrl(), serviceResponse.getUrl());
+        assertEquals(setMockUnscheduledErrorServiceResponse().url(), serviceResponse.url());
     }
 
     @Test
     @DisplayName("View Penalty - exception when get company profile")
     void viewPenaltiesCompanyProfileException() throws Exception {
-        when(mockFinanceServiceHealthCheck.checkIfAvailable()).thenReturn(new PPSServiceResponse());
+        when(mockFinanceServiceHealthCheck.checkIfAvailable()).thenReturn(PPSServiceResponse.render());
 
         configureFeatureFlag(LFP_PENALTY_REF, TRUE);
         List<FinancialPenalty> mockPenalties = new ArrayList<>();
         mockPenalties.add(
                 PPSTestUtility.validFinancialPenalty(LFP_PENALTY_REF,
                         now().minusYears(1).toString()));
-        when(mockPenaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER,
-                LFP_PENALTY_REF)).thenReturn(mockPenalties);
+        when(mockPenaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER,
+                LFP_PENALTY_REF))).thenReturn(mockPenalties);
 
-        doThrow(ServiceException.class).when(mockCompanyService).getCompanyProfile(COMPANY_NUMBER);
+        doThrow(ServiceException.class).when(mockCompanyService).getCompanyName(COMPANY_NUMBER);
 
         assertThrowsExactly(ServiceException.class,
-                () -> viewPenaltiesService.viewPenalties(COMPANY_NUMBER,
-                        LFP_PENALTY_REF));
+                () -> viewPenaltiesService.viewPenalties(PenaltyKey.of(COMPANY_NUMBER,
+                        LFP_PENALTY_REF)));
     }
 
     @Test
     @DisplayName("View Penalty - exception when get financial penalties")
     void viewPenaltiesFinancialPenaltiesException() throws Exception {
-        when(mockFinanceServiceHealthCheck.checkIfAvailable()).thenReturn(new PPSServiceResponse());
+        when(mockFinanceServiceHealthCheck.checkIfAvailable()).thenReturn(PPSServiceResponse.render());
 
         configureFeatureFlag(LFP_PENALTY_REF, TRUE);
         doThrow(ServiceException.class).when(mockPenaltyPaymentService)
-                .getFinancialPenalties(COMPANY_NUMBER,
-                        LFP_PENALTY_REF);
+                .getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER,
+                        LFP_PENALTY_REF));
 
         assertThrowsExactly(ServiceException.class,
-                () -> viewPenaltiesService.viewPenalties(COMPANY_NUMBER,
-                        LFP_PENALTY_REF));
+                () -> viewPenaltiesService.viewPenalties(PenaltyKey.of(COMPANY_NUMBER,
+                        LFP_PENALTY_REF)));
     }
 
     @Test
     @DisplayName("View Penalty - not a single payable penalty")
     void viewPenaltiesNotSinglePayablePenalty() throws Exception {
-        when(mockFinanceServiceHealthCheck.checkIfAvailable()).thenReturn(new PPSServiceResponse());
+        when(mockFinanceServiceHealthCheck.checkIfAvailable()).thenReturn(PPSServiceResponse.render());
 
         List<FinancialPenalty> mockMultiplePenalties = new ArrayList<>();
         mockMultiplePenalties.add(
@@ -257,19 +260,19 @@ class ViewPenaltiesServiceImplTest {
 
         configureUnscheduledError();
         configureFeatureFlag(LFP_PENALTY_REF, TRUE);
-        when(mockPenaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER,
-                LFP_PENALTY_REF)).thenReturn(mockMultiplePenalties);
+        when(mockPenaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER,
+                LFP_PENALTY_REF))).thenReturn(mockMultiplePenalties);
 
-        PPSServiceResponse serviceResponse = viewPenaltiesService.viewPenalties(COMPANY_NUMBER,
-                LFP_PENALTY_REF);
+        PPSServiceResponse serviceResponse = viewPenaltiesService.viewPenalties(PenaltyKey.of(COMPANY_NUMBER,
+                LFP_PENALTY_REF));
 
-        assertEquals(setMockUnscheduledErrorServiceResponse().getUrl(), serviceResponse.getUrl());
+        assertEquals(setMockUnscheduledErrorServiceResponse().url(), serviceResponse.url());
     }
 
     @Test
     @DisplayName("View Penalty - no open penalty")
     void viewPenaltiesNoOpenPenalty() throws Exception {
-        when(mockFinanceServiceHealthCheck.checkIfAvailable()).thenReturn(new PPSServiceResponse());
+        when(mockFinanceServiceHealthCheck.checkIfAvailable()).thenReturn(PPSServiceResponse.render());
 
         List<FinancialPenalty> mockPenalties = new ArrayList<>();
         mockPenalties.add(
@@ -278,19 +281,40 @@ class ViewPenaltiesServiceImplTest {
 
         configureUnscheduledError();
         configureFeatureFlag(LFP_PENALTY_REF, TRUE);
-        when(mockPenaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER,
-                LFP_PENALTY_REF)).thenReturn(mockPenalties);
+        when(mockPenaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER,
+                LFP_PENALTY_REF))).thenReturn(mockPenalties);
 
-        PPSServiceResponse serviceResponse = viewPenaltiesService.viewPenalties(COMPANY_NUMBER,
-                LFP_PENALTY_REF);
+        PPSServiceResponse serviceResponse = viewPenaltiesService.viewPenalties(PenaltyKey.of(COMPANY_NUMBER,
+                LFP_PENALTY_REF));
 
-        assertEquals(setMockUnscheduledErrorServiceResponse().getUrl(), serviceResponse.getUrl());
+        assertEquals(setMockUnscheduledErrorServiceResponse().url(), serviceResponse.url());
     }
 
     @Test
     @DisplayName("View Penalty - partial payment of penalty")
     void viewPenaltiesPartialPenalty() throws Exception {
-        when(mockFinanceServiceHealthCheck.checkIfAvailable()).thenReturn(new PPSServiceResponse());
+        when(mockFinanceServiceHealthCheck.checkIfAvailable()).thenReturn(PPSServiceResponse.render());
+
+        List<FinancialPenalty> mockPenalties = new ArrayList<>();
+        mockPenalties.add(
+                PPSTestUtility.partialPaidFinancialPenalty(LFP_PENALTY_REF,
+                        now().minusYears(1).toString()));
+
+        configureUnscheduledError();
+        configureFeatureFlag(LFP_PENALTY_REF, TRUE);
+        when(mockPenaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER,
+                LFP_PENALTY_REF))).thenReturn(mockPenalties);
+
+        PPSServiceResponse serviceResponse = viewPenaltiesService.viewPenalties(PenaltyKey.of(COMPANY_NUMBER,
+                LFP_PENALTY_REF));
+
+        assertEquals(setMockUnscheduledErrorServiceResponse().url(), serviceResponse.url());
+    }
+
+    @Test
+    @DisplayName("View Penalty - company name failure ignored when penalty not payable")
+    void viewPenaltiesCompanyNameFailureIgnoredOnRedirect() throws Exception {
+        when(mockFinanceServiceHealthCheck.checkIfAvailable()).thenReturn(PPSServiceResponse.render());
 
         List<FinancialPenalty> mockPenalties = new ArrayList<>();
         mockPenalties.add(
@@ -299,19 +323,60 @@ class ViewPenaltiesServiceImplTest {
 
         configureUnscheduledError();
         configureFeatureFlag(LFP_PENALTY_REF, TRUE);
-        when(mockPenaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER,
-                LFP_PENALTY_REF)).thenReturn(mockPenalties);
+        when(mockPenaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER,
+                LFP_PENALTY_REF))).thenReturn(mockPenalties);
+        doThrow(ServiceException.class).when(mockCompanyService).getCompanyName(COMPANY_NUMBER);
 
-        PPSServiceResponse serviceResponse = viewPenaltiesService.viewPenalties(COMPANY_NUMBER,
-                LFP_PENALTY_REF);
+        PPSServiceResponse serviceResponse = viewPenaltiesService.viewPenalties(PenaltyKey.of(COMPANY_NUMBER,
+                LFP_PENALTY_REF));
 
-        assertEquals(setMockUnscheduledErrorServiceResponse().getUrl(), serviceResponse.getUrl());
+        assertEquals(setMockUnscheduledErrorServiceResponse().url(), serviceResponse.url());
+    }
+
+    @Test
+    @DisplayName("View Penalty - upstream calls time out and are cancelled")
+    void viewPenaltiesUpstreamTimeout() {
+        when(mockFinanceServiceHealthCheck.checkIfAvailable()).thenReturn(PPSServiceResponse.render());
+        configureFeatureFlag(LFP_PENALTY_REF, TRUE);
+
+        upstreamConfigurationProperties.setFinancialPenaltiesTimeout(Duration.ofMillis(10));
+        CompletableFuture<Object> penaltiesFuture = new CompletableFuture<>();
+        CompletableFuture<Object> companyNameFuture = new CompletableFuture<>();
+        doReturn(penaltiesFuture, companyNameFuture)
+                .when(asyncApiClientService).supplyAsync(any(), any());
+
+        assertThrowsExactly(ServiceException.class,
+                () -> viewPenaltiesService.viewPenalties(PenaltyKey.of(COMPANY_NUMBER, LFP_PENALTY_REF)));
+
+        assertTrue(penaltiesFuture.isCancelled());
+        assertTrue(companyNameFuture.isCancelled());
+    }
+
+    @Test
+    @DisplayName("View Penalty - company name left to complete when penalty not payable")
+    void viewPenaltiesCompanyNameLeftRunningOnRedirect() throws Exception {
+        when(mockFinanceServiceHealthCheck.checkIfAvailable()).thenReturn(PPSServiceResponse.render());
+        configureUnscheduledError();
+        configureFeatureFlag(LFP_PENALTY_REF, TRUE);
+
+        CompletableFuture<Object> penaltiesFuture = CompletableFuture.completedFuture(List.of(
+                PPSTestUtility.partialPaidFinancialPenalty(LFP_PENALTY_REF,
+                        now().minusYears(1).toString())));
+        CompletableFuture<Object> companyNameFuture = new CompletableFuture<>();
+        doReturn(penaltiesFuture, companyNameFuture)
+                .when(asyncApiClientService).supplyAsync(any(), any());
+
+        PPSServiceResponse serviceResponse = viewPenaltiesService.viewPenalties(PenaltyKey.of(COMPANY_NUMBER,
+                LFP_PENALTY_REF));
+
+        assertEquals(setMockUnscheduledErrorServiceResponse().url(), serviceResponse.url());
+        assertFalse(companyNameFuture.isCancelled());
     }
 
     @Test
     @DisplayName("View Penalty - penalty type disabled")
     void viewPenaltiesPenaltyTypeDisabled() throws Exception {
-        when(mockFinanceServiceHealthCheck.checkIfAvailable()).thenReturn(new PPSServiceResponse());
+        when(mockFinanceServiceHealthCheck.checkIfAvailable()).thenReturn(PPSServiceResponse.render());
 
         List<FinancialPenalty> mockPenalties = new ArrayList<>();
         mockPenalties.add(
@@ -319,16 +384,16 @@ class ViewPenaltiesServiceImplTest {
                         now().minusYears(1).toString()));
 
         configureFeatureFlag(CS_PENALTY_REF, TRUE);
-        when(mockPenaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER,
-                CS_PENALTY_REF)).thenReturn(mockPenalties);
+        when(mockPenaltyPaymentService.getFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER,
+                CS_PENALTY_REF))).thenReturn(mockPenalties);
 
-        PPSServiceResponse serviceResponse = viewPenaltiesService.viewPenalties(COMPANY_NUMBER,
-                CS_PENALTY_REF);
+        PPSServiceResponse serviceResponse = viewPenaltiesService.viewPenalties(PenaltyKey.of(COMPANY_NUMBER,
+                CS_PENALTY_REF));
 
         assertEquals(
                 Optional.of(REDIRECT_URL_PREFIX + String.format(ONLINE_PAYMENT_UNAVAILABLE_PATH,
                         COMPANY_NUMBER, CS_PENALTY_REF)),
-                serviceResponse.getUrl());
+                serviceResponse.url());
     }
 
     @ParameterizedTest
@@ -341,19 +406,19 @@ class ViewPenaltiesServiceImplTest {
                 PPSTestUtility.validFinancialPenalty(penaltyTestData.penaltyRef(),
                         now().minusYears(1).toString()));
 
-        when(mockPenaltyPaymentService.getFinancialPenalties(penaltyTestData.customerCode(),
-                penaltyTestData.penaltyRef())).thenReturn(mockPenalties);
+        when(mockPenaltyPaymentService.getLatestFinancialPenalties(PenaltyKey.of(penaltyTestData.customerCode(),
+                penaltyTestData.penaltyRef()))).thenReturn(mockPenalties);
         when(mockPayablePenaltyService.createPayableFinancialPenaltySession(
-                penaltyTestData.customerCode(),
-                penaltyTestData.penaltyRef(), VALID_AMOUNT)).thenReturn(
+                PenaltyKey.of(penaltyTestData.customerCode(),
+                penaltyTestData.penaltyRef()), VALID_AMOUNT)).thenReturn(
                 payableFinancialPenaltySession);
         when(mockPaymentService.createPaymentSession(payableFinancialPenaltySession,
-                penaltyTestData.customerCode(),
-                penaltyTestData.penaltyRef())).thenReturn(MOCK_PAYMENTS_URL);
+                PenaltyKey.of(penaltyTestData.customerCode(),
+                penaltyTestData.penaltyRef()))).thenReturn(MOCK_PAYMENTS_URL);
 
         String serviceResponse = viewPenaltiesService.postViewPenalties(
-                penaltyTestData.customerCode(),
-                penaltyTestData.penaltyRef());
+                PenaltyKey.of(penaltyTestData.customerCode(),
+                penaltyTestData.penaltyRef()));
 
         assertEquals(REDIRECT_URL_PREFIX + MOCK_PAYMENTS_URL + SUMMARY_FALSE_PARAMETER,
                 serviceResponse);
@@ -364,12 +429,12 @@ class ViewPenaltiesServiceImplTest {
     void postViewPenaltiesFinancialPenaltiesException() throws Exception {
 
         doThrow(ServiceException.class).when(mockPenaltyPaymentService)
-                .getFinancialPenalties(COMPANY_NUMBER,
-                        LFP_PENALTY_REF);
+                .getLatestFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER,
+                        LFP_PENALTY_REF));
 
         assertThrowsExactly(ServiceException.class,
-                () -> viewPenaltiesService.postViewPenalties(COMPANY_NUMBER,
-                        LFP_PENALTY_REF));
+                () -> viewPenaltiesService.postViewPenalties(PenaltyKey.of(COMPANY_NUMBER,
+                        LFP_PENALTY_REF)));
     }
 
     @Test
@@ -385,11 +450,11 @@ class ViewPenaltiesServiceImplTest {
                         now().minusYears(1).toString()));
 
         configureUnscheduledError();
-        when(mockPenaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER,
-                LFP_PENALTY_REF)).thenReturn(mockMultiplePenalties);
+        when(mockPenaltyPaymentService.getLatestFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER,
+                LFP_PENALTY_REF))).thenReturn(mockMultiplePenalties);
 
-        String serviceResponse = viewPenaltiesService.postViewPenalties(COMPANY_NUMBER,
-                LFP_PENALTY_REF);
+        String serviceResponse = viewPenaltiesService.postViewPenalties(PenaltyKey.of(COMPANY_NUMBER,
+                LFP_PENALTY_REF));
 
         assertEquals(REDIRECT_URL_PREFIX + UNSCHEDULED_SERVICE_DOWN_PATH, serviceResponse);
     }
@@ -404,11 +469,11 @@ class ViewPenaltiesServiceImplTest {
                         now().minusYears(1).toString()));
 
         configureUnscheduledError();
-        when(mockPenaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER,
-                LFP_PENALTY_REF)).thenReturn(mockPenalties);
+        when(mockPenaltyPaymentService.getLatestFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER,
+                LFP_PENALTY_REF))).thenReturn(mockPenalties);
 
-        String serviceResponse = viewPenaltiesService.postViewPenalties(COMPANY_NUMBER,
-                LFP_PENALTY_REF);
+        String serviceResponse = viewPenaltiesService.postViewPenalties(PenaltyKey.of(COMPANY_NUMBER,
+                LFP_PENALTY_REF));
 
         assertEquals(REDIRECT_URL_PREFIX + UNSCHEDULED_SERVICE_DOWN_PATH, serviceResponse);
     }
@@ -422,11 +487,11 @@ class ViewPenaltiesServiceImplTest {
                 PPSTestUtility.disabledFinancialPenalty(CS_PENALTY_REF,
                         now().minusYears(1).toString()));
 
-        when(mockPenaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER,
-                CS_PENALTY_REF)).thenReturn(mockPenalties);
+        when(mockPenaltyPaymentService.getLatestFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER,
+                CS_PENALTY_REF))).thenReturn(mockPenalties);
 
-        String serviceResponse = viewPenaltiesService.postViewPenalties(COMPANY_NUMBER,
-                CS_PENALTY_REF);
+        String serviceResponse = viewPenaltiesService.postViewPenalties(PenaltyKey.of(COMPANY_NUMBER,
+                CS_PENALTY_REF));
 
         assertEquals(REDIRECT_URL_PREFIX + String.format(ONLINE_PAYMENT_UNAVAILABLE_PATH,
                 COMPANY_NUMBER, CS_PENALTY_REF), serviceResponse);
@@ -441,16 +506,16 @@ class ViewPenaltiesServiceImplTest {
                 PPSTestUtility.validFinancialPenalty(LFP_PENALTY_REF,
                         now().minusYears(1).toString()));
 
-        when(mockPenaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER,
-                LFP_PENALTY_REF)).thenReturn(mockPenalties);
+        when(mockPenaltyPaymentService.getLatestFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER,
+                LFP_PENALTY_REF))).thenReturn(mockPenalties);
 
         doThrow(ServiceException.class).when(mockPayablePenaltyService)
-                .createPayableFinancialPenaltySession(COMPANY_NUMBER,
-                        LFP_PENALTY_REF, VALID_AMOUNT);
+                .createPayableFinancialPenaltySession(PenaltyKey.of(COMPANY_NUMBER,
+                        LFP_PENALTY_REF), VALID_AMOUNT);
 
         assertThrowsExactly(ServiceException.class,
-                () -> viewPenaltiesService.postViewPenalties(COMPANY_NUMBER,
-                        LFP_PENALTY_REF));
+                () -> viewPenaltiesService.postViewPenalties(PenaltyKey.of(COMPANY_NUMBER,
+                        LFP_PENALTY_REF)));
     }
 
     @Test
@@ -462,18 +527,18 @@ class ViewPenaltiesServiceImplTest {
                 PPSTestUtility.validFinancialPenalty(LFP_PENALTY_REF,
                         now().minusYears(1).toString()));
 
-        when(mockPenaltyPaymentService.getFinancialPenalties(COMPANY_NUMBER,
-                LFP_PENALTY_REF)).thenReturn(mockPenalties);
-        when(mockPayablePenaltyService.createPayableFinancialPenaltySession(COMPANY_NUMBER,
-                LFP_PENALTY_REF, VALID_AMOUNT)).thenReturn(payableFinancialPenaltySession);
+        when(mockPenaltyPaymentService.getLatestFinancialPenalties(PenaltyKey.of(COMPANY_NUMBER,
+                LFP_PENALTY_REF))).thenReturn(mockPenalties);
+        when(mockPayablePenaltyService.createPayableFinancialPenaltySession(PenaltyKey.of(COMPANY_NUMBER,
+                LFP_PENALTY_REF), VALID_AMOUNT)).thenReturn(payableFinancialPenaltySession);
 
         doThrow(ServiceException.class).when(mockPaymentService)
-                .createPaymentSession(payableFinancialPenaltySession, COMPANY_NUMBER,
-                        LFP_PENALTY_REF);
+                .createPaymentSession(payableFinancialPenaltySession, PenaltyKey.of(COMPANY_NUMBER,
+                        LFP_PENALTY_REF));
 
         assertThrowsExactly(ServiceException.class,
-                () -> viewPenaltiesService.postViewPenalties(COMPANY_NUMBER,
-                        LFP_PENALTY_REF));
+                () -> viewPenaltiesService.postViewPenalties(PenaltyKey.of(COMPANY_NUMBER,
+                        LFP_PENALTY_REF)));
     }
 
     private void configureUnscheduledError() {
@@ -487,8 +552,7 @@ class ViewPenaltiesServiceImplTest {
     }
 
     private PPSServiceResponse setMockUnscheduledErrorServiceResponse() {
-        PPSServiceResponse mockServiceResponse = new PPSServiceResponse();
-        mockServiceResponse.setUrl(REDIRECT_URL_PREFIX + UNSCHEDULED_SERVICE_DOWN_PATH);
+        PPSServiceResponse mockServiceResponse = PPSServiceResponse.redirect(REDIRECT_URL_PREFIX + UNSCHEDULED_SERVICE_DOWN_PATH);
         return mockServiceResponse;
     }
 
@@ -0,0 +1,133 @@
+package uk.gov.companieshouse.web.pps.session;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static uk.gov.companieshouse.web.pps.service.ServiceConstants.PAYMENT_STATE;
+import static uk.gov.companieshouse.web.pps.service.ServiceConstants.SIGN_IN_INFO;
+
+class SessionViewTest {
+
+    private static final String EMAIL = "test@gmail.com";
+    private static final String STATE = "state";
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Signed in - email read from the sign in info")
+    void signedIn() {
+        Map<String, Object> sessionData = new HashMap<>(
+                Map.of(SIGN_IN_INFO, Map.of("user_profile", Map.of("email", EMAIL))));
+
+        SessionView sessionView = SessionView.of(sessionData);
+
+        assertTrue(sessionView.hasSession());
+        assertTrue(sessionView.isSignedIn());
+        assertEquals(EMAIL, sessionView.getLoginEmail());
+    }
+
+    @Test
+    @DisplayName("Not signed in - no email")
+    void notSignedIn() {
+        SessionView sessionView = SessionView.of(new HashMap<>());
+
+        assertFalse(sessionView.isSignedIn());
+        assertEquals("", sessionView.getLoginEmail());
+    }
+
+    @Test
+    @DisplayName("Payment state - set and removed, counting the changes")
+    void paymentState() {
+        Map<String, Object> sessionData = new HashMap<>();
+        SessionView sessionView = SessionView.of(sessionData);
+
+        sessionView.setPaymentState(STATE);
+
+        assertTrue(sessionView.hasPaymentState());
+        assertEquals(STATE, sessionData.get(PAYMENT_STATE));
+
+        assertEquals(STATE, sessionView.removePaymentState());
+        assertFalse(sessionView.hasPaymentState());
+        assertFalse(sessionData.containsKey(PAYMENT_STATE));
+        assertEquals(2, sessionView.getChangeCount());
+    }
+
+    @Test
+    @DisplayName("Unchanged values - no changes counted")
+    void unchangedValues() {
+        Map<String, Object> sessionData = new HashMap<>(Map.of(PAYMENT_STATE, STATE));
+        SessionView sessionView = SessionView.of(sessionData);
+
+        sessionView.setPaymentState(STATE);
+        sessionView.remove("absent");
+
+        assertEquals(Map.of(PAYMENT_STATE, STATE), sessionData);
+        assertEquals(0, sessionView.getChangeCount());
+    }
+
+    @Test
+    @DisplayName("Estimate size - lengths of keys and values added up")
+    void estimateSize() {
+        Map<String, Object> sessionData = new HashMap<>(Map.of(
+                PAYMENT_STATE, STATE,
+                SIGN_IN_INFO, Map.of("signed_in", 1)));
+
+        assertEquals(57, SessionView.of(sessionData).estimateSize());
+        assertEquals(0, SessionView.of(null).estimateSize());
+    }
+
+    @Test
+    @DisplayName("No session - changes ignored")
+    void noSession() {
+        SessionView sessionView = SessionView.of(null);
+
+        sessionView.setPaymentState(STATE);
+
+        assertFalse(sessionView.hasSession());
+        assertFalse(sessionView.isSignedIn());
+        assertNull(sessionView.getPaymentState());
+        assertEquals(0, sessionView.getChangeCount());
+    }
+
+    @Test
+    @DisplayName("Current - session data read once per request")
+    void currentOncePerRequest() {
+        AtomicInteger lookups = new AtomicInteger();
+        SessionService sessionService = () -> {
+            lookups.incrementAndGet();
+            return new HashMap<>();
+        };
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        SessionView sessionView = SessionView.current(sessionService);
+
+        assertSame(sessionView, SessionView.current(sessionService));
+        assertEquals(1, lookups.get());
+    }
+
+    @Test
+    @DisplayName("Current - new view outside of a request")
+    void currentOutsideOfRequest() {
+        SessionService sessionService = HashMap::new;
+
+        assertNotSame(SessionView.current(sessionService), SessionView.current(sessionService));
+    }
+}
@@ -0,0 +1,54 @@
+package uk.gov.companieshouse.web.pps.upstream;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * How long the {@link UpstreamSimulator} waits before answering a request, in milliseconds.
+ * <p>
+ * Distributions are written as {@code none}, {@code fixed:<ms>}, {@code uniform:<min>-<max>}
+ * or {@code lognormal:<median>,<sigma>}, the last of which gives the long tail real APIs have.
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    LatencyDistribution NONE = random -> 0;
+
+    long sampleMillis(RandomGenerator random);
+
+    static LatencyDistribution fixed(long millis) {
+        return random -> millis;
+    }
+
+    static LatencyDistribution uniform(long minMillis, long maxMillis) {
+        if (maxMillis < minMillis) {
+            throw new IllegalArgumentException("Maximum latency is less than the minimum");
+        }
+        return random -> random.nextLong(minMillis, maxMillis + 1);
+    }
+
+    static LatencyDistribution logNormal(long medianMillis, double sigma) {
+        double mu = Math.log(medianMillis);
+        return random -> Math.round(Math.exp(mu + sigma * random.nextGaussian()));
+    }
+
+    static LatencyDistribution parse(String spec) {
+        String[] parts = spec.strip().split(":", 2);
+        try {
+            return switch (parts[0]) {
+                case "none" -> NONE;
+                case "fixed" -> fixed(Long.parseLong(parts[1]));
+                case "uniform" -> {
+                    String[] bounds = parts[1].split("-", 2);
+                    yield uniform(Long.parseLong(bounds[0]), Long.parseLong(bounds[1]));
+                }
+                case "lognormal" -> {
+                    String[] params = parts[1].split(",", 2);
+                    yield logNormal(Long.parseLong(params[0]), Double.parseDouble(params[1]));
+                }
+                default -> throw new IllegalArgumentException("Unknown latency distribution: " + spec);
+            };
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid latency distribution: " + spec, ex);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package uk.gov.companieshouse.web.pps.upstream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyDistributionTest {
+
+    private final RandomGenerator random = new Random(42);
+
+    @Test
+    @DisplayName("Parse - fixed and none")
+    void fixed() {
+        assertEquals(100, LatencyDistribution.parse("fixed:100").sampleMillis(random));
+        assertEquals(0, LatencyDistribution.parse("none").sampleMillis(random));
+    }
+
+    @Test
+    @DisplayName("Parse - uniform samples within the bounds")
+    void uniform() {
+        LatencyDistribution latency = LatencyDistribution.parse("uniform:50-60");
+
+        for (int i = 0; i < 100; i++) {
+            long sample = latency.sampleMillis(random);
+            assertTrue(sample >= 50 && sample <= 60);
+        }
+    }
+
+    @Test
+    @DisplayName("Parse - log-normal samples around the median")
+    void logNormal() {
+        LatencyDistribution latency = LatencyDistribution.parse("lognormal:80,0.5");
+
+        int belowMedian = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (latency.sampleMillis(random) < 80) {
+                belowMedian++;
+            }
+        }
+        assertTrue(belowMedian > 400 && belowMedian < 600);
+    }
+
+    @Test
+    @DisplayName("Parse - invalid distributions rejected")
+    void invalid() {
+        assertThrows(IllegalArgumentException.class, () -> LatencyDistribution.parse("gaussian:80"));
+        assertThrows(IllegalArgumentException.class, () -> LatencyDistribution.parse("uniform:50"));
+        assertThrows(IllegalArgumentException.class, () -> LatencyDistribution.parse("fixed:soon"));
+    }
+}
@@ -0,0 +1,74 @@
+package uk.gov.companieshouse.web.pps.upstream;
+
+import uk.gov.companieshouse.api.model.financialpenalty.FinancialPenalty;
+import uk.gov.companieshouse.web.pps.util.PenaltyReference;
+
+import static uk.gov.companieshouse.api.model.financialpenalty.PayableStatus.CLOSED;
+import static uk.gov.companieshouse.api.model.financialpenalty.PayableStatus.CLOSED_INSTALMENT_PLAN;
+import static uk.gov.companieshouse.api.model.financialpenalty.PayableStatus.OPEN;
+
+/**
+ * The state of the penalty the {@link UpstreamSimulator} returns for a company, chosen by the
+ * last digit of the company number so that a load test can pick the journey's outcome without
+ * any setup: 6 is with the DCA, 7 is paid, 8 is on an instalment plan, 9 has no penalties and
+ * any other digit is payable online.
+ * <p>
+ * The penalties API is asked for a company's penalties of a type, not for a penalty, so each
+ * company has one penalty of each type, whose reference is the type's first letter followed
+ * by the last seven characters of the company number. Any other reference is not found.
+ */
+public enum PenaltyScenario {
+
+    PAYABLE('0'),
+    IN_DCA('6'),
+    PAID('7'),
+    INSTALMENT_PLAN('8'),
+    NOT_FOUND('9');
+
+    private final char lastDigit;
+
+    PenaltyScenario(char lastDigit) {
+        this.lastDigit = lastDigit;
+    }
+
+    public static PenaltyScenario forCompanyNumber(String companyNumber) {
+        char lastDigit = companyNumber.charAt(companyNumber.length() - 1);
+        for (PenaltyScenario scenario : values()) {
+            if (scenario != PAYABLE && scenario.lastDigit == lastDigit) {
+                return scenario;
+            }
+        }
+        return PAYABLE;
+    }
+
+    /**
+     * Returns a company number whose penalty has this outcome.
+     *
+     * @param sequence distinguishes companies with the same outcome
+     * @return the company number
+     */
+    public String companyNumber(int sequence) {
+        return String.format("%07d%c", Math.floorMod(sequence, 10_000_000), lastDigit);
+    }
+
+    public static String penaltyRef(String companyNumber, PenaltyReference penaltyReference) {
+        return penaltyReference.getStartsWith()
+                + companyNumber.substring(Math.max(0, companyNumber.length() - 7));
+    }
+
+    void apply(FinancialPenalty penalty) {
+        switch (this) {
+            case IN_DCA -> {
+                penalty.setDca(true);
+                penalty.setPayableStatus(CLOSED);
+            }
+            case PAID -> {
+                penalty.setPaid(true);
+                penalty.setOutstanding(0);
+                penalty.setPayableStatus(CLOSED);
+            }
+            case INSTALMENT_PLAN -> penalty.setPayableStatus(CLOSED_INSTALMENT_PLAN);
+            default -> penalty.setPayableStatus(OPEN);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package uk.gov.companieshouse.web.pps.upstream;
+
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The upstream endpoints the application calls through the SDK, as served by the
+ * {@link UpstreamSimulator}. The key names the route in the simulator's settings.
+ */
+public enum SimulatedRoute {
+
+    FINANCE_HEALTHCHECK("finance-healthcheck", "GET",
+            "/penalty-payment-api/healthcheck/finance-system"),
+    PAYABLE_CREATE("payable-create", "POST", "/company/([^/]+)/penalties/payable"),
+    PAYABLE_GET("payable-get", "GET", "/company/([^/]+)/penalties/payable/([^/]+)"),
+    FINANCIAL_PENALTIES("financial-penalties", "GET", "/company/([^/]+)/penalties/([^/]+)"),
+    COMPANY_PROFILE("company-profile", "GET", "/company/([^/]+)"),
+    PAYMENT_CREATE("payment-create", "POST", "/payments");
+
+    private final String key;
+    private final String method;
+    private final Pattern pathPattern;
+
+    SimulatedRoute(String key, String method, String pathPattern) {
+        this.key = key;
+        this.method = method;
+        this.pathPattern = Pattern.compile(pathPattern);
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Finds the route for a request.
+     *
+     * @return the route and the path variables, or empty if the simulator does not serve it
+     */
+    static Optional<Match> match(String method, String path) {
+        for (SimulatedRoute route : values()) {
+            Matcher matcher = route.pathPattern.matcher(path);
+            if (route.method.equals(method) && matcher.matches()) {
+                String[] pathVariables = new String[matcher.groupCount()];
+                for (int i = 0; i < pathVariables.length; i++) {
+                    pathVariables[i] = matcher.group(i + 1);
+                }
+                return Optional.of(new Match(route, pathVariables));
+            }
+        }
+        return Optional.empty();
+    }
+
+    record Match(SimulatedRoute route, String[] pathVariables) {
+    }
+}
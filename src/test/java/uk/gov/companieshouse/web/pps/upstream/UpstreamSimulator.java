@@ -0,0 +1,469 @@
+package uk.gov.companieshouse.web.pps.upstream;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
+import uk.gov.companieshouse.api.model.financialpenalty.FinanceHealthcheck;
+import uk.gov.companieshouse.api.model.financialpenalty.FinanceHealthcheckStatus;
+import uk.gov.companieshouse.api.model.financialpenalty.FinancialPenalties;
+import uk.gov.companieshouse.api.model.financialpenalty.FinancialPenalty;
+import uk.gov.companieshouse.api.model.financialpenalty.FinancialPenaltySession;
+import uk.gov.companieshouse.api.model.financialpenalty.PayableFinancialPenalties;
+import uk.gov.companieshouse.api.model.financialpenalty.PayableFinancialPenaltySession;
+import uk.gov.companieshouse.api.model.financialpenalty.Payment;
+import uk.gov.companieshouse.api.model.financialpenalty.TransactionPayableFinancialPenalty;
+import uk.gov.companieshouse.api.model.payment.PaymentApi;
+import uk.gov.companieshouse.api.model.payment.PaymentSessionApi;
+import uk.gov.companieshouse.web.pps.util.PenaltyReference;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import static uk.gov.companieshouse.api.model.financialpenalty.PayableStatus.CLOSED;
+import static uk.gov.companieshouse.web.pps.service.penaltypayment.impl.PenaltyPaymentServiceImpl.OTHER_TYPE;
+import static uk.gov.companieshouse.web.pps.service.penaltypayment.impl.PenaltyPaymentServiceImpl.PENALTY_TYPE;
+
+/**
+ * An embedded stand-in for the penalty payment, company and payments APIs, so that load tests
+ * and local soak runs need neither the real APIs nor network access. Point {@code API_URL} and
+ * {@code PAYMENTS_API_URL} at {@link #getBaseUri()}.
+ * <p>
+ * Each {@link SimulatedRoute} waits for a sample of its {@link LatencyDistribution} and fails
+ * with a 500 at its error rate. The penalty's state comes from the company number (see
+ * {@link PenaltyScenario}) and the penalties list is padded with paid history to the
+ * configured size. The finance health check answers with the 503 maintenance payload until
+ * the maintenance end time. Payable resources and payment sessions are derived from their
+ * references rather than stored, so that long runs do not grow the simulator's memory.
+ * <p>
+ * Settings are read from system properties prefixed {@code simulator.} when run on its own,
+ * and can be changed while running with {@code POST /__simulator/settings?<name>=<value>}:
+ * <ul>
+ *     <li>{@code latency} and {@code error-rate} for all routes, or prefixed with a route's
+ *     key for one, for example {@code financial-penalties.latency=lognormal:80,0.6}</li>
+ *     <li>{@code penalty-items}, the size of the penalties list</li>
+ *     <li>{@code maintenance-until}, an ISO instant, or {@code none}</li>
+ *     <li>{@code payment-status}, the status the payment journey returns with</li>
+ * </ul>
+ * {@code GET /__simulator/calls} returns the number of calls to each route.
+ */
+public final class UpstreamSimulator implements AutoCloseable {
+
+    static final String SETTINGS_PATH = "/__simulator/settings";
+    static final String CALLS_PATH = "/__simulator/calls";
+    static final String PAYMENT_JOURNEY_PATH = "/__simulator/payment-journey";
+
+    private static final int DEFAULT_PORT = 18080;
+    private static final String SETTINGS_PROPERTY_PREFIX = "simulator.";
+    private static final int PENALTY_AMOUNT = 750;
+    private static final String MADE_UP_DATE = "2025-06-30";
+    private static final String HISTORY_MADE_UP_DATE = "2023-06-30";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final URI baseUri;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    private final Map<SimulatedRoute, RouteSettings> routeSettings = new ConcurrentHashMap<>();
+    private final Map<SimulatedRoute, LongAdder> calls = new EnumMap<>(SimulatedRoute.class);
+    private volatile int penaltyItems = 1;
+    private volatile Instant maintenanceUntil;
+    private volatile String paymentStatus = "paid";
+
+    private UpstreamSimulator(HttpServer server) {
+        this.server = server;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.baseUri = URI.create("http://localhost:" + server.getAddress().getPort());
+        for (SimulatedRoute route : SimulatedRoute.values()) {
+            routeSettings.put(route, RouteSettings.NONE);
+            calls.put(route, new LongAdder());
+        }
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    /**
+     * Starts a simulator.
+     *
+     * @param port the port to listen on, or 0 for any free port
+     * @return the running simulator
+     */
+    public static UpstreamSimulator start(int port) throws IOException {
+        UpstreamSimulator simulator = new UpstreamSimulator(
+                HttpServer.create(new InetSocketAddress(port), 0));
+        simulator.server.start();
+        return simulator;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> settings = systemPropertySettings();
+        String port = settings.remove("port");
+
+        UpstreamSimulator simulator = start(port == null ? DEFAULT_PORT : Integer.parseInt(port));
+        simulator.applySettings(settings);
+        Runtime.getRuntime().addShutdownHook(new Thread(simulator::close));
+        System.out.println("Upstream simulator listening on " + simulator.getBaseUri());
+    }
+
+    /**
+     * Returns the settings given as system properties, without their {@code simulator.} prefix.
+     *
+     * @return the settings, for {@link #applySettings}
+     */
+    public static Map<String, String> systemPropertySettings() {
+        Map<String, String> settings = new HashMap<>();
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith(SETTINGS_PROPERTY_PREFIX))
+                .forEach(name -> settings.put(name.substring(SETTINGS_PROPERTY_PREFIX.length()),
+                        System.getProperty(name)));
+        return settings;
+    }
+
+    public URI getBaseUri() {
+        return baseUri;
+    }
+
+    public void configure(SimulatedRoute route, RouteSettings settings) {
+        routeSettings.put(route, settings);
+    }
+
+    public void configureAll(RouteSettings settings) {
+        for (SimulatedRoute route : SimulatedRoute.values()) {
+            configure(route, settings);
+        }
+    }
+
+    public void setPenaltyItems(int penaltyItems) {
+        if (penaltyItems < 1) {
+            throw new IllegalArgumentException("The penalties list holds at least the penalty");
+        }
+        this.penaltyItems = penaltyItems;
+    }
+
+    /**
+     * Puts the finance system into planned maintenance until the given time.
+     *
+     * @param maintenanceUntil the end of the maintenance, or {@code null} to end it now
+     */
+    public void setMaintenanceUntil(Instant maintenanceUntil) {
+        this.maintenanceUntil = maintenanceUntil;
+    }
+
+    public void setPaymentStatus(String paymentStatus) {
+        this.paymentStatus = paymentStatus;
+    }
+
+    public long getCalls(SimulatedRoute route) {
+        return calls.get(route).sum();
+    }
+
+    public void resetCalls() {
+        calls.values().forEach(LongAdder::reset);
+    }
+
+    /**
+     * Applies settings named as in the class description.
+     *
+     * @throws IllegalArgumentException if a setting is not recognised or its value is invalid
+     */
+    public void applySettings(Map<String, String> settings) {
+        settings.forEach((name, value) -> {
+            switch (name) {
+                case "latency" -> routeSettings.replaceAll((route, current) ->
+                        current.withLatency(LatencyDistribution.parse(value)));
+                case "error-rate" -> routeSettings.replaceAll((route, current) ->
+                        current.withErrorRate(Double.parseDouble(value)));
+                case "penalty-items" -> setPenaltyItems(Integer.parseInt(value));
+                case "maintenance-until" -> setMaintenanceUntil(
+                        "none".equals(value) ? null : Instant.parse(value));
+                case "payment-status" -> setPaymentStatus(value);
+                default -> applyRouteSetting(name, value);
+            }
+        });
+    }
+
+    private void applyRouteSetting(String name, String value) {
+        for (SimulatedRoute route : SimulatedRoute.values()) {
+            RouteSettings current = routeSettings.get(route);
+            if (name.equals(route.getKey() + ".latency")) {
+                configure(route, current.withLatency(LatencyDistribution.parse(value)));
+                return;
+            }
+            if (name.equals(route.getKey() + ".error-rate")) {
+                configure(route, current.withErrorRate(Double.parseDouble(value)));
+                return;
+            }
+        }
+        throw new IllegalArgumentException("Unknown simulator setting: " + name);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath();
+            if (SETTINGS_PATH.equals(path) && "POST".equals(method)) {
+                updateSettings(exchange);
+            } else if (CALLS_PATH.equals(path)) {
+                Map<String, Long> counts = new LinkedHashMap<>();
+                calls.forEach((route, count) -> counts.put(route.getKey(), count.sum()));
+                respond(exchange, 200, counts);
+            } else if (PAYMENT_JOURNEY_PATH.equals(path)) {
+                completePayment(exchange);
+            } else {
+                Optional<SimulatedRoute.Match> match = SimulatedRoute.match(method, path);
+                if (match.isPresent()) {
+                    simulate(exchange, match.get());
+                } else {
+                    respond(exchange, 404, Map.of("error", "Not simulated: " + method + " " + path));
+                }
+            }
+        } catch (IllegalArgumentException ex) {
+            // An unknown penalty type, as the penalties API would answer
+            respond(exchange, 404, Map.of("error", String.valueOf(ex.getMessage())));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void updateSettings(HttpExchange exchange) throws IOException {
+        try {
+            applySettings(parseQuery(exchange.getRequestURI().getRawQuery()));
+            exchange.sendResponseHeaders(204, -1);
+        } catch (RuntimeException ex) {
+            respond(exchange, 400, Map.of("error", String.valueOf(ex.getMessage())));
+        }
+    }
+
+    private void simulate(HttpExchange exchange, SimulatedRoute.Match match)
+            throws IOException, InterruptedException {
+        SimulatedRoute route = match.route();
+        calls.get(route).increment();
+        RouteSettings settings = routeSettings.get(route);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long latency = settings.latency().sampleMillis(random);
+        if (latency > 0) {
+            Thread.sleep(latency);
+        }
+        if (random.nextDouble() < settings.errorRate()) {
+            respond(exchange, 500, Map.of("error", "Simulated failure of " + route.getKey()));
+            return;
+        }
+
+        String[] pathVariables = match.pathVariables();
+        switch (route) {
+            case FINANCE_HEALTHCHECK -> financeHealthcheck(exchange);
+            case FINANCIAL_PENALTIES -> respond(exchange, 200,
+                    financialPenalties(pathVariables[0], pathVariables[1]));
+            case COMPANY_PROFILE -> respond(exchange, 200, companyProfile(pathVariables[0]));
+            case PAYABLE_CREATE -> respond(exchange, 201, payableSession(pathVariables[0],
+                    read(exchange.getRequestBody(), FinancialPenaltySession.class)));
+            case PAYABLE_GET -> respond(exchange, 200, payable(pathVariables[0], pathVariables[1]));
+            case PAYMENT_CREATE -> respond(exchange, 201,
+                    payment(read(exchange.getRequestBody(), PaymentSessionApi.class)));
+        }
+    }
+
+    private void financeHealthcheck(HttpExchange exchange) throws IOException {
+        Instant until = maintenanceUntil;
+        if (until != null && Instant.now().isBefore(until)) {
+            Map<String, String> maintenance = new LinkedHashMap<>();
+            maintenance.put("message", FinanceHealthcheckStatus.UNHEALTHY_PLANNED_MAINTENANCE.getStatus());
+            maintenance.put("maintenance_end_time", until.toString());
+            respond(exchange, 503, maintenance);
+            return;
+        }
+        FinanceHealthcheck healthcheck = new FinanceHealthcheck();
+        healthcheck.setMessage(FinanceHealthcheckStatus.HEALTHY.getStatus());
+        respond(exchange, 200, healthcheck);
+    }
+
+    private FinancialPenalties financialPenalties(String companyNumber, String penaltyReferenceType) {
+        List<FinancialPenalty> items = new ArrayList<>(penaltyItems);
+        PenaltyScenario scenario = PenaltyScenario.forCompanyNumber(companyNumber);
+        if (scenario != PenaltyScenario.NOT_FOUND) {
+            String penaltyRef = PenaltyScenario.penaltyRef(companyNumber,
+                    PenaltyReference.valueOf(penaltyReferenceType));
+            FinancialPenalty penalty = financialPenalty(penaltyRef, PENALTY_TYPE, MADE_UP_DATE);
+            scenario.apply(penalty);
+            items.add(penalty);
+        }
+        for (int i = items.size(); i < penaltyItems; i++) {
+            FinancialPenalty history = financialPenalty(String.format("H%07d", i), OTHER_TYPE,
+                    HISTORY_MADE_UP_DATE);
+            history.setPaid(true);
+            history.setOutstanding(0);
+            history.setPayableStatus(CLOSED);
+            items.add(history);
+        }
+
+        FinancialPenalties financialPenalties = new FinancialPenalties();
+        financialPenalties.setTotalResults(items.size());
+        financialPenalties.setItems(items);
+        return financialPenalties;
+    }
+
+    private static FinancialPenalty financialPenalty(String id, String type, String madeUpDate) {
+        FinancialPenalty financialPenalty = new FinancialPenalty();
+        financialPenalty.setId(id);
+        financialPenalty.setType(type);
+        financialPenalty.setPaid(false);
+        financialPenalty.setDca(false);
+        financialPenalty.setOriginalAmount(PENALTY_AMOUNT);
+        financialPenalty.setOutstanding(PENALTY_AMOUNT);
+        financialPenalty.setDueDate("2026-01-31");
+        financialPenalty.setMadeUpDate(madeUpDate);
+        financialPenalty.setReason("Late filing of accounts");
+        return financialPenalty;
+    }
+
+    private static CompanyProfileApi companyProfile(String companyNumber) {
+        CompanyProfileApi companyProfile = new CompanyProfileApi();
+        companyProfile.setCompanyNumber(companyNumber);
+        companyProfile.setCompanyName("SIMULATED COMPANY " + companyNumber);
+        return companyProfile;
+    }
+
+    private static PayableFinancialPenaltySession payableSession(String companyNumber,
+            FinancialPenaltySession financialPenaltySession) {
+        String payableRef = "PR_" + financialPenaltySession.getTransactions().getFirst().getPenaltyRef();
+        PayableFinancialPenaltySession payableSession = new PayableFinancialPenaltySession();
+        payableSession.setPayableRef(payableRef);
+        payableSession.setLinks(Map.of("self", payablePath(companyNumber, payableRef)));
+        return payableSession;
+    }
+
+    private PayableFinancialPenalties payable(String companyNumber, String payableRef) {
+        String penaltyRef = payableRef.substring("PR_".length());
+
+        TransactionPayableFinancialPenalty transaction = new TransactionPayableFinancialPenalty();
+        transaction.setPenaltyRef(penaltyRef);
+        transaction.setAmount(PENALTY_AMOUNT);
+        transaction.setType(PENALTY_TYPE);
+        transaction.setMadeUpDate(MADE_UP_DATE);
+        transaction.setReason("Late filing of accounts");
+
+        Payment payment = new Payment();
+        payment.setAmount(String.valueOf(PENALTY_AMOUNT));
+        payment.setPaidAt(Instant.now().toString());
+
+        PayableFinancialPenalties payable = new PayableFinancialPenalties();
+        payable.setCustomerCode(companyNumber);
+        payable.setLinks(Map.of(
+                "self", payablePath(companyNumber, payableRef),
+                "resume_journey_uri", "/pay-penalty/company/" + companyNumber + "/penalty/"
+                        + penaltyRef + "/view-penalties"));
+        payable.setPayment(payment);
+        payable.setTransactions(List.of(transaction));
+        return payable;
+    }
+
+    private static String payablePath(String companyNumber, String payableRef) {
+        return "/company/" + companyNumber + "/penalties/payable/" + payableRef;
+    }
+
+    /**
+     * Creates a payment session whose journey link comes back to the simulator, which then
+     * sends the user to the application's confirmation page as the payments service would.
+     */
+    private PaymentApi payment(PaymentSessionApi paymentSession) {
+        String journey = baseUri + PAYMENT_JOURNEY_PATH
+                + "?redirect_uri=" + encode(paymentSession.getRedirectUri())
+                + "&state=" + encode(paymentSession.getState())
+                + "&ref=" + encode(paymentSession.getReference());
+        PaymentApi payment = new PaymentApi();
+        payment.setLinks(Map.of("journey", journey));
+        return payment;
+    }
+
+    private void completePayment(HttpExchange exchange) throws IOException {
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        String location = query.get("redirect_uri")
+                + "?ref=" + encode(query.get("ref"))
+                + "&state=" + encode(query.get("state"))
+                + "&status=" + encode(paymentStatus);
+        exchange.getResponseHeaders().set("Location", location);
+        exchange.sendResponseHeaders(302, -1);
+    }
+
+    private <T> T read(InputStream body, Class<T> type) throws IOException {
+        try (body) {
+            return objectMapper.readValue(body, type);
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, json.length);
+        exchange.getResponseBody().write(json);
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new LinkedHashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            String[] nameAndValue = pair.split("=", 2);
+            query.put(URLDecoder.decode(nameAndValue[0], StandardCharsets.UTF_8),
+                    nameAndValue.length > 1
+                            ? URLDecoder.decode(nameAndValue[1], StandardCharsets.UTF_8)
+                            : "");
+        }
+        return query;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(String.valueOf(value), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * How a route behaves.
+     *
+     * @param latency   how long to wait before answering
+     * @param errorRate the fraction of calls to fail with a 500, from 0 to 1
+     */
+    public record RouteSettings(LatencyDistribution latency, double errorRate) {
+
+        public static final RouteSettings NONE = new RouteSettings(LatencyDistribution.NONE, 0);
+
+        public RouteSettings {
+            if (errorRate < 0 || errorRate > 1) {
+                throw new IllegalArgumentException("Error rate must be between 0 and 1");
+            }
+        }
+
+        public RouteSettings withLatency(LatencyDistribution latency) {
+            return new RouteSettings(latency, errorRate);
+        }
+
+        public RouteSettings withErrorRate(double errorRate) {
+            return new RouteSettings(latency, errorRate);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package uk.gov.companieshouse.web.pps.upstream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gov.companieshouse.api.model.financialpenalty.FinancialPenalties;
+import uk.gov.companieshouse.api.model.financialpenalty.FinancialPenalty;
+import uk.gov.companieshouse.api.model.payment.PaymentApi;
+import uk.gov.companieshouse.api.model.payment.PaymentSessionApi;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static uk.gov.companieshouse.api.model.financialpenalty.PayableStatus.OPEN;
+import static uk.gov.companieshouse.web.pps.util.PenaltyReference.LATE_FILING;
+
+class UpstreamSimulatorTest {
+
+    private static final String PAYABLE_COMPANY_NUMBER = PenaltyScenario.PAYABLE.companyNumber(1234567);
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private UpstreamSimulator simulator;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        simulator = UpstreamSimulator.start(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        simulator.close();
+    }
+
+    @Test
+    @DisplayName("Penalties - payable penalty padded with paid history")
+    void payablePenalty() throws Exception {
+        simulator.setPenaltyItems(3);
+
+        HttpResponse<String> response = get(penaltiesPath(PAYABLE_COMPANY_NUMBER));
+
+        assertEquals(200, response.statusCode());
+        FinancialPenalties financialPenalties = objectMapper.readValue(response.body(), FinancialPenalties.class);
+        assertEquals(3, financialPenalties.getTotalResults());
+        FinancialPenalty penalty = financialPenalties.getItems().getFirst();
+        assertEquals(PenaltyScenario.penaltyRef(PAYABLE_COMPANY_NUMBER, LATE_FILING), penalty.getId());
+        assertEquals(OPEN, penalty.getPayableStatus());
+        assertEquals(1, simulator.getCalls(SimulatedRoute.FINANCIAL_PENALTIES));
+    }
+
+    @Test
+    @DisplayName("Penalties - outcome chosen by the company number")
+    void penaltyScenario() throws Exception {
+        String companyNumber = PenaltyScenario.IN_DCA.companyNumber(1);
+
+        FinancialPenalties financialPenalties = objectMapper.readValue(
+                get(penaltiesPath(companyNumber)).body(), FinancialPenalties.class);
+
+        assertEquals(PenaltyScenario.IN_DCA, PenaltyScenario.forCompanyNumber(companyNumber));
+        assertTrue(financialPenalties.getItems().getFirst().getDca());
+    }
+
+    @Test
+    @DisplayName("Finance health check - maintenance payload until the end time")
+    void maintenance() throws Exception {
+        simulator.setMaintenanceUntil(Instant.now().plus(1, ChronoUnit.HOURS));
+
+        HttpResponse<String> response = get("/penalty-payment-api/healthcheck/finance-system");
+
+        assertEquals(503, response.statusCode());
+        assertTrue(response.body().contains("maintenance_end_time"));
+    }
+
+    @Test
+    @DisplayName("Settings - error rate changed for one route while running")
+    void errorRateSetting() throws Exception {
+        HttpResponse<String> settingsResponse = httpClient.send(HttpRequest.newBuilder(
+                        simulator.getBaseUri().resolve(UpstreamSimulator.SETTINGS_PATH
+                                + "?financial-penalties.error-rate=1"))
+                        .POST(HttpRequest.BodyPublishers.noBody()).build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(204, settingsResponse.statusCode());
+        assertEquals(500, get(penaltiesPath(PAYABLE_COMPANY_NUMBER)).statusCode());
+        assertEquals(200, get("/company/" + PAYABLE_COMPANY_NUMBER).statusCode());
+    }
+
+    @Test
+    @DisplayName("Payment - journey returns to the redirect URI with the state and status")
+    void paymentJourney() throws Exception {
+        PaymentSessionApi paymentSession = new PaymentSessionApi();
+        paymentSession.setRedirectUri("http://localhost/pay-penalty/confirmation");
+        paymentSession.setState("state");
+        paymentSession.setReference("ref");
+
+        HttpResponse<String> paymentResponse = httpClient.send(HttpRequest.newBuilder(
+                        simulator.getBaseUri().resolve("/payments"))
+                        .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(paymentSession)))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        String journey = objectMapper.readValue(paymentResponse.body(), PaymentApi.class)
+                .getLinks().get("journey");
+        HttpResponse<String> journeyResponse = httpClient.send(
+                HttpRequest.newBuilder(URI.create(journey)).build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(201, paymentResponse.statusCode());
+        assertEquals(302, journeyResponse.statusCode());
+        assertEquals("http://localhost/pay-penalty/confirmation?ref=ref&state=state&status=paid",
+                journeyResponse.headers().firstValue("Location").orElseThrow());
+    }
+
+    private static String penaltiesPath(String companyNumber) {
+        return "/company/" + companyNumber + "/penalties/" + LATE_FILING.name();
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return httpClient.send(HttpRequest.newBuilder(simulator.getBaseUri().resolve(path)).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,125 @@
+package uk.gov.companieshouse.web.pps.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DisplayFormatterTest {
+
+    private static final int THREADS = 8;
+    private static final int AMOUNTS_PER_THREAD = 100_000;
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, -1, 999, 1000, -1000, 999_999, 1_000_000, 1_234_567,
+            Integer.MAX_VALUE, Integer.MIN_VALUE})
+    @DisplayName("Format amount - thousands separated by commas")
+    void formatAmount(int amount) {
+        assertEquals(String.format(Locale.UK, "%,d", amount), DisplayFormatter.formatAmount(amount));
+    }
+
+    @Test
+    @DisplayName("Format amount - correct when shared between threads")
+    void formatAmountConcurrently() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> mismatches = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int i = 0; i < THREADS; i++) {
+                mismatches.add(executor.submit(() -> {
+                    start.await();
+                    int count = 0;
+                    for (int j = 0; j < AMOUNTS_PER_THREAD; j++) {
+                        int amount = ThreadLocalRandom.current().nextInt();
+                        if (!String.format(Locale.UK, "%,d", amount)
+                                .equals(DisplayFormatter.formatAmount(amount))) {
+                            count++;
+                        }
+                    }
+                    return count;
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> threadMismatches : mismatches) {
+                assertEquals(0, threadMismatches.get());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Format date time - shown as UK time")
+    void formatDateTime() {
+        assertEquals("11:00 pm on Friday 8 November 2019",
+                DisplayFormatter.formatDateTime(OffsetDateTime.parse("2019-11-08T23:00:12Z")));
+        assertEquals("12:30 am on Tuesday 1 July 2025",
+                DisplayFormatter.formatDateTime(OffsetDateTime.parse("2025-06-30T23:30:00Z")));
+    }
+
+    @Test
+    @DisplayName("Payment date - rolls over at midnight UK time")
+    void paymentDateRollsOverAtUkMidnight() {
+        MutableClock clock = new MutableClock(Instant.parse("2025-06-30T22:59:59Z"));
+        DisplayFormatter displayFormatter = new DisplayFormatter(clock);
+
+        assertEquals("30 June 2025", displayFormatter.getPaymentDateDisplay());
+
+        // Midnight in the UK during British Summer Time
+        clock.instant = Instant.parse("2025-06-30T23:00:00Z");
+        assertEquals("1 July 2025", displayFormatter.getPaymentDateDisplay());
+
+        clock.instant = Instant.parse("2025-12-31T23:59:59Z");
+        assertEquals("31 December 2025", displayFormatter.getPaymentDateDisplay());
+
+        clock.instant = Instant.parse("2026-01-01T00:00:00Z");
+        assertEquals("1 January 2026", displayFormatter.getPaymentDateDisplay());
+    }
+
+    @Test
+    @DisplayName("Payment date - correct if the clock goes back")
+    void paymentDateWhenClockGoesBack() {
+        MutableClock clock = new MutableClock(Instant.parse("2025-07-01T09:00:00Z"));
+        DisplayFormatter displayFormatter = new DisplayFormatter(clock);
+        assertEquals("1 July 2025", displayFormatter.getPaymentDateDisplay());
+
+        clock.instant = Instant.parse("2025-06-30T09:00:00Z");
+        assertEquals("30 June 2025", displayFormatter.getPaymentDateDisplay());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return DisplayFormatter.UK_ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
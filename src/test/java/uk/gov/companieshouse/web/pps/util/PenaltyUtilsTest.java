@@ -73,7 +73,7 @@ class PenaltyUtilsTest {
 
     @Test
     void testGetPaymentDateDisplay() {
-        String expectedDate = java.time.LocalDate.now()
+        String expectedDate = java.time.LocalDate.now(DisplayFormatter.UK_ZONE)
                 .format(java.time.format.DateTimeFormatter.ofPattern("d MMMM uuuu", java.util.Locale.UK));
         String result = PenaltyUtils.getPaymentDateDisplay();
         assertEquals(expectedDate, result);
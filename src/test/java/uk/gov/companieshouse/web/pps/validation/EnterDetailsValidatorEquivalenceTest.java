@@ -0,0 +1,106 @@
+package uk.gov.companieshouse.web.pps.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import uk.gov.companieshouse.web.pps.models.EnterDetails;
+import uk.gov.companieshouse.web.pps.util.PenaltyReference;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that {@link EnterDetailsValidator} rejects exactly the same entries, with the same
+ * messages, as the regular expression based validator it replaced. Entries are generated from
+ * a fixed seed, mostly from the characters the formats care about, so that every check is
+ * reached and any failure can be reproduced.
+ */
+class EnterDetailsValidatorEquivalenceTest {
+
+    private static final long SEED = 20251017L;
+    private static final int ENTRIES = 20_000;
+
+    // Prefix letters and digits are repeated so that generated entries often pass the earlier checks
+    private static final String ALPHABET = "AaPpUuOoEeSCsc0123456789012345678901234567890123456789"
+            + " \t\n!-_.\u00a3\u00e9\u00df\u03a9\u0663Z";
+
+    private final EnterDetailsValidator validator = new EnterDetailsValidator();
+    private final RegexEnterDetailsValidator regexValidator = new RegexEnterDetailsValidator();
+
+    @ParameterizedTest
+    @EnumSource(PenaltyReference.class)
+    @DisplayName("Generated entries - same errors as the regular expression validator")
+    void sameErrorsAsRegexValidator(PenaltyReference penaltyReference) {
+        Random random = new Random(SEED + penaltyReference.ordinal());
+        for (int i = 0; i < ENTRIES; i++) {
+            EnterDetails enterDetails = new EnterDetails();
+            enterDetails.setPenaltyReferenceName(penaltyReference.name());
+            enterDetails.setCompanyNumber(generate(random, penaltyReference, "SC"));
+            enterDetails.setPenaltyRef(generate(random, penaltyReference,
+                    penaltyReference.getStartsWith()));
+
+            assertEquals(errors(regexValidator::isValid, enterDetails),
+                    errors(validator::isValid, enterDetails),
+                    () -> "company number '" + enterDetails.getCompanyNumber()
+                            + "', penalty ref '" + enterDetails.getPenaltyRef() + "'");
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(PenaltyReference.class)
+    @DisplayName("Edge entries - same errors as the regular expression validator")
+    void sameErrorsForEdgeEntries(PenaltyReference penaltyReference) {
+        String prefix = penaltyReference.getStartsWith();
+        List<String> entries = List.of("", " ", "\t\t", "12345678", "1234567", "123456789",
+                "OE123456", "oe123456", "OE12345A", "SC123456", "sc12345!", "SC1234 5",
+                prefix + "1234567", prefix.toLowerCase() + "1234567", prefix + "123456\u0663",
+                prefix + "12345678", prefix + "ABCDEFG", "\u00e91234567", "\t1234567");
+        for (String companyNumber : entries) {
+            for (String penaltyRef : entries) {
+                EnterDetails enterDetails = new EnterDetails();
+                enterDetails.setPenaltyReferenceName(penaltyReference.name());
+                enterDetails.setCompanyNumber(companyNumber);
+                enterDetails.setPenaltyRef(penaltyRef);
+
+                assertEquals(errors(regexValidator::isValid, enterDetails),
+                        errors(validator::isValid, enterDetails),
+                        () -> "company number '" + companyNumber
+                                + "', penalty ref '" + penaltyRef + "'");
+            }
+        }
+    }
+
+    private static String generate(Random random, PenaltyReference penaltyReference,
+            String prefix) {
+        int length = random.nextInt(11);
+        StringBuilder value = new StringBuilder(length);
+        if (random.nextBoolean()) {
+            value.append(random.nextBoolean() ? prefix : prefix.toLowerCase());
+        } else if (penaltyReference == PenaltyReference.SANCTIONS_ROE && random.nextBoolean()) {
+            value.append(random.nextBoolean() ? "OE" : "oe");
+        }
+        while (value.length() < length) {
+            value.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return value.toString();
+    }
+
+    private static List<String> errors(Validation validation, EnterDetails enterDetails) {
+        BindingResult bindingResult = new BeanPropertyBindingResult(enterDetails, "enterDetails");
+        validation.validate(enterDetails, bindingResult);
+        return bindingResult.getFieldErrors().stream()
+                .map(FieldError::toString)
+                .toList();
+    }
+
+    @FunctionalInterface
+    private interface Validation {
+
+        void validate(EnterDetails enterDetails, BindingResult bindingResult);
+    }
+}
@@ -28,4 +28,6 @@ else
 fi
 
 #exec java ${JAVA_MEM_ARGS} -jar -Dserver.port="${PORT}" "${APP_DIR}/penalty-payment-web.jar"
-exec java ${JAVA_MEM_ARGS} -Djava.util.logging.config.file="${APP_DIR}/logging.properties" -jar -Dserver.port="${PORT}" "${APP_DIR}/penalty-payment-web.jar"
\ No newline at end of file
+# The SDK sends requests through HttpURLConnection, which only keeps five idle keep-alive
+# connections per API host unless told otherwise
+exec java ${JAVA_MEM_ARGS} -Djava.util.logging.config.file="${APP_DIR}/logging.properties" -Dhttp.maxConnections="${UPSTREAM_MAX_IDLE_CONNECTIONS_PER_ROUTE:-20}" -jar -Dserver.port="${PORT}" "${APP_DIR}/penalty-payment-web.jar"
\ No newline at end of file